@@ -0,0 +1,101 @@
+package com.api.synco.core.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache provider keeping every region in the heap of
+ * the application.
+ *
+ * <p>Entity and query regions are bounded and expire their entries, see
+ * {@link LocalRegionStorage}. The update timestamps region is neither bounded
+ * nor expired: it holds one entry per table, and a missing timestamp would let
+ * a stale query result be served.</p>
+ *
+ * <p>The cache is local to each instance, which fits reference data such as
+ * courses, rooms and classes that change rarely and are read on most
+ * requests.</p>
+ *
+ * <p>Configuration properties (under {@code spring.jpa.properties}):</p>
+ * <ul>
+ *   <li>{@value #MAX_ENTRIES} - Maximum number of entries per region</li>
+ *   <li>{@value #TTL} - Entry time-to-live in milliseconds</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LocalRegionStorage
+ * @see SecondLevelCacheMetrics
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+
+    /** Maximum number of entries per region. */
+    public static final String MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+    /** Entry time-to-live in milliseconds. */
+    public static final String TTL = "hibernate.cache.local.ttl";
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final long DEFAULT_TTL = 600_000;
+
+    private final Map<String, LocalRegionStorage> regions = new ConcurrentHashMap<>();
+
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private long ttlInMilliseconds = DEFAULT_TTL;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        maxEntries = Integer.parseInt(String.valueOf(configValues.getOrDefault(MAX_ENTRIES, DEFAULT_MAX_ENTRIES)));
+        ttlInMilliseconds = Long.parseLong(String.valueOf(configValues.getOrDefault(TTL, DEFAULT_TTL)));
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(LocalRegionStorage::release);
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext
+    ) {
+        return register(new LocalRegionStorage(regionConfig.getRegionName(), maxEntries, ttlInMilliseconds));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(new LocalRegionStorage(regionName, maxEntries, ttlInMilliseconds));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(new LocalRegionStorage(regionName, Integer.MAX_VALUE, 0));
+    }
+
+    /**
+     * Returns the storage of every region built by this factory.
+     *
+     * @return the region storages
+     */
+    public Collection<LocalRegionStorage> getRegions() {
+        return Collections.unmodifiableCollection(regions.values());
+    }
+
+    private LocalRegionStorage register(LocalRegionStorage storage) {
+        regions.put(storage.getRegionName(), storage);
+        return storage;
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.api.synco.core.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process storage of one second-level cache region.
+ *
+ * <p>Entries are kept in access order and the least recently used entry is
+ * dropped once the region holds more than its maximum number of entries.
+ * Each entry also expires after the time-to-live of the region, so rows
+ * changed outside Hibernate are read again after at most that delay.</p>
+ *
+ * <p>Hibernate stores its own items and soft locks through this class, so the
+ * consistency of the cached data is kept by the access strategy of the
+ * entity, not by the storage.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LocalRegionFactory
+ */
+public class LocalRegionStorage implements DomainDataStorageAccess {
+
+    private final String regionName;
+    private final int maxEntries;
+    private final long ttlInMilliseconds;
+
+    private final Map<Object, CachedValue> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new region storage.
+     *
+     * @param regionName the name of the region
+     * @param maxEntries the maximum number of entries of the region
+     * @param ttlInMilliseconds the time-to-live of each entry in milliseconds, or {@code 0} for no expiry
+     * @throws IllegalArgumentException if the maximum is not positive or the time-to-live is negative
+     */
+    public LocalRegionStorage(String regionName, int maxEntries, long ttlInMilliseconds) {
+        if (maxEntries <= 0 || ttlInMilliseconds < 0) {
+            throw new IllegalArgumentException("Cache region size must be positive and ttl not negative");
+        }
+        this.regionName = regionName;
+        this.maxEntries = maxEntries;
+        this.ttlInMilliseconds = ttlInMilliseconds;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedValue> eldest) {
+                if (size() > LocalRegionStorage.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedValue cached = entries.get(key);
+            if (cached != null && cached.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                cached = null;
+            }
+
+            if (cached == null) {
+                misses.increment();
+                return null;
+            }
+
+            hits.increment();
+            return cached.value();
+        }
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        long expiresAt = ttlInMilliseconds == 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttlInMilliseconds;
+
+        synchronized (entries) {
+            entries.put(key, new CachedValue(value, expiresAt));
+        }
+        puts.increment();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        synchronized (entries) {
+            CachedValue cached = entries.get(key);
+            return cached != null && !cached.isExpired(System.currentTimeMillis());
+        }
+    }
+
+    @Override
+    public void evictData() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public void evictData(Object key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+
+    /**
+     * Returns the name of the region.
+     *
+     * @return the region name
+     */
+    public String getRegionName() {
+        return regionName;
+    }
+
+    /**
+     * Returns the number of lookups answered by the region.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups the region could not answer.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries written to the region.
+     *
+     * @return the put count
+     */
+    public long getPutCount() {
+        return puts.sum();
+    }
+
+    /**
+     * Returns the number of entries dropped for size or expiry.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups answered by the region.
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}, or {@code 0} before the first lookup
+     */
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the number of entries currently held, expired ones included.
+     *
+     * @return the region size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record CachedValue(Object value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.api.synco.core.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts reference data from the second-level cache when it is changed.
+ *
+ * <p>Changes made through the persistence context already refresh the cached
+ * entity. Evicting it again once the change is committed also drops entries
+ * left behind by statements that bypass the persistence context, such as
+ * bulk updates or cascades run by the database.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LocalRegionFactory
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructs the reference data cache.
+     *
+     * @param entityManagerFactory the entity manager factory owning the cache
+     */
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts one entity once the current transaction commits.
+     *
+     * <p>Without an active transaction the entity is evicted immediately.</p>
+     *
+     * @param entityType the entity class
+     * @param id the entity identifier
+     */
+    public void evict(Class<?> entityType, Object id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entityManagerFactory.getCache().evict(entityType, id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(entityType, id);
+            }
+        });
+    }
+
+}
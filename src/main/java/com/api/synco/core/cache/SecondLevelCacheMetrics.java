@@ -0,0 +1,83 @@
+package com.api.synco.core.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the counters of every second-level cache region.
+ *
+ * <p>Meters are tagged with the region name, so the hit rate of each reference
+ * entity can be followed separately. Nothing is published when the cache is
+ * disabled or served by another provider.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LocalRegionFactory
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructs the region metrics.
+     *
+     * @param entityManagerFactory the entity manager factory owning the cache
+     */
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishes the counters under {@code hibernate.cache.region.*}.</p>
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+
+        if (!(regionFactory instanceof LocalRegionFactory localRegionFactory)) {
+            return;
+        }
+
+        for (LocalRegionStorage region : localRegionFactory.getRegions()) {
+            String name = region.getRegionName();
+
+            FunctionCounter.builder("hibernate.cache.region.hits", region, LocalRegionStorage::getHitCount)
+                    .description("Lookups answered by the cache region")
+                    .tag("region", name)
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.misses", region, LocalRegionStorage::getMissCount)
+                    .description("Lookups the cache region could not answer")
+                    .tag("region", name)
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.puts", region, LocalRegionStorage::getPutCount)
+                    .description("Entries written to the cache region")
+                    .tag("region", name)
+                    .register(registry);
+            FunctionCounter.builder("hibernate.cache.region.evictions", region, LocalRegionStorage::getEvictionCount)
+                    .description("Entries dropped from the cache region for size or expiry")
+                    .tag("region", name)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.region.hit.ratio", region, LocalRegionStorage::getHitRatio)
+                    .description("Share of lookups answered by the cache region")
+                    .tag("region", name)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.region.size", region, LocalRegionStorage::size)
+                    .description("Entries currently held by the cache region")
+                    .tag("region", name)
+                    .register(registry);
+        }
+    }
+
+}
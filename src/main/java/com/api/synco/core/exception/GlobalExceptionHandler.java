@@ -1,14 +1,32 @@
 package com.api.synco.core.exception;
 
 import com.api.synco.core.api.CustomApiResponse;
+import com.api.synco.core.exception.pagination.InvalidPageCursorException;
+import com.api.synco.core.exception.request.RequestBodyTooLargeException;
+import com.api.synco.core.exception.throttling.ThrottlingException;
 import com.api.synco.core.exception.token.TokenException;
+import com.api.synco.module.attendance_user.domain.exception.AttendanceSummaryNotFoundException;
+import com.api.synco.module.attendance_user.domain.exception.AttendanceUserDomainException;
+import com.api.synco.module.attendance_user.domain.exception.UserWithoutRecordAttendancePermissionException;
 import com.api.synco.module.authentication.domain.exception.AuthenticationException;
 import com.api.synco.module.class_entity.domain.exception.ClassDomainException;
 import com.api.synco.module.class_entity.domain.exception.user.UserWithoutClassPermisionException;
 import com.api.synco.module.course.domain.exception.CourseDomainException;
+import com.api.synco.module.period.domain.exception.PeriodDomainException;
+import com.api.synco.module.period.domain.exception.PeriodNotFoundException;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.TeacherAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.UserWithoutCreatePeriodPermissionException;
+import com.api.synco.module.room.domain.exception.RoomDomainException;
+import com.api.synco.module.room.domain.exception.RoomNotExistException;
+import com.api.synco.module.room.domain.exception.number.RoomNotUniqueNumberException;
+import com.api.synco.module.room.domain.exception.user.UserWithoutCreateRoomPermissionException;
+import com.api.synco.module.room.domain.exception.user.UserWithoutDeleteRoomPermissionException;
+import com.api.synco.module.room.domain.exception.user.UserWithoutUpdateRoomPermissionException;
 import com.api.synco.module.user.domain.exception.UserDomainException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -24,8 +42,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
  *
  * <p>The handler manages:</p>
  * <ul>
- *   <li>Domain-specific exceptions (User, Course, Authentication)</li>
+ *   <li>Domain-specific exceptions (User, Course, Room, Period, Attendance, Authentication)</li>
  *   <li>Token-related exceptions</li>
+ *   <li>Throttling exceptions, answered with {@code Retry-After}</li>
+ *   <li>Invalid page cursors</li>
+ *   <li>Request bodies over the accepted size</li>
  *   <li>Data integrity violations</li>
  *   <li>Generic runtime and checked exceptions</li>
  * </ul>
@@ -128,6 +149,76 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(CustomApiResponse.error(HttpStatus.BAD_REQUEST.value(), "COURSE_EXCEPTION", e.getMessage(), path));
     }
 
+    /**
+     * Handles room domain-related exceptions.
+     *
+     * @param e the room domain exception
+     * @param httpServletRequest the HTTP request that triggered the exception
+     * @return a {@link ResponseEntity} containing the error response with HTTP 404 status
+     *         for missing rooms, HTTP 409 status for duplicated numbers, HTTP 403 status
+     *         for missing permissions and HTTP 400 status otherwise
+     */
+    @ExceptionHandler(RoomDomainException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlerRoomException(RoomDomainException e, HttpServletRequest httpServletRequest){
+        String path = httpServletRequest.getRequestURI();
+
+        HttpStatus status = switch (e) {
+            case RoomNotExistException rne -> HttpStatus.NOT_FOUND;
+            case RoomNotUniqueNumberException rnun -> HttpStatus.CONFLICT;
+            case UserWithoutCreateRoomPermissionException uwcr -> HttpStatus.FORBIDDEN;
+            case UserWithoutUpdateRoomPermissionException uwur -> HttpStatus.FORBIDDEN;
+            case UserWithoutDeleteRoomPermissionException uwdr -> HttpStatus.FORBIDDEN;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+
+        return ResponseEntity.status(status).body(CustomApiResponse.error(status.value(), "ROOM_EXCEPTION", e.getMessage(), path));
+    }
+
+    /**
+     * Handles period domain-related exceptions.
+     *
+     * @param e the period domain exception
+     * @param httpServletRequest the HTTP request that triggered the exception
+     * @return a {@link ResponseEntity} containing the error response with HTTP 409 status
+     *         for booked slots, HTTP 404 status for missing periods, HTTP 403 status
+     *         for missing permissions and HTTP 400 status otherwise
+     */
+    @ExceptionHandler(PeriodDomainException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlerPeriodException(PeriodDomainException e, HttpServletRequest httpServletRequest){
+        String path = httpServletRequest.getRequestURI();
+
+        HttpStatus status = switch (e) {
+            case RoomAlreadyBookedException rab -> HttpStatus.CONFLICT;
+            case TeacherAlreadyBookedException tab -> HttpStatus.CONFLICT;
+            case PeriodNotFoundException pnf -> HttpStatus.NOT_FOUND;
+            case UserWithoutCreatePeriodPermissionException uwcp -> HttpStatus.FORBIDDEN;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+
+        return ResponseEntity.status(status).body(CustomApiResponse.error(status.value(), "PERIOD_EXCEPTION", e.getMessage(), path));
+    }
+
+    /**
+     * Handles attendance domain-related exceptions.
+     *
+     * @param e the attendance domain exception
+     * @param httpServletRequest the HTTP request that triggered the exception
+     * @return a {@link ResponseEntity} containing the error response with HTTP 403 status
+     *         for missing permissions, HTTP 404 status for missing summaries and HTTP 400 status otherwise
+     */
+    @ExceptionHandler(AttendanceUserDomainException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlerAttendanceException(AttendanceUserDomainException e, HttpServletRequest httpServletRequest){
+        String path = httpServletRequest.getRequestURI();
+
+        HttpStatus status = switch (e) {
+            case UserWithoutRecordAttendancePermissionException uwrap -> HttpStatus.FORBIDDEN;
+            case AttendanceSummaryNotFoundException asnf -> HttpStatus.NOT_FOUND;
+            default -> HttpStatus.BAD_REQUEST;
+        };
+
+        return ResponseEntity.status(status).body(CustomApiResponse.error(status.value(), "ATTENDANCE_EXCEPTION", e.getMessage(), path));
+    }
+
     /**
      * Handles authentication-related exceptions.
      *
@@ -166,6 +257,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(CustomApiResponse.error(status.value(), "TOKEN_EXCEPTION", tokenException.getMessage(), path));
     }
 
+    /**
+     * Handles requests refused to protect server capacity.
+     *
+     * @param e the throttling exception
+     * @param httpServletRequest the HTTP request that triggered the exception
+     * @return a {@link ResponseEntity} containing the error response with HTTP 429 status and a {@code Retry-After} header
+     */
+    @ExceptionHandler(ThrottlingException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlerThrottlingException(ThrottlingException e, HttpServletRequest httpServletRequest){
+        String path = httpServletRequest.getRequestURI();
+
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(CustomApiResponse.error(status.value(), "TOO_MANY_REQUESTS", e.getMessage(), path));
+    }
+
+    /**
+     * Handles page cursors that were not issued by the API.
+     *
+     * @param e the invalid cursor exception
+     * @param httpServletRequest the HTTP request that triggered the exception
+     * @return a {@link ResponseEntity} containing the error response with HTTP 400 status
+     */
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlerInvalidPageCursorException(InvalidPageCursorException e, HttpServletRequest httpServletRequest){
+        String path = httpServletRequest.getRequestURI();
+
+        return ResponseEntity.badRequest().body(CustomApiResponse.error(HttpStatus.BAD_REQUEST.value(), "INVALID_CURSOR", e.getMessage(), path));
+    }
+
+    /**
+     * Handles request bodies larger than the endpoint accepts.
+     *
+     * @param e the request body too large exception
+     * @param httpServletRequest the HTTP request that triggered the exception
+     * @return a {@link ResponseEntity} containing the error response with HTTP 413 status
+     */
+    @ExceptionHandler(RequestBodyTooLargeException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlerRequestBodyTooLargeException(RequestBodyTooLargeException e, HttpServletRequest httpServletRequest){
+        String path = httpServletRequest.getRequestURI();
+
+        HttpStatus status = HttpStatus.PAYLOAD_TOO_LARGE;
+
+        return ResponseEntity.status(status).body(CustomApiResponse.error(status.value(), "PAYLOAD_TOO_LARGE", e.getMessage(), path));
+    }
+
     // Major Exceptions
 
     /**
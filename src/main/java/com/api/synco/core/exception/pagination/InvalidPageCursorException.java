@@ -0,0 +1,8 @@
+package com.api.synco.core.exception.pagination;
+
+public class InvalidPageCursorException extends RuntimeException {
+
+    public InvalidPageCursorException() {
+        super("The page cursor is not valid");
+    }
+}
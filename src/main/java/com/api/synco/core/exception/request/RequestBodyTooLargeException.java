@@ -0,0 +1,22 @@
+package com.api.synco.core.exception.request;
+
+/**
+ * Exception thrown when a request body exceeds the size an endpoint accepts.
+ *
+ * <p>This exception is mapped to HTTP 413 (Payload Too Large).</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RequestBodyTooLargeException extends RuntimeException {
+
+    /**
+     * Constructs a new request body too large exception.
+     *
+     * @param maxBytes the largest body accepted, in bytes
+     */
+    public RequestBodyTooLargeException(int maxBytes) {
+        super("The request body must not exceed " + maxBytes + " bytes");
+    }
+}
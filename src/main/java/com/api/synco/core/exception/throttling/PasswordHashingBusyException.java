@@ -0,0 +1,24 @@
+package com.api.synco.core.exception.throttling;
+
+/**
+ * Exception thrown when the password hashing pool cannot accept more work.
+ *
+ * <p>Thrown instead of queueing the request without bound, so a burst of
+ * logins or registrations cannot exhaust the request threads.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ThrottlingException
+ */
+public class PasswordHashingBusyException extends ThrottlingException {
+
+    /**
+     * Constructs a new password hashing busy exception.
+     *
+     * @param retryAfterSeconds the number of seconds the client should wait before retrying
+     */
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Too many password operations in progress, try again later", retryAfterSeconds);
+    }
+}
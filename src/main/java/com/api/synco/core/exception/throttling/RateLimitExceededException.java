@@ -0,0 +1,21 @@
+package com.api.synco.core.exception.throttling;
+
+/**
+ * Exception thrown when a client or account exceeds its authentication rate limit.
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ThrottlingException
+ */
+public class RateLimitExceededException extends ThrottlingException {
+
+    /**
+     * Constructs a new rate limit exceeded exception.
+     *
+     * @param retryAfterSeconds the number of seconds the client should wait before retrying
+     */
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("Too many authentication attempts, try again later", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,37 @@
+package com.api.synco.core.exception.throttling;
+
+/**
+ * Base exception class for requests refused to protect server capacity.
+ *
+ * <p>This exception is mapped to HTTP 429 (Too Many Requests), with the
+ * {@code Retry-After} header telling the client when to try again.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PasswordHashingBusyException
+ */
+public class ThrottlingException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new throttling exception.
+     *
+     * @param message the detail message describing why the request was refused
+     * @param retryAfterSeconds the number of seconds the client should wait before retrying
+     */
+    public ThrottlingException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns the number of seconds the client should wait before retrying.
+     *
+     * @return the retry delay in seconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
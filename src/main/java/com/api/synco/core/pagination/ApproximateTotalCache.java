@@ -0,0 +1,167 @@
+package com.api.synco.core.pagination;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-memory cache of list totals.
+ *
+ * <p>List endpoints return slices and never count their rows. A client that
+ * needs a total asks for it explicitly, and the {@code COUNT(*)} query is then
+ * run at most once per filter and time-to-live. The total is approximate: rows
+ * created or removed within the time-to-live are not reflected.</p>
+ *
+ * <p>Entries are keyed by the filter record of the query, so two requests with
+ * the same filter share the total whatever page or cursor they read.</p>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code pagination.total-cache.max-size} - Maximum number of cached totals</li>
+ *   <li>{@code pagination.total-cache.ttl} - Entry time-to-live in milliseconds</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CountedSlice
+ */
+@Component
+public class ApproximateTotalCache implements MeterBinder {
+
+    private final int maxSize;
+    private final long ttlInMilliseconds;
+
+    private final Map<Object, CachedTotal> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new total cache.
+     *
+     * @param maxSize the maximum number of cached totals
+     * @param ttlInMilliseconds the time-to-live of each entry in milliseconds
+     * @throws IllegalArgumentException if the size or the time-to-live is not positive
+     */
+    public ApproximateTotalCache(
+            @Value("${pagination.total-cache.max-size:1000}") int maxSize,
+            @Value("${pagination.total-cache.ttl:30000}") long ttlInMilliseconds
+    ) {
+        if (maxSize <= 0 || ttlInMilliseconds <= 0) {
+            throw new IllegalArgumentException("Total cache size and ttl must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlInMilliseconds = ttlInMilliseconds;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, CachedTotal> eldest) {
+                return size() > ApproximateTotalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Attaches the approximate total of the query to a slice.
+     *
+     * <p>The counter is invoked outside the cache lock, so a slow count does
+     * not block requests for other filters.</p>
+     *
+     * @param <T> the type of the rows
+     * @param slice the rows of the page
+     * @param filter the filter record of the query, used as the cache key
+     * @param counter the count query, run on a miss
+     * @return the slice with its approximate total
+     */
+    public <T> CountedSlice<T> withTotal(Slice<T> slice, Object filter, LongSupplier counter) {
+        return new CountedSlice<>(slice, total(filter, counter));
+    }
+
+    /**
+     * Returns the approximate total of a query, counting it on a miss.
+     *
+     * @param filter the filter record of the query, used as the cache key
+     * @param counter the count query, run on a miss
+     * @return the cached or freshly counted total
+     */
+    public long total(Object filter, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedTotal cached = entries.get(filter);
+            if (cached != null && cached.expiresAt() > now) {
+                hits.increment();
+                return cached.total();
+            }
+        }
+
+        misses.increment();
+        long total = counter.getAsLong();
+
+        synchronized (entries) {
+            entries.put(filter, new CachedTotal(total, now + ttlInMilliseconds));
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the number of totals served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of totals that had to be counted.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of totals currently cached.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishes the counters under {@code pagination.total.cache.*}.</p>
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("pagination.total.cache.hits", this, ApproximateTotalCache::getHitCount)
+                .description("List totals served from the cache")
+                .register(registry);
+        FunctionCounter.builder("pagination.total.cache.misses", this, ApproximateTotalCache::getMissCount)
+                .description("List totals counted in the database")
+                .register(registry);
+        Gauge.builder("pagination.total.cache.size", this, ApproximateTotalCache::size)
+                .description("List totals currently cached")
+                .register(registry);
+    }
+
+    private record CachedTotal(long total, long expiresAt) {
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.api.synco.core.pagination;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+/**
+ * A slice of rows that also carries an approximate total of the query.
+ *
+ * <p>The total comes from {@link ApproximateTotalCache} and may lag behind
+ * the rows of the slice by the cache time-to-live.</p>
+ *
+ * @param <T> the type of the rows
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ApproximateTotalCache
+ */
+public class CountedSlice<T> extends SliceImpl<T> {
+
+    private final long approximateTotal;
+
+    /**
+     * Constructs a counted slice from a slice and its total.
+     *
+     * @param slice the rows of the page
+     * @param approximateTotal the approximate number of rows matching the query
+     */
+    public CountedSlice(Slice<T> slice, long approximateTotal) {
+        super(slice.getContent(), slice.getPageable(), slice.hasNext());
+        this.approximateTotal = approximateTotal;
+    }
+
+    /**
+     * Returns the approximate number of rows matching the query.
+     *
+     * @return the approximate total
+     */
+    public long getApproximateTotal() {
+        return approximateTotal;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.api.synco.core.pagination;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a list endpoint together with the cursor of the next page.
+ *
+ * <p>The next cursor is only set when the slice reports a next page, which is
+ * known from the extra row fetched with the page.</p>
+ *
+ * @param <T> the type of the listed items
+ * @param content the items of the page
+ * @param nextCursor the cursor of the next page, or {@code null} on the last page
+ * @param approximateTotal the approximate total of the query, or {@code null} when not requested
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PageCursor
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, Long approximateTotal) {
+
+    /** Response header carrying the approximate total of the query. */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    /**
+     * Builds the cursor page of a query result.
+     *
+     * @param <T> the entity type
+     * @param slice the slice returned by the repository
+     * @param cursorOf the function encoding the key of an entity as a cursor
+     * @return the page with the cursor of its last entity
+     */
+    public static <T> CursorPage<T> of(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1))
+                : null;
+
+        Long approximateTotal = slice instanceof CountedSlice<T> counted
+                ? counted.getApproximateTotal()
+                : null;
+
+        return new CursorPage<>(content, nextCursor, approximateTotal);
+    }
+
+    /**
+     * Maps the items of the page, keeping the next cursor and the total.
+     *
+     * @param <R> the type of the mapped items
+     * @param mapper the function applied to each item
+     * @return the mapped page
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, approximateTotal);
+    }
+
+    /**
+     * Returns the response headers announcing the next page and the total.
+     *
+     * @return the {@value PageCursor#NEXT_CURSOR_HEADER} header, absent on the last page,
+     *         and the {@value #TOTAL_COUNT_HEADER} header, present only when requested
+     */
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.set(PageCursor.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        if (approximateTotal != null) {
+            headers.set(TOTAL_COUNT_HEADER, String.valueOf(approximateTotal));
+        }
+        return headers;
+    }
+
+}
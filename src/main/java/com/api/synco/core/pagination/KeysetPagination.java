@@ -0,0 +1,262 @@
+package com.api.synco.core.pagination;
+
+import com.api.synco.core.exception.pagination.InvalidPageCursorException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs list queries either as offset pages or as keyset (seek) pages.
+ *
+ * <p>Both modes order the rows by the entity key, so a cursor built from the
+ * last row of an offset page continues exactly where that page stopped.</p>
+ *
+ * <p>In keyset mode the rows after the cursor are selected with a
+ * {@code WHERE key > :last ORDER BY key LIMIT :size} query, which the primary
+ * key index answers without skipping the previous pages.</p>
+ *
+ * <p>Neither mode runs a count query. One row more than the page size is
+ * fetched to tell whether a next page exists, and the result is returned as
+ * a {@link Slice}. Clients that need a total ask for it through
+ * {@link ApproximateTotalCache}.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PageCursor
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Finds one slice of rows matching the specification.
+     *
+     * @param <T> the entity type
+     * @param executor the repository running the query
+     * @param specification the filter of the query
+     * @param after the predicate selecting the rows after the cursor, or {@code null} for an offset page
+     * @param pageNumber the zero-based page number, ignored in keyset mode
+     * @param pageSize the number of rows per page
+     * @param keyOrder the order of the entity key
+     * @return the requested slice
+     */
+    public static <T> Slice<T> findSlice(
+            JpaSpecificationExecutor<T> executor,
+            Specification<T> specification,
+            Specification<T> after,
+            int pageNumber,
+            int pageSize,
+            Sort keyOrder
+    ) {
+        if (after == null) {
+            Window<T> window = executor.findBy(
+                    specification,
+                    query -> query.sortBy(keyOrder).limit(pageSize).scroll(offsetOf(pageNumber, pageSize))
+            );
+
+            return new SliceImpl<>(window.getContent(), PageRequest.of(pageNumber, pageSize, keyOrder), window.hasNext());
+        }
+
+        List<T> content = executor.findBy(
+                specification.and(after),
+                query -> query.sortBy(keyOrder).limit(pageSize + 1).all()
+        );
+
+        return sliceOf(content, 0, pageSize, keyOrder);
+    }
+
+    /**
+     * Finds one slice of rows matching the specification, read as projections.
+     *
+     * <p>Only the selected columns are read and no entity is loaded, so
+     * associations selected through their id resolve to foreign key columns
+     * of the root table.</p>
+     *
+     * @param <E> the entity type
+     * @param <R> the projection type, built through its constructor
+     * @param entityManager the entity manager running the query
+     * @param entityType the entity class
+     * @param projectionType the projection class
+     * @param columns the selections matching the projection constructor
+     * @param specification the filter of the query
+     * @param after the predicate selecting the rows after the cursor, or {@code null} for an offset page
+     * @param pageNumber the zero-based page number, ignored in keyset mode
+     * @param pageSize the number of rows per page
+     * @param keyAttributes the key attributes, dot-separated for embedded IDs
+     * @return the requested slice
+     */
+    public static <E, R> Slice<R> findProjectedSlice(
+            EntityManager entityManager,
+            Class<E> entityType,
+            Class<R> projectionType,
+            Function<Root<E>, Selection<?>[]> columns,
+            Specification<E> specification,
+            Specification<E> after,
+            int pageNumber,
+            int pageSize,
+            String... keyAttributes
+    ) {
+        Specification<E> filter = after == null ? specification : specification.and(after);
+        int page = after == null ? pageNumber : 0;
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = criteriaBuilder.createQuery(projectionType);
+        Root<E> root = query.from(entityType);
+
+        query.select(criteriaBuilder.construct(projectionType, columns.apply(root)));
+
+        Predicate predicate = filter.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(Arrays.stream(keyAttributes)
+                .map(attribute -> criteriaBuilder.asc(path(root, attribute)))
+                .toList());
+
+        List<R> rows = entityManager.createQuery(query)
+                .setFirstResult(page * pageSize)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+
+        return sliceOf(rows, page, pageSize, keyOrder(keyAttributes));
+    }
+
+    /**
+     * Builds a slice from rows read with one row more than the page size.
+     *
+     * @param <T> the row type
+     * @param rows the rows read, at most {@code pageSize + 1}
+     * @param pageNumber the zero-based page number
+     * @param pageSize the number of rows per page
+     * @param keyOrder the order of the entity key
+     * @return the slice, reporting a next page when the extra row was read
+     */
+    public static <T> Slice<T> sliceOf(List<T> rows, int pageNumber, int pageSize, Sort keyOrder) {
+        boolean hasNext = rows.size() > pageSize;
+
+        return new SliceImpl<>(
+                hasNext ? rows.subList(0, pageSize) : rows,
+                PageRequest.of(pageNumber, pageSize, keyOrder),
+                hasNext
+        );
+    }
+
+    /**
+     * Returns the ascending order of the given key attributes.
+     *
+     * @param attributes the key attributes, dot-separated for embedded IDs
+     * @return the key order
+     */
+    public static Sort keyOrder(String... attributes) {
+        return Sort.by(Sort.Direction.ASC, attributes);
+    }
+
+    /**
+     * Builds the predicate selecting the rows whose key comes after the given values.
+     *
+     * <p>Composite keys are compared lexicographically, so {@code (a, b) > (x, y)}
+     * becomes {@code a >= x AND (a > x OR (a = x AND b > y))}. The leading
+     * {@code a >= x} term lets the database seek on the index prefix.</p>
+     *
+     * @param <T> the entity type
+     * @param attributes the key attributes, dot-separated for embedded IDs
+     * @param values the key values of the last row of the previous page
+     * @return the keyset predicate
+     * @throws IllegalArgumentException if the attributes and values do not match
+     */
+    public static <T> Specification<T> after(String[] attributes, long... values) {
+        if (attributes.length == 0 || attributes.length != values.length) {
+            throw new IllegalArgumentException("Keyset attributes and values must match");
+        }
+
+        return (root, query, criteriaBuilder) -> {
+            Predicate after = null;
+            Predicate equalPrefix = null;
+
+            for (int i = 0; i < attributes.length; i++) {
+                Path<Comparable<Object>> path = path(root, attributes[i]);
+                Comparable<Object> value = valueOf(path, values[i]);
+
+                Predicate greater = criteriaBuilder.greaterThan(path, value);
+                Predicate term = equalPrefix == null ? greater : criteriaBuilder.and(equalPrefix, greater);
+                after = after == null ? term : criteriaBuilder.or(after, term);
+
+                Predicate equal = criteriaBuilder.equal(path, value);
+                equalPrefix = equalPrefix == null ? equal : criteriaBuilder.and(equalPrefix, equal);
+            }
+
+            if (attributes.length == 1) {
+                return after;
+            }
+
+            return criteriaBuilder.and(seek(root, criteriaBuilder, attributes[0], values[0]), after);
+        };
+    }
+
+    /**
+     * Builds the predicate selecting the rows whose single key comes after the given value.
+     *
+     * @param <T> the entity type
+     * @param attribute the key attribute
+     * @param value the key value of the last row of the previous page
+     * @return the keyset predicate
+     */
+    public static <T> Specification<T> after(String attribute, long value) {
+        return after(new String[]{attribute}, value);
+    }
+
+    private static ScrollPosition offsetOf(int pageNumber, int pageSize) {
+        long offset = (long) pageNumber * pageSize;
+
+        // An offset position points at the last row already read, not at the first row to read
+        return offset == 0 ? ScrollPosition.offset() : ScrollPosition.offset(offset - 1);
+    }
+
+    private static Predicate seek(Root<?> root, CriteriaBuilder criteriaBuilder, String attribute, long value) {
+        Path<Comparable<Object>> path = path(root, attribute);
+        return criteriaBuilder.greaterThanOrEqualTo(path, valueOf(path, value));
+    }
+
+    private static Path<Comparable<Object>> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+
+        @SuppressWarnings("unchecked")
+        Path<Comparable<Object>> comparable = (Path<Comparable<Object>>) path;
+        return comparable;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> valueOf(Path<?> path, long value) {
+        Class<?> type = path.getJavaType();
+        if (type == Integer.class || type == int.class) {
+            if (value != (int) value) {
+                throw new InvalidPageCursorException();
+            }
+            return (Comparable) (int) value;
+        }
+        return (Comparable) value;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.api.synco.core.pagination;
+
+import com.api.synco.core.exception.pagination.InvalidPageCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque continuation tokens of keyset pagination.
+ *
+ * <p>A cursor carries the sort key of the last row of a page. The next page
+ * is then read with a {@code WHERE key > :last} predicate instead of an
+ * {@code OFFSET}, so every page costs the same regardless of its depth.</p>
+ *
+ * <p>The token is the URL-safe Base64 form of a format version followed by
+ * the key values. Clients must treat it as opaque and only send back a value
+ * received in the {@value #NEXT_CURSOR_HEADER} header.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see KeysetPagination
+ * @see CursorPage
+ */
+public final class PageCursor {
+
+    /** Response header carrying the cursor of the next page. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final byte VERSION = 1;
+
+    private PageCursor() {
+    }
+
+    /**
+     * Encodes the sort key of the last row of a page.
+     *
+     * @param keys the key values, in sort order
+     * @return the opaque cursor
+     */
+    public static String encode(long... keys) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES * keys.length);
+        buffer.put(VERSION);
+        for (long key : keys) {
+            buffer.putLong(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor into its key values.
+     *
+     * @param cursor the cursor sent by the client
+     * @param keyCount the number of key values the cursor must carry
+     * @return the key values, in sort order
+     * @throws InvalidPageCursorException if the cursor is malformed or carries another key
+     */
+    public static long[] decode(String cursor, int keyCount) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageCursorException();
+        }
+
+        if (bytes.length != 1 + Long.BYTES * keyCount || bytes[0] != VERSION) {
+            throw new InvalidPageCursorException();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        long[] keys = new long[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            keys[i] = buffer.getLong();
+        }
+        return keys;
+    }
+
+    /**
+     * Returns whether the client asked for a keyset page.
+     *
+     * @param cursor the cursor sent by the client, possibly {@code null}
+     * @return {@code true} if a cursor was sent
+     */
+    public static boolean isPresent(String cursor) {
+        return cursor != null && !cursor.isBlank();
+    }
+
+}
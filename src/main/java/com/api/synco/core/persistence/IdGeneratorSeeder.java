@@ -0,0 +1,92 @@
+package com.api.synco.core.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starts every table generator after the IDs already stored in its entity table.
+ *
+ * <p>Tables created while IDs still came from {@code AUTO_INCREMENT} columns
+ * already hold rows. A generator without a row in {@value IdGenerators#TABLE}
+ * would start again from 1 and collide with them, so its row is created from
+ * the highest stored ID before the application accepts requests. Rows that
+ * already exist are never changed.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see IdGenerators
+ */
+@Component
+@Lazy(false)
+public class IdGeneratorSeeder {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new identifier generator seeder.
+     *
+     * @param entityManagerFactory the entity manager factory exposing the entity mappings
+     * @param jdbcTemplate the template running the seeding statements
+     */
+    public IdGeneratorSeeder(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the missing row of every table generator.
+     */
+    @PostConstruct
+    public void seed() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (persister instanceof AbstractEntityPersister entityPersister
+                            && entityPersister.getGenerator() instanceof TableGenerator generator) {
+                        seed(generator, entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+                    }
+                });
+    }
+
+    private void seed(TableGenerator generator, String entityTable, String idColumn) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + generator.getTableName()
+                        + " WHERE " + generator.getSegmentColumnName() + " = ?",
+                Integer.class,
+                generator.getSegmentValue()
+        );
+
+        if (rows != null && rows > 0) {
+            return;
+        }
+
+        Long lastId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + entityTable,
+                Long.class
+        );
+
+        // The generator reads the stored value plus one as the end of its first block
+        long nextValue = (lastId == null ? 0 : lastId) + generator.getIncrementSize() - 1;
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + generator.getTableName()
+                            + " (" + generator.getSegmentColumnName() + ", " + generator.getValueColumnName() + ") VALUES (?, ?)",
+                    generator.getSegmentValue(),
+                    nextValue
+            );
+        } catch (DuplicateKeyException e) {
+            // Another instance seeded the generator first
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.api.synco.core.persistence;
+
+/**
+ * Shared settings of the table-backed identifier generators.
+ *
+ * <p>Entity IDs are allocated from one row per entity in the
+ * {@value #TABLE} table instead of an {@code AUTO_INCREMENT} column. With an
+ * identity column Hibernate must run each insert on its own to read the
+ * generated key, which disables JDBC batching. A table generator works on
+ * both MySQL and H2, and with the pooled optimizer it reserves
+ * {@value #ALLOCATION_SIZE} IDs per round-trip, so inserts are only flushed
+ * at the end of the unit of work and can be sent in batches.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see IdGeneratorSeeder
+ */
+public final class IdGenerators {
+
+    /** Table holding the next value of every generator. */
+    public static final String TABLE = "id_generator";
+
+    /** Column naming the generator of a row. */
+    public static final String SEGMENT_COLUMN = "generator_name";
+
+    /** Column holding the last value handed out by a generator. */
+    public static final String VALUE_COLUMN = "next_value";
+
+    /** Number of IDs reserved by each access to the generator table. */
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.api.synco.core.persistence;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Records the one-off data migrations already applied to the database.
+ *
+ * <p>The schema itself is kept up to date by Hibernate, which cannot move
+ * data. Migrations that rewrite stored rows check this log first, so each of
+ * them runs once per database instead of on every start, and the check costs
+ * a single primary key lookup.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Lazy(false)
+public class MigrationLog {
+
+    /** Table holding one row per applied migration. */
+    public static final String TABLE = "schema_migration";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new migration log.
+     *
+     * @param jdbcTemplate the template running the log statements
+     */
+    public MigrationLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the log table if it does not exist yet.
+     */
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE
+                + " (name VARCHAR(100) NOT NULL PRIMARY KEY, applied_at TIMESTAMP NOT NULL)");
+    }
+
+    /**
+     * Checks whether a migration was already applied.
+     *
+     * @param name the unique name of the migration
+     * @return {@code true} if the migration was recorded
+     */
+    public boolean isApplied(String name) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE name = ?",
+                Integer.class,
+                name
+        );
+        return rows != null && rows > 0;
+    }
+
+    /**
+     * Records a migration as applied.
+     *
+     * @param name the unique name of the migration
+     */
+    public void markApplied(String name) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + TABLE + " (name, applied_at) VALUES (?, ?)",
+                    name,
+                    Timestamp.from(Instant.now())
+            );
+        } catch (DuplicateKeyException e) {
+            // Another instance applied the migration first
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.api.synco.core.search;
+
+import com.api.synco.core.persistence.MigrationLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Discards the n-grams stored before {@link NGrams} folded accents.
+ *
+ * <p>Those n-grams keep the accented characters, so a folded term would no
+ * longer find the rows they point to. The table is emptied once, before the
+ * search providers run {@link SearchIndex#rebuildIfEmpty}, which then stores
+ * the folded n-grams of every row. The migration is recorded in the
+ * {@link MigrationLog}, so later starts skip it with a single lookup.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class FoldedGramsMigration {
+
+    static final String NAME = "search_folded_grams";
+
+    private static final Logger log = LoggerFactory.getLogger(FoldedGramsMigration.class);
+
+    private final MigrationLog migrationLog;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs the migration.
+     *
+     * @param migrationLog the log of the applied migrations
+     * @param jdbcTemplate the template emptying the n-gram table
+     */
+    public FoldedGramsMigration(MigrationLog migrationLog, JdbcTemplate jdbcTemplate) {
+        this.migrationLog = migrationLog;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Empties the n-gram table unless the migration was already applied.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrate() {
+        if (migrationLog.isApplied(NAME)) {
+            return;
+        }
+
+        int removed = jdbcTemplate.update("DELETE FROM search_gram_tb");
+        migrationLog.markApplied(NAME);
+
+        log.info("Discarded {} unfolded search n-grams; the search index is rebuilt next", removed);
+    }
+
+}
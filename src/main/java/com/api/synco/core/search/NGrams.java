@@ -0,0 +1,57 @@
+package com.api.synco.core.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits texts into the n-grams stored by the {@link SearchIndex}.
+ *
+ * <p>A text contains a term only if it contains every n-gram of the term, so
+ * the n-grams of a term select a small set of candidates that is then checked
+ * with the exact {@code LIKE} predicate. Texts are lower-cased and stripped of
+ * their accents first, matching the case- and accent-insensitive collation the
+ * {@code LIKE} predicate runs under in MySQL, so "jose" still finds "José".</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SearchIndex
+ */
+public final class NGrams {
+
+    /** Number of characters of each n-gram. */
+    public static final int LENGTH = 3;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private NGrams() {
+    }
+
+    /**
+     * Returns the distinct n-grams of a text.
+     *
+     * @param text the text to split, possibly {@code null}
+     * @return the n-grams in order of first appearance, empty if the text is shorter than {@value #LENGTH}
+     */
+    public static Set<String> of(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+
+        int[] codePoints = fold(text).codePoints().toArray();
+        for (int i = 0; i + LENGTH <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, LENGTH));
+        }
+        return grams;
+    }
+
+    private static String fold(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("");
+    }
+
+}
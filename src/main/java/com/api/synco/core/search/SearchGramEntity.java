@@ -0,0 +1,54 @@
+package com.api.synco.core.search;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One n-gram of a text kept in the search side index.
+ *
+ * <p>The lookup index starts with the field and the n-gram, so the entities
+ * whose text contains an n-gram are read from a single index range. The
+ * second index serves the removal of all n-grams of one entity.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SearchIndex
+ */
+@Entity
+@Table(name = "search_gram_tb", indexes = {
+        @Index(name = "idx_search_gram_lookup", columnList = "fieldName, gram, entityId"),
+        @Index(name = "idx_search_gram_entity", columnList = "fieldName, entityId")
+})
+public class SearchGramEntity {
+
+    @EmbeddedId
+    private SearchGramId id;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public SearchGramEntity() {
+    }
+
+    /**
+     * Constructs a new indexed n-gram.
+     *
+     * @param id the n-gram identifier
+     */
+    public SearchGramEntity(SearchGramId id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the n-gram identifier.
+     *
+     * @return the identifier
+     */
+    public SearchGramId getId() {
+        return id;
+    }
+
+}
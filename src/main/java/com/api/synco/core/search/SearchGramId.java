@@ -0,0 +1,86 @@
+package com.api.synco.core.search;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.Objects;
+
+/**
+ * Embeddable composite identifier of one n-gram of an indexed text.
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SearchGramEntity
+ */
+@Embeddable
+public class SearchGramId {
+
+    @Column(length = 32)
+    private String fieldName;
+
+    // Three code points take up to six UTF-16 characters
+    @Column(length = 6)
+    private String gram;
+
+    private long entityId;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public SearchGramId() {
+    }
+
+    /**
+     * Constructs a new n-gram identifier.
+     *
+     * @param fieldName the indexed field, such as {@code user.name}
+     * @param gram the n-gram
+     * @param entityId the ID of the entity owning the text
+     */
+    public SearchGramId(String fieldName, String gram, long entityId) {
+        this.fieldName = fieldName;
+        this.gram = gram;
+        this.entityId = entityId;
+    }
+
+    /**
+     * Returns the indexed field.
+     *
+     * @return the field name
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the n-gram.
+     *
+     * @return the n-gram
+     */
+    public String getGram() {
+        return gram;
+    }
+
+    /**
+     * Returns the ID of the entity owning the text.
+     *
+     * @return the entity ID
+     */
+    public long getEntityId() {
+        return entityId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchGramId that = (SearchGramId) o;
+        return entityId == that.entityId && Objects.equals(fieldName, that.fieldName) && Objects.equals(gram, that.gram);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldName, gram, entityId);
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.api.synco.core.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * N-gram side index answering the case-insensitive "contains" filters.
+ *
+ * <p>A {@code LIKE '%term%'} predicate cannot use a B-tree index, so every
+ * substring search scans the whole table. The index stores the
+ * {@link NGrams n-grams} of each searchable text in {@code search_gram_tb},
+ * and a term is resolved to the IDs of the entities holding all of its
+ * n-grams before the entity table is read. The {@code LIKE} predicate is
+ * kept on top of the candidates, so results stay exact.</p>
+ *
+ * <p>The index is maintained by the use cases that create, edit and delete
+ * the entities, in the same transaction as the change. Terms shorter than
+ * {@value NGrams#LENGTH} characters have no n-gram and are answered by the
+ * {@code LIKE} predicate alone.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see NGrams
+ * @see SearchGramEntity
+ */
+@Component
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * Constructs a new search index.
+     *
+     * @param entityManager the entity manager storing the n-grams
+     * @param transactionManager the transaction manager running the rebuilds
+     * @param batchSize the number of n-grams flushed together during a rebuild
+     */
+    public SearchIndex(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Indexes the current text of one entity field.
+     *
+     * <p>Only the n-grams that appeared or disappeared are written, so saving
+     * an unchanged text costs a single read.</p>
+     *
+     * @param field the indexed field, such as {@code user.name}
+     * @param entityId the ID of the entity owning the text
+     * @param text the current text, possibly {@code null}
+     */
+    @Transactional
+    public void index(String field, long entityId, String text) {
+        Set<String> grams = NGrams.of(text);
+
+        List<SearchGramEntity> stored = entityManager.createQuery("""
+                SELECT g FROM SearchGramEntity g
+                WHERE g.id.fieldName = :field AND g.id.entityId = :entityId
+                """, SearchGramEntity.class)
+                .setParameter("field", field)
+                .setParameter("entityId", entityId)
+                .getResultList();
+
+        for (SearchGramEntity gram : stored) {
+            if (!grams.remove(gram.getId().getGram())) {
+                entityManager.remove(gram);
+            }
+        }
+
+        for (String gram : grams) {
+            entityManager.persist(new SearchGramEntity(new SearchGramId(field, gram, entityId)));
+        }
+    }
+
+    /**
+     * Removes the text of one entity field from the index.
+     *
+     * @param field the indexed field
+     * @param entityId the ID of the removed entity
+     */
+    @Transactional
+    public void remove(String field, long entityId) {
+        entityManager.createQuery("""
+                DELETE FROM SearchGramEntity g
+                WHERE g.id.fieldName = :field AND g.id.entityId = :entityId
+                """)
+                .setParameter("field", field)
+                .setParameter("entityId", entityId)
+                .executeUpdate();
+    }
+
+    /**
+     * Builds the predicate restricting an entity to the candidates of a term.
+     *
+     * <p>The candidates are read by a subquery grouping the matching n-grams per
+     * entity, so the page is still resolved in one statement and no ID list
+     * travels back to the application.</p>
+     *
+     * @param <T> the entity type, identified by a {@code long id} attribute
+     * @param field the indexed field
+     * @param term the searched term, possibly {@code null}
+     * @return the candidate predicate, or {@code null} when the term has no n-gram
+     */
+    public <T> Specification<T> contains(String field, String term) {
+        Set<String> grams = NGrams.of(term);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        return (root, query, cb) -> {
+            Subquery<Long> candidates = query.subquery(Long.class);
+            Root<SearchGramEntity> gram = candidates.from(SearchGramEntity.class);
+            Path<Long> entityId = gram.get("id").get("entityId");
+            Path<String> value = gram.get("id").get("gram");
+
+            candidates.select(entityId)
+                    .where(cb.equal(gram.get("id").get("fieldName"), field), value.in(grams))
+                    .groupBy(entityId)
+                    .having(cb.equal(cb.count(value), (long) grams.size()));
+
+            return root.get("id").in(candidates);
+        };
+    }
+
+    /**
+     * Indexes every stored entity when the field has no n-gram yet.
+     *
+     * <p>Called once the application is ready, so that rows stored before the
+     * index existed can be found without holding up the context startup. When another instance rebuilds the same field at the same
+     * time, the losing rebuild is discarded.</p>
+     *
+     * @param <T> the entity type
+     * @param field the indexed field
+     * @param entityType the entity class
+     * @param idOf the function reading the entity ID
+     * @param textOf the function reading the indexed text
+     */
+    public <T> void rebuildIfEmpty(String field, Class<T> entityType, ToLongFunction<T> idOf, Function<T, String> textOf) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (isIndexed(field)) {
+                    return;
+                }
+
+                String entityName = entityManager.getMetamodel().entity(entityType).getName();
+                int pending = 0;
+
+                try (Stream<T> entities = entityManager
+                        .createQuery("SELECT e FROM " + entityName + " e", entityType)
+                        .getResultStream()) {
+                    for (T entity : (Iterable<T>) entities::iterator) {
+                        long entityId = idOf.applyAsLong(entity);
+                        for (String gram : NGrams.of(textOf.apply(entity))) {
+                            entityManager.persist(new SearchGramEntity(new SearchGramId(field, gram, entityId)));
+                            if (++pending % batchSize == 0) {
+                                entityManager.flush();
+                                entityManager.clear();
+                            }
+                        }
+                    }
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.info("Search index of {} was rebuilt by another instance", field);
+        }
+    }
+
+    private boolean isIndexed(String field) {
+        return !entityManager.createQuery("SELECT 1 FROM SearchGramEntity g WHERE g.id.fieldName = :field")
+                .setParameter("field", field)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+}
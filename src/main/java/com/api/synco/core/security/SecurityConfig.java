@@ -2,8 +2,18 @@ package com.api.synco.core.security;
 
 import com.api.synco.core.security.jwt.JwtTokenAuthenticationFilter;
 import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.password.AdaptivePasswordEncoderFactory;
+import com.api.synco.core.security.password.BoundedPasswordEncoder;
+import com.api.synco.core.security.ratelimit.LoginRateLimitFilter;
+import com.api.synco.core.security.ratelimit.LoginRateLimiter;
+import com.api.synco.core.security.revocation.TokenRevocationList;
+import com.api.synco.core.security.user_details.StatelessPrincipalResolver;
+import com.api.synco.core.security.user_details.UserPrincipalCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +23,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -27,7 +36,8 @@ import org.springframework.web.servlet.HandlerExceptionResolver;
  *   <li>JWT-based stateless authentication</li>
  *   <li>CSRF protection (disabled for REST API)</li>
  *   <li>Endpoint authorization rules</li>
- *   <li>Password encoding using BCrypt</li>
+ *   <li>Rate limiting of login and registration attempts</li>
+ *   <li>Password encoding using BCrypt or Argon2id on a bounded hashing pool</li>
  * </ul>
  *
  * <p>The security configuration follows a stateless approach where each request
@@ -55,14 +65,35 @@ public class SecurityConfig {
      *
      * @param jwtTokenProvider the JWT token provider for token operations
      * @param userDetailsService the service for loading user details
+     * @param userPrincipalCache the cache of authenticated principals
+     * @param statelessPrincipalResolver the resolver of principals carried by token claims
+     * @param tokenRevocationList the list of revoked token IDs
      * @return a configured {@link JwtTokenAuthenticationFilter} instance
      */
     @Bean
     public JwtTokenAuthenticationFilter jwtTokenAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
-            UserDetailsService userDetailsService
+            UserDetailsService userDetailsService,
+            UserPrincipalCache userPrincipalCache,
+            StatelessPrincipalResolver statelessPrincipalResolver,
+            TokenRevocationList tokenRevocationList
     ) {
-        return new JwtTokenAuthenticationFilter(jwtTokenProvider, userDetailsService, resolver);
+        return new JwtTokenAuthenticationFilter(jwtTokenProvider, userDetailsService, userPrincipalCache, statelessPrincipalResolver, tokenRevocationList, resolver);
+    }
+
+    /**
+     * Creates the login rate limit filter bean.
+     *
+     * <p>This filter throttles login and registration attempts per client IP and
+     * per account email before they reach authentication.</p>
+     *
+     * @param loginRateLimiter the limiter holding the token buckets
+     * @param objectMapper the mapper used to read the email from the request body
+     * @return a configured {@link LoginRateLimitFilter} instance
+     */
+    @Bean
+    public LoginRateLimitFilter loginRateLimitFilter(LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper) {
+        return new LoginRateLimitFilter(loginRateLimiter, objectMapper, resolver);
     }
 
     /**
@@ -73,17 +104,22 @@ public class SecurityConfig {
      *   <li>CSRF protection disabled (suitable for REST APIs)</li>
      *   <li>Stateless session management</li>
      *   <li>Authorization rules for different endpoints</li>
-     *   <li>JWT authentication filter placement in the filter chain</li>
+     *   <li>Rate limit and JWT authentication filter placement in the filter chain</li>
      * </ul>
      *
      *
      * @param http the {@link HttpSecurity} to configure
      * @param authenticationFilter the JWT authentication filter
+     * @param loginRateLimitFilter the login rate limit filter
      * @return the configured {@link SecurityFilterChain}
      * @throws Exception if configuration fails
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenAuthenticationFilter authenticationFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            JwtTokenAuthenticationFilter authenticationFilter,
+            LoginRateLimitFilter loginRateLimitFilter
+    ) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -96,6 +132,7 @@ public class SecurityConfig {
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
+                .addFilterBefore(loginRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
@@ -116,16 +153,70 @@ public class SecurityConfig {
     }
 
     /**
-     * Creates the password encoder bean using BCrypt algorithm.
+     * Creates the password encoder bean.
+     *
+     * <p>New passwords are hashed with the configured algorithm, BCrypt or Argon2id,
+     * at a cost either configured or calibrated at startup toward a target latency.
+     * Existing hashes keep matching and are upgraded on the next successful login
+     * through {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}.
+     * See {@link AdaptivePasswordEncoderFactory}.</p>
      *
-     * <p>BCrypt is a strong adaptive hashing function that automatically
-     * handles salt generation and is resistant to brute-force attacks.</p>
+     * <p>Hashing runs on a {@link BoundedPasswordEncoder} pool instead of the
+     * request threads, so login, registration, user creation and password reset
+     * bursts cannot starve the other endpoints. Configuration properties:</p>
+     * <ul>
+     *   <li>{@code security.password-hashing.threads} - Hashing threads ({@code 0} uses the available cores)</li>
+     *   <li>{@code security.password-hashing.queue-capacity} - Hashes allowed to wait for a thread</li>
+     *   <li>{@code security.password-hashing.retry-after} - Seconds suggested to rejected clients</li>
+     *   <li>{@code security.password-hashing.algorithm} - {@code bcrypt} or {@code argon2} for new hashes</li>
+     *   <li>{@code security.password-hashing.bcrypt.strength} - BCrypt log rounds ({@code 0} calibrates)</li>
+     *   <li>{@code security.password-hashing.argon2.memory} - Argon2 memory cost in KiB</li>
+     *   <li>{@code security.password-hashing.argon2.iterations} - Argon2 iterations ({@code 0} calibrates)</li>
+     *   <li>{@code security.password-hashing.argon2.parallelism} - Argon2 parallelism</li>
+     *   <li>{@code security.password-hashing.target-latency} - Calibration target in milliseconds</li>
+     * </ul>
      *
-     * @return a {@link BCryptPasswordEncoder} instance
+     * @param threads the number of hashing threads
+     * @param queueCapacity the number of hashes allowed to wait
+     * @param retryAfterSeconds the delay suggested to rejected clients
+     * @param meterRegistry the registry where hashing metrics are published
+     * @param encoderFactory the factory of the underlying delegating encoder
+     * @return a {@link BoundedPasswordEncoder} running the delegating encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.retry-after:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry,
+            AdaptivePasswordEncoderFactory encoderFactory
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        return new BoundedPasswordEncoder(encoderFactory.create(), poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
+    }
+
+    /**
+     * Creates the factory of the delegating password encoder.
+     *
+     * @param algorithm the algorithm for new hashes
+     * @param bcryptStrength the BCrypt log rounds, or {@code 0} to calibrate
+     * @param argon2Memory the Argon2 memory cost in KiB
+     * @param argon2Iterations the Argon2 iterations, or {@code 0} to calibrate
+     * @param argon2Parallelism the Argon2 parallelism
+     * @param targetLatency the calibration target in milliseconds
+     * @return the configured {@link AdaptivePasswordEncoderFactory}
+     */
+    @Bean
+    public AdaptivePasswordEncoderFactory adaptivePasswordEncoderFactory(
+            @Value("${security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${security.password-hashing.bcrypt.strength:0}") int bcryptStrength,
+            @Value("${security.password-hashing.argon2.memory:19456}") int argon2Memory,
+            @Value("${security.password-hashing.argon2.iterations:0}") int argon2Iterations,
+            @Value("${security.password-hashing.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${security.password-hashing.target-latency:100}") long targetLatency
+    ) {
+        return new AdaptivePasswordEncoderFactory(algorithm, bcryptStrength, argon2Memory, argon2Iterations, argon2Parallelism, targetLatency);
     }
 
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.api.synco.core.security.jwt;
 
 import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.revocation.TokenRevocationList;
+import com.api.synco.core.security.user_details.StatelessPrincipalResolver;
+import com.api.synco.core.security.user_details.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +30,9 @@ import java.io.IOException;
  * <ol>
  *   <li>Extracts the JWT token from the "Authorization" header (Bearer scheme)</li>
  *   <li>Validates the token using {@link JwtTokenProvider}</li>
- *   <li>Loads user details from the database</li>
+ *   <li>Rejects tokens revoked through logout, using the {@link TokenRevocationList}</li>
+ *   <li>Builds the principal from the token claims when the stateless principal mode is enabled</li>
+ *   <li>Otherwise loads user details through the {@link UserPrincipalCache}, hitting the database only on a miss</li>
  *   <li>Creates and sets the authentication in the security context</li>
  * </ol>
  *
@@ -39,6 +44,9 @@ import java.io.IOException;
  * @version 1.0.0
  * @since 1.0.0
  * @see JwtTokenProvider
+ * @see UserPrincipalCache
+ * @see StatelessPrincipalResolver
+ * @see TokenRevocationList
  * @see OncePerRequestFilter
  */
 @Component
@@ -46,6 +54,9 @@ public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final StatelessPrincipalResolver statelessPrincipalResolver;
+    private final TokenRevocationList tokenRevocationList;
     private final HandlerExceptionResolver handlerExceptionResolver;
 
     /**
@@ -53,15 +64,24 @@ public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
      *
      * @param jwtTokenProvider the provider for JWT token operations
      * @param userDetailsService the service for loading user details
+     * @param userPrincipalCache the cache of principals already loaded for a token
+     * @param statelessPrincipalResolver the resolver of principals carried by the token claims
+     * @param tokenRevocationList the list of revoked token IDs
      * @param handlerExceptionResolver the resolver for handling exceptions
      */
     public JwtTokenAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
             UserDetailsService userDetailsService,
+            UserPrincipalCache userPrincipalCache,
+            StatelessPrincipalResolver statelessPrincipalResolver,
+            TokenRevocationList tokenRevocationList,
             HandlerExceptionResolver handlerExceptionResolver
     ) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.statelessPrincipalResolver = statelessPrincipalResolver;
+        this.tokenRevocationList = tokenRevocationList;
         this.handlerExceptionResolver = handlerExceptionResolver;
     }
 
@@ -75,23 +95,28 @@ public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
      * @return the JWT token without the "Bearer " prefix, or {@code null} if not present
      */
     private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
+        return JwtTokenProvider.resolveBearerToken(request.getHeader("Authorization"));
+    }
 
 
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
+    /**
+     * Loads the user details of the token owner through the principal cache.
+     *
+     * @param verifiedToken the verified token
+     * @return the cached or freshly loaded user details
+     */
+    private UserDetails loadUserDetails(VerifiedToken verifiedToken) {
+        return userPrincipalCache.get(verifiedToken.email(), verifiedToken.issuedAt(), userDetailsService::loadUserByUsername);
     }
 
-
     /**
      * Processes the incoming request and performs JWT authentication.
      *
      * <p>This method:</p>
      * <ul>
      *   <li>Extracts and validates the JWT token</li>
-     *   <li>Loads user details and creates authentication</li>
+     *   <li>Rejects the token if it was revoked</li>
+     *   <li>Resolves the cached user details and creates authentication</li>
      *   <li>Sets the authentication in the security context</li>
      *   <li>Delegates to the next filter in the chain</li>
      * </ul>
@@ -114,18 +139,20 @@ public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (!jwtTokenProvider.validateToken(jwt)) {
-                throw new TokenInvalidException();
-            }
+            VerifiedToken verifiedToken = jwtTokenProvider.verify(jwt);
 
+            if (tokenRevocationList.isRevoked(verifiedToken.tokenId())) {
+                throw new TokenInvalidException("Token revoked");
+            }
 
-            String email = jwtTokenProvider.getUserEmail(jwt);
+            String email = verifiedToken.email();
 
 
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = statelessPrincipalResolver.resolve(verifiedToken.claims(), email)
+                        .map(UserDetails.class::cast)
+                        .orElseGet(() -> loadUserDetails(verifiedToken));
 
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
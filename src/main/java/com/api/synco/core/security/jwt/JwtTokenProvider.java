@@ -1,20 +1,25 @@
 package com.api.synco.core.security.jwt;
 
 import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.user_details.UserDetailsImpl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.UUID;
 import java.security.Key;
 
 /**
@@ -22,50 +27,104 @@ import java.security.Key;
  *
  * <p>This component handles all JWT-related operations including:</p>
  * <ul>
- *   <li>Token generation with configurable expiration</li>
- *   <li>Token validation and parsing</li>
+ *   <li>Token generation with configurable expiration and a unique token ID ({@code jti})</li>
+ *   <li>Signing with the active key of the {@link SigningKeyRing}, named in the {@code kid} header</li>
+ *   <li>Token validation and parsing with a single immutable parser</li>
+ *   <li>Caching of recently verified tokens until they expire</li>
  *   <li>Claims extraction from tokens</li>
  *   <li>User email extraction from tokens</li>
  * </ul>
  *
- * <p>The JWT tokens are signed using the HMAC-SHA256 algorithm with a secret key
- * configured via application properties.</p>
+ * <p>The JWT tokens are signed using the HMAC-SHA256 algorithm with the keys
+ * configured via application properties, see {@link SigningKeyRing}.</p>
  *
  * <p>Configuration properties:</p>
  * <ul>
- *   <li>{@code jwt.secret} - The secret key for signing tokens</li>
  *   <li>{@code jwt.token.validity} - Token validity in milliseconds</li>
+ *   <li>{@code jwt.verified-cache.max-size} - Number of verified tokens kept in memory ({@code 0} disables it)</li>
  * </ul>
  *
  * @author Luca5Eckert
  * @version 1.0.0
  * @since 1.0.0
  * @see JwtTokenAuthenticationFilter
+ * @see SigningKeyRing
  */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    private final Key key;
+    /**
+     * Claim holding the user's unique identifier.
+     */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * Claim holding the user's role.
+     */
+    public static final String CLAIM_ROLE = "role";
+
+    /**
+     * Claim holding the user's token revision at issue time.
+     */
+    public static final String CLAIM_REVISION = "rev";
+
+    /**
+     * Claim holding the ID of the refresh token family issued along with the token.
+     */
+    public static final String CLAIM_FAMILY = "fam";
+
+    /**
+     * Prefix of the Authorization header value for the Bearer scheme.
+     */
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    private final SigningKeyRing signingKeyRing;
+    private final JwtParser jwtParser;
     private final long validityInMilliseconds;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     /**
      * Constructs a new JWT token provider with the specified configuration.
      *
-     * @param secret the secret key for signing tokens (must not be null or empty)
+     * <p>The parser is built once here; jjwt parsers are immutable and thread-safe.
+     * It resolves the verification key from the token's {@code kid} header.</p>
+     *
+     * @param signingKeyRing the keys used to sign and verify tokens
      * @param validityInMilliseconds the token validity period in milliseconds
-     * @throws IllegalArgumentException if the secret is null or empty
+     * @param verifiedCacheSize the number of verified tokens kept in memory
      */
+    @Autowired
     public JwtTokenProvider(
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.token.validity}") long validityInMilliseconds
+            SigningKeyRing signingKeyRing,
+            @Value("${jwt.token.validity}") long validityInMilliseconds,
+            @Value("${jwt.verified-cache.max-size:1024}") int verifiedCacheSize
     ) {
-        if (secret == null || secret.trim().isEmpty()) {
-            throw new IllegalArgumentException("JWT secret must not be null or empty");
-        }
-        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.signingKeyRing = signingKeyRing;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return signingKeyRing.resolve(header.getKeyId());
+                    }
+                })
+                .build();
         this.validityInMilliseconds = validityInMilliseconds;
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
+    }
+
+    /**
+     * Constructs a new JWT token provider signing with a single secret key.
+     *
+     * @param secret the secret key for signing tokens (must not be null or empty)
+     * @param validityInMilliseconds the token validity period in milliseconds
+     * @param verifiedCacheSize the number of verified tokens kept in memory
+     * @throws IllegalArgumentException if the secret is null or empty
+     */
+    public JwtTokenProvider(String secret, long validityInMilliseconds, int verifiedCacheSize) {
+        this(SigningKeyRing.ofSecret(secret), validityInMilliseconds, verifiedCacheSize);
     }
 
     /**
@@ -74,6 +133,8 @@ public class JwtTokenProvider {
      * <p>The generated token includes:</p>
      * <ul>
      *   <li>Subject set to the user's email</li>
+     *   <li>Unique token ID ({@code jti}), used for revocation</li>
+     *   <li>ID of the signing key in the {@code kid} header</li>
      *   <li>Email claim</li>
      *   <li>Issue timestamp</li>
      *   <li>Expiration timestamp based on configured validity</li>
@@ -86,14 +147,59 @@ public class JwtTokenProvider {
         Claims claims = Jwts.claims().setSubject(email);
         claims.put("email", email);
 
+        return buildToken(claims);
+    }
+
+    /**
+     * Generates a self-contained JWT token for the specified user.
+     *
+     * <p>In addition to the claims of {@link #generateToken(String)}, the token
+     * carries the user ID, role and token revision, so the authentication filter
+     * can build the principal without loading the user. It also names the refresh
+     * token family of the login, so logging out revokes that login only.</p>
+     *
+     * @param userDetails the authenticated user
+     * @param familyId the ID of the refresh token family issued with the token
+     * @return the generated JWT token as a string
+     */
+    public String generateToken(UserDetailsImpl userDetails, String familyId) {
+        Claims claims = Jwts.claims().setSubject(userDetails.getUsername());
+        claims.put("email", userDetails.getUsername());
+        claims.put(CLAIM_USER_ID, userDetails.getId());
+        claims.put(CLAIM_ROLE, userDetails.getRole().name());
+        claims.put(CLAIM_REVISION, userDetails.getTokenRevision());
+        claims.put(CLAIM_FAMILY, familyId);
+
+        return buildToken(claims);
+    }
+
+    /**
+     * Extracts the token from an Authorization header value.
+     *
+     * <p>The token must be provided using the Bearer authentication scheme:
+     * {@code Authorization: Bearer <token>}</p>
+     *
+     * @param authorizationHeader the Authorization header value, may be {@code null}
+     * @return the JWT token without the "Bearer " prefix, or {@code null} if not present
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return authorizationHeader.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
+    private String buildToken(Claims claims) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyRing.getActiveKeyId())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKeyRing.getActiveKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -116,6 +222,42 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Verifies a JWT token once and returns everything the request needs from it.
+     *
+     * <p>Recently verified tokens are served from an LRU keyed by the token hash,
+     * skipping the signature check and parsing until the token expires.</p>
+     *
+     * @param token the JWT token to verify
+     * @return the {@link VerifiedToken} holding the claims, email and timestamps
+     * @throws TokenInvalidException if the token is null, empty, expired, malformed,
+     *                               has an invalid signature, is unsupported or has no email
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new TokenInvalidException("Token is null or empty");
+        }
+
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parse(token);
+
+        VerifiedToken verifiedToken = new VerifiedToken(
+                claims,
+                claims.getId(),
+                getUserEmail(claims),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L,
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+        );
+
+        verifiedTokenCache.put(token, verifiedToken);
+
+        return verifiedToken;
+    }
+
     /**
      * Parses and validates the claims from a JWT token.
      *
@@ -125,17 +267,20 @@ public class JwtTokenProvider {
      * @param token the JWT token to parse
      * @return the {@link Claims} extracted from the token
      * @throws TokenInvalidException if the token is null, empty, expired, malformed,
-     *                               has an invalid signature, or is unsupported
+     *                               has an invalid signature, is unsupported or
+     *                               names an unknown or retired signing key
      */
     public Claims parseClaims(String token) {
         if (token == null || token.trim().isEmpty()) {
             throw new TokenInvalidException("Token is null or empty");
         }
 
+        return parse(token);
+    }
+
+    private Claims parse(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -167,8 +312,19 @@ public class JwtTokenProvider {
      * @throws TokenInvalidException if the token is invalid or does not contain an email
      */
     public String getUserEmail(String token) {
-        Claims claims = parseClaims(token);
+        return verify(token).email();
+    }
 
+    /**
+     * Extracts the user email from claims that were already parsed and validated.
+     *
+     * <p>The email is extracted from either the "email" claim or the subject claim.</p>
+     *
+     * @param claims the validated token claims
+     * @return the user's email extracted from the claims
+     * @throws TokenInvalidException if the claims do not contain an email
+     */
+    public String getUserEmail(Claims claims) {
         String email = claims.get("email", String.class);
         if (email == null || email.trim().isEmpty()) {
             email = claims.getSubject();
@@ -0,0 +1,175 @@
+package com.api.synco.core.security.jwt;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.user_details.UserDetailsImpl;
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+import com.api.synco.module.authentication.domain.port.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Provider class for refresh token operations.
+ *
+ * <p>Refresh tokens are opaque random values, so renewing an access token costs a
+ * single indexed lookup instead of a password hash. This component handles:</p>
+ * <ul>
+ *   <li>Generation of random tokens, persisted only as their SHA-256 hash</li>
+ *   <li>Single-use consumption, atomically marking the token as used</li>
+ *   <li>Reuse detection, revoking the whole token family</li>
+ *   <li>Revocation of one family at logout, or of every family of a user</li>
+ *   <li>Periodic purge of expired tokens</li>
+ * </ul>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code jwt.refresh-token.validity} - Refresh token validity in milliseconds</li>
+ *   <li>{@code jwt.refresh-token.purge-interval} - Interval between purges in milliseconds</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RefreshTokenRepository
+ * @see JwtTokenProvider
+ */
+@Component
+public class RefreshTokenProvider {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final long validityInMilliseconds;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * Constructs a new refresh token provider.
+     *
+     * @param validityInMilliseconds the refresh token validity in milliseconds
+     * @param refreshTokenRepository the repository where token hashes are stored
+     */
+    public RefreshTokenProvider(
+            @Value("${jwt.refresh-token.validity:1209600000}") long validityInMilliseconds,
+            RefreshTokenRepository refreshTokenRepository
+    ) {
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Creates the ID of a new token family, at login.
+     *
+     * <p>The ID is also carried by the access tokens of the login, so a logout
+     * can revoke its family without knowing the refresh token.</p>
+     *
+     * @return the new family ID
+     */
+    public String newFamilyId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Issues the next refresh token of a family, at login or at rotation.
+     *
+     * @param userDetails the authenticated user
+     * @param familyId the ID of the token family
+     * @return the raw refresh token, returned to the client only
+     */
+    public String issue(UserDetailsImpl userDetails, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshTokenEntity(
+                hash(token),
+                familyId,
+                userDetails.getId(),
+                userDetails.getTokenRevision(),
+                Instant.now().plusMillis(validityInMilliseconds)
+        ));
+
+        return token;
+    }
+
+    /**
+     * Consumes a refresh token, which can then never be used again.
+     *
+     * <p>Presenting a token that was already used means it was copied; the whole
+     * family is then revoked, logging out both the legitimate client and the
+     * holder of the copy.</p>
+     *
+     * @param token the raw refresh token
+     * @return the consumed token record
+     * @throws TokenInvalidException if the token is unknown, expired or already used
+     */
+    public RefreshTokenEntity consume(String token) {
+        if (token == null || token.isBlank()) {
+            throw new TokenInvalidException("Refresh token is null or empty");
+        }
+
+        String tokenHash = hash(token);
+
+        RefreshTokenEntity refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new TokenInvalidException("Invalid refresh token"));
+
+        if (!refreshToken.getExpiresAt().isAfter(Instant.now())) {
+            throw new TokenInvalidException("Refresh token expired");
+        }
+
+        if (!refreshTokenRepository.markUsed(tokenHash)) {
+            revokeFamily(refreshToken.getFamilyId());
+            throw new TokenInvalidException("Refresh token already used");
+        }
+
+        return refreshToken;
+    }
+
+    /**
+     * Revokes every refresh token of a family.
+     *
+     * @param familyId the ID of the token family
+     */
+    public void revokeFamily(String familyId) {
+        refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    /**
+     * Revokes every refresh token family of a user, ending all of their logins.
+     *
+     * @param userId the ID of the token owner
+     */
+    public void revokeFamilies(long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Deletes the refresh tokens that have already expired.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.refresh-token.purge-interval:3600000}",
+            fixedDelayString = "${jwt.refresh-token.purge-interval:3600000}"
+    )
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,288 @@
+package com.api.synco.core.security.jwt;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Ring of HMAC keys used to sign and verify JWT tokens.
+ *
+ * <p>New tokens are signed with the active key and carry its ID in the {@code kid}
+ * header. Verification picks the key by that ID from a map built once at startup,
+ * so a token is checked against a single key no matter how many the ring holds.
+ * Tokens issued before key IDs existed carry no {@code kid} and are verified with
+ * the key configured through {@code jwt.secret}.</p>
+ *
+ * <p>Rotating the active key does not log users out: tokens signed with a previous
+ * key keep verifying until they expire and are replaced on the next refresh, so
+ * sessions move to the new key gradually instead of all at once. A previous key is
+ * retired at the absolute instant configured for it, which should be at least one
+ * access token validity after the rotation; restarting the application does not
+ * move that instant. A key without one keeps verifying until it is removed from
+ * the configuration. The active key never retires.</p>
+ *
+ * <p>Keys are loaded from the following sources:</p>
+ * <ul>
+ *   <li>{@code jwt.secret} - Key registered under {@code jwt.signing.default-kid}</li>
+ *   <li>{@code jwt.signing.keys} - Comma-separated {@code kid:secret} or {@code kid:secret:retireAt} entries</li>
+ *   <li>{@code jwt.signing.keystore.path} - Keystore whose secret key entries are registered by alias</li>
+ * </ul>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code jwt.signing.active-kid} - ID of the key that signs new tokens (defaults to the {@code jwt.secret} key)</li>
+ *   <li>{@code jwt.signing.default-kid} - ID given to the {@code jwt.secret} key</li>
+ *   <li>{@code jwt.signing.retire-at} - Comma-separated {@code kid:retireAt} pairs, for keys of any source</li>
+ *   <li>{@code jwt.signing.keystore.password} - Password of the keystore and its entries</li>
+ *   <li>{@code jwt.signing.keystore.type} - Keystore type, {@code PKCS12} by default</li>
+ * </ul>
+ *
+ * <p>Retirement instants are given in seconds since the epoch, like the {@code exp}
+ * claim of the tokens.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see JwtTokenProvider
+ */
+@Component
+public class SigningKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(SigningKeyRing.class);
+
+    /**
+     * ID given to the {@code jwt.secret} key when none is configured.
+     */
+    public static final String DEFAULT_KEY_ID = "default";
+
+    /**
+     * Key of the ring with the instant it retires at.
+     *
+     * @param key the HMAC key
+     * @param retiresAt the retirement instant in epoch milliseconds, {@link Long#MAX_VALUE} if it never retires
+     */
+    record SigningKey(Key key, long retiresAt) {
+    }
+
+    private final Map<String, SigningKey> keys;
+    private final String activeKeyId;
+    private final Key activeKey;
+    private final String legacyKeyId;
+    private final LongSupplier clock;
+
+    /**
+     * Constructs the key ring from the application configuration.
+     *
+     * @param secret the secret of the default key, may be empty when other keys are configured
+     * @param defaultKeyId the ID given to the default key
+     * @param activeKeyId the ID of the key that signs new tokens, empty for the default key
+     * @param inlineKeys the comma-separated {@code kid:secret} or {@code kid:secret:retireAt} entries
+     * @param retireAt the comma-separated {@code kid:retireAt} pairs
+     * @param keystorePath the path of the keystore, empty when none is used
+     * @param keystorePassword the password of the keystore and its entries
+     * @param keystoreType the type of the keystore
+     * @throws IllegalArgumentException if no key is configured, a key ID is repeated, the active key is unknown
+     *                                  or a retirement instant is malformed or names an unknown key
+     * @throws IllegalStateException if the keystore cannot be read
+     */
+    @Autowired
+    public SigningKeyRing(
+            @Value("${jwt.secret:}") String secret,
+            @Value("${jwt.signing.default-kid:" + DEFAULT_KEY_ID + "}") String defaultKeyId,
+            @Value("${jwt.signing.active-kid:}") String activeKeyId,
+            @Value("${jwt.signing.keys:}") String inlineKeys,
+            @Value("${jwt.signing.retire-at:}") String retireAt,
+            @Value("${jwt.signing.keystore.path:}") String keystorePath,
+            @Value("${jwt.signing.keystore.password:}") String keystorePassword,
+            @Value("${jwt.signing.keystore.type:PKCS12}") String keystoreType
+    ) {
+        this(
+                loadKeys(secret, defaultKeyId, inlineKeys, retireAt, keystorePath, keystorePassword, keystoreType),
+                activeKeyId.isBlank() ? defaultKeyId : activeKeyId,
+                defaultKeyId,
+                System::currentTimeMillis
+        );
+        logger.info("JWT signing key ring loaded with keys {}, signing with '{}'", keys.keySet(), this.activeKeyId);
+
+        Set<String> unbounded = keys.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(this.activeKeyId) && entry.getValue().retiresAt() == Long.MAX_VALUE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        if (!unbounded.isEmpty()) {
+            logger.warn("JWT signing keys {} have no retirement instant and verify tokens until they are removed", unbounded);
+        }
+    }
+
+    SigningKeyRing(Map<String, SigningKey> keys, String activeKeyId, String legacyKeyId, LongSupplier clock) {
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("JWT signing key '" + activeKeyId + "' is not configured");
+        }
+        this.keys = Map.copyOf(keys);
+        this.activeKeyId = activeKeyId;
+        this.activeKey = keys.get(activeKeyId).key();
+        this.legacyKeyId = legacyKeyId;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a ring holding a single key, registered under {@link #DEFAULT_KEY_ID}.
+     *
+     * @param secret the secret of the key
+     * @return the key ring signing and verifying with that key
+     * @throws IllegalArgumentException if the secret is null or empty
+     */
+    public static SigningKeyRing ofSecret(String secret) {
+        return new SigningKeyRing(
+                loadKeys(secret, DEFAULT_KEY_ID, "", "", "", "", "PKCS12"),
+                DEFAULT_KEY_ID,
+                DEFAULT_KEY_ID,
+                System::currentTimeMillis
+        );
+    }
+
+    /**
+     * Returns the ID of the key that signs new tokens.
+     *
+     * @return the active key ID
+     */
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Returns the key that signs new tokens.
+     *
+     * @return the active key
+     */
+    public Key getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * Returns the IDs of every key in the ring, retired ones included.
+     *
+     * @return the key IDs
+     */
+    public Set<String> getKeyIds() {
+        return keys.keySet();
+    }
+
+    /**
+     * Returns the key that verifies tokens carrying the given key ID.
+     *
+     * @param keyId the {@code kid} header of the token, or {@code null} for tokens issued without one
+     * @return the verification key
+     * @throws TokenInvalidException if the key is unknown or already retired
+     */
+    public Key resolve(String keyId) {
+        String id = keyId != null ? keyId : legacyKeyId;
+        SigningKey signingKey = keys.get(id);
+
+        if (signingKey == null) {
+            throw new TokenInvalidException("Unknown token signing key");
+        }
+
+        if (signingKey.key() != activeKey && clock.getAsLong() >= signingKey.retiresAt()) {
+            throw new TokenInvalidException("Token signing key retired");
+        }
+
+        return signingKey.key();
+    }
+
+    private static Map<String, SigningKey> loadKeys(
+            String secret,
+            String defaultKeyId,
+            String inlineKeys,
+            String retireAt,
+            String keystorePath,
+            String keystorePassword,
+            String keystoreType
+    ) {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+
+        if (secret != null && !secret.isBlank()) {
+            register(keys, defaultKeyId, secret.getBytes(), Long.MAX_VALUE);
+        }
+
+        if (inlineKeys != null && !inlineKeys.isBlank()) {
+            for (String entry : inlineKeys.split(",")) {
+                String[] parts = entry.split(":");
+                if (parts.length < 2 || parts.length > 3 || parts[0].isBlank() || parts[1].isBlank()) {
+                    throw new IllegalArgumentException("JWT signing keys must be given as kid:secret or kid:secret:retireAt entries");
+                }
+                long retiresAt = parts.length == 3 ? parseRetireAt(parts[2]) : Long.MAX_VALUE;
+                register(keys, parts[0].trim(), parts[1].trim().getBytes(StandardCharsets.UTF_8), retiresAt);
+            }
+        }
+
+        if (keystorePath != null && !keystorePath.isBlank()) {
+            loadKeystore(keys, Path.of(keystorePath), keystorePassword.toCharArray(), keystoreType);
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("JWT secret must not be null or empty");
+        }
+
+        if (retireAt != null && !retireAt.isBlank()) {
+            for (String pair : retireAt.split(",")) {
+                String[] parts = pair.split(":");
+                if (parts.length != 2 || !keys.containsKey(parts[0].trim())) {
+                    throw new IllegalArgumentException("JWT signing key retirements must be given as kid:retireAt pairs of configured keys");
+                }
+                keys.computeIfPresent(parts[0].trim(), (keyId, signingKey) -> new SigningKey(signingKey.key(), parseRetireAt(parts[1])));
+            }
+        }
+
+        return keys;
+    }
+
+    private static long parseRetireAt(String epochSeconds) {
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(epochSeconds.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("JWT signing key retirement must be given in epoch seconds", e);
+        }
+    }
+
+    private static void loadKeystore(Map<String, SigningKey> keys, Path path, char[] password, String type) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            KeyStore keyStore = KeyStore.getInstance(type);
+            keyStore.load(inputStream, password);
+
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    register(keys, alias, keyStore.getKey(alias, password).getEncoded(), Long.MAX_VALUE);
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to load the JWT signing keystore " + path, e);
+        }
+    }
+
+    private static void register(Map<String, SigningKey> keys, String keyId, byte[] secret, long retiresAt) {
+        if (keys.putIfAbsent(keyId, new SigningKey(Keys.hmacShaKeyFor(secret), retiresAt)) != null) {
+            throw new IllegalArgumentException("JWT signing key '" + keyId + "' is configured more than once");
+        }
+    }
+
+}
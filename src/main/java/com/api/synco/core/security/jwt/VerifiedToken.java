@@ -0,0 +1,42 @@
+package com.api.synco.core.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Result of a successful JWT verification.
+ *
+ * <p>Holds the verified claims together with the values every authenticated
+ * request needs, so the token is parsed and verified only once per request.
+ * Instances may be shared between requests through the verified-token cache,
+ * therefore the claims must be treated as read-only.</p>
+ *
+ * @param claims the verified token claims
+ * @param tokenId the token ID ({@code jti}), or {@code null} for tokens issued without one
+ * @param email the user email carried by the token
+ * @param issuedAt the issued-at timestamp in milliseconds, or {@code 0} if absent
+ * @param expiresAt the expiration timestamp in milliseconds, or {@link Long#MAX_VALUE} if absent
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see JwtTokenProvider#verify(String)
+ */
+public record VerifiedToken(
+        Claims claims,
+        String tokenId,
+        String email,
+        long issuedAt,
+        long expiresAt
+) {
+
+    /**
+     * Checks whether the token is expired at the given instant.
+     *
+     * @param now the current time in milliseconds
+     * @return {@code true} if the token is no longer valid, {@code false} otherwise
+     */
+    public boolean isExpiredAt(long now) {
+        return now >= expiresAt;
+    }
+
+}
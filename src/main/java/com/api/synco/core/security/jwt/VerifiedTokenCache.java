@@ -0,0 +1,109 @@
+package com.api.synco.core.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small LRU of recently verified tokens.
+ *
+ * <p>Entries are keyed by the SHA-256 hash of the token, so raw bearer tokens are
+ * never kept in memory, and are dropped as soon as the token expires. A hit skips
+ * the signature verification and the JSON parsing of the token.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see JwtTokenProvider
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> entries;
+
+    /**
+     * Constructs a new verified-token cache.
+     *
+     * @param maxSize the maximum number of cached tokens; {@code 0} disables the cache
+     */
+    VerifiedTokenCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Verified token cache size must not be negative");
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached verification of the token, if still valid.
+     *
+     * @param token the raw JWT token
+     * @return the cached {@link VerifiedToken}, or {@code null} if absent or expired
+     */
+    VerifiedToken get(String token) {
+        if (maxSize == 0) {
+            return null;
+        }
+
+        String key = hash(token);
+
+        synchronized (entries) {
+            VerifiedToken verifiedToken = entries.get(key);
+            if (verifiedToken == null) {
+                return null;
+            }
+            if (verifiedToken.isExpiredAt(System.currentTimeMillis())) {
+                entries.remove(key);
+                return null;
+            }
+            return verifiedToken;
+        }
+    }
+
+    /**
+     * Stores a successful verification of the token.
+     *
+     * @param token the raw JWT token
+     * @param verifiedToken the verification result
+     */
+    void put(String token, VerifiedToken verifiedToken) {
+        if (maxSize == 0) {
+            return;
+        }
+
+        String key = hash(token);
+
+        synchronized (entries) {
+            entries.put(key, verifiedToken);
+        }
+    }
+
+    /**
+     * Returns the number of cached tokens.
+     *
+     * @return the cache size
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
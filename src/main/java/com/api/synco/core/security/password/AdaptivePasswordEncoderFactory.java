@@ -0,0 +1,164 @@
+package com.api.synco.core.security.password;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Builds the application's {@link DelegatingPasswordEncoder}.
+ *
+ * <p>New hashes are produced with the configured algorithm and cost, prefixed with
+ * its ID ({@code {bcrypt}} or {@code {argon2}}). Every older hash keeps matching:
+ * hashes without a prefix, as stored before this encoder existed, are checked as
+ * BCrypt. Any hash produced with another algorithm or a lower cost reports
+ * {@link PasswordEncoder#upgradeEncoding(String)}, so it is re-hashed on the
+ * next successful login.</p>
+ *
+ * <p>When the cost is not configured, it is calibrated once at startup: the
+ * encoder is timed on the current CPU and the cost closest to the target
+ * latency is chosen, keeping login latency stable across instance sizes.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see BoundedPasswordEncoder
+ */
+public class AdaptivePasswordEncoderFactory {
+
+    /**
+     * ID of the BCrypt encoder.
+     */
+    public static final String BCRYPT = "bcrypt";
+
+    /**
+     * ID of the Argon2id encoder.
+     */
+    public static final String ARGON2 = "argon2";
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoderFactory.class);
+
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 20;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int CALIBRATION_RUNS = 3;
+    private static final String CALIBRATION_PASSWORD = "Calibration#Pass123";
+
+    private final String algorithm;
+    private final int bcryptStrength;
+    private final int argon2MemoryKib;
+    private final int argon2Iterations;
+    private final int argon2Parallelism;
+    private final long targetLatencyMillis;
+
+    /**
+     * Constructs a new encoder factory.
+     *
+     * @param algorithm the algorithm for new hashes, {@value #BCRYPT} or {@value #ARGON2}
+     * @param bcryptStrength the BCrypt log rounds, or {@code 0} to calibrate
+     * @param argon2MemoryKib the Argon2 memory cost in KiB
+     * @param argon2Iterations the Argon2 iterations, or {@code 0} to calibrate
+     * @param argon2Parallelism the Argon2 parallelism
+     * @param targetLatencyMillis the hash latency the calibration aims for
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    public AdaptivePasswordEncoderFactory(String algorithm, int bcryptStrength, int argon2MemoryKib, int argon2Iterations, int argon2Parallelism, long targetLatencyMillis) {
+        if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+            throw new IllegalArgumentException("Unknown password hashing algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.bcryptStrength = bcryptStrength;
+        this.argon2MemoryKib = argon2MemoryKib;
+        this.argon2Iterations = argon2Iterations;
+        this.argon2Parallelism = argon2Parallelism;
+        this.targetLatencyMillis = targetLatencyMillis;
+    }
+
+    /**
+     * Creates the delegating encoder, calibrating the cost if needed.
+     *
+     * @return the {@link DelegatingPasswordEncoder} for the configured algorithm
+     */
+    public DelegatingPasswordEncoder create() {
+        PasswordEncoder bcrypt = BCRYPT.equals(algorithm)
+                ? new BCryptPasswordEncoder(bcryptStrength > 0 ? bcryptStrength : calibrateBcryptStrength())
+                : new BCryptPasswordEncoder();
+
+        Map<String, PasswordEncoder> encoders = ARGON2.equals(algorithm)
+                ? Map.of(BCRYPT, bcrypt, ARGON2, argon2(argon2Iterations > 0 ? argon2Iterations : calibrateArgon2Iterations()))
+                : Map.of(BCRYPT, bcrypt, ARGON2, argon2(MIN_ARGON2_ITERATIONS));
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingPasswordEncoder;
+    }
+
+    /**
+     * Picks the BCrypt strength closest to the target latency.
+     *
+     * <p>Each strength step doubles the cost, so a single timing at a cheap
+     * strength is enough to extrapolate.</p>
+     *
+     * @return the calibrated strength, between 10 and 16
+     */
+    int calibrateBcryptStrength() {
+        int probeStrength = MIN_BCRYPT_STRENGTH;
+        double probeMillis = measure(BCryptPasswordEncoder::new, probeStrength);
+
+        int strength = probeStrength + (int) Math.round(Math.log(targetLatencyMillis / probeMillis) / Math.log(2));
+        strength = Math.clamp(strength, MIN_BCRYPT_STRENGTH, MAX_BCRYPT_STRENGTH);
+
+        logger.info("Calibrated BCrypt strength {} ({} ms at strength {}, target {} ms)", strength, probeMillis, probeStrength, targetLatencyMillis);
+        return strength;
+    }
+
+    /**
+     * Picks the Argon2 iteration count closest to the target latency.
+     *
+     * <p>The cost grows linearly with the iterations at a fixed memory cost.</p>
+     *
+     * @return the calibrated iterations, between 2 and 20
+     */
+    int calibrateArgon2Iterations() {
+        int probeIterations = MIN_ARGON2_ITERATIONS;
+        double probeMillis = measure(this::argon2, probeIterations);
+
+        int iterations = (int) Math.round(probeIterations * targetLatencyMillis / probeMillis);
+        iterations = Math.clamp(iterations, MIN_ARGON2_ITERATIONS, MAX_ARGON2_ITERATIONS);
+
+        logger.info("Calibrated Argon2 iterations {} ({} ms at {} iterations, {} KiB, target {} ms)", iterations, probeMillis, probeIterations, argon2MemoryKib, targetLatencyMillis);
+        return iterations;
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, argon2Parallelism, argon2MemoryKib, iterations);
+    }
+
+    /**
+     * Returns the median hash time of the encoder built for the given cost, after one warm-up run.
+     */
+    private static double measure(IntFunction<PasswordEncoder> encoderFactory, int cost) {
+        PasswordEncoder encoder = encoderFactory.apply(cost);
+        encoder.encode(CALIBRATION_PASSWORD);
+
+        double[] samples = new double[CALIBRATION_RUNS];
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            samples[i] = Math.max(0.01, (System.nanoTime() - start) / 1_000_000.0);
+        }
+
+        Arrays.sort(samples);
+        return samples[CALIBRATION_RUNS / 2];
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.api.synco.core.security.password;
+
+import com.api.synco.core.exception.throttling.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PasswordEncoder} that runs every hash on a dedicated, bounded pool.
+ *
+ * <p>Password hashing is deliberately CPU-expensive. Running it directly on the
+ * request threads lets a burst of logins or registrations take every core and
+ * starve the cheap endpoints. This encoder caps the number of concurrent hashes
+ * to the size of its pool and the number of waiting hashes to its queue; once
+ * the queue is full, new requests fail fast with a
+ * {@link PasswordHashingBusyException} (HTTP 429) instead of piling up.</p>
+ *
+ * <p>The encoder provides:</p>
+ * <ul>
+ *   <li>A fixed pool of hashing threads, sized to the available cores by default</li>
+ *   <li>A bounded queue with fail-fast rejection</li>
+ *   <li>Queue wait and hash time timers, queue depth gauge and rejection counter</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PasswordHashingBusyException
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "security.password.hash";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeWait;
+    private final Timer matchesWait;
+    private final Timer encodeTime;
+    private final Timer matchesTime;
+    private final Counter rejections;
+
+    /**
+     * Constructs a new bounded password encoder.
+     *
+     * @param delegate the encoder doing the actual hashing
+     * @param threads the number of hashing threads
+     * @param queueCapacity the number of hashes allowed to wait for a thread
+     * @param retryAfterSeconds the delay suggested to rejected clients
+     * @param meterRegistry the registry where the metrics are published
+     * @throws IllegalArgumentException if the thread count or queue capacity is not positive
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Password hashing threads and queue capacity must be positive");
+        }
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeWait = timer(meterRegistry, "queue.wait", "encode", "Time a password hash waited for a hashing thread");
+        this.matchesWait = timer(meterRegistry, "queue.wait", "matches", "Time a password check waited for a hashing thread");
+        this.encodeTime = timer(meterRegistry, "duration", "encode", "Time spent hashing a password");
+        this.matchesTime = timer(meterRegistry, "duration", "matches", "Time spent checking a password");
+        this.rejections = Counter.builder(METRIC_PREFIX + ".rejections")
+                .description("Password operations rejected because the hashing queue was full")
+                .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password operations waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password operations currently hashing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws PasswordHashingBusyException if the hashing queue is full
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeWait, encodeTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws PasswordHashingBusyException if the hashing queue is full
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchesWait, matchesTime);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Does not hash, so it runs on the calling thread.</p>
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing threads once the queued hashes are done.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> hash, Timer waitTimer, Timer hashTimer) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return hash.call();
+                } finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String operation, String description) {
+        return Timer.builder(METRIC_PREFIX + "." + name)
+                .tag("operation", operation)
+                .description(description)
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.api.synco.core.security.ratelimit;
+
+import com.api.synco.core.exception.request.RequestBodyTooLargeException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request wrapper that reads the body once and replays it to the next readers.
+ *
+ * <p>The body is read from an unauthenticated request, so it is bounded: a
+ * declared {@code Content-Length} over the limit is refused before reading,
+ * and no more than the limit is ever read from the stream.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LoginRateLimitFilter
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    /**
+     * Constructs a new wrapper, reading the whole body of the request.
+     *
+     * @param request the request to wrap
+     * @param maxBytes the largest body accepted, in bytes
+     * @throws IOException if the body cannot be read
+     * @throws RequestBodyTooLargeException if the body is larger than {@code maxBytes}
+     */
+    CachedBodyHttpServletRequest(HttpServletRequest request, int maxBytes) throws IOException {
+        super(request);
+
+        if (request.getContentLengthLong() > maxBytes) {
+            throw new RequestBodyTooLargeException(maxBytes);
+        }
+
+        // One byte past the limit tells an oversized body without a Content-Length apart
+        byte[] read = request.getInputStream().readNBytes(maxBytes + 1);
+        if (read.length > maxBytes) {
+            throw new RequestBodyTooLargeException(maxBytes);
+        }
+        this.body = read;
+    }
+
+    /**
+     * Returns the cached body.
+     *
+     * @return the body bytes
+     */
+    byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return inputStream.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                // The body is already in memory, so it is available at once
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return inputStream.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return inputStream.read(buffer, offset, length);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+}
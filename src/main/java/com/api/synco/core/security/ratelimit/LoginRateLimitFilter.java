@@ -0,0 +1,103 @@
+package com.api.synco.core.security.ratelimit;
+
+import com.api.synco.core.exception.request.RequestBodyTooLargeException;
+import com.api.synco.core.exception.throttling.ThrottlingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Filter that throttles login and registration attempts.
+ *
+ * <p>The filter runs ahead of authentication, so a rejected attempt never reaches
+ * the password encoder. It performs the following operations:</p>
+ * <ol>
+ *   <li>Takes an attempt from the client IP bucket, before reading the body</li>
+ *   <li>Reads the email from the JSON body, refusing bodies over {@value #MAX_BODY_BYTES} bytes,
+ *   and takes an attempt from the account bucket</li>
+ *   <li>Passes the request on with its body replayable</li>
+ * </ol>
+ *
+ * <p>Rejections are handed to the configured exception resolver, which answers
+ * HTTP 429 with a {@code Retry-After} header, or HTTP 413 for an oversized body.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LoginRateLimiter
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> THROTTLED_PATHS = Set.of("/api/auth/login", "/api/auth/register");
+
+    static final int MAX_BODY_BYTES = 4096;
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    /**
+     * Constructs a new login rate limit filter.
+     *
+     * @param loginRateLimiter the limiter holding the buckets
+     * @param objectMapper the mapper used to read the email from the body
+     * @param handlerExceptionResolver the resolver for handling rejections
+     */
+    public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter, ObjectMapper objectMapper, HandlerExceptionResolver handlerExceptionResolver) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.objectMapper = objectMapper;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!loginRateLimiter.isEnabled() || !HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !THROTTLED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        CachedBodyHttpServletRequest cachedRequest;
+
+        try {
+            loginRateLimiter.checkClient(request.getRemoteAddr());
+
+            cachedRequest = new CachedBodyHttpServletRequest(request, MAX_BODY_BYTES);
+
+            String email = readEmail(cachedRequest.getBody());
+            if (email != null) {
+                loginRateLimiter.checkAccount(email);
+            }
+        } catch (ThrottlingException | RequestBodyTooLargeException ex) {
+            handlerExceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    /**
+     * Reads the email field of the JSON body, leaving malformed bodies to request validation.
+     */
+    private String readEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.api.synco.core.security.ratelimit;
+
+import com.api.synco.core.exception.throttling.RateLimitExceededException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter for the public authentication endpoints.
+ *
+ * <p>Login and registration are public and each attempt costs a password hash,
+ * so credential-stuffing bursts are throttled before they reach the encoder.
+ * Two independent limits apply: one per client IP and one per account email.</p>
+ *
+ * <p>The limiter provides:</p>
+ * <ul>
+ *   <li>Lock-free {@link TokenBucket}s held in a bounded concurrent map per limit</li>
+ *   <li>Eviction of buckets that refilled completely, which are equivalent to new ones</li>
+ *   <li>Refusal of new keys while a map is full of buckets that are still draining</li>
+ *   <li>Allowed and rejected counters, also published as Micrometer metrics</li>
+ * </ul>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code security.rate-limit.enabled} - Whether authentication requests are throttled</li>
+ *   <li>{@code security.rate-limit.ip.capacity} - Burst size per client IP</li>
+ *   <li>{@code security.rate-limit.ip.refill-period} - Milliseconds to refill one attempt per client IP</li>
+ *   <li>{@code security.rate-limit.email.capacity} - Burst size per account email</li>
+ *   <li>{@code security.rate-limit.email.refill-period} - Milliseconds to refill one attempt per account email</li>
+ *   <li>{@code security.rate-limit.max-buckets} - Maximum number of buckets per limit</li>
+ *   <li>{@code security.rate-limit.eviction-interval} - Interval between idle bucket sweeps in milliseconds</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LoginRateLimitFilter
+ * @see TokenBucket
+ */
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    private final boolean enabled;
+    private final LongSupplier clock;
+
+    private final Limit clientLimit;
+    private final Limit accountLimit;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructs a new login rate limiter.
+     *
+     * @param enabled whether authentication requests are throttled
+     * @param ipCapacity the burst size per client IP
+     * @param ipRefillPeriod the milliseconds to refill one attempt per client IP
+     * @param emailCapacity the burst size per account email
+     * @param emailRefillPeriod the milliseconds to refill one attempt per account email
+     * @param maxBuckets the maximum number of buckets per limit
+     */
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${security.rate-limit.ip.refill-period:3000}") long ipRefillPeriod,
+            @Value("${security.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${security.rate-limit.email.refill-period:12000}") long emailRefillPeriod,
+            @Value("${security.rate-limit.max-buckets:100000}") int maxBuckets
+    ) {
+        this(enabled, ipCapacity, ipRefillPeriod, emailCapacity, emailRefillPeriod, maxBuckets, System::nanoTime);
+    }
+
+    LoginRateLimiter(boolean enabled, int ipCapacity, long ipRefillPeriod, int emailCapacity, long emailRefillPeriod, int maxBuckets, LongSupplier clock) {
+        if (ipCapacity <= 0 || emailCapacity <= 0 || ipRefillPeriod <= 0 || emailRefillPeriod <= 0 || maxBuckets <= 0) {
+            throw new IllegalArgumentException("Rate limit capacities, refill periods and bucket count must be positive");
+        }
+        this.enabled = enabled;
+        this.clock = clock;
+        this.clientLimit = new Limit(ipCapacity, TimeUnit.MILLISECONDS.toNanos(ipRefillPeriod), maxBuckets, clock.getAsLong());
+        this.accountLimit = new Limit(emailCapacity, TimeUnit.MILLISECONDS.toNanos(emailRefillPeriod), maxBuckets, clock.getAsLong());
+    }
+
+    /**
+     * Checks whether throttling is enabled.
+     *
+     * @return {@code true} if authentication requests are throttled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes one attempt from the client's bucket.
+     *
+     * @param clientIp the IP address of the client
+     * @throws RateLimitExceededException if the client has no attempt left
+     */
+    public void checkClient(String clientIp) {
+        check(clientLimit, clientIp);
+    }
+
+    /**
+     * Takes one attempt from the account's bucket.
+     *
+     * @param email the email of the targeted account, compared case-insensitively
+     * @throws RateLimitExceededException if the account has no attempt left
+     */
+    public void checkAccount(String email) {
+        check(accountLimit, email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Drops the buckets that refilled completely.
+     */
+    @Scheduled(
+            initialDelayString = "${security.rate-limit.eviction-interval:60000}",
+            fixedDelayString = "${security.rate-limit.eviction-interval:60000}"
+    )
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        clientLimit.evictIdle(now);
+        accountLimit.evictIdle(now);
+    }
+
+    /**
+     * Returns the number of attempts let through.
+     *
+     * @return the allowed count
+     */
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    /**
+     * Returns the number of attempts rejected.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the number of buckets currently held, over both limits.
+     *
+     * @return the bucket count
+     */
+    public int size() {
+        return clientLimit.buckets.size() + accountLimit.buckets.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishes the counters under {@code security.rate-limit.*}.</p>
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.rate-limit.allowed", this, LoginRateLimiter::getAllowedCount)
+                .description("Authentication attempts let through by the rate limiter")
+                .register(registry);
+        FunctionCounter.builder("security.rate-limit.rejected", this, LoginRateLimiter::getRejectedCount)
+                .description("Authentication attempts rejected by the rate limiter")
+                .register(registry);
+        Gauge.builder("security.rate-limit.buckets", this, LoginRateLimiter::size)
+                .description("Rate limit buckets currently held")
+                .register(registry);
+    }
+
+    private void check(Limit limit, String key) {
+        long waitNanos = limit.tryConsume(key, clock.getAsLong());
+
+        if (waitNanos > 0) {
+            rejected.increment();
+            throw new RateLimitExceededException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+
+        allowed.increment();
+    }
+
+    /**
+     * Buckets of one limit, bounded to {@code maxBuckets} entries.
+     *
+     * <p>Only buckets that refilled completely are ever dropped, so a flood of new
+     * keys cannot reset a bucket that is still draining. When the map is full, an
+     * idle sweep runs at most once per refill period, and new keys are refused
+     * until it frees room.</p>
+     */
+    private static final class Limit {
+
+        private final int capacity;
+        private final long refillPeriodNanos;
+        private final int maxBuckets;
+
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweepAt;
+
+        private Limit(int capacity, long refillPeriodNanos, int maxBuckets, long now) {
+            this.capacity = capacity;
+            this.refillPeriodNanos = refillPeriodNanos;
+            this.maxBuckets = maxBuckets;
+            this.nextSweepAt = new AtomicLong(now);
+        }
+
+        private long tryConsume(String key, long now) {
+            TokenBucket bucket = buckets.get(key);
+
+            if (bucket == null) {
+                if (buckets.size() >= maxBuckets && !sweep(now)) {
+                    return refillPeriodNanos;
+                }
+                bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(now));
+            }
+
+            return bucket.tryConsume(now, refillPeriodNanos, capacity);
+        }
+
+        private boolean sweep(long now) {
+            long sweepAt = nextSweepAt.get();
+
+            if (now - sweepAt >= 0 && nextSweepAt.compareAndSet(sweepAt, now + refillPeriodNanos)) {
+                evictIdle(now);
+            }
+
+            return buckets.size() < maxBuckets;
+        }
+
+        private void evictIdle(long now) {
+            buckets.values().removeIf(bucket -> bucket.isFullAt(now));
+        }
+    }
+
+}
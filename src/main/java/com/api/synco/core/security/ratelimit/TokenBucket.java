@@ -0,0 +1,69 @@
+package com.api.synco.core.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * <p>The bucket is stored as a single "theoretical arrival time" (the GCRA form
+ * of a token bucket): the instant at which the bucket would be full again. Taking
+ * a token advances it by one refill period, and a request is rejected when that
+ * would push it further than {@code capacity} periods ahead of now. The whole
+ * state is one {@link AtomicLong}, so a check is a read and at most a few CAS
+ * attempts.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LoginRateLimiter
+ */
+class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    /**
+     * Constructs a new, full bucket.
+     *
+     * @param now the current time in nanoseconds
+     */
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @param now the current time in nanoseconds
+     * @param refillPeriodNanos the time to refill one token
+     * @param capacity the maximum number of tokens
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryConsume(long now, long refillPeriodNanos, int capacity) {
+        long limit = refillPeriodNanos * capacity;
+
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + refillPeriodNanos;
+
+            if (next - now > limit) {
+                return next - now - limit;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the bucket has been full since before the given instant.
+     *
+     * <p>A full bucket behaves exactly like a new one, so it can be dropped.</p>
+     *
+     * @param instant the time in nanoseconds
+     * @return {@code true} if the bucket was full at {@code instant}
+     */
+    boolean isFullAt(long instant) {
+        return fullAt.get() - instant <= 0;
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.api.synco.core.security.revocation;
+
+import com.api.synco.module.authentication.domain.RevokedTokenEntity;
+import com.api.synco.module.authentication.domain.port.RevokedTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory list of revoked JWT token IDs.
+ *
+ * <p>Every authenticated request asks whether its token was revoked, while
+ * revocations themselves are rare. The check is therefore answered first by a
+ * {@link BloomFilter}: for a token that was never revoked it costs a few bit
+ * probes and never touches the database or any lock. Only a possible hit is
+ * confirmed against the exact set of revoked IDs.</p>
+ *
+ * <p>The list provides:</p>
+ * <ul>
+ *   <li>An exact set of revoked IDs, each kept until the token itself expires</li>
+ *   <li>Persistence of every revocation, reloaded on startup</li>
+ *   <li>Periodic purge of expired revocations, rebuilding the Bloom filter</li>
+ *   <li>Check, filter rejection and revocation counters, also published as Micrometer metrics</li>
+ * </ul>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code jwt.revocation.expected-tokens} - Number of revocations the Bloom filter is sized for</li>
+ *   <li>{@code jwt.revocation.false-positive-rate} - Target false positive rate of the Bloom filter</li>
+ *   <li>{@code jwt.revocation.purge-interval} - Interval between purges in milliseconds</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see BloomFilter
+ * @see RevokedTokenRepository
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder filterRejections = new LongAdder();
+    private final LongAdder revocations = new LongAdder();
+
+    /**
+     * Constructs a new token revocation list.
+     *
+     * @param expectedTokens the number of revocations the Bloom filter is sized for
+     * @param falsePositiveRate the target false positive rate of the Bloom filter
+     * @param revokedTokenRepository the repository where revocations are persisted
+     */
+    public TokenRevocationList(
+            @Value("${jwt.revocation.expected-tokens:100000}") int expectedTokens,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            RevokedTokenRepository revokedTokenRepository
+    ) {
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bloomFilter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    /**
+     * Rebuilds the list from the persisted revocations that have not expired.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        for (RevokedTokenEntity revokedToken : revokedTokenRepository.findAllNotExpired(Instant.now())) {
+            revoked.put(revokedToken.getTokenId(), revokedToken.getExpiresAt().toEpochMilli());
+        }
+        rebuildFilter();
+    }
+
+    /**
+     * Checks whether the token with the given ID was revoked.
+     *
+     * @param tokenId the token ID ({@code jti}); tokens without one are never revoked
+     * @return {@code true} if the token was revoked and has not expired yet
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        checks.increment();
+
+        if (!bloomFilter.mightContain(tokenId)) {
+            filterRejections.increment();
+            return false;
+        }
+
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Revokes the token with the given ID until it expires.
+     *
+     * <p>The revocation is persisted before it becomes visible in memory.</p>
+     *
+     * @param tokenId the token ID ({@code jti})
+     * @param expiresAt the token expiration in milliseconds
+     */
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        if (revoked.containsKey(tokenId)) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedTokenEntity(tokenId, Instant.ofEpochMilli(expiresAt)));
+
+        revoked.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+        revocations.increment();
+    }
+
+    /**
+     * Drops the revocations of tokens that have already expired.
+     *
+     * <p>A Bloom filter cannot forget keys, so it is rebuilt from the remaining
+     * revocations and swapped in once complete.</p>
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.purge-interval:600000}",
+            fixedDelayString = "${jwt.revocation.purge-interval:600000}"
+    )
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedTokenRepository.deleteExpired(Instant.ofEpochMilli(now));
+
+        rebuildFilter();
+    }
+
+    /**
+     * Returns the number of revocation checks performed.
+     *
+     * @return the check count
+     */
+    public long getCheckCount() {
+        return checks.sum();
+    }
+
+    /**
+     * Returns the number of checks answered by the Bloom filter alone.
+     *
+     * @return the filter rejection count
+     */
+    public long getFilterRejectionCount() {
+        return filterRejections.sum();
+    }
+
+    /**
+     * Returns the number of tokens revoked since startup.
+     *
+     * @return the revocation count
+     */
+    public long getRevocationCount() {
+        return revocations.sum();
+    }
+
+    /**
+     * Returns the number of revocations currently kept in memory.
+     *
+     * @return the number of revoked token IDs
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishes the counters under {@code security.token.revocation.*}.</p>
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.token.revocation.checks", this, TokenRevocationList::getCheckCount)
+                .description("Revocation checks performed")
+                .register(registry);
+        FunctionCounter.builder("security.token.revocation.filter.rejections", this, TokenRevocationList::getFilterRejectionCount)
+                .description("Revocation checks answered by the Bloom filter alone")
+                .register(registry);
+        FunctionCounter.builder("security.token.revocation.revoked", this, TokenRevocationList::getRevocationCount)
+                .description("Tokens revoked since startup")
+                .register(registry);
+        Gauge.builder("security.token.revocation.size", this, TokenRevocationList::size)
+                .description("Revoked tokens kept in memory")
+                .register(registry);
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.api.synco.core.security.user_details;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.port.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Builds authenticated principals straight from verified token claims.
+ *
+ * <p>When the stateless principal mode is enabled, tokens issued with the user ID,
+ * role and token revision are turned into a {@link UserDetailsImpl} without loading
+ * the user. The only check against the user's current state is the token revision,
+ * which is served from the {@link UserPrincipalCache} and therefore reaches the
+ * database at most once per user and cache lifetime.</p>
+ *
+ * <p>Tokens without these claims, or any token while the mode is disabled, are not
+ * resolved here and fall back to the regular user lookup.</p>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code jwt.stateless-principal.enabled} - Enables the stateless principal mode</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see JwtTokenProvider#generateToken(UserDetailsImpl, String)
+ * @see UserPrincipalCache
+ */
+@Component
+public class StatelessPrincipalResolver {
+
+    private final boolean enabled;
+
+    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+
+    /**
+     * Constructs a new stateless principal resolver.
+     *
+     * @param enabled whether principals may be built from token claims
+     * @param userRepository the repository used to load token revisions
+     * @param userPrincipalCache the cache holding the loaded token revisions
+     */
+    public StatelessPrincipalResolver(
+            @Value("${jwt.stateless-principal.enabled:false}") boolean enabled,
+            UserRepository userRepository,
+            UserPrincipalCache userPrincipalCache
+    ) {
+        this.enabled = enabled;
+        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+    }
+
+    /**
+     * Resolves the principal carried by the token claims.
+     *
+     * @param claims the verified token claims
+     * @param email the email extracted from the claims
+     * @return the principal built from the claims, or empty if it must be loaded instead
+     * @throws TokenInvalidException if the token was issued before the user's latest
+     *                               security change or the user no longer exists
+     */
+    public Optional<UserDetailsImpl> resolve(Claims claims, String email) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Number userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Number.class);
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        Number revision = claims.get(JwtTokenProvider.CLAIM_REVISION, Number.class);
+
+        if (userId == null || role == null || revision == null) {
+            return Optional.empty();
+        }
+
+        Optional<Integer> currentRevision = userPrincipalCache.getTokenRevision(
+                userId.longValue(),
+                userRepository::findTokenRevisionById
+        );
+
+        if (currentRevision.isEmpty() || currentRevision.get() != revision.intValue()) {
+            throw new TokenInvalidException("Token revision is no longer valid");
+        }
+
+        return Optional.of(new UserDetailsImpl(
+                userId.longValue(),
+                email,
+                null,
+                RoleUser.valueOf(role),
+                revision.intValue()
+        ));
+    }
+
+}
@@ -34,6 +34,7 @@ public class UserDetailsImpl implements UserDetails {
     private final String email;
     private final String password;
     private final RoleUser roleUser;
+    private final int tokenRevision;
 
     /**
      * Constructs a new user details instance.
@@ -44,10 +45,24 @@ public class UserDetailsImpl implements UserDetails {
      * @param roleUser the user's role for authorization
      */
     public UserDetailsImpl(long id, String email, String password, RoleUser roleUser) {
+        this(id, email, password, roleUser, 0);
+    }
+
+    /**
+     * Constructs a new user details instance carrying the token revision.
+     *
+     * @param id the unique identifier of the user
+     * @param email the user's email (used as username)
+     * @param password the user's encoded password, or {@code null} when built from token claims
+     * @param roleUser the user's role for authorization
+     * @param tokenRevision the revision of the user's security data
+     */
+    public UserDetailsImpl(long id, String email, String password, RoleUser roleUser, int tokenRevision) {
         this.id = id;
         this.email = email;
         this.password = password;
         this.roleUser = roleUser;
+        this.tokenRevision = tokenRevision;
     }
 
     /**
@@ -97,4 +112,22 @@ public class UserDetailsImpl implements UserDetails {
         return id;
     }
 
+    /**
+     * Returns the role of the user.
+     *
+     * @return the user's role
+     */
+    public RoleUser getRole() {
+        return roleUser;
+    }
+
+    /**
+     * Returns the revision of the user's security data.
+     *
+     * @return the token revision
+     */
+    public int getTokenRevision() {
+        return tokenRevision;
+    }
+
 }
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
  *   <li>Email address for authentication</li>
  *   <li>Encoded password for verification</li>
  *   <li>User role for authorization</li>
+ *   <li>Token revision for stale token detection</li>
  * </ul>
  *
  * @author Luca5Eckert
@@ -38,7 +39,8 @@ public class UserDetailsMapper {
                 user.getId()
                 , user.getEmail().address()
                 , user.getPassword()
-                , user.getRole());
+                , user.getRole()
+                , user.getTokenRevision());
     }
 
 }
@@ -4,12 +4,14 @@ import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.vo.Email;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 /**
- * Implementation of Spring Security's {@link UserDetailsService} interface.
+ * Implementation of Spring Security's {@link UserDetailsService} and
+ * {@link UserDetailsPasswordService} interfaces.
  *
  * <p>This service is responsible for loading user-specific data during
  * authentication. It bridges the domain layer's user repository with
@@ -20,16 +22,18 @@ import org.springframework.stereotype.Service;
  *   <li>Retrieves user entities from the repository by email</li>
  *   <li>Converts domain entities to Spring Security user details</li>
  *   <li>Throws appropriate exceptions when users are not found</li>
+ *   <li>Stores re-hashed passwords when an outdated hash is upgraded on login</li>
  * </ul>
  *
  * @author Luca5Eckert
  * @version 1.0.0
  * @since 1.0.0
  * @see UserDetailsService
+ * @see UserDetailsPasswordService
  * @see UserDetailsMapper
  */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final UserDetailsMapper userDetailsMapper;
@@ -62,4 +66,30 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return userDetailsMapper.toEntity(user);
     }
 
+    /**
+     * Stores the upgraded hash of a user's password.
+     *
+     * <p>Called by Spring Security after a successful login when the stored hash
+     * was produced with an outdated algorithm or cost. The password itself does
+     * not change, so issued tokens stay valid.</p>
+     *
+     * @param user the authenticated user details
+     * @param newPassword the password re-hashed with the current encoder
+     * @return the user details carrying the new hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) user;
+
+        userRepository.updatePassword(userDetails.getId(), newPassword);
+
+        return new UserDetailsImpl(
+                userDetails.getId(),
+                userDetails.getUsername(),
+                newPassword,
+                userDetails.getRole(),
+                userDetails.getTokenRevision()
+        );
+    }
+
 }
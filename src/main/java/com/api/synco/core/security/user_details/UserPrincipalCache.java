@@ -0,0 +1,326 @@
+package com.api.synco.core.security.user_details;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded in-memory cache of authenticated principals.
+ *
+ * <p>This cache avoids loading the user from the database on every authenticated
+ * request. Entries are keyed by the user's email together with the issued-at
+ * timestamp of the JWT token, so a freshly issued token always starts with a
+ * fresh lookup.</p>
+ *
+ * <p>The cache provides:</p>
+ * <ul>
+ *   <li>Size-bounded storage with least-recently-used eviction</li>
+ *   <li>Time-to-live expiration of every entry</li>
+ *   <li>Cached token revisions for stateless principals built from token claims</li>
+ *   <li>Invalidation by user ID when a user is edited, deleted or changes password</li>
+ *   <li>Invalidation generations, so a lookup racing an invalidation never caches
+ *       the stale value it loaded</li>
+ *   <li>Hit, miss and eviction counters, also published as Micrometer metrics</li>
+ * </ul>
+ *
+ * <p>Configuration properties:</p>
+ * <ul>
+ *   <li>{@code jwt.principal-cache.enabled} - Whether principals are cached at all</li>
+ *   <li>{@code jwt.principal-cache.max-size} - Maximum number of cached principals</li>
+ *   <li>{@code jwt.principal-cache.ttl} - Entry time-to-live in milliseconds</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserDetailsServiceImpl
+ * @see UserDetailsImpl
+ */
+@Component
+public class UserPrincipalCache implements MeterBinder {
+
+    /**
+     * Number of slots users are hashed into when recording invalidations.
+     * Two users sharing a slot only cost an occasional skipped cache write.
+     */
+    static final int GENERATION_SLOTS = 1024;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlInMilliseconds;
+
+    private final Map<PrincipalKey, CachedPrincipal> entries;
+    private final Map<Long, CachedRevision> revisions;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(GENERATION_SLOTS);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a new principal cache.
+     *
+     * @param enabled whether principals are cached; when disabled every lookup goes to the loader
+     * @param maxSize the maximum number of cached principals
+     * @param ttlInMilliseconds the time-to-live of each entry in milliseconds
+     * @throws IllegalArgumentException if the size or the time-to-live is not positive
+     */
+    public UserPrincipalCache(
+            @Value("${jwt.principal-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.principal-cache.ttl:300000}") long ttlInMilliseconds
+    ) {
+        if (maxSize <= 0 || ttlInMilliseconds <= 0) {
+            throw new IllegalArgumentException("Principal cache size and ttl must be positive");
+        }
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlInMilliseconds = ttlInMilliseconds;
+        this.entries = boundedMap();
+        this.revisions = boundedMap();
+    }
+
+    /**
+     * Returns the cached principal for the given token identity, loading it on a miss.
+     *
+     * <p>The loader is invoked outside the cache lock, so a slow database lookup
+     * does not block requests for other users. When the loaded user is
+     * invalidated while the loader runs, the result is returned but not cached.</p>
+     *
+     * @param email the email extracted from the token
+     * @param issuedAt the issued-at timestamp of the token in milliseconds
+     * @param loader the function that loads the principal by email
+     * @return the cached or freshly loaded {@link UserDetails}
+     */
+    public UserDetails get(String email, long issuedAt, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            misses.increment();
+            return loader.apply(email);
+        }
+
+        PrincipalKey key = new PrincipalKey(email, issuedAt);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedPrincipal cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    hits.increment();
+                    return cached.userDetails();
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        long loadedAt = generation.get();
+        UserDetails userDetails = loader.apply(email);
+
+        synchronized (entries) {
+            if (!(userDetails instanceof UserDetailsImpl details) || !invalidatedSince(details.getId(), loadedAt)) {
+                entries.put(key, new CachedPrincipal(userDetails, now + ttlInMilliseconds));
+            }
+        }
+
+        return userDetails;
+    }
+
+    /**
+     * Returns the current token revision of a user, loading it on a miss.
+     *
+     * <p>Deleted users are cached as an empty revision, so tokens of a removed
+     * account keep being rejected without reaching the database.</p>
+     *
+     * @param userId the ID of the user
+     * @param loader the function that loads the revision by user ID
+     * @return the current revision, or empty if the user no longer exists
+     */
+    public Optional<Integer> getTokenRevision(long userId, LongFunction<Optional<Integer>> loader) {
+        long now = System.currentTimeMillis();
+
+        if (enabled) {
+            synchronized (revisions) {
+                CachedRevision cached = revisions.get(userId);
+                if (cached != null) {
+                    if (cached.expiresAt() > now) {
+                        hits.increment();
+                        return cached.revision();
+                    }
+                    revisions.remove(userId);
+                    evictions.increment();
+                }
+            }
+        }
+
+        misses.increment();
+        long loadedAt = generation.get();
+        Optional<Integer> revision = loader.apply(userId);
+
+        if (enabled) {
+            synchronized (revisions) {
+                if (!invalidatedSince(userId, loadedAt)) {
+                    revisions.put(userId, new CachedRevision(revision, now + ttlInMilliseconds));
+                }
+            }
+        }
+
+        return revision;
+    }
+
+    /**
+     * Removes every cached principal that belongs to the given user.
+     *
+     * <p>When called inside a transaction, the entries are removed again after
+     * commit, so a request running concurrently with the change cannot keep
+     * the stale principal cached. Each removal also advances the user's
+     * invalidation generation, so a lookup that started loading before the
+     * removal does not put its result back.</p>
+     *
+     * @param userId the ID of the user whose principals must be discarded
+     */
+    public void invalidate(long userId) {
+        removeByUserId(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeByUserId(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes every cached principal.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        synchronized (revisions) {
+            revisions.clear();
+        }
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to load the principal.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries removed by size or time-to-live eviction.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of principals currently cached.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishes the counters under {@code security.principal.cache.*}.</p>
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.principal.cache.hits", this, UserPrincipalCache::getHitCount)
+                .description("Principal lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("security.principal.cache.misses", this, UserPrincipalCache::getMissCount)
+                .description("Principal lookups that loaded the user from the database")
+                .register(registry);
+        FunctionCounter.builder("security.principal.cache.evictions", this, UserPrincipalCache::getEvictionCount)
+                .description("Principals evicted by size or time-to-live")
+                .register(registry);
+        Gauge.builder("security.principal.cache.size", this, UserPrincipalCache::size)
+                .description("Principals currently cached")
+                .register(registry);
+    }
+
+    private boolean invalidatedSince(long userId, long loadedAt) {
+        return invalidatedAt.get(slot(userId)) > loadedAt;
+    }
+
+    private static int slot(long userId) {
+        return (int) Math.floorMod(userId, (long) GENERATION_SLOTS);
+    }
+
+    private void removeByUserId(long userId) {
+        long current = generation.incrementAndGet();
+        invalidatedAt.accumulateAndGet(slot(userId), current, Math::max);
+
+        synchronized (entries) {
+            entries.values().removeIf(cached ->
+                    cached.userDetails() instanceof UserDetailsImpl details && details.getId() == userId);
+        }
+        synchronized (revisions) {
+            revisions.remove(userId);
+        }
+    }
+
+    private <K, V> Map<K, V> boundedMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private record PrincipalKey(String email, long issuedAt) {
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, long expiresAt) {
+    }
+
+    private record CachedRevision(Optional<Integer> revision, long expiresAt) {
+    }
+
+}
@@ -1,10 +1,13 @@
 package com.api.synco.core.service;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.security.user_details.UserDetailsImpl;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Implementation of the {@link UserAuthenticationService} interface.
@@ -26,6 +29,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class UserAuthenticationServiceImpl implements UserAuthenticationService {
 
+    private static final String ACTOR_ATTRIBUTE = UserAuthenticationServiceImpl.class.getName() + ".actor";
+
     /**
      * Retrieves the unique identifier of the currently authenticated user.
      *
@@ -56,4 +61,34 @@ public class UserAuthenticationServiceImpl implements UserAuthenticationService
         return (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
     }
 
+    /**
+     * Retrieves the user performing the current request.
+     *
+     * <p>The actor is built from the {@link UserDetailsImpl} stored in the security
+     * context and kept as a request attribute, so later calls within the same
+     * request return the same instance. Outside a web request it is built on
+     * every call.</p>
+     *
+     * @return the {@link AuthenticatedActor} of the current request
+     * @throws ClassCastException if the principal is not an instance of {@link UserDetailsImpl}
+     */
+    @Override
+    public AuthenticatedActor getAuthenticatedActor() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(ACTOR_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AuthenticatedActor actor) {
+            return actor;
+        }
+
+        var userDetails = (UserDetailsImpl) getUserDetails();
+        var actor = new AuthenticatedActor(userDetails.getId(), userDetails.getRole(), userDetails.getUsername());
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ACTOR_ATTRIBUTE, actor, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return actor;
+    }
+
 }
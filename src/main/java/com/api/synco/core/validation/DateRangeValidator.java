@@ -0,0 +1,51 @@
+package com.api.synco.core.validation;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+
+/**
+ * Checks the inclusive date ranges accepted by the scheduling endpoints.
+ *
+ * <p>A range must have both ends, in order, and span at most
+ * {@value #MAX_RANGE_DAYS} days. The limit bounds the work of a single
+ * request, such as the periods created by one recurrence or the slots of one
+ * availability search.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class DateRangeValidator {
+
+    /** Maximum number of days a range may span, both ends included. */
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private DateRangeValidator() {
+    }
+
+    /**
+     * Validates a date range.
+     *
+     * @param <X> the exception reporting an invalid range
+     * @param from the first date of the range, possibly {@code null}
+     * @param to the last date of the range, possibly {@code null}
+     * @param subject the name of the range in the messages, such as {@code recurrence}
+     * @param exception the factory of the exception from its message
+     * @throws X if a date is missing, the range ends before it starts or it is too long
+     */
+    public static <X extends RuntimeException> void validate(
+            LocalDate from,
+            LocalDate to,
+            String subject,
+            Function<String, X> exception
+    ) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw exception.apply("The " + subject + " must have a start before its end");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw exception.apply("The " + subject + " cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.api.synco.module.attendance_user.application.controller;
+
+import com.api.synco.core.api.CustomApiResponse;
+import com.api.synco.module.attendance_user.application.dto.AttendanceSummaryResponse;
+import com.api.synco.module.attendance_user.application.service.AttendanceUserApplicationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for attendance dashboards.
+ *
+ * <p>Attendance rates are read from precomputed counts per student and class,
+ * so a student costs one row read whatever the number of recorded periods.
+ * All endpoints require authentication via JWT.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see AttendanceUserApplicationService
+ */
+@RestController
+@RequestMapping("/api/attendance-summaries")
+@Tag(name = "Attendance summaries", description = "Endpoints for attendance rates per student and class")
+@SecurityRequirement(name = "bearer-jwt")
+public class AttendanceSummaryController {
+
+    private final AttendanceUserApplicationService attendanceUserApplicationService;
+
+    /**
+     * Constructs a new attendance summary controller.
+     *
+     * @param attendanceUserApplicationService the application service that orchestrates attendance use cases
+     */
+    public AttendanceSummaryController(AttendanceUserApplicationService attendanceUserApplicationService) {
+        this.attendanceUserApplicationService = attendanceUserApplicationService;
+    }
+
+    /**
+     * Retrieves the attendance summary of a student in a class.
+     *
+     * @param courseId the course of the class
+     * @param classNumber the number of the class in the course
+     * @param userId the student
+     * @return the attendance counts and rate with HTTP 200 status
+     */
+    @GetMapping("/courses/{courseId}/classes/{classNumber}/users/{userId}")
+    @Operation(
+            summary = "Get student attendance",
+            description = "Returns the present and total counts and the attendance rate of a student in a class"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Attendance summary found",
+                    content = @Content(schema = @Schema(implementation = AttendanceSummaryResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No attendance recorded for the student in the class",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<AttendanceSummaryResponse>> get(
+            @Parameter(description = "Course ID", required = true)
+            @PathVariable("courseId") long courseId,
+            @Parameter(description = "Class number", required = true)
+            @PathVariable("classNumber") int classNumber,
+            @Parameter(description = "User ID", required = true)
+            @PathVariable("userId") long userId
+    ) {
+        var summary = attendanceUserApplicationService.getSummary(courseId, classNumber, userId);
+
+        return ResponseEntity
+                .ok(CustomApiResponse.success(HttpStatus.OK.value(), "Attendance summary found", summary));
+    }
+
+    /**
+     * Retrieves the attendance summaries of every student of a class.
+     *
+     * @param courseId the course of the class
+     * @param classNumber the number of the class in the course
+     * @return the attendance counts and rate of each student with HTTP 200 status
+     */
+    @GetMapping("/courses/{courseId}/classes/{classNumber}")
+    @Operation(
+            summary = "Get class attendance",
+            description = "Returns the attendance summary of each student with recorded attendance in a class"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Attendance summaries returned successfully",
+                    content = @Content(schema = @Schema(implementation = List.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<List<AttendanceSummaryResponse>>> getAll(
+            @Parameter(description = "Course ID", required = true)
+            @PathVariable("courseId") long courseId,
+            @Parameter(description = "Class number", required = true)
+            @PathVariable("classNumber") int classNumber
+    ) {
+        var summaries = attendanceUserApplicationService.getClassSummary(courseId, classNumber);
+
+        return ResponseEntity
+                .ok(CustomApiResponse.success(HttpStatus.OK.value(), "Attendance summaries returned successfully", summaries));
+    }
+}
@@ -1,4 +1,106 @@
 package com.api.synco.module.attendance_user.application.controller;
 
+import com.api.synco.core.api.CustomApiResponse;
+import com.api.synco.module.attendance_user.application.dto.RecordAttendanceRequest;
+import com.api.synco.module.attendance_user.application.dto.RecordAttendanceResponse;
+import com.api.synco.module.attendance_user.application.service.AttendanceUserApplicationService;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for attendance recording.
+ *
+ * <p>The attendance of a period is recorded for the whole roster in one
+ * request. Sending the same roster again leaves the stored records as they
+ * are, so a client may safely retry a request. All endpoints require
+ * authentication via JWT.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see AttendanceUserApplicationService
+ */
+@RestController
+@RequestMapping("/api/periods/{periodId}/attendances")
+@Tag(name = "Attendances", description = "Endpoints for attendance recording")
+@SecurityRequirement(name = "bearer-jwt")
 public class AttendanceUserController {
+
+    private final AttendanceUserApplicationService attendanceUserApplicationService;
+    private final UserAuthenticationService authenticationService;
+
+    /**
+     * Constructs a new attendance controller.
+     *
+     * @param attendanceUserApplicationService the application service that orchestrates attendance use cases
+     * @param authenticationService the service for accessing authenticated user information
+     */
+    public AttendanceUserController(
+            AttendanceUserApplicationService attendanceUserApplicationService,
+            UserAuthenticationService authenticationService
+    ) {
+        this.attendanceUserApplicationService = attendanceUserApplicationService;
+        this.authenticationService = authenticationService;
+    }
+
+    /**
+     * Records the attendance of a list of class members in a period.
+     *
+     * <p>Members without a record get one, members whose presence changed are
+     * updated and the others are left untouched.</p>
+     *
+     * @param periodId the unique identifier of the period
+     * @param request the presence of each member
+     * @return the number of created, updated and unchanged records with HTTP 200 status
+     */
+    @PutMapping
+    @Operation(
+            summary = "Record period attendance",
+            description = "Records the presence of several class members in a period. Idempotent per period and user."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Attendance recorded successfully",
+                    content = @Content(schema = @Schema(implementation = RecordAttendanceResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid data provided or users not linked to the class",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No permission to record attendance",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<RecordAttendanceResponse>> record(
+            @Parameter(description = "Period ID", required = true)
+            @PathVariable("periodId") long periodId,
+            @RequestBody @Valid RecordAttendanceRequest request
+    ) {
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
+        var response = attendanceUserApplicationService.record(periodId, request, actor);
+
+        return ResponseEntity
+                .ok(CustomApiResponse.success(HttpStatus.OK.value(), "Attendance recorded successfully", response));
+    }
 }
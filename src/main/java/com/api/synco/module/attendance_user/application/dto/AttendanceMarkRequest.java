@@ -0,0 +1,9 @@
+package com.api.synco.module.attendance_user.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record AttendanceMarkRequest(
+        @NotNull Long userId,
+        boolean present
+) {
+}
@@ -0,0 +1,11 @@
+package com.api.synco.module.attendance_user.application.dto;
+
+public record AttendanceSummaryResponse(
+        long userId,
+        long courseId,
+        int classNumber,
+        int presentCount,
+        int totalCount,
+        double attendanceRate
+) {
+}
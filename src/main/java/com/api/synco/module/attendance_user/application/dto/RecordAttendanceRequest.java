@@ -0,0 +1,13 @@
+package com.api.synco.module.attendance_user.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record RecordAttendanceRequest(
+        @NotEmpty @Size(max = 500) List<@Valid @NotNull AttendanceMarkRequest> marks
+) {
+}
@@ -0,0 +1,9 @@
+package com.api.synco.module.attendance_user.application.dto;
+
+public record RecordAttendanceResponse(
+        long periodId,
+        int created,
+        int updated,
+        int unchanged
+) {
+}
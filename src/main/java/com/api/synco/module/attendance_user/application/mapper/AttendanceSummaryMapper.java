@@ -0,0 +1,27 @@
+package com.api.synco.module.attendance_user.application.mapper;
+
+import com.api.synco.module.attendance_user.application.dto.AttendanceSummaryResponse;
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AttendanceSummaryMapper {
+
+    public AttendanceSummaryResponse toResponse(AttendanceSummaryEntity summary) {
+        ClassUserId id = summary.getId();
+
+        double attendanceRate = summary.getTotalCount() == 0
+                ? 0
+                : (double) summary.getPresentCount() / summary.getTotalCount();
+
+        return new AttendanceSummaryResponse(
+                id.getUserId(),
+                id.getClassEntityId().getCourseId(),
+                id.getClassEntityId().getNumber(),
+                summary.getPresentCount(),
+                summary.getTotalCount(),
+                attendanceRate
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.api.synco.module.attendance_user.application.service;
+
+import com.api.synco.module.attendance_user.application.dto.AttendanceSummaryResponse;
+import com.api.synco.module.attendance_user.application.dto.RecordAttendanceRequest;
+import com.api.synco.module.attendance_user.application.dto.RecordAttendanceResponse;
+import com.api.synco.module.attendance_user.application.mapper.AttendanceSummaryMapper;
+import com.api.synco.module.attendance_user.domain.command.AttendanceMark;
+import com.api.synco.module.attendance_user.domain.command.RecordAttendanceCommand;
+import com.api.synco.module.attendance_user.domain.result.AttendanceRecordResult;
+import com.api.synco.module.attendance_user.domain.use_case.GetAttendanceSummaryUseCase;
+import com.api.synco.module.attendance_user.domain.use_case.GetClassAttendanceSummaryUseCase;
+import com.api.synco.module.attendance_user.domain.use_case.RecordAttendanceUseCase;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class AttendanceUserApplicationService {
+
+    private final RecordAttendanceUseCase recordAttendanceUseCase;
+    private final GetAttendanceSummaryUseCase getAttendanceSummaryUseCase;
+    private final GetClassAttendanceSummaryUseCase getClassAttendanceSummaryUseCase;
+
+    private final AttendanceSummaryMapper attendanceSummaryMapper;
+
+    public AttendanceUserApplicationService(
+            RecordAttendanceUseCase recordAttendanceUseCase,
+            GetAttendanceSummaryUseCase getAttendanceSummaryUseCase,
+            GetClassAttendanceSummaryUseCase getClassAttendanceSummaryUseCase,
+            AttendanceSummaryMapper attendanceSummaryMapper
+    ) {
+        this.recordAttendanceUseCase = recordAttendanceUseCase;
+        this.getAttendanceSummaryUseCase = getAttendanceSummaryUseCase;
+        this.getClassAttendanceSummaryUseCase = getClassAttendanceSummaryUseCase;
+        this.attendanceSummaryMapper = attendanceSummaryMapper;
+    }
+
+    public RecordAttendanceResponse record(long periodId, RecordAttendanceRequest request, AuthenticatedActor actor) {
+        List<AttendanceMark> marks = request.marks().stream()
+                .map(mark -> new AttendanceMark(mark.userId(), mark.present()))
+                .toList();
+
+        AttendanceRecordResult result = recordAttendanceUseCase.execute(
+                new RecordAttendanceCommand(actor, periodId, marks)
+        );
+
+        return new RecordAttendanceResponse(
+                result.periodId(),
+                result.created(),
+                result.updated(),
+                result.unchanged()
+        );
+    }
+
+    public AttendanceSummaryResponse getSummary(long courseId, int classNumber, long userId) {
+        ClassUserId id = new ClassUserId(userId, new ClassEntityId(courseId, classNumber));
+
+        return attendanceSummaryMapper.toResponse(getAttendanceSummaryUseCase.execute(id));
+    }
+
+    public List<AttendanceSummaryResponse> getClassSummary(long courseId, int classNumber) {
+        return getClassAttendanceSummaryUseCase.execute(new ClassEntityId(courseId, classNumber)).stream()
+                .map(attendanceSummaryMapper::toResponse)
+                .toList();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.api.synco.module.attendance_user.domain;
+
+import com.api.synco.module.class_user.domain.ClassUserId;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Running attendance counts of one user in one class.
+ *
+ * <p>The counts are kept up to date in the same transaction as each
+ * attendance write, so the attendance rate of a student is read from a
+ * single row instead of being computed from every period of the class.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see AttendanceUserEntity
+ * @see ClassUserId
+ */
+@Entity
+@Table(name = "attendance_summary_tb")
+public class AttendanceSummaryEntity {
+
+    @EmbeddedId
+    private ClassUserId id;
+
+    @Column(nullable = false)
+    private int presentCount;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    protected AttendanceSummaryEntity() {
+    }
+
+    /**
+     * Constructs an empty summary of a user in a class.
+     *
+     * @param id the user and class identifier
+     */
+    public AttendanceSummaryEntity(ClassUserId id) {
+        this.id = id;
+    }
+
+    /**
+     * Counts a new attendance record.
+     *
+     * @param present whether the user was present
+     */
+    public void record(boolean present) {
+        totalCount++;
+        if (present) {
+            presentCount++;
+        }
+    }
+
+    /**
+     * Counts the change of presence of an already counted record.
+     *
+     * @param present the new presence of the record
+     */
+    public void change(boolean present) {
+        presentCount += present ? 1 : -1;
+    }
+
+    /**
+     * Returns the user and class identifier.
+     *
+     * @return the identifier
+     */
+    public ClassUserId getId() {
+        return id;
+    }
+
+    /**
+     * Returns the number of periods the user attended.
+     *
+     * @return the present count
+     */
+    public int getPresentCount() {
+        return presentCount;
+    }
+
+    /**
+     * Returns the number of periods recorded for the user.
+     *
+     * @return the total count
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+}
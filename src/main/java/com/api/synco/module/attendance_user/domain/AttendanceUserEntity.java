@@ -1,5 +1,6 @@
 package com.api.synco.module.attendance_user.domain;
 
+import com.api.synco.core.persistence.IdGenerators;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.user.domain.UserEntity;
 import jakarta.persistence.*;
@@ -8,7 +9,8 @@ import jakarta.persistence.*;
  * Domain entity representing user attendance for a specific period.
  *
  * <p>This entity tracks whether a user was present or absent during
- * a specific class period.</p>
+ * a specific class period. A user has at most one record per period, which
+ * makes recording the attendance of a period idempotent.</p>
  *
  * @author Luca5Eckert
  * @version 1.0.0
@@ -17,10 +19,22 @@ import jakarta.persistence.*;
  * @see UserEntity
  */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendance_user_period_user",
+        columnNames = {"period_id", "user_entity_id"}
+))
 public class AttendanceUserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attendance_user_id")
+    @TableGenerator(
+            name = "attendance_user_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "attendance_user",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +66,19 @@ public class AttendanceUserEntity {
         this.isPresent = isPresent;
     }
 
+    /**
+     * Constructs a new attendance record (without ID).
+     *
+     * @param period the associated period
+     * @param userEntity the associated user
+     * @param isPresent whether the user was present
+     */
+    public AttendanceUserEntity(PeriodEntity period, UserEntity userEntity, boolean isPresent) {
+        this.period = period;
+        this.userEntity = userEntity;
+        this.isPresent = isPresent;
+    }
+
     /**
      * Returns the attendance record ID.
      *
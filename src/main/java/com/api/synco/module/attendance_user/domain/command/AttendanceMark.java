@@ -0,0 +1,7 @@
+package com.api.synco.module.attendance_user.domain.command;
+
+public record AttendanceMark(
+        long userId,
+        boolean present
+) {
+}
@@ -0,0 +1,12 @@
+package com.api.synco.module.attendance_user.domain.command;
+
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+
+import java.util.List;
+
+public record RecordAttendanceCommand(
+        AuthenticatedActor actor,
+        long periodId,
+        List<AttendanceMark> marks
+) {
+}
@@ -0,0 +1,9 @@
+package com.api.synco.module.attendance_user.domain.exception;
+
+import com.api.synco.module.class_user.domain.ClassUserId;
+
+public class AttendanceSummaryNotFoundException extends AttendanceUserDomainException {
+    public AttendanceSummaryNotFoundException(ClassUserId id) {
+        super("No attendance recorded for user " + id.getUserId() + " in class " + id.getClassEntityId());
+    }
+}
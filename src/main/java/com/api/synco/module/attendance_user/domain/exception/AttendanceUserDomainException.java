@@ -0,0 +1,7 @@
+package com.api.synco.module.attendance_user.domain.exception;
+
+public class AttendanceUserDomainException extends RuntimeException {
+    public AttendanceUserDomainException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.api.synco.module.attendance_user.domain.exception;
+
+public class DuplicateAttendanceEntryException extends AttendanceUserDomainException {
+    public DuplicateAttendanceEntryException(long userId) {
+        super("User " + userId + " appears more than once in the attendance list");
+    }
+}
@@ -0,0 +1,7 @@
+package com.api.synco.module.attendance_user.domain.exception;
+
+public class UserWithoutRecordAttendancePermissionException extends AttendanceUserDomainException {
+    public UserWithoutRecordAttendancePermissionException() {
+        super("User does not have permission to record attendance for this period.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.api.synco.module.attendance_user.domain.exception;
+
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+
+import java.util.Collection;
+
+public class UsersNotLinkedToClassException extends AttendanceUserDomainException {
+    public UsersNotLinkedToClassException(Collection<Long> userIds, ClassEntityId classId) {
+        super("Users " + userIds + " are not linked to class " + classId);
+    }
+}
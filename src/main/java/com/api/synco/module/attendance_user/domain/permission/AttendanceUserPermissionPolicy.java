@@ -0,0 +1,10 @@
+package com.api.synco.module.attendance_user.domain.permission;
+
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+
+public interface AttendanceUserPermissionPolicy {
+
+    boolean canRecord(TypeUserClass typeUserClass, RoleUser roleUser);
+
+}
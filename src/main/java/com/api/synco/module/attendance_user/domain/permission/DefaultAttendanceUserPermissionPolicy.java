@@ -0,0 +1,21 @@
+package com.api.synco.module.attendance_user.domain.permission;
+
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DefaultAttendanceUserPermissionPolicy implements AttendanceUserPermissionPolicy {
+
+    @Override
+    public boolean canRecord(TypeUserClass typeUserClass, RoleUser roleUser) {
+        if (roleUser == RoleUser.ADMIN) return true;
+
+        if (typeUserClass == null) return false;
+
+        return switch (typeUserClass) {
+            case TEACHER, REPRESENTATIVE, ADMINISTRATOR -> true;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.api.synco.module.attendance_user.domain.port;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttendanceSummaryRepository {
+
+    Optional<AttendanceSummaryEntity> findById(ClassUserId id);
+
+    List<AttendanceSummaryEntity> findAllByClass(ClassEntityId classId);
+
+    List<AttendanceSummaryEntity> findAllForUpdate(ClassEntityId classId, Collection<Long> userIds);
+
+    void createMissing(ClassEntityId classId, Collection<Long> userIds);
+
+}
@@ -0,0 +1,17 @@
+package com.api.synco.module.attendance_user.domain.port;
+
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import com.api.synco.module.period.domain.PeriodEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AttendanceUserRepository {
+
+    List<AttendanceUserEntity> findAllByPeriod(long periodId, Collection<Long> userIds);
+
+    AttendanceUserEntity newAttendance(PeriodEntity period, long userId, boolean present);
+
+    void saveAll(Collection<AttendanceUserEntity> attendances);
+
+}
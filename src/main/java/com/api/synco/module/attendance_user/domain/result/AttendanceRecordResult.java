@@ -0,0 +1,9 @@
+package com.api.synco.module.attendance_user.domain.result;
+
+public record AttendanceRecordResult(
+        long periodId,
+        int created,
+        int updated,
+        int unchanged
+) {
+}
@@ -0,0 +1,22 @@
+package com.api.synco.module.attendance_user.domain.use_case;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.attendance_user.domain.exception.AttendanceSummaryNotFoundException;
+import com.api.synco.module.attendance_user.domain.port.AttendanceSummaryRepository;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetAttendanceSummaryUseCase {
+
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+
+    public GetAttendanceSummaryUseCase(AttendanceSummaryRepository attendanceSummaryRepository) {
+        this.attendanceSummaryRepository = attendanceSummaryRepository;
+    }
+
+    public AttendanceSummaryEntity execute(ClassUserId id) {
+        return attendanceSummaryRepository.findById(id)
+                .orElseThrow(() -> new AttendanceSummaryNotFoundException(id));
+    }
+}
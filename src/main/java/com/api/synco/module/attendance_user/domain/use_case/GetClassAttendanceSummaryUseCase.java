@@ -0,0 +1,22 @@
+package com.api.synco.module.attendance_user.domain.use_case;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.attendance_user.domain.port.AttendanceSummaryRepository;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class GetClassAttendanceSummaryUseCase {
+
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+
+    public GetClassAttendanceSummaryUseCase(AttendanceSummaryRepository attendanceSummaryRepository) {
+        this.attendanceSummaryRepository = attendanceSummaryRepository;
+    }
+
+    public List<AttendanceSummaryEntity> execute(ClassEntityId classId) {
+        return attendanceSummaryRepository.findAllByClass(classId);
+    }
+}
@@ -0,0 +1,154 @@
+package com.api.synco.module.attendance_user.domain.use_case;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import com.api.synco.module.attendance_user.domain.command.AttendanceMark;
+import com.api.synco.module.attendance_user.domain.command.RecordAttendanceCommand;
+import com.api.synco.module.attendance_user.domain.exception.DuplicateAttendanceEntryException;
+import com.api.synco.module.attendance_user.domain.exception.UserWithoutRecordAttendancePermissionException;
+import com.api.synco.module.attendance_user.domain.exception.UsersNotLinkedToClassException;
+import com.api.synco.module.attendance_user.domain.permission.AttendanceUserPermissionPolicy;
+import com.api.synco.module.attendance_user.domain.port.AttendanceSummaryRepository;
+import com.api.synco.module.attendance_user.domain.port.AttendanceUserRepository;
+import com.api.synco.module.attendance_user.domain.result.AttendanceRecordResult;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.exception.PeriodNotFoundException;
+import com.api.synco.module.period.domain.port.PeriodRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RecordAttendanceUseCase {
+
+    private final AttendanceUserRepository attendanceUserRepository;
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+    private final PeriodRepository periodRepository;
+    private final ClassMembershipLookup classMembershipLookup;
+    private final AttendanceUserPermissionPolicy attendanceUserPermissionPolicy;
+
+    public RecordAttendanceUseCase(
+            AttendanceUserRepository attendanceUserRepository,
+            AttendanceSummaryRepository attendanceSummaryRepository,
+            PeriodRepository periodRepository,
+            ClassMembershipLookup classMembershipLookup,
+            AttendanceUserPermissionPolicy attendanceUserPermissionPolicy
+    ) {
+        this.attendanceUserRepository = attendanceUserRepository;
+        this.attendanceSummaryRepository = attendanceSummaryRepository;
+        this.periodRepository = periodRepository;
+        this.classMembershipLookup = classMembershipLookup;
+        this.attendanceUserPermissionPolicy = attendanceUserPermissionPolicy;
+    }
+
+    @Transactional
+    public AttendanceRecordResult execute(RecordAttendanceCommand command) {
+        AuthenticatedActor actor = command.actor();
+        Map<Long, Boolean> presenceByUserId = presenceByUserId(command.marks());
+
+        // Locked so concurrent roll calls of the same period see each other's records instead of inserting twice
+        PeriodEntity period = periodRepository.findByIdForUpdate(command.periodId())
+                .orElseThrow(PeriodNotFoundException::new);
+
+        ClassEntityId classId = period.getClassEntity().getId();
+
+        // The actor and the whole roster are checked against the class with one query
+        List<Long> userIds = new ArrayList<>(presenceByUserId.keySet());
+        userIds.add(actor.id());
+        Map<Long, ClassMembership> memberships = classMembershipLookup.findAll(classId, userIds);
+
+        ClassMembership actorMembership = memberships.get(actor.id());
+
+        if (!attendanceUserPermissionPolicy.canRecord(
+                actorMembership != null ? actorMembership.typeUserClass() : null,
+                actor.role()
+        )) {
+            throw new UserWithoutRecordAttendancePermissionException();
+        }
+
+        List<Long> notLinked = presenceByUserId.keySet().stream()
+                .filter(userId -> !memberships.containsKey(userId))
+                .toList();
+
+        if (!notLinked.isEmpty()) {
+            throw new UsersNotLinkedToClassException(notLinked, classId);
+        }
+
+        Map<Long, AttendanceUserEntity> existing = new HashMap<>();
+        attendanceUserRepository.findAllByPeriod(period.getId(), presenceByUserId.keySet())
+                .forEach(attendance -> existing.put(attendance.getUserEntity().getId(), attendance));
+
+        List<AttendanceUserEntity> created = new ArrayList<>();
+        Map<Long, Boolean> changed = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, Boolean> entry : presenceByUserId.entrySet()) {
+            AttendanceUserEntity attendance = existing.get(entry.getKey());
+
+            if (attendance == null) {
+                created.add(attendanceUserRepository.newAttendance(period, entry.getKey(), entry.getValue()));
+            } else if (attendance.isPresent() != entry.getValue()) {
+                // Managed rows are flushed as one batch of updates on commit
+                attendance.setPresent(entry.getValue());
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        attendanceUserRepository.saveAll(created);
+        updateSummaries(classId, created, changed);
+
+        return new AttendanceRecordResult(
+                period.getId(),
+                created.size(),
+                changed.size(),
+                presenceByUserId.size() - created.size() - changed.size()
+        );
+    }
+
+    private void updateSummaries(ClassEntityId classId, List<AttendanceUserEntity> created, Map<Long, Boolean> changed) {
+        List<Long> createdUserIds = created.stream()
+                .map(attendance -> attendance.getUserEntity().getId())
+                .toList();
+
+        // Upserted, so roll calls of other periods of the class can create the same summaries concurrently
+        attendanceSummaryRepository.createMissing(classId, createdUserIds);
+
+        List<Long> userIds = new ArrayList<>(changed.keySet());
+        userIds.addAll(createdUserIds);
+
+        // Locked so concurrent roll calls of the same class do not lose counts
+        Map<Long, AttendanceSummaryEntity> summaries = new HashMap<>();
+        attendanceSummaryRepository.findAllForUpdate(classId, userIds)
+                .forEach(summary -> summaries.put(summary.getId().getUserId(), summary));
+
+        created.forEach(attendance -> summaries.get(attendance.getUserEntity().getId()).record(attendance.isPresent()));
+
+        changed.forEach((userId, present) -> {
+            AttendanceSummaryEntity summary = summaries.get(userId);
+            // Without a summary the record was never counted; the rebuild job will count it
+            if (summary != null) {
+                summary.change(present);
+            }
+        });
+    }
+
+    private Map<Long, Boolean> presenceByUserId(List<AttendanceMark> marks) {
+        Map<Long, Boolean> presenceByUserId = new LinkedHashMap<>();
+
+        for (AttendanceMark mark : marks) {
+            if (presenceByUserId.putIfAbsent(mark.userId(), mark.present()) != null) {
+                throw new DuplicateAttendanceEntryException(mark.userId());
+            }
+        }
+
+        return presenceByUserId;
+    }
+}
@@ -0,0 +1,132 @@
+package com.api.synco.module.attendance_user.infrastructure.job;
+
+import com.api.synco.module.attendance_user.infrastructure.repository.AttendanceSummaryRepositoryJpa;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Recomputes the attendance summaries from the attendance records.
+ *
+ * <p>The classes are split into chunks rebuilt in parallel, each chunk in its
+ * own transaction. A class is rebuilt by deleting its summaries and inserting
+ * the counts grouped from its periods with one {@code INSERT ... SELECT}, so
+ * no attendance row is read into memory.</p>
+ *
+ * <p>The rebuild runs at startup when attendance exists but no summary does,
+ * and on the {@code attendance.summary.rebuild.cron} schedule when one is
+ * configured.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class AttendanceSummaryRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceSummaryRebuildJob.class);
+
+    private final AttendanceSummaryRepositoryJpa attendanceSummaryRepositoryJpa;
+    private final TransactionTemplate transactionTemplate;
+    private final int threads;
+    private final int chunkSize;
+
+    /**
+     * Constructs the rebuild job.
+     *
+     * @param attendanceSummaryRepositoryJpa the repository running the rebuild statements
+     * @param transactionManager the transaction manager of the chunk transactions
+     * @param threads the number of rebuild threads, {@code 0} for the available cores
+     * @param chunkSize the number of classes rebuilt per transaction
+     */
+    public AttendanceSummaryRebuildJob(
+            AttendanceSummaryRepositoryJpa attendanceSummaryRepositoryJpa,
+            PlatformTransactionManager transactionManager,
+            @Value("${attendance.summary.rebuild.threads:0}") int threads,
+            @Value("${attendance.summary.rebuild.chunk-size:20}") int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Attendance summary rebuild chunk size must be positive");
+        }
+
+        this.attendanceSummaryRepositoryJpa = attendanceSummaryRepositoryJpa;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Rebuilds the summaries when attendance was recorded before they existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (attendanceSummaryRepositoryJpa.count() == 0 && attendanceSummaryRepositoryJpa.existsAttendance()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the summaries of every class.
+     *
+     * @return the number of summaries written
+     */
+    @Scheduled(cron = "${attendance.summary.rebuild.cron:-}")
+    public int rebuild() {
+        List<ClassEntityId> classIds = attendanceSummaryRepositoryJpa.findAllClassIds();
+
+        List<List<ClassEntityId>> chunks = new ArrayList<>();
+        for (int from = 0; from < classIds.size(); from += chunkSize) {
+            chunks.add(classIds.subList(from, Math.min(from + chunkSize, classIds.size())));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(chunks.size(), 1)));
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (List<ClassEntityId> chunk : chunks) {
+                results.add(executor.submit(() -> rebuildChunk(chunk)));
+            }
+
+            int written = 0;
+            for (Future<Integer> result : results) {
+                written += result.get();
+            }
+
+            log.info("Rebuilt {} attendance summaries of {} classes", written, classIds.size());
+            return written;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Attendance summary rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Attendance summary rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildChunk(List<ClassEntityId> classIds) {
+        Integer written = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (ClassEntityId classId : classIds) {
+                attendanceSummaryRepositoryJpa.deleteByClass(classId.getCourseId(), classId.getNumber());
+                count += attendanceSummaryRepositoryJpa.insertComputedByClass(classId.getCourseId(), classId.getNumber());
+            }
+            return count;
+        });
+        return written != null ? written : 0;
+    }
+
+}
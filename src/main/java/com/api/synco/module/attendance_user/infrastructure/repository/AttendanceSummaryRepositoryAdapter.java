@@ -0,0 +1,86 @@
+package com.api.synco.module.attendance_user.infrastructure.repository;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.attendance_user.domain.port.AttendanceSummaryRepository;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class AttendanceSummaryRepositoryAdapter implements AttendanceSummaryRepository {
+
+    private final AttendanceSummaryRepositoryJpa attendanceSummaryRepositoryJpa;
+
+    private final EntityManager entityManager;
+
+    public AttendanceSummaryRepositoryAdapter(AttendanceSummaryRepositoryJpa attendanceSummaryRepositoryJpa, EntityManager entityManager) {
+        this.attendanceSummaryRepositoryJpa = attendanceSummaryRepositoryJpa;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<AttendanceSummaryEntity> findById(ClassUserId id) {
+        return attendanceSummaryRepositoryJpa.findById(id);
+    }
+
+    @Override
+    public List<AttendanceSummaryEntity> findAllByClass(ClassEntityId classId) {
+        return attendanceSummaryRepositoryJpa.findAllByClass(classId);
+    }
+
+    @Override
+    public List<AttendanceSummaryEntity> findAllForUpdate(ClassEntityId classId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return attendanceSummaryRepositoryJpa.findAllForUpdate(classId, userIds);
+    }
+
+    @Override
+    public void createMissing(ClassEntityId classId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // One upsert for every user, so a concurrent roll call creating the same summary waits instead of failing
+        List<Long> orderedUserIds = userIds.stream().sorted().toList();
+        String keys = String.join(", ", Collections.nCopies(orderedUserIds.size(), "(?, ?, ?)"));
+        String rows = String.join(", ", Collections.nCopies(orderedUserIds.size(), "(?, ?, ?, 0, 0)"));
+
+        // MySQL has no MERGE; the other databases of the project (H2) follow the standard
+        Query insert = entityManager.createNativeQuery(isMySql()
+                ? "INSERT INTO attendance_summary_tb (course_id, number, user_id, present_count, total_count) VALUES " + rows
+                        + " ON DUPLICATE KEY UPDATE total_count = total_count"
+                : "MERGE INTO attendance_summary_tb t USING (VALUES " + keys + ") AS s (course_id, number, user_id)"
+                        + " ON t.course_id = s.course_id AND t.number = s.number AND t.user_id = s.user_id"
+                        + " WHEN NOT MATCHED THEN INSERT (course_id, number, user_id, present_count, total_count)"
+                        + " VALUES (s.course_id, s.number, s.user_id, 0, 0)"
+        );
+
+        int position = 1;
+        for (long userId : orderedUserIds) {
+            insert.setParameter(position++, classId.getCourseId());
+            insert.setParameter(position++, classId.getNumber());
+            insert.setParameter(position++, userId);
+        }
+
+        insert.executeUpdate();
+    }
+
+    private boolean isMySql() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof MySQLDialect;
+    }
+
+}
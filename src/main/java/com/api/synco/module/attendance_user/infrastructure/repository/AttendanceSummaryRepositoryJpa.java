@@ -0,0 +1,49 @@
+package com.api.synco.module.attendance_user.infrastructure.repository;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttendanceSummaryRepositoryJpa extends JpaRepository<AttendanceSummaryEntity, ClassUserId> {
+
+    @Query("SELECT s FROM AttendanceSummaryEntity s WHERE s.id.classEntityId = :classId ORDER BY s.id.userId")
+    List<AttendanceSummaryEntity> findAllByClass(@Param("classId") ClassEntityId classId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AttendanceSummaryEntity s WHERE s.id.classEntityId = :classId AND s.id.userId IN :userIds")
+    List<AttendanceSummaryEntity> findAllForUpdate(@Param("classId") ClassEntityId classId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT c.id FROM ClassEntity c")
+    List<ClassEntityId> findAllClassIds();
+
+    @Query(nativeQuery = true, value = "SELECT EXISTS (SELECT 1 FROM attendance_user_entity)")
+    boolean existsAttendance();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM attendance_summary_tb WHERE course_id = :courseId AND number = :number")
+    int deleteByClass(@Param("courseId") long courseId, @Param("number") int number);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO attendance_summary_tb (course_id, number, user_id, present_count, total_count)
+            SELECT p.class_entity_course_id, p.class_entity_number, a.user_entity_id,
+                   SUM(CASE WHEN a.is_present THEN 1 ELSE 0 END), COUNT(*)
+            FROM attendance_user_entity a
+            JOIN period_entity p ON p.id = a.period_id
+            WHERE p.class_entity_course_id = :courseId AND p.class_entity_number = :number
+            GROUP BY p.class_entity_course_id, p.class_entity_number, a.user_entity_id
+            """)
+    int insertComputedByClass(@Param("courseId") long courseId, @Param("number") int number);
+
+}
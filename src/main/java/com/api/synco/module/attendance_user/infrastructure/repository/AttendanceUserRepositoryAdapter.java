@@ -0,0 +1,44 @@
+package com.api.synco.module.attendance_user.infrastructure.repository;
+
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import com.api.synco.module.attendance_user.domain.port.AttendanceUserRepository;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.user.domain.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class AttendanceUserRepositoryAdapter implements AttendanceUserRepository {
+
+    private final AttendanceUserRepositoryJpa attendanceUserRepositoryJpa;
+
+    private final EntityManager entityManager;
+
+    public AttendanceUserRepositoryAdapter(AttendanceUserRepositoryJpa attendanceUserRepositoryJpa, EntityManager entityManager) {
+        this.attendanceUserRepositoryJpa = attendanceUserRepositoryJpa;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<AttendanceUserEntity> findAllByPeriod(long periodId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return attendanceUserRepositoryJpa.findAllByPeriod(periodId, userIds);
+    }
+
+    @Override
+    public AttendanceUserEntity newAttendance(PeriodEntity period, long userId, boolean present) {
+        // The membership check already proved the user exists, so a reference is enough for the foreign key
+        return new AttendanceUserEntity(period, entityManager.getReference(UserEntity.class, userId), present);
+    }
+
+    @Override
+    public void saveAll(Collection<AttendanceUserEntity> attendances) {
+        attendanceUserRepositoryJpa.saveAll(attendances);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.api.synco.module.attendance_user.infrastructure.repository;
+
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttendanceUserRepositoryJpa extends JpaRepository<AttendanceUserEntity, Long> {
+
+    @Query("""
+            SELECT a FROM AttendanceUserEntity a
+            WHERE a.period.id = :periodId AND a.userEntity.id IN :userIds
+            """)
+    List<AttendanceUserEntity> findAllByPeriod(@Param("periodId") long periodId, @Param("userIds") Collection<Long> userIds);
+
+}
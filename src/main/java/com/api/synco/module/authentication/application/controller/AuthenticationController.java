@@ -4,6 +4,7 @@ import com.api.synco.module.authentication.domain.port.UserAuthenticationService
 import com.api.synco.core.api.CustomApiResponse;
 import com.api.synco.module.authentication.application.dto.login.UserLoginRequest;
 import com.api.synco.module.authentication.application.dto.login.UserLoginResponse;
+import com.api.synco.module.authentication.application.dto.refresh.UserRefreshRequest;
 import com.api.synco.module.authentication.application.dto.register.UserRegisterRequest;
 import com.api.synco.module.authentication.application.dto.register.UserRegisterResponse;
 import com.api.synco.module.authentication.application.dto.reset_password.UserResetRequest;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,11 +28,14 @@ import org.springframework.web.bind.annotation.*;
  * <ul>
  *   <li>User registration (creating new accounts)</li>
  *   <li>User login (obtaining JWT tokens)</li>
+ *   <li>Token refresh (renewing JWT tokens without credentials)</li>
+ *   <li>User logout (revoking the JWT token and the refresh tokens of its login)</li>
+ *   <li>Logout of every login of the user</li>
  *   <li>Password reset (changing authenticated user's password)</li>
  * </ul>
  *
- * <p>The registration and login endpoints are publicly accessible, while
- * password reset requires authentication.</p>
+ * <p>The registration, login and refresh endpoints are publicly accessible, while
+ * logout and password reset require a valid token.</p>
  *
  * @author Luca5Eckert
  * @version 1.0.0
@@ -124,6 +129,102 @@ public class AuthenticationController {
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(CustomApiResponse.success(HttpStatus.CREATED.value(), "Login successful", user));
     }
 
+    /**
+     * Exchanges a refresh token for a new JWT token.
+     *
+     * <p>The refresh token is single-use: the response carries its replacement.
+     * Presenting a used refresh token again revokes every token derived from
+     * the same login.</p>
+     *
+     * @param userRefreshRequest the request containing the refresh token
+     * @return the login response with the new tokens and HTTP 200 status
+     */
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh token",
+            description = "Exchanges a single-use refresh token for a new JWT token and refresh token"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Token refreshed successfully",
+                    content = @Content(schema = @Schema(implementation = UserLoginResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Refresh token invalid, expired or already used",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<UserLoginResponse>> refresh(@RequestBody @Valid UserRefreshRequest userRefreshRequest){
+        var user = authenticationService.refresh(userRefreshRequest);
+        return ResponseEntity.ok(CustomApiResponse.success(HttpStatus.OK.value(), "Token refreshed successfully", user));
+    }
+
+    /**
+     * Logs out by revoking the JWT token used in the request.
+     *
+     * <p>The token stays rejected until it expires, even if it was leaked. The
+     * refresh tokens of the same login are revoked too, so they cannot mint a new one.</p>
+     *
+     * @param authorization the Authorization header with the Bearer token
+     * @return success message with HTTP 200 status
+     */
+    @PostMapping("/logout")
+    @Operation(
+            summary = "User logout",
+            description = "Revokes the JWT token sent in the Authorization header and the refresh tokens of its login"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Logout successful",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token missing, invalid or already revoked",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<Void>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization){
+        authenticationService.logout(authorization);
+
+        return ResponseEntity.ok(CustomApiResponse.success(HttpStatus.OK.value(), "Logout successful"));
+    }
+
+    /**
+     * Logs out of every login of the user.
+     *
+     * <p>Revokes the JWT token used in the request and every refresh token of
+     * the user, so no other device can renew its access.</p>
+     *
+     * @param authorization the Authorization header with the Bearer token
+     * @return success message with HTTP 200 status
+     */
+    @PostMapping("/logout-all")
+    @Operation(
+            summary = "User logout everywhere",
+            description = "Revokes the JWT token sent in the Authorization header and every refresh token of the user"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Logout successful",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Token missing, invalid or already revoked",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<Void>> logoutEverywhere(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization){
+        authenticationService.logoutEverywhere(authorization);
+
+        return ResponseEntity.ok(CustomApiResponse.success(HttpStatus.OK.value(), "Logout successful"));
+    }
+
     /**
      * Resets the password for the authenticated user.
      *
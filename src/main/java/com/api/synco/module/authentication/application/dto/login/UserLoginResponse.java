@@ -7,17 +7,18 @@ import java.util.Collection;
 /**
  * Data Transfer Object for user login responses.
  *
- * <p>This record contains the authentication result including the JWT token
- * for subsequent API requests.</p>
+ * <p>This record contains the authentication result including the short-lived
+ * JWT token for subsequent API requests and the refresh token used to renew it.</p>
  *
  * @param id the unique identifier of the authenticated user
  * @param email the user's email address
  * @param roles the collection of granted authorities for the user
  * @param token the JWT token for authentication
+ * @param refreshToken the single-use token for {@code /api/auth/refresh}
  *
  * @author Luca5Eckert
  * @version 1.0.0
  * @since 1.0.0
  */
-public record UserLoginResponse(long id, String email, Collection<? extends GrantedAuthority> roles, String token){
+public record UserLoginResponse(long id, String email, Collection<? extends GrantedAuthority> roles, String token, String refreshToken){
 }
@@ -0,0 +1,20 @@
+package com.api.synco.module.authentication.application.dto.refresh;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object for token refresh requests.
+ *
+ * <p>This record carries the refresh token received at login or at the
+ * previous refresh. The token is single-use and is replaced on every refresh.</p>
+ *
+ * @param refreshToken the refresh token to exchange (max 100 characters)
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record UserRefreshRequest(
+        @NotBlank @Size(max = 100) String refreshToken) {
+}
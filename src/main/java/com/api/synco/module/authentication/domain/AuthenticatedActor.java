@@ -0,0 +1,26 @@
+package com.api.synco.module.authentication.domain;
+
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+
+/**
+ * The user performing the current request.
+ *
+ * <p>The actor is resolved once per request from the authenticated principal and
+ * handed to the use cases, which read the role from it for their permission checks
+ * instead of loading the user again.</p>
+ *
+ * @param id the unique identifier of the user
+ * @param role the role of the user
+ * @param email the email of the user
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.api.synco.module.authentication.domain.port.UserAuthenticationService#getAuthenticatedActor()
+ */
+public record AuthenticatedActor(
+        long id,
+        RoleUser role,
+        String email
+) {
+}
@@ -0,0 +1,143 @@
+package com.api.synco.module.authentication.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain entity representing an issued refresh token.
+ *
+ * <p>Only the SHA-256 hash of the token is stored, so a leaked table does not
+ * leak usable tokens. Every refresh token belongs to a family started at login;
+ * rotating a token issues the next one in the same family, and presenting an
+ * already used token revokes the whole family.</p>
+ *
+ * <p>The entity is persisted with the following indexes:</p>
+ * <ul>
+ *   <li>Index on the family ID, used to revoke a family on token reuse</li>
+ *   <li>Index on the user ID, used to revoke a user's families on logout</li>
+ *   <li>Index on the expiration timestamp, used to purge expired tokens</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "refresh_token_tb", indexes = {
+        @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_user", columnList = "userId"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+})
+public class RefreshTokenEntity {
+
+    @Id
+    @Column(length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private long userId;
+
+    @Column(nullable = false)
+    private int tokenRevision;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private boolean used;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RefreshTokenEntity() {
+    }
+
+    /**
+     * Constructs a new unused refresh token.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @param familyId the ID of the token family started at login
+     * @param userId the ID of the token owner
+     * @param tokenRevision the owner's token revision at issue time
+     * @param expiresAt the expiration of the token
+     */
+    public RefreshTokenEntity(String tokenHash, String familyId, long userId, int tokenRevision, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.tokenRevision = tokenRevision;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the token.
+     *
+     * @return the token hash
+     */
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    /**
+     * Returns the ID of the token family.
+     *
+     * @return the family ID
+     */
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    /**
+     * Returns the ID of the token owner.
+     *
+     * @return the user ID
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Returns the owner's token revision at issue time.
+     *
+     * @return the token revision
+     */
+    public int getTokenRevision() {
+        return tokenRevision;
+    }
+
+    /**
+     * Returns the expiration of the token.
+     *
+     * @return the expiration timestamp
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Checks whether the token was already exchanged.
+     *
+     * @return {@code true} if the token was used, {@code false} otherwise
+     */
+    public boolean isUsed() {
+        return used;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        RefreshTokenEntity that = (RefreshTokenEntity) o;
+        return Objects.equals(tokenHash, that.tokenHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(tokenHash);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.api.synco.module.authentication.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Domain entity representing a revoked JWT token.
+ *
+ * <p>Only the token ID ({@code jti}) and the token expiration are stored. Once the
+ * token expires it is rejected by its signature validation anyway, so the record
+ * can be purged.</p>
+ *
+ * <p>The entity is persisted with an index on the expiration timestamp, used
+ * to load the active revocations on startup and to purge the expired ones.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "revoked_token_tb", indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt")
+})
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public RevokedTokenEntity() {
+    }
+
+    /**
+     * Constructs a new revoked token.
+     *
+     * @param tokenId the ID ({@code jti}) of the revoked token
+     * @param expiresAt the expiration of the revoked token
+     */
+    public RevokedTokenEntity(String tokenId, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Returns the ID of the revoked token.
+     *
+     * @return the token ID
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    /**
+     * Returns the expiration of the revoked token.
+     *
+     * @return the expiration timestamp
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        RevokedTokenEntity that = (RevokedTokenEntity) o;
+        return Objects.equals(tokenId, that.tokenId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(tokenId);
+    }
+
+}
@@ -31,17 +31,19 @@ public class AuthenticationMapper {
     }
 
     /**
-     * Maps user details and token to a login response DTO.
+     * Maps user details and tokens to a login response DTO.
      *
      * @param user the user details to map
      * @param token the JWT token to include
+     * @param refreshToken the refresh token to include
      * @return a {@link UserLoginResponse} containing authentication data
      */
-    public UserLoginResponse toLoginResponse(UserDetailsImpl user, String token) {
+    public UserLoginResponse toLoginResponse(UserDetailsImpl user, String token, String refreshToken) {
         return new UserLoginResponse(
                 user.getId()
                 , user.getUsername()
                 , user.getAuthorities()
-                , token);
+                , token
+                , refreshToken);
     }
 }
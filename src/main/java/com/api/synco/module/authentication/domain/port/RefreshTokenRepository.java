@@ -0,0 +1,66 @@
+package com.api.synco.module.authentication.domain.port;
+
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository port interface for refresh token persistence operations.
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RefreshTokenEntity
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * Saves a refresh token to the data store.
+     *
+     * @param refreshToken the refresh token to save
+     */
+    void save(RefreshTokenEntity refreshToken);
+
+    /**
+     * Finds a refresh token by its hash.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return an {@link Optional} containing the token if found, or empty if not found
+     */
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Marks an unused refresh token as used.
+     *
+     * <p>The check and the update happen in a single statement, so two concurrent
+     * refreshes with the same token cannot both succeed.</p>
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return {@code true} if the token was unused and is now marked, {@code false} otherwise
+     */
+    boolean markUsed(String tokenHash);
+
+    /**
+     * Deletes every refresh token of a family.
+     *
+     * @param familyId the ID of the token family
+     */
+    void deleteByFamilyId(String familyId);
+
+    /**
+     * Deletes every refresh token of every family owned by a user.
+     *
+     * @param userId the ID of the token owner
+     */
+    void deleteByUserId(long userId);
+
+    /**
+     * Deletes every refresh token that has already expired.
+     *
+     * @param now the current instant
+     * @return the number of deleted records
+     */
+    int deleteExpired(Instant now);
+
+}
@@ -0,0 +1,44 @@
+package com.api.synco.module.authentication.domain.port;
+
+import com.api.synco.module.authentication.domain.RevokedTokenEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository port interface for revoked token persistence operations.
+ *
+ * <p>Revocations are persisted so the in-memory revocation list can be
+ * rebuilt after a restart.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RevokedTokenEntity
+ */
+public interface RevokedTokenRepository {
+
+    /**
+     * Saves a revoked token to the data store.
+     *
+     * @param revokedToken the revoked token to save
+     */
+    void save(RevokedTokenEntity revokedToken);
+
+    /**
+     * Finds every revoked token that has not expired yet.
+     *
+     * @param now the current instant
+     * @return the revoked tokens expiring after {@code now}
+     */
+    List<RevokedTokenEntity> findAllNotExpired(Instant now);
+
+    /**
+     * Deletes every revoked token that has already expired.
+     *
+     * @param now the current instant
+     * @return the number of deleted records
+     */
+    int deleteExpired(Instant now);
+
+}
@@ -1,5 +1,6 @@
 package com.api.synco.module.authentication.domain.port;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import org.springframework.security.core.userdetails.UserDetails;
 
 /**
@@ -43,4 +44,16 @@ public interface UserAuthenticationService {
      */
     UserDetails getUserDetails();
 
+    /**
+     * Retrieves the user performing the current request.
+     *
+     * <p>The actor is built from the authenticated principal without reaching the
+     * database, and resolved at most once per request.</p>
+     *
+     * @return the {@link AuthenticatedActor} of the current request
+     * @throws ClassCastException if the principal is not of the expected type
+     * @throws NullPointerException if no authentication is present in the security context
+     */
+    AuthenticatedActor getAuthenticatedActor();
+
 }
\ No newline at end of file
@@ -2,11 +2,15 @@ package com.api.synco.module.authentication.domain.service;
 
 import com.api.synco.module.authentication.application.dto.login.UserLoginRequest;
 import com.api.synco.module.authentication.application.dto.login.UserLoginResponse;
+import com.api.synco.module.authentication.application.dto.refresh.UserRefreshRequest;
 import com.api.synco.module.authentication.application.dto.register.UserRegisterRequest;
 import com.api.synco.module.authentication.application.dto.register.UserRegisterResponse;
 import com.api.synco.module.authentication.application.dto.reset_password.UserResetRequest;
 import com.api.synco.module.authentication.domain.mapper.AuthenticationMapper;
 import com.api.synco.module.authentication.domain.use_case.UserLoginUseCase;
+import com.api.synco.module.authentication.domain.use_case.UserLogoutEverywhereUseCase;
+import com.api.synco.module.authentication.domain.use_case.UserLogoutUseCase;
+import com.api.synco.module.authentication.domain.use_case.UserRefreshTokenUseCase;
 import com.api.synco.module.authentication.domain.use_case.UserRegisterUseCase;
 import com.api.synco.module.authentication.domain.use_case.UserResetPasswordUseCase;
 import jakarta.validation.Valid;
@@ -22,6 +26,9 @@ import org.springframework.stereotype.Service;
  * <ul>
  *   <li>User registration with password validation</li>
  *   <li>User authentication and JWT token generation</li>
+ *   <li>Access token renewal with rotating refresh tokens</li>
+ *   <li>User logout by revoking the JWT token and the refresh tokens of its login</li>
+ *   <li>Logout of every login of the user</li>
  *   <li>Password reset for authenticated users</li>
  * </ul>
  *
@@ -30,6 +37,8 @@ import org.springframework.stereotype.Service;
  * @since 1.0.0
  * @see UserRegisterUseCase
  * @see UserLoginUseCase
+ * @see UserRefreshTokenUseCase
+ * @see UserLogoutUseCase
  * @see UserResetPasswordUseCase
  */
 @Service
@@ -40,6 +49,9 @@ public class AuthenticationService {
     private final UserRegisterUseCase registerUseCase;
     private final UserLoginUseCase loginUseCase;
     private final UserResetPasswordUseCase userResetPasswordUseCase;
+    private final UserLogoutUseCase userLogoutUseCase;
+    private final UserLogoutEverywhereUseCase userLogoutEverywhereUseCase;
+    private final UserRefreshTokenUseCase userRefreshTokenUseCase;
 
     /**
      * Constructs a new authentication service.
@@ -48,12 +60,18 @@ public class AuthenticationService {
      * @param registerUseCase the use case for user registration
      * @param loginUseCase the use case for user login
      * @param userResetPasswordUseCase the use case for password reset
+     * @param userLogoutUseCase the use case for user logout
+     * @param userLogoutEverywhereUseCase the use case for logging out of every login
+     * @param userRefreshTokenUseCase the use case for access token renewal
      */
-    public AuthenticationService(AuthenticationMapper authenticationMapper, UserRegisterUseCase registerUseCase, UserLoginUseCase loginUseCase, UserResetPasswordUseCase userResetPasswordUseCase) {
+    public AuthenticationService(AuthenticationMapper authenticationMapper, UserRegisterUseCase registerUseCase, UserLoginUseCase loginUseCase, UserResetPasswordUseCase userResetPasswordUseCase, UserLogoutUseCase userLogoutUseCase, UserLogoutEverywhereUseCase userLogoutEverywhereUseCase, UserRefreshTokenUseCase userRefreshTokenUseCase) {
         this.authenticationMapper = authenticationMapper;
         this.registerUseCase = registerUseCase;
         this.loginUseCase = loginUseCase;
         this.userResetPasswordUseCase = userResetPasswordUseCase;
+        this.userLogoutUseCase = userLogoutUseCase;
+        this.userLogoutEverywhereUseCase = userLogoutEverywhereUseCase;
+        this.userRefreshTokenUseCase = userRefreshTokenUseCase;
     }
 
     /**
@@ -77,6 +95,16 @@ public class AuthenticationService {
         return loginUseCase.execute(userLoginRequest);
     }
 
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     *
+     * @param userRefreshRequest the request containing the refresh token
+     * @return the login response with the new tokens
+     */
+    public UserLoginResponse refresh(UserRefreshRequest userRefreshRequest) {
+        return userRefreshTokenUseCase.execute(userRefreshRequest);
+    }
+
     /**
      * Resets the password for the specified user.
      *
@@ -87,4 +115,22 @@ public class AuthenticationService {
         userResetPasswordUseCase.execute(userResetRequest, idUser);
     }
 
+    /**
+     * Logs out by revoking the token carried by the Authorization header.
+     *
+     * @param authorizationHeader the Authorization header with the Bearer token
+     */
+    public void logout(String authorizationHeader) {
+        userLogoutUseCase.execute(authorizationHeader);
+    }
+
+    /**
+     * Logs out of every login of the user owning the token carried by the Authorization header.
+     *
+     * @param authorizationHeader the Authorization header with the Bearer token
+     */
+    public void logoutEverywhere(String authorizationHeader) {
+        userLogoutEverywhereUseCase.execute(authorizationHeader);
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.api.synco.module.authentication.domain.use_case;
 
 import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
 import com.api.synco.core.security.user_details.UserDetailsImpl;
 import com.api.synco.module.authentication.application.dto.login.UserLoginRequest;
 import com.api.synco.module.authentication.application.dto.login.UserLoginResponse;
@@ -18,6 +19,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Credential validation via Spring Security</li>
  *   <li>JWT token generation for authenticated users</li>
+ *   <li>Refresh token generation, starting a new token family</li>
  *   <li>Response mapping with user details and token</li>
  * </ul>
  *
@@ -26,12 +28,14 @@ import org.springframework.stereotype.Component;
  * @since 1.0.0
  * @see AuthenticationManager
  * @see JwtTokenProvider
+ * @see RefreshTokenProvider
  */
 @Component
 public class UserLoginUseCase {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenProvider refreshTokenProvider;
 
     private final AuthenticationMapper authenticationMapper;
 
@@ -40,11 +44,13 @@ public class UserLoginUseCase {
      *
      * @param authenticationManager the Spring Security authentication manager
      * @param jwtTokenProvider the provider for JWT token operations
+     * @param refreshTokenProvider the provider for refresh token operations
      * @param authenticationMapper the mapper for response creation
      */
-    public UserLoginUseCase(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider, AuthenticationMapper authenticationMapper) {
+    public UserLoginUseCase(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider, RefreshTokenProvider refreshTokenProvider, AuthenticationMapper authenticationMapper) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenProvider = refreshTokenProvider;
         this.authenticationMapper = authenticationMapper;
     }
 
@@ -52,11 +58,11 @@ public class UserLoginUseCase {
     /**
      * Executes the user login use case.
      *
-     * <p>Validates the provided credentials and generates a JWT token
-     * for successful authentication.</p>
+     * <p>Validates the provided credentials and generates a JWT token and
+     * a refresh token for successful authentication.</p>
      *
      * @param userLoginRequest the request containing login credentials
-     * @return the login response with user details and JWT token
+     * @return the login response with user details, JWT token and refresh token
      * @throws AuthenticationValidationException if authentication fails
      */
     public UserLoginResponse execute(UserLoginRequest userLoginRequest) {
@@ -68,9 +74,11 @@ public class UserLoginUseCase {
 
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
 
-        String token = jwtTokenProvider.generateToken(userDetails.getUsername());
+        String familyId = refreshTokenProvider.newFamilyId();
+        String token = jwtTokenProvider.generateToken(userDetails, familyId);
+        String refreshToken = refreshTokenProvider.issue(userDetails, familyId);
 
-        return authenticationMapper.toLoginResponse(userDetails, token);
+        return authenticationMapper.toLoginResponse(userDetails, token, refreshToken);
     }
 
 }
@@ -0,0 +1,73 @@
+package com.api.synco.module.authentication.domain.use_case;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
+import com.api.synco.core.security.jwt.VerifiedToken;
+import com.api.synco.core.security.revocation.TokenRevocationList;
+import com.api.synco.module.user.domain.port.UserRepository;
+import com.api.synco.module.user.domain.vo.Email;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for logging a user out of every login.
+ *
+ * <p>This use case handles the process including:</p>
+ * <ul>
+ *   <li>Verification of the token being logged out</li>
+ *   <li>Revocation of the token ID until the token expires</li>
+ *   <li>Revocation of every refresh token family of the user</li>
+ * </ul>
+ *
+ * <p>Access tokens of the other logins stay valid until they expire, but none
+ * of them can be renewed.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserLogoutUseCase
+ * @see RefreshTokenProvider
+ */
+@Component
+public class UserLogoutEverywhereUseCase {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final UserRepository userRepository;
+
+    /**
+     * Constructs a new logout everywhere use case.
+     *
+     * @param jwtTokenProvider the provider for JWT token operations
+     * @param tokenRevocationList the list where the token is revoked
+     * @param refreshTokenProvider the provider whose refresh tokens are revoked
+     * @param userRepository the repository for user lookups
+     */
+    public UserLogoutEverywhereUseCase(JwtTokenProvider jwtTokenProvider, TokenRevocationList tokenRevocationList, RefreshTokenProvider refreshTokenProvider, UserRepository userRepository) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Executes the logout everywhere use case.
+     *
+     * @param authorizationHeader the Authorization header carrying the Bearer token to revoke
+     * @throws TokenInvalidException if the token is missing, invalid or has no token ID
+     */
+    public void execute(String authorizationHeader) {
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(JwtTokenProvider.resolveBearerToken(authorizationHeader));
+
+        if (verifiedToken.tokenId() == null) {
+            throw new TokenInvalidException("Token has no ID and cannot be revoked");
+        }
+
+        tokenRevocationList.revoke(verifiedToken.tokenId(), verifiedToken.expiresAt());
+
+        userRepository.findByEmail(new Email(verifiedToken.email()))
+                .ifPresent(user -> refreshTokenProvider.revokeFamilies(user.getId()));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.api.synco.module.authentication.domain.use_case;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
+import com.api.synco.core.security.jwt.VerifiedToken;
+import com.api.synco.core.security.revocation.TokenRevocationList;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for user logout.
+ *
+ * <p>This use case handles the logout process including:</p>
+ * <ul>
+ *   <li>Verification of the token being logged out</li>
+ *   <li>Revocation of the token ID until the token expires</li>
+ *   <li>Revocation of the refresh token family named by the token</li>
+ * </ul>
+ *
+ * <p>Once revoked, the token is rejected by the authentication filter even
+ * though its signature and expiration are still valid, and the refresh tokens
+ * of the same login can no longer mint a new one. Other logins of the user
+ * are left untouched.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see JwtTokenProvider
+ * @see TokenRevocationList
+ * @see RefreshTokenProvider
+ * @see UserLogoutEverywhereUseCase
+ */
+@Component
+public class UserLogoutUseCase {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenProvider refreshTokenProvider;
+
+    /**
+     * Constructs a new user logout use case.
+     *
+     * @param jwtTokenProvider the provider for JWT token operations
+     * @param tokenRevocationList the list where the token is revoked
+     * @param refreshTokenProvider the provider whose refresh tokens are revoked
+     */
+    public UserLogoutUseCase(JwtTokenProvider jwtTokenProvider, TokenRevocationList tokenRevocationList, RefreshTokenProvider refreshTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.refreshTokenProvider = refreshTokenProvider;
+    }
+
+    /**
+     * Executes the user logout use case.
+     *
+     * @param authorizationHeader the Authorization header carrying the Bearer token to revoke
+     * @throws TokenInvalidException if the token is missing, invalid or has no token ID
+     */
+    public void execute(String authorizationHeader) {
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(JwtTokenProvider.resolveBearerToken(authorizationHeader));
+
+        if (verifiedToken.tokenId() == null) {
+            throw new TokenInvalidException("Token has no ID and cannot be revoked");
+        }
+
+        tokenRevocationList.revoke(verifiedToken.tokenId(), verifiedToken.expiresAt());
+
+        String familyId = verifiedToken.claims().get(JwtTokenProvider.CLAIM_FAMILY, String.class);
+        if (familyId != null) {
+            refreshTokenProvider.revokeFamily(familyId);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.api.synco.module.authentication.domain.use_case;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
+import com.api.synco.core.security.user_details.UserDetailsImpl;
+import com.api.synco.core.security.user_details.UserDetailsMapper;
+import com.api.synco.module.authentication.application.dto.login.UserLoginResponse;
+import com.api.synco.module.authentication.application.dto.refresh.UserRefreshRequest;
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+import com.api.synco.module.authentication.domain.mapper.AuthenticationMapper;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.port.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for renewing an access token with a refresh token.
+ *
+ * <p>This use case handles the refresh process including:</p>
+ * <ul>
+ *   <li>Single-use consumption of the presented refresh token</li>
+ *   <li>Rejection when the user was deleted or changed a security-relevant field</li>
+ *   <li>Generation of a new access token and of the next refresh token of the family</li>
+ * </ul>
+ *
+ * <p>Unlike login, no password hash is computed, so short-lived access tokens
+ * can be renewed cheaply.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RefreshTokenProvider
+ * @see JwtTokenProvider
+ */
+@Component
+public class UserRefreshTokenUseCase {
+
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    private final UserDetailsMapper userDetailsMapper;
+    private final AuthenticationMapper authenticationMapper;
+
+    /**
+     * Constructs a new refresh token use case.
+     *
+     * @param refreshTokenProvider the provider for refresh token operations
+     * @param jwtTokenProvider the provider for JWT token operations
+     * @param userRepository the repository for user lookups
+     * @param userDetailsMapper the mapper from users to principals
+     * @param authenticationMapper the mapper for response creation
+     */
+    public UserRefreshTokenUseCase(RefreshTokenProvider refreshTokenProvider, JwtTokenProvider jwtTokenProvider, UserRepository userRepository, UserDetailsMapper userDetailsMapper, AuthenticationMapper authenticationMapper) {
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.userDetailsMapper = userDetailsMapper;
+        this.authenticationMapper = authenticationMapper;
+    }
+
+    /**
+     * Executes the refresh token use case.
+     *
+     * <p>Rejections do not roll back, so a family revoked on token reuse stays revoked.</p>
+     *
+     * @param userRefreshRequest the request containing the refresh token
+     * @return the login response with the new access and refresh tokens
+     * @throws TokenInvalidException if the refresh token is invalid, expired, reused
+     *                               or issued before the user's latest security change
+     */
+    @Transactional(noRollbackFor = TokenInvalidException.class)
+    public UserLoginResponse execute(UserRefreshRequest userRefreshRequest) {
+        RefreshTokenEntity refreshToken = refreshTokenProvider.consume(userRefreshRequest.refreshToken());
+
+        UserEntity user = userRepository.findById(refreshToken.getUserId())
+                .filter(found -> found.getTokenRevision() == refreshToken.getTokenRevision())
+                .orElseThrow(() -> {
+                    refreshTokenProvider.revokeFamily(refreshToken.getFamilyId());
+                    return new TokenInvalidException("Refresh token is no longer valid");
+                });
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsMapper.toEntity(user);
+
+        String token = jwtTokenProvider.generateToken(userDetails, refreshToken.getFamilyId());
+        String nextRefreshToken = refreshTokenProvider.issue(userDetails, refreshToken.getFamilyId());
+
+        return authenticationMapper.toLoginResponse(userDetails, token, nextRefreshToken);
+    }
+
+}
@@ -5,6 +5,7 @@ import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.exception.email.EmailNotUniqueDomainException;
 import com.api.synco.module.user.domain.exception.password.PasswordNotValidDomainException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.validator.PasswordValidatorImpl;
 import com.api.synco.module.user.domain.vo.Email;
@@ -38,6 +39,7 @@ public class UserRegisterUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordValidatorImpl passwordValidator;
+    private final UserSearchProvider userSearchProvider;
 
     /**
      * Constructs a new user registration use case.
@@ -45,11 +47,13 @@ public class UserRegisterUseCase {
      * @param userRepository the repository for user persistence
      * @param passwordEncoder the encoder for password hashing
      * @param passwordValidator the validator for password requirements
+     * @param userSearchProvider the provider keeping the user search index up to date
      */
-    public UserRegisterUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder, PasswordValidatorImpl passwordValidator) {
+    public UserRegisterUseCase(UserRepository userRepository, PasswordEncoder passwordEncoder, PasswordValidatorImpl passwordValidator, UserSearchProvider userSearchProvider) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.passwordValidator = passwordValidator;
+        this.userSearchProvider = userSearchProvider;
     }
 
     /**
@@ -78,6 +82,7 @@ public class UserRegisterUseCase {
         if(userRepository.existsByEmail(user.getEmail())) throw new EmailNotUniqueDomainException();
 
         userRepository.save(user);
+        userSearchProvider.index(user);
 
         return user;
     }
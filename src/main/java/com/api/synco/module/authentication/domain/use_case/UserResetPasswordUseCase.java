@@ -1,5 +1,6 @@
 package com.api.synco.module.authentication.domain.use_case;
 
+import com.api.synco.core.security.user_details.UserPrincipalCache;
 import com.api.synco.module.authentication.application.dto.reset_password.UserResetRequest;
 import com.api.synco.module.authentication.domain.exception.password.PasswordNotMatchesException;
 import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
@@ -32,6 +33,7 @@ public class UserResetPasswordUseCase {
     private final UserRepository userRepository;
     private final PasswordValidatorImpl passwordValidator;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * Constructs a new password reset use case.
@@ -39,11 +41,13 @@ public class UserResetPasswordUseCase {
      * @param userRepository the repository for user persistence
      * @param passwordValidator the validator for password requirements
      * @param passwordEncoder the encoder for password hashing
+     * @param userPrincipalCache the cache of authenticated principals to invalidate
      */
-    public UserResetPasswordUseCase(UserRepository userRepository, PasswordValidatorImpl passwordValidator, PasswordEncoder passwordEncoder) {
+    public UserResetPasswordUseCase(UserRepository userRepository, PasswordValidatorImpl passwordValidator, PasswordEncoder passwordEncoder, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
         this.passwordValidator = passwordValidator;
         this.passwordEncoder = passwordEncoder;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     /**
@@ -71,8 +75,11 @@ public class UserResetPasswordUseCase {
         String passwordEncoded = passwordEncoder.encode(userResetRequest.newPassword());
 
         userDetails.setPassword(passwordEncoded);
+        userDetails.incrementTokenRevision();
 
         userRepository.save(userDetails);
+
+        userPrincipalCache.invalidate(idUser);
     }
 
 }
@@ -0,0 +1,67 @@
+package com.api.synco.module.authentication.infrastructure.repository;
+
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Spring Data JPA repository for {@link RefreshTokenEntity} persistence.
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RefreshTokenEntity
+ * @see RefreshTokenRepositoryImpl
+ */
+@Repository
+public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    /**
+     * Marks an unused refresh token as used.
+     *
+     * @param tokenHash the SHA-256 hash of the token
+     * @return the number of updated records, {@code 0} if the token was already used or does not exist
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshTokenEntity r SET r.used = true WHERE r.tokenHash = :tokenHash AND r.used = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Deletes every refresh token of a family.
+     *
+     * @param familyId the ID of the token family
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.familyId = :familyId")
+    void deleteByFamilyId(@Param("familyId") String familyId);
+
+    /**
+     * Deletes every refresh token owned by a user.
+     *
+     * @param userId the ID of the token owner
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.userId = :userId")
+    void deleteByUserId(@Param("userId") long userId);
+
+    /**
+     * Deletes every refresh token that expired at or before the given instant.
+     *
+     * @param now the current instant
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+}
@@ -0,0 +1,45 @@
+package com.api.synco.module.authentication.infrastructure.repository;
+
+import com.api.synco.module.authentication.domain.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for {@link RevokedTokenEntity} persistence.
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RevokedTokenEntity
+ * @see RevokedTokenRepositoryImpl
+ */
+@Repository
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+
+    /**
+     * Finds every revoked token expiring after the given instant.
+     *
+     * @param now the current instant
+     * @return the active revoked tokens
+     */
+    List<RevokedTokenEntity> findAllByExpiresAtAfter(Instant now);
+
+    /**
+     * Deletes every revoked token that expired at or before the given instant.
+     *
+     * @param now the current instant
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+}
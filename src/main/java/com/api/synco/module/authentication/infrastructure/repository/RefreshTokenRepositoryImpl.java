@@ -0,0 +1,83 @@
+package com.api.synco.module.authentication.infrastructure.repository;
+
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+import com.api.synco.module.authentication.domain.port.RefreshTokenRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Infrastructure implementation of the {@link RefreshTokenRepository} port.
+ *
+ * <p>Delegates all operations to the underlying {@link JpaRefreshTokenRepository}.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RefreshTokenRepository
+ * @see JpaRefreshTokenRepository
+ */
+@Repository
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final JpaRefreshTokenRepository jpaRefreshTokenRepository;
+
+    /**
+     * Constructs a new refresh token repository implementation.
+     *
+     * @param jpaRefreshTokenRepository the JPA repository for refresh token persistence
+     */
+    public RefreshTokenRepositoryImpl(JpaRefreshTokenRepository jpaRefreshTokenRepository) {
+        this.jpaRefreshTokenRepository = jpaRefreshTokenRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(RefreshTokenEntity refreshToken) {
+        jpaRefreshTokenRepository.save(refreshToken);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RefreshTokenEntity> findByTokenHash(String tokenHash) {
+        return jpaRefreshTokenRepository.findById(tokenHash);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markUsed(String tokenHash) {
+        return jpaRefreshTokenRepository.markUsed(tokenHash) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteByFamilyId(String familyId) {
+        jpaRefreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteByUserId(long userId) {
+        jpaRefreshTokenRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteExpired(Instant now) {
+        return jpaRefreshTokenRepository.deleteExpired(now);
+    }
+
+}
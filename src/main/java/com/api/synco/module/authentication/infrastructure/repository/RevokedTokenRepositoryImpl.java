@@ -0,0 +1,59 @@
+package com.api.synco.module.authentication.infrastructure.repository;
+
+import com.api.synco.module.authentication.domain.RevokedTokenEntity;
+import com.api.synco.module.authentication.domain.port.RevokedTokenRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Infrastructure implementation of the {@link RevokedTokenRepository} port.
+ *
+ * <p>Delegates all operations to the underlying {@link JpaRevokedTokenRepository}.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see RevokedTokenRepository
+ * @see JpaRevokedTokenRepository
+ */
+@Repository
+public class RevokedTokenRepositoryImpl implements RevokedTokenRepository {
+
+    private final JpaRevokedTokenRepository jpaRevokedTokenRepository;
+
+    /**
+     * Constructs a new revoked token repository implementation.
+     *
+     * @param jpaRevokedTokenRepository the JPA repository for revoked token persistence
+     */
+    public RevokedTokenRepositoryImpl(JpaRevokedTokenRepository jpaRevokedTokenRepository) {
+        this.jpaRevokedTokenRepository = jpaRevokedTokenRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(RevokedTokenEntity revokedToken) {
+        jpaRevokedTokenRepository.save(revokedToken);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RevokedTokenEntity> findAllNotExpired(Instant now) {
+        return jpaRevokedTokenRepository.findAllByExpiresAtAfter(now);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteExpired(Instant now) {
+        return jpaRevokedTokenRepository.deleteExpired(now);
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.api.synco.module.class_entity.application.controller;
 
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.api.CustomApiResponse;
 import com.api.synco.module.class_entity.application.dto.create.CreateClassRequest;
@@ -65,9 +67,9 @@ public class ClassController {
     )
     @PostMapping
     public ResponseEntity<CustomApiResponse<CreateClassResponse>> create(@Valid @RequestBody CreateClassRequest createClassRequest){
-        long idUser = userAuthenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = userAuthenticationService.getAuthenticatedActor();
 
-        var createResponse =  classService.create(createClassRequest, idUser);
+        var createResponse =  classService.create(createClassRequest, actor);
 
         HttpStatus status = HttpStatus.CREATED;
 
@@ -98,9 +100,9 @@ public class ClassController {
     )
     @PutMapping("/{idCourse}/{numberClass}")
     public ResponseEntity<CustomApiResponse<UpdateClassResponse>> update(@Valid @RequestBody UpdateClassRequest updateClassRequest, @PathVariable long idCourse, @PathVariable int numberClass){
-        long idUser = userAuthenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = userAuthenticationService.getAuthenticatedActor();
 
-        var updateResponse = classService.update(updateClassRequest, idCourse, numberClass, idUser);
+        var updateResponse = classService.update(updateClassRequest, idCourse, numberClass, actor);
 
         HttpStatus status = HttpStatus.ACCEPTED;
 
@@ -135,9 +137,9 @@ public class ClassController {
     })
     @DeleteMapping("/{idCourse}/{numberClass}")
     public ResponseEntity<CustomApiResponse<Void>> delete(@PathVariable long idCourse,@PathVariable int numberClass){
-        long idUser = userAuthenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = userAuthenticationService.getAuthenticatedActor();
 
-        classService.delete(idCourse, numberClass, idUser);
+        classService.delete(idCourse, numberClass, actor);
 
         return ResponseEntity.ok(CustomApiResponse.success(200, "Class deleted with success."));
 
@@ -190,17 +192,27 @@ public class ClassController {
             int pageNumber,
             @RequestParam(value = "size", defaultValue = "10")
             @Parameter(description = "Page size (max. 50, default 10)")
-            int pageSize
+            int pageSize,
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page; replaces the page number")
+            String cursor,
+            @RequestParam(value = "total", defaultValue = "false")
+            @Parameter(description = "Returns the approximate total in the X-Total-Count header")
+            boolean withTotal
     ){
-        List<GetAllClassResponse> classResponses = classService.getAll(
+        CursorPage<GetAllClassResponse> classResponses = classService.getAll(
                 idCourse,
                 numberClass,
                 pageNumber,
                 pageSize,
-                shift
+                shift,
+                cursor,
+                withTotal
         );
 
-        return ResponseEntity.ok(CustomApiResponse.success(200, "Class retrieved with success.", classResponses));
+        return ResponseEntity.ok()
+                .headers(classResponses.headers())
+                .body(CustomApiResponse.success(200, "Class retrieved with success.", classResponses.content()));
     }
 
 
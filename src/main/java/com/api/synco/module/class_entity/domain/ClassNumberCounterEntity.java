@@ -0,0 +1,66 @@
+package com.api.synco.module.class_entity.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * Domain entity holding the last class number allocated within a course.
+ *
+ * <p>Class numbers are taken by incrementing this row in a single
+ * {@code UPDATE}, which the database applies atomically. Concurrent creations
+ * in the same course therefore always receive distinct numbers, while
+ * creations in different courses never touch the same row.</p>
+ *
+ * <p>Numbers are never handed out twice, even after the class that used one
+ * is deleted.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ClassEntityId
+ */
+@Entity
+@Table(name = "class_number_counter_tb")
+public class ClassNumberCounterEntity {
+
+    @Id
+    private long courseId;
+
+    @Column(nullable = false)
+    private int lastNumber;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public ClassNumberCounterEntity() {
+    }
+
+    /**
+     * Constructs a new class number counter.
+     *
+     * @param courseId the course identifier
+     * @param lastNumber the last class number allocated within the course
+     */
+    public ClassNumberCounterEntity(long courseId, int lastNumber) {
+        this.courseId = courseId;
+        this.lastNumber = lastNumber;
+    }
+
+    /**
+     * Returns the course identifier.
+     *
+     * @return the course ID
+     */
+    public long getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the last class number allocated within the course.
+     *
+     * @return the last class number
+     */
+    public int getLastNumber() {
+        return lastNumber;
+    }
+
+}
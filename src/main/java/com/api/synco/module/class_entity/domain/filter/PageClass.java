@@ -1,8 +1,13 @@
 package com.api.synco.module.class_entity.domain.filter;
 
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+
 public record PageClass(
         int pageNumber,
-        int pageSize
+        int pageSize,
+        ClassEntityId afterId
 ) {
 
     private final static int MIN_PAGE_NUMBER = 0;
@@ -20,4 +25,22 @@ public record PageClass(
 
     }
 
+    public PageClass(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    public static PageClass of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return new PageClass(pageNumber, pageSize);
+        }
+
+        long[] key = PageCursor.decode(cursor, 2);
+
+        return new PageClass(pageNumber, pageSize, new ClassEntityId(key[0], (int) key[1]));
+    }
+
+    public static String cursorOf(ClassEntity classEntity) {
+        return PageCursor.encode(classEntity.getId().getCourseId(), classEntity.getId().getNumber());
+    }
+
 }
@@ -2,11 +2,9 @@ package com.api.synco.module.class_entity.domain.port;
 
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_entity.domain.filter.ClassFilter;
 import com.api.synco.module.class_entity.domain.filter.PageClass;
 import com.api.synco.module.course.domain.CourseEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Optional;
@@ -23,6 +21,8 @@ public interface ClassRepository {
 
     void deleteById(ClassEntityId idClass);
 
-    Page<ClassEntity> findAll(Specification<ClassEntity> classEntitySpecification, PageRequest pageRequest);
+    Slice<ClassEntity> findAll(Specification<ClassEntity> classEntitySpecification, PageClass pageClass);
+
+    long count(Specification<ClassEntity> classEntitySpecification);
 
 }
@@ -1,5 +1,7 @@
 package com.api.synco.module.class_entity.domain.service;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.application.dto.create.CreateClassRequest;
 import com.api.synco.module.class_entity.application.dto.create.CreateClassResponse;
 import com.api.synco.module.class_entity.application.dto.get.GetAllClassResponse;
@@ -13,11 +15,9 @@ import com.api.synco.module.class_entity.domain.filter.ClassFilter;
 import com.api.synco.module.class_entity.domain.filter.PageClass;
 import com.api.synco.module.class_entity.domain.mapper.ClassMapper;
 import com.api.synco.module.class_entity.domain.use_case.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public class ClassService {
 
@@ -39,24 +39,24 @@ public class ClassService {
     }
 
 
-    public CreateClassResponse create(CreateClassRequest createClassRequest, long idUser) {
-        ClassEntity classEntity = createClassUseCase.execute(createClassRequest, idUser);
+    public CreateClassResponse create(CreateClassRequest createClassRequest, AuthenticatedActor actor) {
+        ClassEntity classEntity = createClassUseCase.execute(createClassRequest, actor);
 
         return classMapper.toCreateResponse(classEntity);
     }
 
-    public UpdateClassResponse update(UpdateClassRequest updateClassRequest, long idCourse, int numberClass, long idUser){
+    public UpdateClassResponse update(UpdateClassRequest updateClassRequest, long idCourse, int numberClass, AuthenticatedActor actor){
         ClassEntityId classEntityId = new ClassEntityId(idCourse, numberClass);
 
-        ClassEntity classEntity = updateClassUseCase.execute(updateClassRequest, classEntityId, idUser);
+        ClassEntity classEntity = updateClassUseCase.execute(updateClassRequest, classEntityId, actor);
 
         return classMapper.toUpdateResponse(classEntity);
     }
 
-    public void delete(long idCourse, int numberClass, long idUser){
+    public void delete(long idCourse, int numberClass, AuthenticatedActor actor){
         ClassEntityId classEntityId = new ClassEntityId(idCourse, numberClass);
 
-        deleteClassUseCase.execute(classEntityId, idUser);
+        deleteClassUseCase.execute(classEntityId, actor);
     }
 
     public GetClassResponse get(long courseId, int numberClass){
@@ -67,12 +67,14 @@ public class ClassService {
         return classMapper.toGetResponse(classEntity);
     }
 
-    public List<GetAllClassResponse> getAll(
+    public CursorPage<GetAllClassResponse> getAll(
             long courseId,
             int numberClass,
             int pageNumber,
             int pageSize,
-            Shift shiftContains
+            Shift shiftContains,
+            String cursor,
+            boolean withTotal
     ){
 
         ClassEntityId classEntityId = new ClassEntityId(courseId, numberClass);
@@ -83,13 +85,12 @@ public class ClassService {
                 .setShiftContains(shiftContains)
                 .build();
 
-        PageClass pageClass = new PageClass(pageNumber, pageSize);
+        PageClass pageClass = PageClass.of(pageNumber, pageSize, cursor);
 
-        Page<ClassEntity> classEntities = getAllClassUseCase.execute(pageClass, classFilter);
+        Slice<ClassEntity> classEntities = getAllClassUseCase.execute(pageClass, classFilter, withTotal);
 
-        return classEntities.stream()
-                .map(classMapper::toGetAllResponse)
-                .toList();
+        return CursorPage.of(classEntities, PageClass::cursorOf)
+                .map(classMapper::toGetAllResponse);
     }
 
 
@@ -1,5 +1,6 @@
 package com.api.synco.module.class_entity.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.application.dto.create.CreateClassRequest;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
@@ -9,9 +10,6 @@ import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotFoundException;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -29,18 +27,15 @@ public class CreateClassUseCase {
 
     private final ClassRepository classRepository;
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
 
     public CreateClassUseCase(
             @Qualifier("classPermissionPolicy") PermissionPolicy permissionPolicy,
             ClassRepository classRepository,
-            CourseRepository courseRepository,
-            UserRepository userRepository
+            CourseRepository courseRepository
     ) {
         this.permissionPolicy = permissionPolicy;
         this.classRepository = classRepository;
         this.courseRepository = courseRepository;
-        this.userRepository = userRepository;
     }
 
     /**
@@ -50,20 +45,16 @@ public class CreateClassUseCase {
      *
      * @param createClassRequest The DTO (Data Transfer Object) containing the necessary data for class creation,
      * such as the Course ID, total hours, and shift.
-     * @param idUser The ID of the authenticated user attempting the creation operation.
+     * @param actor The authenticated user attempting the creation operation.
      *
      * @return The newly persisted {@link ClassEntity} object.
      *
-     * @throws UserNotFoundDomainException If the user with the provided {@code idUser} is not found.
      * @throws UserWithoutCreateClassPermissionException If the authenticated user's role lacks the permission to create classes.
      * @throws CourseNotFoundException If the course referenced by {@code createClassRequest.courseId()} is not found.
      */
     @Transactional
-    public ClassEntity execute(CreateClassRequest createClassRequest, long idUser){
-        UserEntity userEntity = userRepository.findById(idUser)
-                .orElseThrow( () -> new UserNotFoundDomainException(idUser));
-
-        if(!permissionPolicy.canCreate(userEntity.getRole())) throw new UserWithoutCreateClassPermissionException();
+    public ClassEntity execute(CreateClassRequest createClassRequest, AuthenticatedActor actor){
+        if(!permissionPolicy.canCreate(actor.role())) throw new UserWithoutCreateClassPermissionException();
 
         CourseEntity course = courseRepository.findById(createClassRequest.courseId())
                 .orElseThrow( () -> new CourseNotFoundException(createClassRequest.courseId()));
@@ -1,13 +1,12 @@
 package com.api.synco.module.class_entity.domain.use_case;
 
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.class_entity.domain.ClassEntity;
-import com.api.synco.module.class_entity.domain.enumerator.Shift;
 import com.api.synco.module.class_entity.domain.filter.ClassFilter;
 import com.api.synco.module.class_entity.domain.filter.ClassSearchProvider;
 import com.api.synco.module.class_entity.domain.filter.PageClass;
 import com.api.synco.module.class_entity.domain.port.ClassRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -15,21 +14,24 @@ import org.springframework.stereotype.Component;
 public class GetAllClassUseCase {
 
     private final ClassRepository classRepository;
+    private final ApproximateTotalCache approximateTotalCache;
 
-    public GetAllClassUseCase(ClassRepository classRepository) {
+    public GetAllClassUseCase(ClassRepository classRepository, ApproximateTotalCache approximateTotalCache) {
         this.classRepository = classRepository;
+        this.approximateTotalCache = approximateTotalCache;
     }
 
 
-    public Page<ClassEntity> execute(PageClass pageClass, ClassFilter classFilter){
+    public Slice<ClassEntity> execute(PageClass pageClass, ClassFilter classFilter, boolean withTotal){
         Specification<ClassEntity> classEntitySpecification = ClassSearchProvider.of(classFilter);
 
-        PageRequest pageRequest =  PageRequest.of(
-                pageClass.pageNumber(),
-                pageClass.pageSize()
-        );
+        Slice<ClassEntity> classEntities = classRepository.findAll(classEntitySpecification, pageClass);
 
-        return classRepository.findAll(classEntitySpecification, pageRequest);
+        if (!withTotal) {
+            return classEntities;
+        }
+
+        return approximateTotalCache.withTotal(classEntities, classFilter, () -> classRepository.count(classEntitySpecification));
     }
 
 }
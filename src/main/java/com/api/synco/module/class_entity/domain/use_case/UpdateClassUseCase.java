@@ -1,5 +1,7 @@
 package com.api.synco.module.class_entity.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.application.dto.update.UpdateClassRequest;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
@@ -8,9 +10,6 @@ import com.api.synco.module.class_entity.domain.exception.user.UserWithoutUpdate
 import com.api.synco.module.class_entity.domain.port.ClassRepository;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -27,17 +26,18 @@ public class UpdateClassUseCase {
     private final PermissionPolicy permissionPolicy;
 
     private final ClassRepository classRepository;
-    private final UserRepository userRepository;
+
+    private final ReferenceDataCache referenceDataCache;
 
     public UpdateClassUseCase(
             @Qualifier("classPermissionPolicy") PermissionPolicy permissionPolicy,
             ClassRepository classRepository,
             CourseRepository courseRepository,
-            UserRepository userRepository
+            ReferenceDataCache referenceDataCache
     ) {
         this.permissionPolicy = permissionPolicy;
         this.classRepository = classRepository;
-        this.userRepository = userRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     /**
@@ -46,20 +46,16 @@ public class UpdateClassUseCase {
      * @param updateClassRequest The DTO (Data Transfer Object) containing the necessary data for class update,
      * such as total hours, and shift.
      * @param classEntityId Class's id who will be updated
-     * @param idUser The ID of the authenticated user attempting the update operation.
+     * @param actor The authenticated user attempting the update operation.
      *
      * @return The newly persisted {@link ClassEntity} object.
      *
-     * @throws UserNotFoundDomainException If the user with the provided {@code idUser} is not found.
      * @throws UserWithoutUpdateClassPermissionException If the authenticated user's role lacks the permission to update classes.
      * @throws ClassNotFoundException If the class referenced by {@code classEntityId} is not found.
      */
     @Transactional
-    public ClassEntity execute(UpdateClassRequest updateClassRequest, ClassEntityId classEntityId, long idUser){
-        UserEntity userEntity = userRepository.findById(idUser)
-                .orElseThrow( () -> new UserNotFoundDomainException(idUser));
-
-        if(!permissionPolicy.canEdit(userEntity.getRole()))
+    public ClassEntity execute(UpdateClassRequest updateClassRequest, ClassEntityId classEntityId, AuthenticatedActor actor){
+        if(!permissionPolicy.canEdit(actor.role()))
             throw new UserWithoutUpdateClassPermissionException();
 
         ClassEntity classEntity = classRepository.findById(classEntityId)
@@ -71,6 +67,7 @@ public class UpdateClassUseCase {
         );
 
         classRepository.save(classEntity);
+        referenceDataCache.evict(ClassEntity.class, classEntityId);
 
         return classEntity;
     }
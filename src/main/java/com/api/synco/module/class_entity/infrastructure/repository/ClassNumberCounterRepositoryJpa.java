@@ -0,0 +1,29 @@
+package com.api.synco.module.class_entity.infrastructure.repository;
+
+import com.api.synco.module.class_entity.domain.ClassNumberCounterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ClassNumberCounterRepositoryJpa extends JpaRepository<ClassNumberCounterEntity, Long> {
+
+    @Modifying
+    @Query("""
+        UPDATE ClassNumberCounterEntity c
+        SET c.lastNumber = c.lastNumber + 1
+        WHERE c.courseId = :courseId
+    """)
+    int increment(long courseId);
+
+    @Query("""
+        SELECT c.lastNumber
+        FROM ClassNumberCounterEntity c
+        WHERE c.courseId = :courseId
+    """)
+    Optional<Integer> findLastNumber(long courseId);
+
+}
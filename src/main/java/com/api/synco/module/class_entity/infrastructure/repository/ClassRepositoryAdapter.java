@@ -1,23 +1,38 @@
 package com.api.synco.module.class_entity.infrastructure.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.ClassNumberCounterEntity;
+import com.api.synco.module.class_entity.domain.filter.PageClass;
 import com.api.synco.module.class_entity.domain.port.ClassRepository;
 import com.api.synco.module.course.domain.CourseEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public class ClassRepositoryAdapter implements ClassRepository {
 
+    private static final String[] KEY = {"id.courseId", "id.number"};
+
     private final ClassRepositoryJpa classRepositoryJpa;
+    private final ClassNumberCounterRepositoryJpa classNumberCounterRepositoryJpa;
+    private final EntityManager entityManager;
 
-    public ClassRepositoryAdapter(ClassRepositoryJpa classRepositoryJpa) {
+    public ClassRepositoryAdapter(
+            ClassRepositoryJpa classRepositoryJpa,
+            ClassNumberCounterRepositoryJpa classNumberCounterRepositoryJpa,
+            EntityManager entityManager
+    ) {
         this.classRepositoryJpa = classRepositoryJpa;
+        this.classNumberCounterRepositoryJpa = classNumberCounterRepositoryJpa;
+        this.entityManager = entityManager;
     }
 
 
@@ -26,9 +41,25 @@ public class ClassRepositoryAdapter implements ClassRepository {
         classRepositoryJpa.save(classEntity);
     }
 
+    // Joins the creating transaction, so a creation holds a single connection; the counter
+    // row of the course stays locked until it commits, and a rolled back creation frees its number
     @Override
+    @Transactional
     public int getNextNumberOfCourse(CourseEntity course) {
-        return classRepositoryJpa.getLastNumberOfCourse(course).orElse(1);
+        long courseId = course.getId();
+
+        if (classNumberCounterRepositoryJpa.increment(courseId) == 0) {
+            // The first allocation of a course locks the course row, so only one transaction creates its counter
+            entityManager.find(CourseEntity.class, courseId, LockModeType.PESSIMISTIC_WRITE);
+
+            if (classNumberCounterRepositoryJpa.increment(courseId) == 0) {
+                int number = classRepositoryJpa.getLastNumberOfCourse(courseId).orElse(0) + 1;
+                classNumberCounterRepositoryJpa.save(new ClassNumberCounterEntity(courseId, number));
+                return number;
+            }
+        }
+
+        return classNumberCounterRepositoryJpa.findLastNumber(courseId).orElseThrow();
     }
 
     @Override
@@ -47,7 +78,23 @@ public class ClassRepositoryAdapter implements ClassRepository {
     }
 
     @Override
-    public Page<ClassEntity> findAll(Specification<ClassEntity> classEntitySpecification, PageRequest pageRequest) {
-       return classRepositoryJpa.findAll(classEntitySpecification, pageRequest);
+    public Slice<ClassEntity> findAll(Specification<ClassEntity> classEntitySpecification, PageClass pageClass) {
+        Specification<ClassEntity> after = pageClass.afterId() != null
+                ? KeysetPagination.after(KEY, pageClass.afterId().getCourseId(), pageClass.afterId().getNumber())
+                : null;
+
+        return KeysetPagination.findSlice(
+                classRepositoryJpa,
+                classEntitySpecification,
+                after,
+                pageClass.pageNumber(),
+                pageClass.pageSize(),
+                KeysetPagination.keyOrder(KEY)
+        );
+    }
+
+    @Override
+    public long count(Specification<ClassEntity> classEntitySpecification) {
+        return classRepositoryJpa.count(classEntitySpecification);
     }
 }
@@ -2,10 +2,6 @@ package com.api.synco.module.class_entity.infrastructure.repository;
 
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.course.domain.CourseEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -17,12 +13,10 @@ import java.util.Optional;
 public interface ClassRepositoryJpa extends JpaRepository<ClassEntity, ClassEntityId>, JpaSpecificationExecutor<ClassEntity> {
 
     @Query("""
-        SELECT c.id.number
+        SELECT MAX(c.id.number)
         FROM ClassEntity c
-        WHERE c.course = :course
-        ORDER BY c.id.number DESC
-        LIMIT 1
+        WHERE c.id.courseId = :courseId
     """)
-    Optional<Integer> getLastNumberOfCourse(CourseEntity course);
+    Optional<Integer> getLastNumberOfCourse(long courseId);
 
 }
@@ -1,5 +1,7 @@
 package com.api.synco.module.class_user.application.controller;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.api.CustomApiResponse;
 import com.api.synco.module.class_user.application.dto.create.CreateClassUserRequest;
@@ -98,9 +100,9 @@ public class ClassUserController {
     public ResponseEntity<CustomApiResponse<CreateClassUserResponse>> create(
             @Valid @RequestBody CreateClassUserRequest createClassUserRequest
     ) {
-        long userId = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        CreateClassUserResponse response = classUserService.create(createClassUserRequest, userId);
+        CreateClassUserResponse response = classUserService.create(createClassUserRequest, actor);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -138,14 +140,14 @@ public class ClassUserController {
             @PathVariable long userId,
             @Valid @RequestBody UpdateClassUserRequest request
     ) {
-        long authenticatedUserId = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
         UpdateClassUserResponse response = classUserService.update(
                 request,
                 courseId,
                 classNumber,
                 userId,
-                authenticatedUserId
+                actor
         );
 
         return ResponseEntity
@@ -176,9 +178,9 @@ public class ClassUserController {
             @PathVariable int classNumber,
             @PathVariable long userId
     ) {
-        long authenticatedUserId = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        classUserService.delete(courseId, classNumber, userId, authenticatedUserId);
+        classUserService.delete(courseId, classNumber, userId, actor);
 
         return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
@@ -226,6 +228,8 @@ public class ClassUserController {
      * @param typeUserClass filter by user type (e.g. STUDENT, TEACHER) (optional)
      * @param pageNumber the page number to retrieve (0-based)
      * @param pageSize the number of records per page
+     * @param cursor the cursor of the previous page (optional)
+     * @param withTotal whether the approximate total is returned
      * @return a list of enrollments matching the criteria
      */
     @Operation(
@@ -257,18 +261,28 @@ public class ClassUserController {
             @RequestParam(defaultValue = "0") @Min(0) int pageNumber,
 
             @Parameter(description = "Page size")
-            @RequestParam(defaultValue = "10") @Min(1) int pageSize
+            @RequestParam(defaultValue = "10") @Min(1) int pageSize,
+
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page; replaces the page number")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Returns the approximate total in the X-Total-Count header")
+            @RequestParam(value = "total", defaultValue = "false") boolean withTotal
     ) {
-        List<GetAllClassUserResponse> listResponse = classUserService.getAll(
+        CursorPage<GetAllClassUserResponse> listResponse = classUserService.getAll(
                 userId,
                 courseId,
                 numberClass,
                 typeUserClass,
                 pageNumber,
-                pageSize
+                pageSize,
+                cursor,
+                withTotal
         );
 
         return ResponseEntity
-                .ok(CustomApiResponse.success(200, "Enrollments list retrieved", listResponse));
+                .ok()
+                .headers(listResponse.headers())
+                .body(CustomApiResponse.success(200, "Enrollments list retrieved", listResponse.content()));
     }
 }
\ No newline at end of file
@@ -31,11 +31,11 @@ public class ClassUser {
     @EmbeddedId
     private ClassUserId classUserId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("classEntityId")
     private ClassEntity classEntity;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId("userId")
     private UserEntity userEntity;
 
@@ -69,12 +69,12 @@ public class ClassUser {
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         ClassUser classUser = (ClassUser) o;
-        return Objects.equals(classUserId, classUser.classUserId) && Objects.equals(classEntity, classUser.classEntity) && Objects.equals(userEntity, classUser.userEntity) && typeUserClass == classUser.typeUserClass;
+        return Objects.equals(classUserId, classUser.classUserId) && typeUserClass == classUser.typeUserClass;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(classUserId, classEntity, userEntity, typeUserClass);
+        return Objects.hash(classUserId, typeUserClass);
     }
 
     /**
@@ -1,8 +1,14 @@
 package com.api.synco.module.class_user.domain.filter;
 
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
+
 public record PageClassUser(
         int pageNumber,
-        int pageSize
+        int pageSize,
+        ClassUserId afterId
 ) {
 
     private final static int MIN_PAGE_NUMBER = 0;
@@ -20,4 +26,30 @@ public record PageClassUser(
 
     }
 
+    public PageClassUser(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    public static PageClassUser of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return new PageClassUser(pageNumber, pageSize);
+        }
+
+        long[] key = PageCursor.decode(cursor, 3);
+
+        return new PageClassUser(
+                pageNumber,
+                pageSize,
+                new ClassUserId(key[0], new ClassEntityId(key[1], (int) key[2]))
+        );
+    }
+
+    public static String cursorOf(ClassUserSummary classUser) {
+        return PageCursor.encode(
+                classUser.userId(),
+                classUser.courseId(),
+                classUser.classNumber()
+        );
+    }
+
 }
@@ -10,6 +10,7 @@ import com.api.synco.module.class_user.application.dto.update.UpdateClassUserReq
 import com.api.synco.module.class_user.application.dto.update.UpdateClassUserResponse;
 import com.api.synco.module.class_user.domain.ClassUser;
 import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -22,10 +23,13 @@ public class ClassUserMapper {
         );
     }
 
-    public GetAllClassUserResponse toGetAllResponse(ClassUser classUser){
+    public GetAllClassUserResponse toGetAllResponse(ClassUserSummary classUser){
         return new GetAllClassUserResponse(
-                toIdResponse(classUser.getClassUserId()),
-                classUser.getTypeUserClass()
+                new ClassUserIdResponse(
+                        new ClassIdResponse(classUser.courseId(), classUser.classNumber()),
+                        classUser.userId()
+                ),
+                classUser.typeUserClass()
         );
     }
 
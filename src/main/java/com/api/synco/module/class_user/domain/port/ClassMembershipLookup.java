@@ -0,0 +1,43 @@
+package com.api.synco.module.class_user.domain.port;
+
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers "what is this user in this class?" for permission checks.
+ *
+ * <p>Lookups read only the type of the user in the class and the role of the
+ * user, without loading the {@code ClassUser}, {@code UserEntity} or
+ * {@code ClassEntity} graph. Results are memoized for the current request,
+ * so repeated checks of the same member do not reach the database again.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see ClassMembership
+ */
+public interface ClassMembershipLookup {
+
+    /**
+     * Finds the membership of one user in a class.
+     *
+     * @param classEntityId the class identifier
+     * @param userId the user identifier
+     * @return the membership, or empty if the user is not linked to the class
+     */
+    Optional<ClassMembership> find(ClassEntityId classEntityId, long userId);
+
+    /**
+     * Finds the memberships of several users in a class with a single query.
+     *
+     * @param classEntityId the class identifier
+     * @param userIds the user identifiers
+     * @return the memberships by user identifier, without the users not linked to the class
+     */
+    Map<Long, ClassMembership> findAll(ClassEntityId classEntityId, Collection<Long> userIds);
+
+}
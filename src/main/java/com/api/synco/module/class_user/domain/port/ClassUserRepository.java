@@ -2,8 +2,9 @@ package com.api.synco.module.class_user.domain.port;
 
 import com.api.synco.module.class_user.domain.ClassUser;
 import com.api.synco.module.class_user.domain.ClassUserId;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import com.api.synco.module.class_user.domain.filter.PageClassUser;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Optional;
@@ -17,5 +18,7 @@ public interface ClassUserRepository {
 
     Optional<ClassUser> findById(ClassUserId classUserId);
 
-    Page<ClassUser> findAll(Specification<ClassUser> classUserSpecification, PageRequest pageRequest);
+    Slice<ClassUserSummary> findAll(Specification<ClassUser> classUserSpecification, PageClassUser pageClassUser);
+
+    long count(Specification<ClassUser> classUserSpecification);
 }
@@ -0,0 +1,11 @@
+package com.api.synco.module.class_user.domain.projection;
+
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+
+public record ClassMembership(
+        long userId,
+        TypeUserClass typeUserClass,
+        RoleUser roleUser
+) {
+}
@@ -0,0 +1,11 @@
+package com.api.synco.module.class_user.domain.projection;
+
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+
+public record ClassUserSummary(
+        long userId,
+        long courseId,
+        int classNumber,
+        TypeUserClass typeUserClass
+) {
+}
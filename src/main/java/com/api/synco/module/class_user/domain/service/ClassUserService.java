@@ -1,5 +1,7 @@
 package com.api.synco.module.class_user.domain.service;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.class_user.application.dto.create.CreateClassUserRequest;
 import com.api.synco.module.class_user.application.dto.create.CreateClassUserResponse;
@@ -13,12 +15,11 @@ import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
 import com.api.synco.module.class_user.domain.filter.ClassUserFilter;
 import com.api.synco.module.class_user.domain.filter.PageClassUser;
 import com.api.synco.module.class_user.domain.mapper.ClassUserMapper;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
 import com.api.synco.module.class_user.domain.use_cases.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public class ClassUserService {
 
@@ -39,25 +40,25 @@ public class ClassUserService {
         this.getAllClassUserUseCase = getAllClassUserUseCase;
     }
 
-    public CreateClassUserResponse create(CreateClassUserRequest createClassUserRequest, long idUser){
-        ClassUser classUser = createClassUserUseCase.execute(createClassUserRequest, idUser);
+    public CreateClassUserResponse create(CreateClassUserRequest createClassUserRequest, AuthenticatedActor actor){
+        ClassUser classUser = createClassUserUseCase.execute(createClassUserRequest, actor);
 
         return classUserMapper.toCreateResponse(classUser);
     }
 
-    public UpdateClassUserResponse update(UpdateClassUserRequest updateClassUserRequest, long idCourse, int classNumber, long idUser, long userIdAuthenticated){
+    public UpdateClassUserResponse update(UpdateClassUserRequest updateClassUserRequest, long idCourse, int classNumber, long idUser, AuthenticatedActor actor){
         ClassUserId classUserId = new ClassUserId(idUser, new ClassEntityId(idCourse, classNumber));
 
-        ClassUser classUser = updateClassUserUseCase.execute(updateClassUserRequest, classUserId, userIdAuthenticated);
+        ClassUser classUser = updateClassUserUseCase.execute(updateClassUserRequest, classUserId, actor);
 
         return classUserMapper.toUpdateResponse(classUser);
     }
 
-    public void delete(long idCourse, int classNumber, long idUser, long userAuthenticatedId){
+    public void delete(long idCourse, int classNumber, long idUser, AuthenticatedActor actor){
         ClassEntityId classEntityId = new ClassEntityId(idCourse, classNumber);
         ClassUserId classUserId = new ClassUserId(idUser, classEntityId);
 
-        deleteClassUserUseCase.execute(classUserId, userAuthenticatedId);
+        deleteClassUserUseCase.execute(classUserId, actor);
     }
 
     public GetClassUserResponse get(long idCourse, int classNumber, long idUser){
@@ -69,13 +70,15 @@ public class ClassUserService {
         return classUserMapper.toGetResponse(classUser);
     }
 
-    public List<GetAllClassUserResponse> getAll(
+    public CursorPage<GetAllClassUserResponse> getAll(
         long userId,
         long courseId,
         int numberClass,
         TypeUserClass typeUserClass,
         int pageNumber,
-        int pageSize
+        int pageSize,
+        String cursor,
+        boolean withTotal
     ){
         ClassEntityId classEntityId = new ClassEntityId(courseId, numberClass);
         ClassUserId classUserId = new ClassUserId(userId, classEntityId);
@@ -86,13 +89,12 @@ public class ClassUserService {
                 .setTypeUserClassContains(typeUserClass)
                 .build();
 
-        PageClassUser pageClassUser = new PageClassUser(pageNumber,pageSize);
+        PageClassUser pageClassUser = PageClassUser.of(pageNumber, pageSize, cursor);
 
-        Page<ClassUser> classUsers = getAllClassUserUseCase.execute(classUserFilter, pageClassUser);
+        Slice<ClassUserSummary> classUsers = getAllClassUserUseCase.execute(classUserFilter, pageClassUser, withTotal);
 
-        return classUsers.stream()
-                .map(classUserMapper::toGetAllResponse)
-                .toList();
+        return CursorPage.of(classUsers, PageClassUser::cursorOf)
+                .map(classUserMapper::toGetAllResponse);
     }
 
 }
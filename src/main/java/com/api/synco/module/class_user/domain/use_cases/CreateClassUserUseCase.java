@@ -1,5 +1,6 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.class_entity.domain.exception.ClassNotFoundException;
@@ -40,11 +41,8 @@ public class CreateClassUserUseCase {
     }
 
     @Transactional
-    public ClassUser execute(CreateClassUserRequest createClassUserRequest, long idUser){
-        UserEntity userAuthenticated = userRepository.findById(idUser)
-                .orElseThrow( () -> new UserNotFoundDomainException(idUser));
-
-        if(!permissionPolicy.canCreate(userAuthenticated.getRole())){
+    public ClassUser execute(CreateClassUserRequest createClassUserRequest, AuthenticatedActor actor){
+        if(!permissionPolicy.canCreate(actor.role())){
             throw new UserWithoutCreateClassUserPermissionException();
         }
 
@@ -1,14 +1,11 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
-import com.api.synco.module.class_entity.domain.port.ClassRepository;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
 import com.api.synco.module.class_user.domain.exception.user.UserWithoutCreateClassUserPermissionException;
 import com.api.synco.module.class_user.domain.port.ClassUserRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,26 +14,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteClassUserUseCase {
 
     private final ClassUserRepository classUserRepository;
-    private final UserRepository userRepository;
 
     private final PermissionPolicy permissionPolicy;
 
     public DeleteClassUserUseCase(
             ClassUserRepository classUserRepository,
-            UserRepository userRepository,
             @Qualifier("classUserPermissionPolicy") PermissionPolicy permissionPolicy
     ) {
         this.classUserRepository = classUserRepository;
-        this.userRepository = userRepository;
         this.permissionPolicy = permissionPolicy;
     }
 
     @Transactional
-    public void execute(ClassUserId classUserId, long idUser) {
-        UserEntity userAuthenticated = userRepository.findById(idUser)
-                .orElseThrow(() -> new UserNotFoundDomainException(idUser));
-
-        if (!permissionPolicy.canDelete(userAuthenticated.getRole())) {
+    public void execute(ClassUserId classUserId, AuthenticatedActor actor) {
+        if (!permissionPolicy.canDelete(actor.role())) {
             throw new UserWithoutCreateClassUserPermissionException();
         }
 
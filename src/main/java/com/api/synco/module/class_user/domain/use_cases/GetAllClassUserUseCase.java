@@ -1,12 +1,13 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.class_user.domain.ClassUser;
 import com.api.synco.module.class_user.domain.filter.ClassUserFilter;
 import com.api.synco.module.class_user.domain.filter.ClassUserSearchProvider;
 import com.api.synco.module.class_user.domain.filter.PageClassUser;
 import com.api.synco.module.class_user.domain.port.ClassUserRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,24 +16,27 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetAllClassUserUseCase {
 
     private final ClassUserRepository classUserRepository;
+    private final ApproximateTotalCache approximateTotalCache;
 
-    public GetAllClassUserUseCase(ClassUserRepository classUserRepository) {
+    public GetAllClassUserUseCase(ClassUserRepository classUserRepository, ApproximateTotalCache approximateTotalCache) {
         this.classUserRepository = classUserRepository;
+        this.approximateTotalCache = approximateTotalCache;
     }
 
     @Transactional(readOnly = true)
-    public Page<ClassUser> execute(ClassUserFilter classUserFilter, PageClassUser pageClassUser){
+    public Slice<ClassUserSummary> execute(ClassUserFilter classUserFilter, PageClassUser pageClassUser, boolean withTotal){
         Specification<ClassUser> classUserSpecification = ClassUserSearchProvider.of(classUserFilter);
 
-        PageRequest pageRequest = PageRequest.of(
-                pageClassUser.pageNumber(),
-                pageClassUser.pageSize()
-        );
-
-        return classUserRepository.findAll(
+        Slice<ClassUserSummary> classUsers = classUserRepository.findAll(
                 classUserSpecification,
-                pageRequest
+                pageClassUser
         );
+
+        if (!withTotal) {
+            return classUsers;
+        }
+
+        return approximateTotalCache.withTotal(classUsers, classUserFilter, () -> classUserRepository.count(classUserSpecification));
     }
 
 }
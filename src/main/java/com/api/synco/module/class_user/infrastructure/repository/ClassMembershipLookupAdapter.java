@@ -0,0 +1,76 @@
+package com.api.synco.module.class_user.infrastructure.repository;
+
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class ClassMembershipLookupAdapter implements ClassMembershipLookup {
+
+    private static final String MEMO_ATTRIBUTE = ClassMembershipLookupAdapter.class.getName() + ".memo";
+
+    private final ClassUserRepositoryJpa classUserRepositoryJpa;
+
+    public ClassMembershipLookupAdapter(ClassUserRepositoryJpa classUserRepositoryJpa) {
+        this.classUserRepositoryJpa = classUserRepositoryJpa;
+    }
+
+    @Override
+    public Optional<ClassMembership> find(ClassEntityId classEntityId, long userId) {
+        return Optional.ofNullable(findAll(classEntityId, List.of(userId)).get(userId));
+    }
+
+    @Override
+    public Map<Long, ClassMembership> findAll(ClassEntityId classEntityId, Collection<Long> userIds) {
+        Map<ClassUserId, ClassMembership> memo = memo();
+
+        List<Long> missing = userIds.stream()
+                .distinct()
+                .filter(userId -> !memo.containsKey(new ClassUserId(userId, classEntityId)))
+                .toList();
+
+        if (!missing.isEmpty()) {
+            // Users not linked to the class are memoized as null so they are not looked up again
+            missing.forEach(userId -> memo.put(new ClassUserId(userId, classEntityId), null));
+
+            classUserRepositoryJpa.findMemberships(classEntityId, missing)
+                    .forEach(membership -> memo.put(new ClassUserId(membership.userId(), classEntityId), membership));
+        }
+
+        Map<Long, ClassMembership> memberships = new HashMap<>();
+        for (Long userId : userIds) {
+            ClassMembership membership = memo.get(new ClassUserId(userId, classEntityId));
+            if (membership != null) {
+                memberships.put(userId, membership);
+            }
+        }
+        return memberships;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<ClassUserId, ClassMembership> memo() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return new HashMap<>();
+        }
+
+        Object memo = requestAttributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<ClassUserId, ClassMembership>();
+            requestAttributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<ClassUserId, ClassMembership>) memo;
+    }
+
+}
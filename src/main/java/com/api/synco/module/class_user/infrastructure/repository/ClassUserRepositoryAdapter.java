@@ -1,10 +1,14 @@
 package com.api.synco.module.class_user.infrastructure.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
 import com.api.synco.module.class_user.domain.ClassUser;
 import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.filter.PageClassUser;
 import com.api.synco.module.class_user.domain.port.ClassUserRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
@@ -13,10 +17,19 @@ import java.util.Optional;
 @Repository
 public class ClassUserRepositoryAdapter implements ClassUserRepository {
 
+    private static final String[] KEY = {
+            "classUserId.userId",
+            "classUserId.classEntityId.courseId",
+            "classUserId.classEntityId.number"
+    };
+
     private final ClassUserRepositoryJpa classUserRepositoryJpa;
 
-    public ClassUserRepositoryAdapter(ClassUserRepositoryJpa classUserRepositoryJpa) {
+    private final EntityManager entityManager;
+
+    public ClassUserRepositoryAdapter(ClassUserRepositoryJpa classUserRepositoryJpa, EntityManager entityManager) {
         this.classUserRepositoryJpa = classUserRepositoryJpa;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -40,8 +53,39 @@ public class ClassUserRepositoryAdapter implements ClassUserRepository {
     }
 
     @Override
-    public Page<ClassUser> findAll(Specification<ClassUser> classUserSpecification, PageRequest pageRequest) {
-        return classUserRepositoryJpa.findAll(classUserSpecification, pageRequest);
+    public Slice<ClassUserSummary> findAll(Specification<ClassUser> classUserSpecification, PageClassUser pageClassUser) {
+        ClassUserId afterId = pageClassUser.afterId();
+
+        Specification<ClassUser> after = afterId != null
+                ? KeysetPagination.after(
+                        KEY,
+                        afterId.getUserId(),
+                        afterId.getClassEntityId().getCourseId(),
+                        afterId.getClassEntityId().getNumber()
+                )
+                : null;
+
+        return KeysetPagination.findProjectedSlice(
+                entityManager,
+                ClassUser.class,
+                ClassUserSummary.class,
+                root -> new Selection<?>[]{
+                        root.get("classUserId").get("userId"),
+                        root.get("classUserId").get("classEntityId").get("courseId"),
+                        root.get("classUserId").get("classEntityId").get("number"),
+                        root.get("typeUserClass")
+                },
+                classUserSpecification,
+                after,
+                pageClassUser.pageNumber(),
+                pageClassUser.pageSize(),
+                KEY
+        );
+    }
+
+    @Override
+    public long count(Specification<ClassUser> classUserSpecification) {
+        return classUserRepositoryJpa.count(classUserSpecification);
     }
 
 }
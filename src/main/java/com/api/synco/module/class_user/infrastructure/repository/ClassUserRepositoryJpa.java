@@ -1,11 +1,33 @@
 package com.api.synco.module.class_user.infrastructure.repository;
 
+import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.class_user.domain.ClassUser;
 import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ClassUserRepositoryJpa extends JpaRepository<ClassUser, ClassUserId>, JpaSpecificationExecutor<ClassUser> {
+
+    @Query("""
+        SELECT new com.api.synco.module.class_user.domain.projection.ClassMembership(
+            cu.classUserId.userId, cu.typeUserClass, u.role
+        )
+        FROM ClassUser cu
+        JOIN cu.userEntity u
+        WHERE cu.classUserId.classEntityId = :classEntityId
+        AND cu.classUserId.userId IN :userIds
+        """)
+    List<ClassMembership> findMemberships(
+            @Param("classEntityId") ClassEntityId classEntityId,
+            @Param("userIds") Collection<Long> userIds
+    );
+
 }
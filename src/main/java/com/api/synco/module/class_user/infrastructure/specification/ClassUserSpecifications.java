@@ -3,8 +3,13 @@ package com.api.synco.module.class_user.infrastructure.specification;
 import com.api.synco.module.class_user.domain.ClassUser;
 import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ClassUserSpecifications {
 
     /**
@@ -20,14 +25,29 @@ public class ClassUserSpecifications {
     }
 
     /**
-     * Filtra pela igualdade exata do ID Composto completo.
+     * Filtra pelas partes informadas (maiores que zero) do ID Composto.
+     * Útil para buscar "todos os usuários de uma turma específica".
      */
     public static Specification<ClassUser> classUserIdContains(ClassUserId classUserId) {
         return (root, query, builder) -> {
             if (classUserId == null) {
                 return null;
             }
-            return builder.equal(root.get("id"), classUserId);
+
+            List<Predicate> predicates = new ArrayList<>();
+            Path<Object> classEntityId = root.get("classUserId").get("classEntityId");
+
+            if (classUserId.getUserId() > 0) {
+                predicates.add(builder.equal(root.get("classUserId").get("userId"), classUserId.getUserId()));
+            }
+            if (classUserId.getClassEntityId().getCourseId() > 0) {
+                predicates.add(builder.equal(classEntityId.get("courseId"), classUserId.getClassEntityId().getCourseId()));
+            }
+            if (classUserId.getClassEntityId().getNumber() > 0) {
+                predicates.add(builder.equal(classEntityId.get("number"), classUserId.getClassEntityId().getNumber()));
+            }
+
+            return builder.and(predicates.toArray(new Predicate[0]));
         };
     }
 
@@ -37,7 +57,10 @@ public class ClassUserSpecifications {
      */
     public static Specification<ClassUser> userIdContains(long userId) {
         return (root, query, builder) -> {
-            return builder.equal(root.get("id").get("userId"), userId);
+            if (userId <= 0) {
+                return null;
+            }
+            return builder.equal(root.get("classUserId").get("userId"), userId);
         };
     }
 }
\ No newline at end of file
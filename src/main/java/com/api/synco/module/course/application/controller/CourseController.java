@@ -1,5 +1,6 @@
 package com.api.synco.module.course.application.controller;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.api.CustomApiResponse;
 import com.api.synco.module.course.application.dto.create.CreateCourseRequest;
@@ -108,9 +109,9 @@ public class CourseController {
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<CustomApiResponse<CreateCourseResponse>> create(@RequestBody @Valid CreateCourseRequest createCourseRequest){
-        long idUser = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        var response = courseService.create(createCourseRequest, idUser);
+        var response = courseService.create(createCourseRequest, actor);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(CustomApiResponse.success(201, "The course is created success", response));
     }
@@ -151,9 +152,9 @@ public class CourseController {
     public ResponseEntity<CustomApiResponse<Void>> delete(@PathVariable long id){
         DeleteCourseRequest request = new DeleteCourseRequest(id);
 
-        long idUserAuthenticated = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        courseService.delete(request, idUserAuthenticated);
+        courseService.delete(request, actor);
 
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(CustomApiResponse.success(202, "The course is deleted success"));
     }
@@ -200,9 +201,9 @@ public class CourseController {
             @Valid @RequestBody UpdateCourseRequest updateCourseRequest,
             @PathVariable long id){
 
-        long idUser = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        var response = courseService.update(updateCourseRequest, id, idUser);
+        var response = courseService.update(updateCourseRequest, id, actor);
 
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(CustomApiResponse.success(202, "THe course is updated success", response));
     }
@@ -214,6 +215,8 @@ public class CourseController {
      * @param acronym filter by acronym containing this value (optional)
      * @param pageNumber the page number to retrieve (0-based)
      * @param pageSize the number of courses per page
+     * @param cursor the cursor of the previous page (optional)
+     * @param withTotal whether the approximate total is returned in the X-Total-Count header
      * @return a list of courses matching the criteria
      */
     @Operation(
@@ -240,11 +243,19 @@ public class CourseController {
             int pageNumber,
             @RequestParam(value = "size", defaultValue = "10")
             @Parameter(description = "Page size (max. 50, default 10)")
-            int pageSize
+            int pageSize,
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page; replaces the page number")
+            String cursor,
+            @RequestParam(value = "total", defaultValue = "false")
+            @Parameter(description = "Returns the approximate total in the X-Total-Count header")
+            boolean withTotal
     ){
-        var listResponse = courseService.getAll(name, acronym, pageNumber, pageSize);
+        var listResponse = courseService.getAll(name, acronym, pageNumber, pageSize, cursor, withTotal);
 
-        return ResponseEntity.ok(CustomApiResponse.success(200, "Get all courses.", listResponse));
+        return ResponseEntity.ok()
+                .headers(listResponse.headers())
+                .body(CustomApiResponse.success(200, "Get all courses.", listResponse.content()));
 
     }
 
@@ -1,10 +1,13 @@
 package com.api.synco.module.course.domain;
 
+import com.api.synco.core.persistence.IdGenerators;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.course.domain.exception.acronym.CourseAcronymBlankException;
 import com.api.synco.module.course.domain.exception.name.CourseNameBlankException;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -20,10 +23,20 @@ import java.util.List;
  * @see ClassEntity
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.course")
 public class CourseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "course_id")
+    @TableGenerator(
+            name = "course_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "course",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private long id;
 
     private String name;
@@ -24,7 +24,7 @@ public record CourseFilter(String name, String acronym) {
             return this;
         }
 
-        public Builder setAcronymContains(String emailContains) {
+        public Builder setAcronymContains(String acronymContains) {
             this.acronymContains = acronymContains;
             return this;
         }
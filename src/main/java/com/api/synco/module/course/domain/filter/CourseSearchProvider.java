@@ -1,16 +1,46 @@
 package com.api.synco.module.course.domain.filter;
 
+import com.api.synco.core.search.SearchIndex;
 import com.api.synco.module.course.infrastructure.specification.CourseSpecifications;
 import com.api.synco.module.course.domain.CourseEntity;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 
+@Component
 public class CourseSearchProvider {
 
+    public static final String NAME_FIELD = "course.name";
+    public static final String ACRONYM_FIELD = "course.acronym";
 
-    public static Specification<CourseEntity> of(CourseFilter courseFilter){
+    private final SearchIndex searchIndex;
+
+    public CourseSearchProvider(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        searchIndex.rebuildIfEmpty(NAME_FIELD, CourseEntity.class, CourseEntity::getId, CourseEntity::getName);
+        searchIndex.rebuildIfEmpty(ACRONYM_FIELD, CourseEntity.class, CourseEntity::getId, CourseEntity::getAcronym);
+    }
+
+    public Specification<CourseEntity> create(CourseFilter courseFilter){
         return CourseSpecifications.nameContains(courseFilter.name())
-                .and(CourseSpecifications.acronymContains(courseFilter.acronym()));
+                .and(searchIndex.contains(NAME_FIELD, courseFilter.name()))
+                .and(CourseSpecifications.acronymContains(courseFilter.acronym()))
+                .and(searchIndex.contains(ACRONYM_FIELD, courseFilter.acronym()));
+    }
+
+    public void index(CourseEntity course) {
+        searchIndex.index(NAME_FIELD, course.getId(), course.getName());
+        searchIndex.index(ACRONYM_FIELD, course.getId(), course.getAcronym());
     }
 
+    public void remove(long id) {
+        searchIndex.remove(NAME_FIELD, id);
+        searchIndex.remove(ACRONYM_FIELD, id);
+    }
 
 }
@@ -1,8 +1,12 @@
 package com.api.synco.module.course.domain.filter;
 
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.course.domain.CourseEntity;
+
 public record PageCourse(
         int pageNumber,
-        int pageSize
+        int pageSize,
+        Long afterId
 ) {
 
     private final static int MIN_PAGE_NUMBER = 0;
@@ -20,4 +24,20 @@ public record PageCourse(
 
     }
 
+    public PageCourse(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    public static PageCourse of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return new PageCourse(pageNumber, pageSize);
+        }
+
+        return new PageCourse(pageNumber, pageSize, PageCursor.decode(cursor, 1)[0]);
+    }
+
+    public static String cursorOf(CourseEntity course) {
+        return PageCursor.encode(course.getId());
+    }
+
 }
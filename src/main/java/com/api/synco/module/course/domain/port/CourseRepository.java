@@ -2,7 +2,7 @@ package com.api.synco.module.course.domain.port;
 
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.filter.PageCourse;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Optional;
@@ -18,5 +18,7 @@ public interface CourseRepository {
 
     Optional<CourseEntity> findById(long id);
 
-    Page<CourseEntity> findAll(Specification<CourseEntity> search, PageCourse pageCourse);
+    Slice<CourseEntity> findAll(Specification<CourseEntity> search, PageCourse pageCourse);
+
+    long count(Specification<CourseEntity> search);
 }
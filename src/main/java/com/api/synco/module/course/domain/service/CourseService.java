@@ -1,5 +1,7 @@
 package com.api.synco.module.course.domain.service;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.create.CreateCourseRequest;
 import com.api.synco.module.course.application.dto.create.CreateCourseResponse;
 import com.api.synco.module.course.application.dto.delete.DeleteCourseRequest;
@@ -8,12 +10,11 @@ import com.api.synco.module.course.application.dto.get.GetCourseResponse;
 import com.api.synco.module.course.application.dto.update.UpdateCourseRequest;
 import com.api.synco.module.course.application.dto.update.UpdateCourseResponse;
 import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.course.domain.filter.PageCourse;
 import com.api.synco.module.course.domain.mapper.CourseMapper;
 import com.api.synco.module.course.domain.use_cases.*;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 /**
  * Domain service for course management operations.
  *
@@ -69,11 +70,11 @@ public class CourseService {
      * Creates a new course in the system.
      *
      * @param createCourseRequest the request containing course data
-     * @param idUser the ID of the authenticated user performing the creation
+     * @param actor the authenticated user performing the creation
      * @return the created course data
      */
-    public CreateCourseResponse create(CreateCourseRequest createCourseRequest, long idUser) {
-        var course = createCourseUseCase.execute(createCourseRequest, idUser);
+    public CreateCourseResponse create(CreateCourseRequest createCourseRequest, AuthenticatedActor actor) {
+        var course = createCourseUseCase.execute(createCourseRequest, actor);
 
         return courseMapper.toCreateResponse(course);
     }
@@ -82,10 +83,10 @@ public class CourseService {
      * Deletes a course from the system.
      *
      * @param deleteCourseRequest the request containing the course ID to delete
-     * @param idUser the ID of the authenticated user performing the deletion
+     * @param actor the authenticated user performing the deletion
      */
-    public void delete(DeleteCourseRequest deleteCourseRequest, long idUser){
-        deleteCourseUseCase.execute(deleteCourseRequest, idUser);
+    public void delete(DeleteCourseRequest deleteCourseRequest, AuthenticatedActor actor){
+        deleteCourseUseCase.execute(deleteCourseRequest, actor);
     }
 
     /**
@@ -93,11 +94,11 @@ public class CourseService {
      *
      * @param updateCourseRequest the request containing updated course data
      * @param idCourse the ID of the course to update
-     * @param idUser the ID of the authenticated user performing the update
+     * @param actor the authenticated user performing the update
      * @return the updated course data
      */
-    public UpdateCourseResponse update(UpdateCourseRequest updateCourseRequest, long idCourse, long idUser){
-        CourseEntity course = updateCourseUseCase.execute(updateCourseRequest, idCourse, idUser);
+    public UpdateCourseResponse update(UpdateCourseRequest updateCourseRequest, long idCourse, AuthenticatedActor actor){
+        CourseEntity course = updateCourseUseCase.execute(updateCourseRequest, idCourse, actor);
         return courseMapper.toUpdateResponse(course);
     }
 
@@ -121,25 +122,30 @@ public class CourseService {
      * @param acronym filter by acronym containing this value (optional)
      * @param pageNumber the page number to retrieve (0-based)
      * @param pageSize the number of courses per page
-     * @return a list of courses matching the criteria
+     * @param cursor the cursor of the previous page, or {@code null} for offset pagination
+     * @param withTotal whether the approximate total of the filter is returned
+     * @return the courses matching the criteria and the cursor of the next page
      */
-    public List<GetAllCourseResponse> getAll(
+    public CursorPage<GetAllCourseResponse> getAll(
             String name,
             String acronym,
             int pageNumber,
-            int pageSize
+            int pageSize,
+            String cursor,
+            boolean withTotal
     ){
 
         var listUsers = getAllCourseUseCase.execute(
                 name,
                 acronym,
                 pageNumber,
-                pageSize
+                pageSize,
+                cursor,
+                withTotal
         );
 
-        return listUsers.stream()
-                .map(courseMapper::toGetAllResponse)
-                .toList();
+        return CursorPage.of(listUsers, PageCourse::cursorOf)
+                .map(courseMapper::toGetAllResponse);
 
     }
 
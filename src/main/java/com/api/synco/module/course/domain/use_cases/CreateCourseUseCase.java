@@ -1,31 +1,33 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.create.CreateCourseRequest;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotUniqueException;
 import com.api.synco.module.course.domain.exception.UserWithoutCreateCoursePermissionException;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class CreateCourseUseCase {
 
     private final PermissionPolicy permissionPolicy;
 
-    private final UserRepository userRepository;
     private final CourseRepository courseRepository;
 
+    private final CourseSearchProvider courseSearchProvider;
+
     public CreateCourseUseCase(@Qualifier("coursePermissionPolicy") PermissionPolicy permissionPolicy,
-                               UserRepository userRepository,
-                               CourseRepository courseRepository
+                               CourseRepository courseRepository,
+                               CourseSearchProvider courseSearchProvider
     ) {
         this.permissionPolicy = permissionPolicy;
-        this.userRepository = userRepository;
         this.courseRepository = courseRepository;
+        this.courseSearchProvider = courseSearchProvider;
     }
 
     /**
@@ -34,7 +36,6 @@ public class CreateCourseUseCase {
      * <p>
      * The method performs in the following steps:
      * <ol>
-     * <li>Find the user by {@code idUser}</li>
      * <li>Valid the user permission</li>
      * <li>Create the course entity</li>
      * <li>Verify if the course is unique</li>
@@ -42,17 +43,15 @@ public class CreateCourseUseCase {
      * </ol>
      *
      * @param createCourseRequest Request containg the data for create a new course
-     * @param idUser              The id of User who wants to create a course
+     * @param actor               The authenticated user who wants to create a course
      * @return The created and persisted {@link CourseEntity}, including its generated ID.
-     * @throws UserNotFoundDomainException                If the user is not found
      * @throws UserWithoutCreateCoursePermissionException If the user don't have permission to create the course
      * @throws CourseNotUniqueException                   If the database alrealdy have a course with the same name or acronym
      */
 
-    public CourseEntity execute(CreateCourseRequest createCourseRequest, long idUser) {
-        var user = userRepository.findById(idUser).orElseThrow(() -> new UserNotFoundDomainException(idUser));
-
-        if (!permissionPolicy.canCreate(user.getRole())) throw new UserWithoutCreateCoursePermissionException();
+    @Transactional
+    public CourseEntity execute(CreateCourseRequest createCourseRequest, AuthenticatedActor actor) {
+        if (!permissionPolicy.canCreate(actor.role())) throw new UserWithoutCreateCoursePermissionException();
 
         CourseEntity course = new CourseEntity(
                 createCourseRequest.name(),
@@ -65,6 +64,7 @@ public class CreateCourseUseCase {
         }
 
         courseRepository.save(course);
+        courseSearchProvider.index(course);
 
         return course;
     }
@@ -1,14 +1,17 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.delete.DeleteCourseRequest;
+import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotFoundException;
 import com.api.synco.module.course.domain.exception.UserWithoutDeleteCoursePermissionException;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DeleteCourseUseCase {
@@ -16,16 +19,21 @@ public class DeleteCourseUseCase {
     private final PermissionPolicy permissionPolicy;
 
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final CourseSearchProvider courseSearchProvider;
 
     public DeleteCourseUseCase(
             @Qualifier("coursePermissionPolicy") PermissionPolicy permissionPolicy,
             CourseRepository courseRepository,
-            UserRepository userRepository
+            ReferenceDataCache referenceDataCache,
+            CourseSearchProvider courseSearchProvider
     ) {
         this.permissionPolicy = permissionPolicy;
         this.courseRepository = courseRepository;
-        this.userRepository = userRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.courseSearchProvider = courseSearchProvider;
     }
 
     /**
@@ -34,22 +42,22 @@ public class DeleteCourseUseCase {
      * <p>
      * The method performs in the following steps:
      * <ol>
-     * <li>Find the user by {@code idUser}</li>
      * <li>Valid the user permission</li>
      * <li>Verify if the course exists</li>
      * </ol>
      *
      * @param deleteCourseRequest Record with date of the request
-     * @param idUser The id of the user authenticated
+     * @param actor The authenticated user
      */
-    public void execute(DeleteCourseRequest deleteCourseRequest, long idUser){
-        var user = userRepository.findById(idUser).orElseThrow(() -> new UserNotFoundDomainException(idUser));
-
-        if (!permissionPolicy.canDelete(user.getRole())) throw new UserWithoutDeleteCoursePermissionException();
+    @Transactional
+    public void execute(DeleteCourseRequest deleteCourseRequest, AuthenticatedActor actor){
+        if (!permissionPolicy.canDelete(actor.role())) throw new UserWithoutDeleteCoursePermissionException();
 
         if(!courseRepository.existById(deleteCourseRequest.id())) throw new CourseNotFoundException(deleteCourseRequest.id());
 
         courseRepository.deleteById(deleteCourseRequest.id());
+        courseSearchProvider.remove(deleteCourseRequest.id());
+        referenceDataCache.evict(CourseEntity.class, deleteCourseRequest.id());
 
     }
 
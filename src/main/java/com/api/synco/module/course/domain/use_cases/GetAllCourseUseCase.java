@@ -1,22 +1,25 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.filter.CourseFilter;
 import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.filter.PageCourse;
 import com.api.synco.module.course.domain.port.CourseRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 public class GetAllCourseUseCase {
 
     private final CourseRepository courseRepository;
+    private final CourseSearchProvider courseSearchProvider;
+    private final ApproximateTotalCache approximateTotalCache;
 
-    public GetAllCourseUseCase(CourseRepository courseRepository) {
+    public GetAllCourseUseCase(CourseRepository courseRepository, CourseSearchProvider courseSearchProvider, ApproximateTotalCache approximateTotalCache) {
         this.courseRepository = courseRepository;
+        this.courseSearchProvider = courseSearchProvider;
+        this.approximateTotalCache = approximateTotalCache;
     }
 
     /**
@@ -26,24 +29,34 @@ public class GetAllCourseUseCase {
      * @param acronym Filter by acronym
      * @param pageNumber Number of page
      * @param pageSize Quantity of courses per page
-     * @return A page with courses entity
+     * @param cursor Cursor of the previous page, or null for offset pagination
+     * @param withTotal Whether the approximate total of the filter is attached
+     * @return A slice with courses entity
      */
-    public Page<CourseEntity> execute(
+    public Slice<CourseEntity> execute(
             String name,
             String acronym,
             int pageNumber,
-            int pageSize ){
+            int pageSize,
+            String cursor,
+            boolean withTotal ){
 
         CourseFilter courseFilter = CourseFilter.builder()
                 .setNameContains(name)
                 .setAcronymContains(acronym)
                 .build();
 
-        var search = CourseSearchProvider.of(courseFilter);
+        var search = courseSearchProvider.create(courseFilter);
+
+        PageCourse pageCourse = PageCourse.of(pageNumber, pageSize, cursor);
+
+        Slice<CourseEntity> courses = courseRepository.findAll(search, pageCourse);
 
-        PageCourse pageCourse = new PageCourse(pageNumber, pageSize);
+        if (!withTotal) {
+            return courses;
+        }
 
-        return courseRepository.findAll(search, pageCourse);
+        return approximateTotalCache.withTotal(courses, courseFilter, () -> courseRepository.count(search));
 
     }
 
@@ -1,15 +1,17 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.update.UpdateCourseRequest;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotFoundException;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutEditUserPermissionException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 
 @Component
@@ -18,16 +20,21 @@ public class UpdateCourseUseCase {
     private final PermissionPolicy permissionPolicy;
 
     private final CourseRepository courseRepository;
-    private final UserRepository userRepository;
+
+    private final ReferenceDataCache referenceDataCache;
+
+    private final CourseSearchProvider courseSearchProvider;
 
     public UpdateCourseUseCase(
             @Qualifier("coursePermissionPolicy") PermissionPolicy permissionPolicy,
             CourseRepository courseRepository,
-            UserRepository userRepository
+            ReferenceDataCache referenceDataCache,
+            CourseSearchProvider courseSearchProvider
     ) {
         this.permissionPolicy = permissionPolicy;
         this.courseRepository = courseRepository;
-        this.userRepository = userRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.courseSearchProvider = courseSearchProvider;
     }
 
     /**
@@ -36,7 +43,6 @@ public class UpdateCourseUseCase {
      * <p>
      * The method performs the following steps:
      * <ol>
-     * <li>Find the user authenticated</li>
      * <li>Verify if the user have permission to update</li>
      * <li>Find the course</li>
      * <li>Update the atributes</li>
@@ -45,17 +51,15 @@ public class UpdateCourseUseCase {
      *
      * @param updateCourseRequest The record with data of request
      * @param idCourse The id of the course who will be update
-     * @param idUserAuthenticated The id of the user authenticated
+     * @param actor The authenticated user
      * @return The course entity edited
      * @throws UserWithoutEditUserPermissionException if the user do not have permission to edit
-     * @throws UserNotFoundDomainException if the user is not found
      * @throws CourseNotFoundException if the course is not found
      *
      */
-    public CourseEntity execute(UpdateCourseRequest updateCourseRequest, long idCourse, long idUserAuthenticated){
-        var user = userRepository.findById(idUserAuthenticated).orElseThrow(() -> new UserNotFoundDomainException(idUserAuthenticated));
-
-        if (!permissionPolicy.canEdit(user.getRole())) throw new UserWithoutEditUserPermissionException();
+    @Transactional
+    public CourseEntity execute(UpdateCourseRequest updateCourseRequest, long idCourse, AuthenticatedActor actor){
+        if (!permissionPolicy.canEdit(actor.role())) throw new UserWithoutEditUserPermissionException();
 
         CourseEntity course = courseRepository.findById(idCourse).orElseThrow( () -> new CourseNotFoundException(idCourse));
 
@@ -64,6 +68,8 @@ public class UpdateCourseUseCase {
         course.setDescription(updateCourseRequest.description());
 
         courseRepository.save(course);
+        courseSearchProvider.index(course);
+        referenceDataCache.evict(CourseEntity.class, course.getId());
 
         return course;
     }
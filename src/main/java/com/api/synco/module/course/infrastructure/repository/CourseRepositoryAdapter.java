@@ -1,10 +1,10 @@
 package com.api.synco.module.course.infrastructure.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.filter.PageCourse;
 import com.api.synco.module.course.domain.port.CourseRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
@@ -45,13 +45,24 @@ public class CourseRepositoryAdapter implements CourseRepository {
     }
 
     @Override
-    public Page<CourseEntity> findAll(Specification<CourseEntity> search, PageCourse pageCourse) {
-        PageRequest pageRequest = PageRequest.of(
+    public Slice<CourseEntity> findAll(Specification<CourseEntity> search, PageCourse pageCourse) {
+        Specification<CourseEntity> after = pageCourse.afterId() != null
+                ? KeysetPagination.after("id", pageCourse.afterId())
+                : null;
+
+        return KeysetPagination.findSlice(
+                courseRepositoryJpa,
+                search,
+                after,
                 pageCourse.pageNumber(),
-                pageCourse.pageSize()
+                pageCourse.pageSize(),
+                KeysetPagination.keyOrder("id")
         );
+    }
 
-        return courseRepositoryJpa.findAll(search, pageRequest);
+    @Override
+    public long count(Specification<CourseEntity> search) {
+        return courseRepositoryJpa.count(search);
     }
 
 }
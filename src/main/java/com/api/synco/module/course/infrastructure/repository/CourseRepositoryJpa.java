@@ -2,16 +2,20 @@ package com.api.synco.module.course.infrastructure.repository;
 
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.user.domain.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CourseRepositoryJpa extends JpaRepository<CourseEntity, Long>, JpaSpecificationExecutor<CourseEntity> {
 
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     boolean existsByNameOrAcronym(String name, String acronym);
 
 }
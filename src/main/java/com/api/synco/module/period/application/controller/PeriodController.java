@@ -1,9 +1,11 @@
 package com.api.synco.module.period.application.controller;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.api.CustomApiResponse;
 import com.api.synco.module.period.application.dto.CreatePeriodRequest;
 import com.api.synco.module.period.application.dto.CreatePeriodResponse;
+import com.api.synco.module.period.application.dto.CreateRecurringPeriodsRequest;
 import com.api.synco.module.period.application.dto.GetPeriodResponse;
 import com.api.synco.module.period.application.service.PeriodApplicationService;
 import com.api.synco.module.period.domain.enumerator.TypePeriod;
@@ -31,6 +33,7 @@ import java.util.List;
  * <p>The controller supports:</p>
  * <ul>
  * <li>Period creation</li>
+ * <li>Recurring period creation over a date range</li>
  * <li>Period retrieval by ID</li>
  * <li>Paginated period listing with extensive filters (Teacher, Room, Class, Type)</li>
  * </ul>
@@ -99,14 +102,67 @@ public class PeriodController {
     public ResponseEntity<CustomApiResponse<CreatePeriodResponse>> create(
             @RequestBody @Valid CreatePeriodRequest request
     ) {
-        long userId = authenticationService.getAuthenticatedUserId();
-        var response = periodApplicationService.create(request, userId);
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
+        var response = periodApplicationService.create(request, actor);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(CustomApiResponse.success(HttpStatus.CREATED.value(), "Period created successfully", response));
     }
 
+    /**
+     * Creates the periods of a weekly recurrence in a single transaction.
+     *
+     * <p>The permissions and the teacher are checked once, the conflicts of
+     * every date are checked together, and the periods are inserted in JDBC
+     * batches. Either every period is created or none is.</p>
+     *
+     * @param request the request containing the recurrence
+     * @return the created periods with HTTP 201 status
+     */
+    @PostMapping("/recurrences")
+    @Operation(
+            summary = "Create recurring periods",
+            description = "Creates one period per matching day of the week in a date range, skipping the given dates. Requires authentication."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Periods created successfully",
+                    content = @Content(schema = @Schema(implementation = CreatePeriodResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid recurrence provided",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "No permission to create period",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Room or teacher already booked on one of the dates",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<List<CreatePeriodResponse>>> createRecurring(
+            @RequestBody @Valid CreateRecurringPeriodsRequest request
+    ) {
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
+        var response = periodApplicationService.createRecurring(request, actor);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(CustomApiResponse.success(HttpStatus.CREATED.value(), "Periods created successfully", response));
+    }
+
     /**
      * Retrieves a period by its unique identifier.
      *
@@ -154,6 +210,8 @@ public class PeriodController {
      * @param typePeriod optional filter by period type
      * @param pageNumber page number (0-based)
      * @param pageSize page size
+     * @param cursor optional cursor of the previous page
+     * @param withTotal whether the approximate total is returned
      * @return a list of periods matching the criteria
      */
     @GetMapping
@@ -196,7 +254,15 @@ public class PeriodController {
 
             @RequestParam(value = "size", defaultValue = "10")
             @Parameter(description = "Page size (default 10)")
-            int pageSize
+            int pageSize,
+
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page; replaces the page number")
+            String cursor,
+
+            @RequestParam(value = "total", defaultValue = "false")
+            @Parameter(description = "Returns the approximate total in the X-Total-Count header")
+            boolean withTotal
     ) {
         var periods = periodApplicationService.getAll(
                 teacherId,
@@ -204,10 +270,14 @@ public class PeriodController {
                 classId,
                 typePeriod,
                 pageNumber,
-                pageSize
+                pageSize,
+                cursor,
+                withTotal
         );
 
         return ResponseEntity
-                .ok(CustomApiResponse.success(HttpStatus.OK.value(), "List of periods returned successfully", periods));
+                .ok()
+                .headers(periods.headers())
+                .body(CustomApiResponse.success(HttpStatus.OK.value(), "List of periods returned successfully", periods.content()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.api.synco.module.period.application.dto;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record CreateRecurringPeriodsRequest(
+        @NotNull Long teacherId,
+        long roomId,
+        @NotNull ClassEntityIdRequest classEntity,
+        @NotEmpty Set<@NotNull DayOfWeek> daysOfWeek,
+        @NotNull TypePeriod typePeriod,
+        @NotNull LocalDate from,
+        @NotNull LocalDate to,
+        Set<@NotNull LocalDate> skipDates
+) {
+}
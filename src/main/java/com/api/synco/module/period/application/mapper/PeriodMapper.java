@@ -5,6 +5,7 @@ import com.api.synco.module.period.application.dto.ClassEntityIdRequest;
 import com.api.synco.module.period.application.dto.CreatePeriodResponse;
 import com.api.synco.module.period.application.dto.GetPeriodResponse;
 import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
 import org.springframework.stereotype.Component;
 
 import java.time.format.DateTimeFormatter;
@@ -44,4 +45,15 @@ public class PeriodMapper {
                 period.getTypePeriod()
         );
     }
+
+    public GetPeriodResponse toGetResponse(PeriodSummary period) {
+        return new GetPeriodResponse(
+                period.id(),
+                period.teacherId(),
+                period.roomId(),
+                new ClassEntityIdRequest(period.courseId(), period.classNumber()),
+                period.date().format(DateTimeFormatter.BASIC_ISO_DATE),
+                period.typePeriod()
+        );
+    }
 }
@@ -1,14 +1,20 @@
 package com.api.synco.module.period.application.service;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.period.application.dto.CreatePeriodRequest;
 import com.api.synco.module.period.application.dto.CreatePeriodResponse;
+import com.api.synco.module.period.application.dto.CreateRecurringPeriodsRequest;
 import com.api.synco.module.period.application.dto.GetPeriodResponse;
 import com.api.synco.module.period.application.mapper.PeriodMapper;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.period.domain.command.CreatePeriodCommand;
+import com.api.synco.module.period.domain.command.CreateRecurringPeriodsCommand;
 import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.filter.PeriodPage;
 import com.api.synco.module.period.domain.use_case.CreatePeriodUseCase;
+import com.api.synco.module.period.domain.use_case.CreateRecurringPeriodsUseCase;
 import com.api.synco.module.period.domain.use_case.GetAllPeriodUseCase;
 import com.api.synco.module.period.domain.use_case.GetPeriodUseCase;
 import org.springframework.stereotype.Service;
@@ -19,26 +25,28 @@ import java.util.List;
 public class PeriodApplicationService {
 
     private final CreatePeriodUseCase createPeriodUseCase;
+    private final CreateRecurringPeriodsUseCase createRecurringPeriodsUseCase;
     private final GetPeriodUseCase getPeriodUseCase;
     private final GetAllPeriodUseCase getAllPeriodUseCase;
 
     private final PeriodMapper periodMapper;
 
-    public PeriodApplicationService(CreatePeriodUseCase createPeriodUseCase, GetPeriodUseCase getPeriodUseCase, GetAllPeriodUseCase getAllPeriodUseCase, PeriodMapper periodMapper) {
+    public PeriodApplicationService(CreatePeriodUseCase createPeriodUseCase, CreateRecurringPeriodsUseCase createRecurringPeriodsUseCase, GetPeriodUseCase getPeriodUseCase, GetAllPeriodUseCase getAllPeriodUseCase, PeriodMapper periodMapper) {
         this.createPeriodUseCase = createPeriodUseCase;
+        this.createRecurringPeriodsUseCase = createRecurringPeriodsUseCase;
         this.getPeriodUseCase = getPeriodUseCase;
         this.getAllPeriodUseCase = getAllPeriodUseCase;
         this.periodMapper = periodMapper;
     }
 
-    public CreatePeriodResponse create(CreatePeriodRequest createPeriodRequest, long userAuthenticatedId) {
+    public CreatePeriodResponse create(CreatePeriodRequest createPeriodRequest, AuthenticatedActor actor) {
         ClassEntityId classEntityId = new ClassEntityId(
                 createPeriodRequest.classEntity().courseId(),
                 createPeriodRequest.classEntity().number()
         );
 
         CreatePeriodCommand createPeriodCommand = new CreatePeriodCommand(
-                userAuthenticatedId,
+                actor,
                 createPeriodRequest.teacherId(),
                 createPeriodRequest.roomId(),
                 classEntityId,
@@ -51,19 +59,44 @@ public class PeriodApplicationService {
         return periodMapper.toCreateResponse(period);
     }
 
+    public List<CreatePeriodResponse> createRecurring(CreateRecurringPeriodsRequest request, AuthenticatedActor actor) {
+        ClassEntityId classEntityId = new ClassEntityId(
+                request.classEntity().courseId(),
+                request.classEntity().number()
+        );
+
+        CreateRecurringPeriodsCommand command = new CreateRecurringPeriodsCommand(
+                actor,
+                request.teacherId(),
+                request.roomId(),
+                classEntityId,
+                request.daysOfWeek(),
+                request.typePeriod(),
+                request.from(),
+                request.to(),
+                request.skipDates()
+        );
+
+        return createRecurringPeriodsUseCase.execute(command).stream()
+                .map(periodMapper::toCreateResponse)
+                .toList();
+    }
+
     public GetPeriodResponse get(long periodId) {
         PeriodEntity period = getPeriodUseCase.execute(periodId);
 
         return periodMapper.toGetResponse(period);
     }
 
-    public List<GetPeriodResponse> getAll(
+    public CursorPage<GetPeriodResponse> getAll(
             long teacherId,
             long roomId,
             long classId,
             TypePeriod typePeriod,
             int pageNumber,
-            int pageSize
+            int pageSize,
+            String cursor,
+            boolean withTotal
     ) {
         var periods = getAllPeriodUseCase.execute(
                 teacherId,
@@ -71,12 +104,13 @@ public class PeriodApplicationService {
                 classId,
                 typePeriod,
                 pageNumber,
-                pageSize
+                pageSize,
+                cursor,
+                withTotal
         );
 
-        return periods.stream()
-                .map(periodMapper::toGetResponse)
-                .toList();
+        return CursorPage.of(periods, PeriodPage::cursorOf)
+                .map(periodMapper::toGetResponse);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.api.synco.module.period.domain;
 
+import com.api.synco.core.persistence.IdGenerators;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.room.domain.RoomEntity;
@@ -16,6 +17,9 @@ import java.time.LocalDate;
  * <p>This entity represents a scheduled period when a class takes place,
  * including the teacher, room, date, and type of period.</p>
  *
+ * <p>A room and a teacher hold at most one period per date and type of
+ * period, enforced by unique indexes that also serve the booking lookups.</p>
+ *
  * @author Luca5Eckert
  * @version 1.0.0
  * @since 1.0.0
@@ -25,21 +29,33 @@ import java.time.LocalDate;
  * @see TypePeriod
  */
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_period_room_slot", columnNames = {"room_id", "date", "type_period"}),
+        @UniqueConstraint(name = "uk_period_teacher_slot", columnNames = {"teacher_id", "date", "type_period"})
+})
 @Getter
 @Setter
 public class PeriodEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "period_id")
+    @TableGenerator(
+            name = "period_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "period",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private long id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private UserEntity teacher;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private RoomEntity room;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private ClassEntity classEntity;
 
     private LocalDate date;
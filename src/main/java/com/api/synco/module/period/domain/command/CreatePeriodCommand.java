@@ -1,5 +1,6 @@
 package com.api.synco.module.period.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.period.application.dto.ClassEntityIdRequest;
 import com.api.synco.module.period.domain.enumerator.TypePeriod;
@@ -7,7 +8,7 @@ import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import java.time.LocalDate;
 
 public record CreatePeriodCommand(
-        long authenticatedUserId,
+        AuthenticatedActor actor,
         long teacherId,
         long roomId,
         ClassEntityId classId,
@@ -0,0 +1,22 @@
+package com.api.synco.module.period.domain.command;
+
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record CreateRecurringPeriodsCommand(
+        AuthenticatedActor actor,
+        long teacherId,
+        long roomId,
+        ClassEntityId classId,
+        Set<DayOfWeek> daysOfWeek,
+        TypePeriod typePeriod,
+        LocalDate from,
+        LocalDate to,
+        Set<LocalDate> skipDates
+) {
+}
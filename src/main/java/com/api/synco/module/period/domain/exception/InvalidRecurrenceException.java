@@ -0,0 +1,7 @@
+package com.api.synco.module.period.domain.exception;
+
+public class InvalidRecurrenceException extends PeriodDomainException {
+    public InvalidRecurrenceException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.api.synco.module.period.domain.exception;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.LocalDate;
+
+public class RoomAlreadyBookedException extends PeriodDomainException {
+    public RoomAlreadyBookedException(long roomId, LocalDate date, TypePeriod typePeriod) {
+        super("Room " + roomId + " is already booked on " + date + " in the " + typePeriod + " period");
+    }
+}
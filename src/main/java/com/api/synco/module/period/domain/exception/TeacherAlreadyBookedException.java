@@ -0,0 +1,11 @@
+package com.api.synco.module.period.domain.exception;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.LocalDate;
+
+public class TeacherAlreadyBookedException extends PeriodDomainException {
+    public TeacherAlreadyBookedException(long teacherId, LocalDate date, TypePeriod typePeriod) {
+        super("Teacher " + teacherId + " is already booked on " + date + " in the " + typePeriod + " period");
+    }
+}
@@ -1,10 +1,12 @@
 package com.api.synco.module.period.domain.filter;
 
-import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
 
 public record PeriodPage(
         int pageNumber,
-        int pageSize
+        int pageSize,
+        Long afterId
 ) {
 
     public PeriodPage {
@@ -15,4 +17,20 @@ public record PeriodPage(
             pageSize = 1;
         }
     }
+
+    public PeriodPage(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    public static PeriodPage of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return new PeriodPage(pageNumber, pageSize);
+        }
+
+        return new PeriodPage(pageNumber, pageSize, PageCursor.decode(cursor, 1)[0]);
+    }
+
+    public static String cursorOf(PeriodSummary period) {
+        return PageCursor.encode(period.id());
+    }
 }
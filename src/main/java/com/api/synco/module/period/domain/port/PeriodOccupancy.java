@@ -0,0 +1,73 @@
+package com.api.synco.module.period.domain.port;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.TeacherAlreadyBookedException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Answers whether a room or a teacher is already booked for a period slot.
+ *
+ * <p>A slot is a date and a {@link TypePeriod}. A room and a teacher can each
+ * hold at most one period per slot, which the period table also enforces
+ * with unique indexes.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PeriodOccupancy {
+
+    /**
+     * Checks whether a room has no period in a slot.
+     *
+     * @param roomId the room identifier
+     * @param date the date of the slot
+     * @param typePeriod the period of the day of the slot
+     * @return {@code true} if the room is free
+     */
+    boolean isRoomFree(long roomId, LocalDate date, TypePeriod typePeriod);
+
+    /**
+     * Checks whether a teacher has no period in a slot.
+     *
+     * @param teacherId the teacher identifier
+     * @param date the date of the slot
+     * @param typePeriod the period of the day of the slot
+     * @return {@code true} if the teacher is free
+     */
+    boolean isTeacherFree(long teacherId, LocalDate date, TypePeriod typePeriod);
+
+    /**
+     * Books a slot for a room and a teacher.
+     *
+     * <p>The booking is released if the current transaction rolls back.</p>
+     *
+     * @param roomId the room identifier
+     * @param teacherId the teacher identifier
+     * @param date the date of the slot
+     * @param typePeriod the period of the day of the slot
+     * @throws RoomAlreadyBookedException if the room is already booked in the slot
+     * @throws TeacherAlreadyBookedException if the teacher is already booked in the slot
+     */
+    void reserve(long roomId, long teacherId, LocalDate date, TypePeriod typePeriod);
+
+    /**
+     * Books the same period of the day on several dates for a room and a teacher.
+     *
+     * <p>Every slot is checked before any is booked, so a conflict on one date
+     * leaves all of them free. The bookings are released if the current
+     * transaction rolls back.</p>
+     *
+     * @param roomId the room identifier
+     * @param teacherId the teacher identifier
+     * @param dates the dates of the slots, in ascending order
+     * @param typePeriod the period of the day of the slots
+     * @throws RoomAlreadyBookedException if the room is already booked on the earliest conflicting date
+     * @throws TeacherAlreadyBookedException if the teacher is already booked on the earliest conflicting date
+     */
+    void reserveAll(long roomId, long teacherId, List<LocalDate> dates, TypePeriod typePeriod);
+
+}
@@ -3,15 +3,23 @@ package com.api.synco.module.period.domain.port;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.period.domain.filter.PeriodFilter;
 import com.api.synco.module.period.domain.filter.PeriodPage;
-import org.springframework.data.domain.Page;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PeriodRepository {
     PeriodEntity save(PeriodEntity period);
 
+    List<PeriodEntity> saveAll(List<PeriodEntity> periods);
+
     Optional<PeriodEntity> findById(long periodId);
 
-    Page<PeriodEntity> findAll(PeriodFilter periodFilter, PeriodPage periodPage);
+    Optional<PeriodEntity> findByIdForUpdate(long periodId);
+
+    Slice<PeriodSummary> findAll(PeriodFilter periodFilter, PeriodPage periodPage);
+
+    long count(PeriodFilter periodFilter);
 
 }
@@ -0,0 +1,13 @@
+package com.api.synco.module.period.domain.projection;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.LocalDate;
+
+public record PeriodSlot(
+        long roomId,
+        long teacherId,
+        LocalDate date,
+        TypePeriod typePeriod
+) {
+}
@@ -0,0 +1,16 @@
+package com.api.synco.module.period.domain.projection;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.LocalDate;
+
+public record PeriodSummary(
+        long id,
+        long teacherId,
+        long roomId,
+        long courseId,
+        int classNumber,
+        LocalDate date,
+        TypePeriod typePeriod
+) {
+}
@@ -0,0 +1,72 @@
+package com.api.synco.module.period.domain.use_case;
+
+import com.api.synco.core.validation.DateRangeValidator;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.command.CreateRecurringPeriodsCommand;
+import com.api.synco.module.period.domain.exception.InvalidRecurrenceException;
+import com.api.synco.module.period.domain.port.PeriodOccupancy;
+import com.api.synco.module.period.domain.port.PeriodRepository;
+import com.api.synco.module.period.domain.validator.PeriodCreationValidator;
+import com.api.synco.module.user.domain.UserEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class CreateRecurringPeriodsUseCase {
+
+    private final PeriodRepository periodRepository;
+    private final PeriodOccupancy periodOccupancy;
+    private final PeriodCreationValidator periodCreationValidator;
+
+    public CreateRecurringPeriodsUseCase(
+            PeriodRepository periodRepository,
+            PeriodOccupancy periodOccupancy,
+            PeriodCreationValidator periodCreationValidator
+    ) {
+        this.periodRepository = periodRepository;
+        this.periodOccupancy = periodOccupancy;
+        this.periodCreationValidator = periodCreationValidator;
+    }
+
+    @Transactional
+    public List<PeriodEntity> execute(CreateRecurringPeriodsCommand command) {
+        List<LocalDate> dates = datesOf(command);
+
+        UserEntity teacher = periodCreationValidator.resolveTeacher(command.actor(), command.classId(), command.teacherId());
+
+        // Every date is checked before any is booked, so a conflict leaves no slot taken
+        periodOccupancy.reserveAll(command.roomId(), teacher.getId(), dates, command.typePeriod());
+
+        var placement = periodCreationValidator.resolvePlacement(command.roomId(), command.classId());
+
+        List<PeriodEntity> periods = dates.stream()
+                .map(date -> new PeriodEntity(teacher, placement.room(), placement.classEntity(), date, command.typePeriod()))
+                .toList();
+
+        return periodRepository.saveAll(periods);
+    }
+
+    private List<LocalDate> datesOf(CreateRecurringPeriodsCommand command) {
+        DateRangeValidator.validate(command.from(), command.to(), "recurrence", InvalidRecurrenceException::new);
+        if (command.daysOfWeek() == null || command.daysOfWeek().isEmpty()) {
+            throw new InvalidRecurrenceException("The recurrence must have at least one day of the week");
+        }
+
+        Set<LocalDate> skipDates = command.skipDates() == null ? Set.of() : command.skipDates();
+
+        List<LocalDate> dates = command.from().datesUntil(command.to().plusDays(1))
+                .filter(date -> command.daysOfWeek().contains(date.getDayOfWeek()))
+                .filter(date -> !skipDates.contains(date))
+                .toList();
+
+        if (dates.isEmpty()) {
+            throw new InvalidRecurrenceException("The recurrence does not produce any period");
+        }
+
+        return dates;
+    }
+}
@@ -1,29 +1,34 @@
 package com.api.synco.module.period.domain.use_case;
 
-import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.period.domain.filter.PeriodFilter;
 import com.api.synco.module.period.domain.filter.PeriodPage;
 import com.api.synco.module.period.domain.port.PeriodRepository;
-import org.springframework.data.domain.Page;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component
 public class GetAllPeriodUseCase {
 
     private final PeriodRepository periodRepository;
+    private final ApproximateTotalCache approximateTotalCache;
 
-    public GetAllPeriodUseCase(PeriodRepository periodRepository) {
+    public GetAllPeriodUseCase(PeriodRepository periodRepository, ApproximateTotalCache approximateTotalCache) {
         this.periodRepository = periodRepository;
+        this.approximateTotalCache = approximateTotalCache;
     }
 
-    public Page<PeriodEntity> execute(
+    public Slice<PeriodSummary> execute(
             long teacherId,
             long roomId,
             long classId,
             TypePeriod typePeriod,
             int pageNumber,
-            int pageSize
+            int pageSize,
+            String cursor,
+            boolean withTotal
     ) {
 
         PeriodFilter periodFilter = new PeriodFilter(
@@ -33,12 +38,19 @@ public class GetAllPeriodUseCase {
                 typePeriod
         );
 
-        PeriodPage periodPage = new PeriodPage(
+        PeriodPage periodPage = PeriodPage.of(
                 pageNumber,
-                pageSize
+                pageSize,
+                cursor
         );
 
-        return periodRepository.findAll(periodFilter, periodPage);
+        Slice<PeriodSummary> periods = periodRepository.findAll(periodFilter, periodPage);
+
+        if (!withTotal) {
+            return periods;
+        }
+
+        return approximateTotalCache.withTotal(periods, periodFilter, () -> periodRepository.count(periodFilter));
     }
 
 
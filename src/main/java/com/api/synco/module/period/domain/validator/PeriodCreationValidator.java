@@ -0,0 +1,145 @@
+package com.api.synco.module.period.domain.validator;
+
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.exception.ClassNotFoundException;
+import com.api.synco.module.class_entity.domain.port.ClassRepository;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import com.api.synco.module.period.domain.exception.TeacherNotLinkedToClassException;
+import com.api.synco.module.period.domain.exception.UserIsNotTeacherInClassException;
+import com.api.synco.module.period.domain.exception.UserWithoutCreatePeriodPermissionException;
+import com.api.synco.module.period.domain.permission.PeriodPermissionPolicy;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.exception.RoomNotExistException;
+import com.api.synco.module.room.domain.port.RoomRepository;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
+import com.api.synco.module.user.domain.port.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the rules shared by every way of creating periods.
+ *
+ * <p>Creation is validated in two steps, so callers can book the slots in
+ * between and reject a conflict before the room and the class are read.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class PeriodCreationValidator {
+
+    /**
+     * The room and the class a period is created in.
+     *
+     * @param room the room of the period
+     * @param classEntity the class of the period
+     */
+    public record Placement(RoomEntity room, ClassEntity classEntity) {
+    }
+
+    private final UserRepository userRepository;
+    private final RoomRepository roomRepository;
+    private final ClassRepository classRepository;
+    private final ClassMembershipLookup classMembershipLookup;
+    private final PeriodPermissionPolicy periodPermissionPolicy;
+
+    /**
+     * Constructs the validator.
+     *
+     * @param userRepository the repository loading the teacher
+     * @param roomRepository the repository loading the room
+     * @param classRepository the repository loading the class
+     * @param classMembershipLookup the lookup of the actor's and the teacher's memberships
+     * @param periodPermissionPolicy the policy deciding who can create periods
+     */
+    public PeriodCreationValidator(
+            UserRepository userRepository,
+            RoomRepository roomRepository,
+            ClassRepository classRepository,
+            ClassMembershipLookup classMembershipLookup,
+            PeriodPermissionPolicy periodPermissionPolicy
+    ) {
+        this.userRepository = userRepository;
+        this.roomRepository = roomRepository;
+        this.classRepository = classRepository;
+        this.classMembershipLookup = classMembershipLookup;
+        this.periodPermissionPolicy = periodPermissionPolicy;
+    }
+
+    /**
+     * Checks that the actor may create periods in the class and that the teacher teaches it.
+     *
+     * <p>Both memberships are read with a single lookup.</p>
+     *
+     * @param actor the authenticated user creating the periods
+     * @param classId the class of the periods
+     * @param teacherId the teacher of the periods
+     * @return the teacher
+     * @throws UserWithoutCreatePeriodPermissionException if the actor cannot create periods in the class
+     * @throws UserNotFoundDomainException if the teacher does not exist
+     * @throws TeacherNotLinkedToClassException if the teacher is not linked to the class
+     * @throws UserIsNotTeacherInClassException if the teacher is linked to the class with another role
+     */
+    public UserEntity resolveTeacher(AuthenticatedActor actor, ClassEntityId classId, long teacherId) {
+        Map<Long, ClassMembership> memberships = classMembershipLookup.findAll(
+                classId,
+                List.of(actor.id(), teacherId)
+        );
+
+        ClassMembership authenticatedMembership = memberships.get(actor.id());
+
+        if (authenticatedMembership == null || !periodPermissionPolicy.canCreate(
+                authenticatedMembership.typeUserClass(),
+                actor.role()
+        )) {
+            throw new UserWithoutCreatePeriodPermissionException();
+        }
+
+        UserEntity teacher = userRepository.findById(teacherId)
+                .orElseThrow(() -> new UserNotFoundDomainException(teacherId));
+
+        ClassMembership teacherMembership = memberships.get(teacher.getId());
+
+        if (teacherMembership == null) {
+            throw new TeacherNotLinkedToClassException(teacher.getId(), classId);
+        }
+
+        if (teacherMembership.typeUserClass() != TypeUserClass.TEACHER) {
+            throw new UserIsNotTeacherInClassException(
+                    teacher.getId(),
+                    classId,
+                    teacherMembership.typeUserClass()
+            );
+        }
+
+        return teacher;
+    }
+
+    /**
+     * Loads the room and the class of the periods.
+     *
+     * @param roomId the room of the periods
+     * @param classId the class of the periods
+     * @return the room and the class
+     * @throws RoomNotExistException if the room does not exist
+     * @throws ClassNotFoundException if the class does not exist
+     */
+    public Placement resolvePlacement(long roomId, ClassEntityId classId) {
+        RoomEntity room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new RoomNotExistException(roomId));
+
+        ClassEntity classEntity = classRepository.findById(classId)
+                .orElseThrow(ClassNotFoundException::new);
+
+        return new Placement(room, classEntity);
+    }
+
+}
@@ -0,0 +1,325 @@
+package com.api.synco.module.period.infrastructure.occupancy;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.TeacherAlreadyBookedException;
+import com.api.synco.module.period.domain.port.PeriodOccupancy;
+import com.api.synco.module.period.domain.projection.PeriodSlot;
+import com.api.synco.module.period.infrastructure.repository.PeriodRepositoryJpa;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of the booked slots of rooms and teachers.
+ *
+ * <p>The index is warmed from the period table once the application is
+ * ready, after which a slot is checked with a hash lookup instead of a
+ * query. Until then, checks fall back to the unique indexes of the period
+ * table.</p>
+ *
+ * <p>Only slots from today onward are held. Past slots are dropped every day
+ * on the {@code period.occupancy.eviction-cron} schedule, and dates before
+ * the window are checked against the period table.</p>
+ *
+ * <p>Bookings are added when a period is reserved and removed again if its
+ * transaction rolls back. Periods created by another instance are not seen
+ * by this index; the unique indexes reject them when the periods are
+ * flushed, and {@link #conflictOf} turns that rejection into the booking
+ * exception and adds the conflicting slots to the index.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class PeriodOccupancyIndex implements PeriodOccupancy {
+
+    private static final Logger log = LoggerFactory.getLogger(PeriodOccupancyIndex.class);
+
+    static final String ROOM_SLOT_CONSTRAINT = "uk_period_room_slot";
+    static final String TEACHER_SLOT_CONSTRAINT = "uk_period_teacher_slot";
+
+    private record Slot(long resourceId, LocalDate date, TypePeriod typePeriod) {
+    }
+
+    private final Set<Slot> rooms = ConcurrentHashMap.newKeySet();
+    private final Set<Slot> teachers = ConcurrentHashMap.newKeySet();
+
+    private final PeriodRepositoryJpa periodRepositoryJpa;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate conflictTemplate;
+    private final Clock clock;
+
+    /**
+     * First date held by the index, or {@code null} until it is warmed.
+     */
+    private volatile LocalDate windowStart;
+
+    /**
+     * Constructs the occupancy index.
+     *
+     * @param periodRepositoryJpa the repository reading the booked slots
+     * @param transactionManager the transaction manager of the warm-up read
+     */
+    @Autowired
+    public PeriodOccupancyIndex(PeriodRepositoryJpa periodRepositoryJpa, PlatformTransactionManager transactionManager) {
+        this(periodRepositoryJpa, transactionManager, Clock.systemDefaultZone());
+    }
+
+    PeriodOccupancyIndex(PeriodRepositoryJpa periodRepositoryJpa, PlatformTransactionManager transactionManager, Clock clock) {
+        this.periodRepositoryJpa = periodRepositoryJpa;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // The failed flush leaves the caller's session unusable, so the conflicting dates are read apart from it
+        this.conflictTemplate = new TransactionTemplate(transactionManager);
+        this.conflictTemplate.setReadOnly(true);
+        this.conflictTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+    }
+
+    /**
+     * Loads the booked slots of every period from today onward.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        LocalDate today = LocalDate.now(clock);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<PeriodSlot> slots = periodRepositoryJpa.streamSlotsFrom(today)) {
+                slots.forEach(slot -> {
+                    rooms.add(new Slot(slot.roomId(), slot.date(), slot.typePeriod()));
+                    teachers.add(new Slot(slot.teacherId(), slot.date(), slot.typePeriod()));
+                });
+            }
+        });
+
+        windowStart = today;
+        log.info("Warmed the period occupancy index with {} room bookings", rooms.size());
+    }
+
+    /**
+     * Drops the slots of the days that have passed.
+     *
+     * <p>The window moves first, so a past date is read from the period
+     * table while its slots are being removed.</p>
+     */
+    @Scheduled(cron = "${period.occupancy.eviction-cron:0 0 0 * * *}")
+    public void evictPast() {
+        if (windowStart == null) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        windowStart = today;
+
+        rooms.removeIf(slot -> slot.date().isBefore(today));
+        teachers.removeIf(slot -> slot.date().isBefore(today));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRoomFree(long roomId, LocalDate date, TypePeriod typePeriod) {
+        if (!isIndexed(date)) {
+            return !periodRepositoryJpa.existsByRoomIdAndDateAndTypePeriod(roomId, date, typePeriod);
+        }
+        return !rooms.contains(new Slot(roomId, date, typePeriod));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTeacherFree(long teacherId, LocalDate date, TypePeriod typePeriod) {
+        if (!isIndexed(date)) {
+            return !periodRepositoryJpa.existsByTeacherIdAndDateAndTypePeriod(teacherId, date, typePeriod);
+        }
+        return !teachers.contains(new Slot(teacherId, date, typePeriod));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reserve(long roomId, long teacherId, LocalDate date, TypePeriod typePeriod) {
+        Slot room = new Slot(roomId, date, typePeriod);
+        Slot teacher = new Slot(teacherId, date, typePeriod);
+
+        // Checked and booked together, so two requests of this instance cannot take the same slot
+        synchronized (this) {
+            if (!isRoomFree(roomId, date, typePeriod)) {
+                throw new RoomAlreadyBookedException(roomId, date, typePeriod);
+            }
+            if (!isTeacherFree(teacherId, date, typePeriod)) {
+                throw new TeacherAlreadyBookedException(teacherId, date, typePeriod);
+            }
+
+            rooms.add(room);
+            teachers.add(teacher);
+        }
+
+        releaseOnRollback(List.of(room), List.of(teacher));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Before warm-up, or when a date is outside the window, the dates are
+     * checked with one query per resource instead of one query per date.</p>
+     */
+    @Override
+    public void reserveAll(long roomId, long teacherId, List<LocalDate> dates, TypePeriod typePeriod) {
+        List<Slot> roomSlots = dates.stream().map(date -> new Slot(roomId, date, typePeriod)).toList();
+        List<Slot> teacherSlots = dates.stream().map(date -> new Slot(teacherId, date, typePeriod)).toList();
+
+        synchronized (this) {
+            boolean indexed = dates.stream().allMatch(this::isIndexed);
+
+            List<LocalDate> bookedRooms = indexed
+                    ? booked(rooms, roomSlots)
+                    : periodRepositoryJpa.findBookedRoomDates(roomId, typePeriod, dates);
+            if (!bookedRooms.isEmpty()) {
+                throw new RoomAlreadyBookedException(roomId, bookedRooms.get(0), typePeriod);
+            }
+
+            List<LocalDate> bookedTeachers = indexed
+                    ? booked(teachers, teacherSlots)
+                    : periodRepositoryJpa.findBookedTeacherDates(teacherId, typePeriod, dates);
+            if (!bookedTeachers.isEmpty()) {
+                throw new TeacherAlreadyBookedException(teacherId, bookedTeachers.get(0), typePeriod);
+            }
+
+            rooms.addAll(roomSlots);
+            teachers.addAll(teacherSlots);
+        }
+
+        releaseOnRollback(roomSlots, teacherSlots);
+    }
+
+    /**
+     * Translates a violation of the slot unique indexes into the booking exception.
+     *
+     * <p>Such a violation means another instance booked one of the slots after
+     * this index was checked. The committed bookings of the room or teacher
+     * are read again, reported through the exception and added to the index
+     * once the current transaction completes, so the next request is refused
+     * before reaching the database.</p>
+     *
+     * @param violation the violation raised while flushing the periods
+     * @param roomId the room identifier of the periods
+     * @param teacherId the teacher identifier of the periods
+     * @param dates the dates of the periods, in ascending order
+     * @param typePeriod the period of the day of the periods
+     * @return the booking exception, or the violation itself if it is not about a slot
+     */
+    public RuntimeException conflictOf(
+            DataIntegrityViolationException violation,
+            long roomId,
+            long teacherId,
+            List<LocalDate> dates,
+            TypePeriod typePeriod
+    ) {
+        String constraint = constraintOf(violation);
+
+        if (constraint.contains(ROOM_SLOT_CONSTRAINT)) {
+            LocalDate date = bookElsewhere(rooms, roomId, dates, typePeriod,
+                    () -> periodRepositoryJpa.findBookedRoomDates(roomId, typePeriod, dates));
+            return new RoomAlreadyBookedException(roomId, date, typePeriod);
+        }
+        if (constraint.contains(TEACHER_SLOT_CONSTRAINT)) {
+            LocalDate date = bookElsewhere(teachers, teacherId, dates, typePeriod,
+                    () -> periodRepositoryJpa.findBookedTeacherDates(teacherId, typePeriod, dates));
+            return new TeacherAlreadyBookedException(teacherId, date, typePeriod);
+        }
+        return violation;
+    }
+
+    private LocalDate bookElsewhere(
+            Set<Slot> index,
+            long resourceId,
+            List<LocalDate> dates,
+            TypePeriod typePeriod,
+            Supplier<List<LocalDate>> bookedDates
+    ) {
+        List<LocalDate> booked = conflictTemplate.execute(status -> bookedDates.get());
+        List<Slot> slots = (booked == null ? List.<LocalDate>of() : booked).stream()
+                .filter(this::isIndexed)
+                .map(date -> new Slot(resourceId, date, typePeriod))
+                .toList();
+
+        // Added after the rollback released this transaction's own reservations of the same slots
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    index.addAll(slots);
+                }
+            });
+        } else {
+            index.addAll(slots);
+        }
+
+        return booked == null || booked.isEmpty() ? dates.get(0) : booked.get(0);
+    }
+
+    private static String constraintOf(DataIntegrityViolationException violation) {
+        for (Throwable cause = violation; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolation
+                    && constraintViolation.getConstraintName() != null) {
+                return constraintViolation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        String message = NestedExceptionUtils.getMostSpecificCause(violation).getMessage();
+        return message == null ? "" : message.toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isIndexed(LocalDate date) {
+        LocalDate start = windowStart;
+        return start != null && !date.isBefore(start);
+    }
+
+    private List<LocalDate> booked(Set<Slot> index, List<Slot> slots) {
+        return slots.stream()
+                .filter(index::contains)
+                .map(Slot::date)
+                .toList();
+    }
+
+    private void releaseOnRollback(List<Slot> roomSlots, List<Slot> teacherSlots) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        roomSlots.forEach(rooms::remove);
+                        teacherSlots.forEach(teachers::remove);
+                    }
+                }
+            });
+        }
+    }
+
+}
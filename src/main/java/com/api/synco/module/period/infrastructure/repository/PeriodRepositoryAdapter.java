@@ -1,14 +1,21 @@
 package com.api.synco.module.period.infrastructure.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.period.domain.filter.PeriodFilter;
 import com.api.synco.module.period.domain.filter.PeriodPage;
 import com.api.synco.module.period.domain.port.PeriodRepository;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
+import com.api.synco.module.period.infrastructure.occupancy.PeriodOccupancyIndex;
 import com.api.synco.module.period.infrastructure.specification.PeriodFilterProvider;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,14 +25,39 @@ public class PeriodRepositoryAdapter implements PeriodRepository {
 
     private final PeriodFilterProvider periodFilterProvider;
 
-    public PeriodRepositoryAdapter(PeriodRepositoryJpa periodRepositoryJpa, PeriodFilterProvider periodFilterProvider) {
+    private final PeriodOccupancyIndex periodOccupancyIndex;
+
+    private final EntityManager entityManager;
+
+    public PeriodRepositoryAdapter(
+            PeriodRepositoryJpa periodRepositoryJpa,
+            PeriodFilterProvider periodFilterProvider,
+            PeriodOccupancyIndex periodOccupancyIndex,
+            EntityManager entityManager
+    ) {
         this.periodRepositoryJpa = periodRepositoryJpa;
         this.periodFilterProvider = periodFilterProvider;
+        this.periodOccupancyIndex = periodOccupancyIndex;
+        this.entityManager = entityManager;
     }
 
+    // Flushed here, so a slot taken by another instance surfaces as a booking conflict instead of at commit
     @Override
     public PeriodEntity save(PeriodEntity period) {
-        return periodRepositoryJpa.save(period);
+        try {
+            return periodRepositoryJpa.saveAndFlush(period);
+        } catch (DataIntegrityViolationException e) {
+            throw conflictOf(e, List.of(period));
+        }
+    }
+
+    @Override
+    public List<PeriodEntity> saveAll(List<PeriodEntity> periods) {
+        try {
+            return periodRepositoryJpa.saveAllAndFlush(periods);
+        } catch (DataIntegrityViolationException e) {
+            throw conflictOf(e, periods);
+        }
     }
 
     @Override
@@ -34,15 +66,52 @@ public class PeriodRepositoryAdapter implements PeriodRepository {
     }
 
     @Override
-    public Page<PeriodEntity> findAll(PeriodFilter periodFilter, PeriodPage periodPage) {
-        var specification = periodFilterProvider.of(periodFilter);
+    public Optional<PeriodEntity> findByIdForUpdate(long periodId) {
+        return periodRepositoryJpa.findByIdForUpdate(periodId);
+    }
+
+    @Override
+    public Slice<PeriodSummary> findAll(PeriodFilter periodFilter, PeriodPage periodPage) {
+        Specification<PeriodEntity> after = periodPage.afterId() != null
+                ? KeysetPagination.after("id", periodPage.afterId())
+                : null;
 
-        PageRequest pageRequest = PageRequest.of(
+        return KeysetPagination.findProjectedSlice(
+                entityManager,
+                PeriodEntity.class,
+                PeriodSummary.class,
+                root -> new Selection<?>[]{
+                        root.get("id"),
+                        root.get("teacher").get("id"),
+                        root.get("room").get("id"),
+                        root.get("classEntity").get("id").get("courseId"),
+                        root.get("classEntity").get("id").get("number"),
+                        root.get("date"),
+                        root.get("typePeriod")
+                },
+                periodFilterProvider.of(periodFilter),
+                after,
                 periodPage.pageNumber(),
-                periodPage.pageSize()
+                periodPage.pageSize(),
+                "id"
         );
+    }
 
-        return periodRepositoryJpa.findAll(specification, pageRequest);
+    @Override
+    public long count(PeriodFilter periodFilter) {
+        return periodRepositoryJpa.count(periodFilterProvider.of(periodFilter));
+    }
+
+    private RuntimeException conflictOf(DataIntegrityViolationException violation, List<PeriodEntity> periods) {
+        PeriodEntity first = periods.get(0);
+
+        return periodOccupancyIndex.conflictOf(
+                violation,
+                first.getRoom().getId(),
+                first.getTeacher().getId(),
+                periods.stream().map(PeriodEntity::getDate).toList(),
+                first.getTypePeriod()
+        );
     }
 
 }
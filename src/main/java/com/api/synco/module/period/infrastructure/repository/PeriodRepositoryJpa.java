@@ -1,10 +1,62 @@
 package com.api.synco.module.period.infrastructure.repository;
 
 import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.projection.PeriodSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface PeriodRepositoryJpa extends JpaRepository<PeriodEntity, Long>, JpaSpecificationExecutor<PeriodEntity> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PeriodEntity p WHERE p.id = :periodId")
+    Optional<PeriodEntity> findByIdForUpdate(@Param("periodId") long periodId);
+
+    @Query("""
+            SELECT new com.api.synco.module.period.domain.projection.PeriodSlot(p.room.id, p.teacher.id, p.date, p.typePeriod)
+            FROM PeriodEntity p
+            WHERE p.date >= :from
+            """)
+    Stream<PeriodSlot> streamSlotsFrom(@Param("from") LocalDate from);
+
+    boolean existsByRoomIdAndDateAndTypePeriod(long roomId, LocalDate date, TypePeriod typePeriod);
+
+    boolean existsByTeacherIdAndDateAndTypePeriod(long teacherId, LocalDate date, TypePeriod typePeriod);
+
+    @Query("""
+            SELECT p.date
+            FROM PeriodEntity p
+            WHERE p.room.id = :roomId AND p.typePeriod = :typePeriod AND p.date IN :dates
+            ORDER BY p.date
+            """)
+    List<LocalDate> findBookedRoomDates(
+            @Param("roomId") long roomId,
+            @Param("typePeriod") TypePeriod typePeriod,
+            @Param("dates") Collection<LocalDate> dates
+    );
+
+    @Query("""
+            SELECT p.date
+            FROM PeriodEntity p
+            WHERE p.teacher.id = :teacherId AND p.typePeriod = :typePeriod AND p.date IN :dates
+            ORDER BY p.date
+            """)
+    List<LocalDate> findBookedTeacherDates(
+            @Param("teacherId") long teacherId,
+            @Param("typePeriod") TypePeriod typePeriod,
+            @Param("dates") Collection<LocalDate> dates
+    );
+
 }
@@ -1,8 +1,11 @@
 package com.api.synco.module.room.application.controller;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.api.CustomApiResponse;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.room.application.dto.CreateRoomRequest;
+import com.api.synco.module.room.application.dto.RoomAvailabilityResponse;
 import com.api.synco.module.room.application.dto.RoomResponse;
 import com.api.synco.module.room.application.dto.UpdateRoomRequest;
 import com.api.synco.module.room.application.service.RoomApplicationService;
@@ -16,7 +19,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,6 +41,7 @@ import org.springframework.web.bind.annotation.*;
  *   <li>Room deletion (with permission checks)</li>
  *   <li>Room retrieval by ID</li>
  *   <li>Paginated room listing with filters</li>
+ *   <li>Free slots of the rooms over a date range</li>
  * </ul>
  *
  * @author Luca5Eckert
@@ -100,8 +108,8 @@ public class RoomController {
     public ResponseEntity<CustomApiResponse<RoomResponse>> create(
             @RequestBody @Valid CreateRoomRequest request
     ) {
-        long userId = authenticationService.getAuthenticatedUserId();
-        var response = roomApplicationService.create(request, userId);
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
+        var response = roomApplicationService.create(request, actor);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -152,8 +160,8 @@ public class RoomController {
             @PathVariable("id") long id,
             @RequestBody @Valid UpdateRoomRequest request
     ) {
-        long userId = authenticationService.getAuthenticatedUserId();
-        var response = roomApplicationService.update(request, id, userId);
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
+        var response = roomApplicationService.update(request, id, actor);
 
         return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
@@ -197,8 +205,8 @@ public class RoomController {
             @Parameter(description = "Room ID", required = true)
             @PathVariable("id") long id
     ) {
-        long userId = authenticationService.getAuthenticatedUserId();
-        roomApplicationService.delete(id, userId);
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
+        roomApplicationService.delete(id, actor);
 
         return ResponseEntity
                 .status(HttpStatus.ACCEPTED)
@@ -250,7 +258,9 @@ public class RoomController {
      * @param number optional filter by room number
      * @param pageNumber page number (0-based)
      * @param pageSize page size
-     * @return a paginated list of rooms matching the criteria
+     * @param cursor optional cursor of the previous page
+     * @param withTotal whether the approximate total is returned
+     * @return a list of rooms matching the criteria
      */
     @GetMapping
     @Operation(
@@ -261,7 +271,7 @@ public class RoomController {
             @ApiResponse(
                     responseCode = "200",
                     description = "List of rooms returned successfully",
-                    content = @Content(schema = @Schema(implementation = Page.class))
+                    content = @Content(schema = @Schema(implementation = RoomResponse.class))
             ),
             @ApiResponse(
                     responseCode = "401",
@@ -269,7 +279,7 @@ public class RoomController {
                     content = @Content
             )
     })
-    public ResponseEntity<CustomApiResponse<Page<RoomResponse>>> getAll(
+    public ResponseEntity<CustomApiResponse<List<RoomResponse>>> getAll(
             @RequestParam(value = "typeRoom", required = false)
             @Parameter(description = "Filters by room type (e.g., MEETING, CLASSROOM)")
             TypeRoom typeRoom,
@@ -284,12 +294,96 @@ public class RoomController {
 
             @RequestParam(value = "size", defaultValue = "10")
             @Parameter(description = "Page size (default 10)")
-            int pageSize
+            int pageSize,
+
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page; replaces the page number")
+            String cursor,
+
+            @RequestParam(value = "total", defaultValue = "false")
+            @Parameter(description = "Returns the approximate total in the X-Total-Count header")
+            boolean withTotal
+    ) {
+        var rooms = roomApplicationService.getAll(typeRoom, number, pageNumber, pageSize, cursor, withTotal);
+
+        return ResponseEntity
+                .ok()
+                .headers(rooms.headers())
+                .body(CustomApiResponse.success(HttpStatus.OK.value(), "List of rooms returned successfully", rooms.content()));
+    }
+
+    /**
+     * Retrieves the rooms with free slots over a date range.
+     *
+     * <p>The rooms and their periods in the range are read in a single query,
+     * so the cost does not grow with the number of rooms or days.</p>
+     *
+     * @param typeRoom optional filter by room type
+     * @param number optional filter by room number
+     * @param from first day of the range
+     * @param to last day of the range, inclusive
+     * @param daysOfWeek days of the week to check, all days when omitted
+     * @param typePeriods periods of the day to check, all periods when omitted
+     * @param requireAll whether a room must be free in every requested slot
+     * @return the matching rooms with their free slots
+     */
+    @GetMapping("/availability")
+    @Operation(
+            summary = "Search room availability",
+            description = "Returns the rooms that are free in the requested days of the week and periods of a date range."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Room availability returned successfully",
+                    content = @Content(schema = @Schema(implementation = RoomAvailabilityResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid date range",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Not authenticated",
+                    content = @Content
+            )
+    })
+    public ResponseEntity<CustomApiResponse<List<RoomAvailabilityResponse>>> getAvailability(
+            @RequestParam(value = "typeRoom", required = false)
+            @Parameter(description = "Filters by room type (e.g., LAB_INFORMATICA)")
+            TypeRoom typeRoom,
+
+            @RequestParam(value = "number", required = false, defaultValue = "0")
+            @Parameter(description = "Filters by room number. If omitted, no filter is applied.")
+            int number,
+
+            @RequestParam("from")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "First day of the range (e.g., 2025-03-01)", required = true)
+            LocalDate from,
+
+            @RequestParam("to")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Last day of the range, inclusive (e.g., 2025-03-31)", required = true)
+            LocalDate to,
+
+            @RequestParam(value = "daysOfWeek", required = false)
+            @Parameter(description = "Days of the week to check (e.g., TUESDAY). If omitted, every day is checked.")
+            Set<DayOfWeek> daysOfWeek,
+
+            @RequestParam(value = "typePeriods", required = false)
+            @Parameter(description = "Periods of the day to check (e.g., EVENING). If omitted, every period is checked.")
+            Set<TypePeriod> typePeriods,
+
+            @RequestParam(value = "requireAll", defaultValue = "true")
+            @Parameter(description = "Returns only rooms free in every requested slot; otherwise rooms with any free slot")
+            boolean requireAll
     ) {
-        var rooms = roomApplicationService.getAll(typeRoom, number, pageNumber, pageSize);
+        var rooms = roomApplicationService.getAvailability(typeRoom, number, from, to, daysOfWeek, typePeriods, requireAll);
 
         return ResponseEntity
-                .ok(CustomApiResponse.success(HttpStatus.OK.value(), "List of rooms returned successfully", rooms));
+                .ok(CustomApiResponse.success(HttpStatus.OK.value(), "Room availability returned successfully", rooms));
     }
 
 }
@@ -0,0 +1,11 @@
+package com.api.synco.module.room.application.dto;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.LocalDate;
+
+public record FreeSlotResponse(
+        LocalDate date,
+        TypePeriod typePeriod
+) {
+}
@@ -0,0 +1,13 @@
+package com.api.synco.module.room.application.dto;
+
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+
+import java.util.List;
+
+public record RoomAvailabilityResponse(
+        long id,
+        int number,
+        TypeRoom typeRoom,
+        List<FreeSlotResponse> freeSlots
+) {
+}
@@ -1,8 +1,10 @@
 package com.api.synco.module.room.application.mapper;
 
+import com.api.synco.module.room.application.dto.FreeSlotResponse;
+import com.api.synco.module.room.application.dto.RoomAvailabilityResponse;
 import com.api.synco.module.room.application.dto.RoomResponse;
 import com.api.synco.module.room.domain.RoomEntity;
-import org.springframework.data.domain.Page;
+import com.api.synco.module.room.domain.availability.RoomAvailability;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,7 +18,14 @@ public class RoomMapper {
         );
     }
 
-    public Page<RoomResponse> of(Page<RoomEntity> page) {
-        return page.map(this::of);
+    public RoomAvailabilityResponse of(RoomAvailability availability) {
+        return new RoomAvailabilityResponse(
+                availability.roomId(),
+                availability.number(),
+                availability.typeRoom(),
+                availability.freeSlots().stream()
+                        .map(slot -> new FreeSlotResponse(slot.date(), slot.typePeriod()))
+                        .toList()
+        );
     }
 }
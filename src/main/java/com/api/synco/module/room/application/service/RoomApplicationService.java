@@ -1,20 +1,32 @@
 package com.api.synco.module.room.application.service;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.room.application.dto.CreateRoomRequest;
+import com.api.synco.module.room.application.dto.RoomAvailabilityResponse;
 import com.api.synco.module.room.application.dto.RoomResponse;
 import com.api.synco.module.room.application.dto.UpdateRoomRequest;
 import com.api.synco.module.room.application.mapper.RoomMapper;
 import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.availability.RoomAvailabilityQuery;
 import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.room.domain.filter.RoomFilter;
+import com.api.synco.module.room.domain.filter.RoomPage;
 import com.api.synco.module.room.domain.use_case.CreateRoomUseCase;
 import com.api.synco.module.room.domain.use_case.DeleteRoomUseCase;
 import com.api.synco.module.room.domain.use_case.GetAllRoomUseCase;
+import com.api.synco.module.room.domain.use_case.GetRoomAvailabilityUseCase;
 import com.api.synco.module.room.domain.use_case.GetRoomUseCase;
 import com.api.synco.module.room.domain.use_case.UpdateRoomUseCase;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class RoomApplicationService {
@@ -24,6 +36,7 @@ public class RoomApplicationService {
     private final DeleteRoomUseCase deleteRoomUseCase;
     private final GetRoomUseCase getRoomUseCase;
     private final GetAllRoomUseCase getAllRoomUseCase;
+    private final GetRoomAvailabilityUseCase getRoomAvailabilityUseCase;
 
     private final RoomMapper roomMapper;
 
@@ -33,6 +46,7 @@ public class RoomApplicationService {
             DeleteRoomUseCase deleteRoomUseCase,
             GetRoomUseCase getRoomUseCase,
             GetAllRoomUseCase getAllRoomUseCase,
+            GetRoomAvailabilityUseCase getRoomAvailabilityUseCase,
             RoomMapper roomMapper
     ) {
         this.createRoomUseCase = createRoomUseCase;
@@ -40,28 +54,29 @@ public class RoomApplicationService {
         this.deleteRoomUseCase = deleteRoomUseCase;
         this.getRoomUseCase = getRoomUseCase;
         this.getAllRoomUseCase = getAllRoomUseCase;
+        this.getRoomAvailabilityUseCase = getRoomAvailabilityUseCase;
         this.roomMapper = roomMapper;
     }
 
-    public RoomResponse create(CreateRoomRequest request, long authenticatedUserId) {
+    public RoomResponse create(CreateRoomRequest request, AuthenticatedActor actor) {
         Objects.requireNonNull(request, "CreateRoomRequest must not be null");
 
         var command = new com.api.synco.module.room.domain.command.CreateRoomCommand(
                 request.number(),
                 request.typeRoom(),
-                authenticatedUserId
+                actor
         );
 
         RoomEntity created = createRoomUseCase.execute(command);
         return roomMapper.of(created);
     }
 
-    public RoomResponse update(UpdateRoomRequest request, long roomId, long authenticatedUserId) {
+    public RoomResponse update(UpdateRoomRequest request, long roomId, AuthenticatedActor actor) {
         Objects.requireNonNull(request, "UpdateRoomRequest must not be null");
 
         var command = new com.api.synco.module.room.domain.command.UpdateRoomCommand(
                 roomId,
-                authenticatedUserId,
+                actor,
                 request.number(),
                 request.typeRoom()
         );
@@ -70,8 +85,8 @@ public class RoomApplicationService {
         return roomMapper.of(updated);
     }
 
-    public void delete(long roomId, long authenticatedUserId) {
-        deleteRoomUseCase.execute(roomId, authenticatedUserId);
+    public void delete(long roomId, AuthenticatedActor actor) {
+        deleteRoomUseCase.execute(roomId, actor);
     }
 
     public RoomResponse getById(long roomId) {
@@ -79,14 +94,40 @@ public class RoomApplicationService {
         return roomMapper.of(room);
     }
 
-    public Page<RoomResponse> getAll(
+    public CursorPage<RoomResponse> getAll(
             TypeRoom typeRoom,
             int number,
             int pageNumber,
-            int pageSize
+            int pageSize,
+            String cursor,
+            boolean withTotal
     ) {
-        Page<RoomEntity> page = getAllRoomUseCase.execute(typeRoom, number, pageNumber, pageSize);
-        return roomMapper.of(page);
+        Slice<RoomEntity> page = getAllRoomUseCase.execute(typeRoom, number, pageNumber, pageSize, cursor, withTotal);
+        return CursorPage.of(page, RoomPage::cursorOf)
+                .map(roomMapper::of);
+    }
+
+    public List<RoomAvailabilityResponse> getAvailability(
+            TypeRoom typeRoom,
+            int number,
+            LocalDate from,
+            LocalDate to,
+            Set<DayOfWeek> daysOfWeek,
+            Set<TypePeriod> typePeriods,
+            boolean requireAll
+    ) {
+        var query = new RoomAvailabilityQuery(
+                new RoomFilter(typeRoom, number),
+                from,
+                to,
+                daysOfWeek == null ? Set.of() : daysOfWeek,
+                typePeriods == null ? Set.of() : typePeriods,
+                requireAll
+        );
+
+        return getRoomAvailabilityUseCase.execute(query).stream()
+                .map(roomMapper::of)
+                .toList();
     }
 
 
@@ -1,10 +1,15 @@
 package com.api.synco.module.room.domain;
 
+import com.api.synco.core.persistence.IdGenerators;
 import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Domain entity representing a room in the system.
@@ -18,10 +23,20 @@ import jakarta.persistence.Id;
  * @see TypeRoom
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.room")
 public class RoomEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "room_id")
+    @TableGenerator(
+            name = "room_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "room",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private long id;
 
     private int number;
@@ -0,0 +1,11 @@
+package com.api.synco.module.room.domain.availability;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.LocalDate;
+
+public record FreeSlot(
+        LocalDate date,
+        TypePeriod typePeriod
+) {
+}
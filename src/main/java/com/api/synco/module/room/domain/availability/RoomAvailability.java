@@ -0,0 +1,13 @@
+package com.api.synco.module.room.domain.availability;
+
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+
+import java.util.List;
+
+public record RoomAvailability(
+        long roomId,
+        int number,
+        TypeRoom typeRoom,
+        List<FreeSlot> freeSlots
+) {
+}
@@ -0,0 +1,18 @@
+package com.api.synco.module.room.domain.availability;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.room.domain.filter.RoomFilter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record RoomAvailabilityQuery(
+        RoomFilter roomFilter,
+        LocalDate from,
+        LocalDate to,
+        Set<DayOfWeek> daysOfWeek,
+        Set<TypePeriod> typePeriods,
+        boolean requireAll
+) {
+}
@@ -0,0 +1,106 @@
+package com.api.synco.module.room.domain.availability;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * Numbers the period slots of a date range as bit positions.
+ *
+ * <p>Each day of the range takes one bit per {@link TypePeriod}, so the slots
+ * of a room fit in one {@link BitSet} and availability is computed with bit
+ * operations instead of one query per room or per day.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotGrid {
+
+    private static final TypePeriod[] TYPES = TypePeriod.values();
+
+    private final LocalDate from;
+    private final int days;
+
+    /**
+     * Constructs the grid of a date range.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range, inclusive
+     */
+    public SlotGrid(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+    }
+
+    /**
+     * Returns the number of slots of the range.
+     *
+     * @return the number of bits of the grid
+     */
+    public int size() {
+        return days * TYPES.length;
+    }
+
+    /**
+     * Returns the bit position of a slot.
+     *
+     * @param date the day of the slot, inside the range
+     * @param typePeriod the period of the day of the slot
+     * @return the bit position
+     */
+    public int indexOf(LocalDate date, TypePeriod typePeriod) {
+        return (int) ChronoUnit.DAYS.between(from, date) * TYPES.length + typePeriod.ordinal();
+    }
+
+    /**
+     * Returns the day of a bit position.
+     *
+     * @param index the bit position
+     * @return the day of the slot
+     */
+    public LocalDate dateAt(int index) {
+        return from.plusDays(index / TYPES.length);
+    }
+
+    /**
+     * Returns the period of the day of a bit position.
+     *
+     * @param index the bit position
+     * @return the period of the day of the slot
+     */
+    public TypePeriod typePeriodAt(int index) {
+        return TYPES[index % TYPES.length];
+    }
+
+    /**
+     * Builds the set of slots falling on the given days of the week and periods.
+     *
+     * @param daysOfWeek the days of the week, all days when empty
+     * @param typePeriods the periods of the day, all periods when empty
+     * @return the bits of the matching slots
+     */
+    public BitSet mask(Set<DayOfWeek> daysOfWeek, Set<TypePeriod> typePeriods) {
+        BitSet mask = new BitSet(size());
+
+        for (int day = 0; day < days; day++) {
+            LocalDate date = from.plusDays(day);
+            if (!daysOfWeek.isEmpty() && !daysOfWeek.contains(date.getDayOfWeek())) {
+                continue;
+            }
+
+            for (TypePeriod typePeriod : TYPES) {
+                if (typePeriods.isEmpty() || typePeriods.contains(typePeriod)) {
+                    mask.set(day * TYPES.length + typePeriod.ordinal());
+                }
+            }
+        }
+
+        return mask;
+    }
+
+}
@@ -1,10 +1,11 @@
 package com.api.synco.module.room.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.room.domain.enumerator.TypeRoom;
 
 public record CreateRoomCommand(
         int number,
         TypeRoom typeRoom,
-        long authenticatedUserId
+        AuthenticatedActor actor
 ) {
 }
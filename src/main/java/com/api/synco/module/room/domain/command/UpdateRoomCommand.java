@@ -1,10 +1,11 @@
 package com.api.synco.module.room.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.room.domain.enumerator.TypeRoom;
 
 public record UpdateRoomCommand(
         long roomId,
-        long authenticatedUserId,
+        AuthenticatedActor actor,
         int number,
         TypeRoom typeRoom
 ) {
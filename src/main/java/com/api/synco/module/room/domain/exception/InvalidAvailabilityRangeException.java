@@ -0,0 +1,7 @@
+package com.api.synco.module.room.domain.exception;
+
+public class InvalidAvailabilityRangeException extends RoomDomainException {
+    public InvalidAvailabilityRangeException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,27 @@
 package com.api.synco.module.room.domain.filter;
 
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.room.domain.RoomEntity;
+
 public record RoomPage(
         int pageNumber,
-        int pageSize
+        int pageSize,
+        Long afterId
 ) {
+
+    public RoomPage(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    public static RoomPage of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return new RoomPage(pageNumber, pageSize);
+        }
+
+        return new RoomPage(pageNumber, pageSize, PageCursor.decode(cursor, 1)[0]);
+    }
+
+    public static String cursorOf(RoomEntity room) {
+        return PageCursor.encode(room.getId());
+    }
 }
@@ -1,11 +1,16 @@
 package com.api.synco.module.room.domain.port;
 
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.filter.RoomFilter;
 import com.api.synco.module.room.domain.filter.RoomPage;
-import org.springframework.data.domain.Page;
+import com.api.synco.module.room.domain.projection.RoomOccupancyRow;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface RoomRepository {
 
@@ -19,5 +24,9 @@ public interface RoomRepository {
 
     boolean existsById(long roomId);
 
-    Page<RoomEntity> findAll(RoomFilter roomFilter, RoomPage roomPage);
+    Slice<RoomEntity> findAll(RoomFilter roomFilter, RoomPage roomPage);
+
+    long count(RoomFilter roomFilter);
+
+    List<RoomOccupancyRow> findOccupancy(RoomFilter roomFilter, LocalDate from, LocalDate to, Set<TypePeriod> typePeriods);
 }
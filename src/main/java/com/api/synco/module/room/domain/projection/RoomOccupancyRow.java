@@ -0,0 +1,24 @@
+package com.api.synco.module.room.domain.projection;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+
+import java.time.LocalDate;
+
+/**
+ * One room joined with one of its periods, or with none.
+ *
+ * @param roomId the room identifier
+ * @param number the room number
+ * @param typeRoom the room type
+ * @param date the date of the period, {@code null} for a room without periods in the range
+ * @param typePeriod the period of the day of the period, {@code null} for a room without periods in the range
+ */
+public record RoomOccupancyRow(
+        long roomId,
+        int number,
+        TypeRoom typeRoom,
+        LocalDate date,
+        TypePeriod typePeriod
+) {
+}
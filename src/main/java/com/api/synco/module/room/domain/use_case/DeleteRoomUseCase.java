@@ -1,13 +1,12 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
+import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.exception.RoomNotExistException;
 import com.api.synco.module.room.domain.exception.user.UserWithoutDeleteRoomPermissionException;
-import com.api.synco.module.room.domain.permission.RoomPermissionPolicy;
 import com.api.synco.module.room.domain.port.RoomRepository;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,27 +15,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteRoomUseCase {
 
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
 
     private final PermissionPolicy permitionPolicy;
 
+    private final ReferenceDataCache referenceDataCache;
+
     public DeleteRoomUseCase(
             RoomRepository roomRepository,
-            UserRepository userRepository,
-            @Qualifier("roomPermissionPolicy") PermissionPolicy permitionPolicy
+            @Qualifier("roomPermissionPolicy") PermissionPolicy permitionPolicy,
+            ReferenceDataCache referenceDataCache
     ) {
         this.roomRepository = roomRepository;
-        this.userRepository = userRepository;
         this.permitionPolicy = permitionPolicy;
+        this.referenceDataCache = referenceDataCache;
     }
 
 
     @Transactional
-    public void execute(long roomId, long userAuthenticatedId){
-        UserEntity userEntity = userRepository.findById(userAuthenticatedId)
-                .orElseThrow( () -> new UserNotFoundDomainException(userAuthenticatedId));
-
-        if(!permitionPolicy.canDelete(userEntity.getRole())){
+    public void execute(long roomId, AuthenticatedActor actor){
+        if(!permitionPolicy.canDelete(actor.role())){
             throw new UserWithoutDeleteRoomPermissionException();
         }
 
@@ -45,6 +42,7 @@ public class DeleteRoomUseCase {
         }
 
         roomRepository.deleteById(roomId);
+        referenceDataCache.evict(RoomEntity.class, roomId);
     }
 
 }
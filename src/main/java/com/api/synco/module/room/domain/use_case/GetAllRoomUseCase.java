@@ -1,27 +1,32 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.enumerator.TypeRoom;
 import com.api.synco.module.room.domain.filter.RoomFilter;
 import com.api.synco.module.room.domain.filter.RoomPage;
 import com.api.synco.module.room.domain.port.RoomRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component
 public class GetAllRoomUseCase {
 
     private final RoomRepository roomRepository;
+    private final ApproximateTotalCache approximateTotalCache;
 
-    public GetAllRoomUseCase(RoomRepository roomRepository) {
+    public GetAllRoomUseCase(RoomRepository roomRepository, ApproximateTotalCache approximateTotalCache) {
         this.roomRepository = roomRepository;
+        this.approximateTotalCache = approximateTotalCache;
     }
 
-    public Page<RoomEntity> execute(
+    public Slice<RoomEntity> execute(
             TypeRoom typeRoom,
             int number,
             int pageNumber,
-            int pageSize
+            int pageSize,
+            String cursor,
+            boolean withTotal
     ){
 
         RoomFilter roomFilter = new RoomFilter(
@@ -29,12 +34,19 @@ public class GetAllRoomUseCase {
                 number
         );
 
-        RoomPage roomPage = new RoomPage(
+        RoomPage roomPage = RoomPage.of(
                 pageNumber,
-                pageSize
+                pageSize,
+                cursor
         );
 
-        return roomRepository.findAll(roomFilter, roomPage);
+        Slice<RoomEntity> rooms = roomRepository.findAll(roomFilter, roomPage);
+
+        if (!withTotal) {
+            return rooms;
+        }
+
+        return approximateTotalCache.withTotal(rooms, roomFilter, () -> roomRepository.count(roomFilter));
     }
 
 }
@@ -0,0 +1,74 @@
+package com.api.synco.module.room.domain.use_case;
+
+import com.api.synco.core.validation.DateRangeValidator;
+import com.api.synco.module.room.domain.availability.FreeSlot;
+import com.api.synco.module.room.domain.availability.RoomAvailability;
+import com.api.synco.module.room.domain.availability.RoomAvailabilityQuery;
+import com.api.synco.module.room.domain.availability.SlotGrid;
+import com.api.synco.module.room.domain.exception.InvalidAvailabilityRangeException;
+import com.api.synco.module.room.domain.port.RoomRepository;
+import com.api.synco.module.room.domain.projection.RoomOccupancyRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class GetRoomAvailabilityUseCase {
+
+    private final RoomRepository roomRepository;
+
+    public GetRoomAvailabilityUseCase(RoomRepository roomRepository) {
+        this.roomRepository = roomRepository;
+    }
+
+    public List<RoomAvailability> execute(RoomAvailabilityQuery query) {
+        DateRangeValidator.validate(query.from(), query.to(), "availability range", InvalidAvailabilityRangeException::new);
+
+        SlotGrid grid = new SlotGrid(query.from(), query.to());
+        BitSet requested = grid.mask(query.daysOfWeek(), query.typePeriods());
+
+        // Rooms and their booked slots come from one statement, folded into one bitset per room
+        Map<Long, RoomOccupancyRow> rooms = new LinkedHashMap<>();
+        Map<Long, BitSet> occupied = new LinkedHashMap<>();
+
+        for (RoomOccupancyRow row : roomRepository.findOccupancy(query.roomFilter(), query.from(), query.to(), query.typePeriods())) {
+            rooms.putIfAbsent(row.roomId(), row);
+            BitSet slots = occupied.computeIfAbsent(row.roomId(), id -> new BitSet(grid.size()));
+
+            if (row.date() != null) {
+                slots.set(grid.indexOf(row.date(), row.typePeriod()));
+            }
+        }
+
+        List<RoomAvailability> availabilities = new ArrayList<>();
+
+        for (Map.Entry<Long, BitSet> entry : occupied.entrySet()) {
+            BitSet free = (BitSet) requested.clone();
+            free.andNot(entry.getValue());
+
+            boolean available = query.requireAll()
+                    ? free.cardinality() == requested.cardinality()
+                    : !free.isEmpty();
+
+            if (available) {
+                RoomOccupancyRow room = rooms.get(entry.getKey());
+                availabilities.add(new RoomAvailability(room.roomId(), room.number(), room.typeRoom(), freeSlots(grid, free)));
+            }
+        }
+
+        return availabilities;
+    }
+
+    private List<FreeSlot> freeSlots(SlotGrid grid, BitSet free) {
+        List<FreeSlot> slots = new ArrayList<>(free.cardinality());
+        for (int index = free.nextSetBit(0); index >= 0; index = free.nextSetBit(index + 1)) {
+            slots.add(new FreeSlot(grid.dateAt(index), grid.typePeriodAt(index)));
+        }
+        return slots;
+    }
+
+}
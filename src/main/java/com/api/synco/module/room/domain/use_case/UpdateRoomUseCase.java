@@ -1,14 +1,12 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.exception.RoomNotExistException;
 import com.api.synco.module.room.domain.exception.user.UserWithoutUpdateRoomPermissionException;
 import com.api.synco.module.room.domain.port.RoomRepository;
 import com.api.synco.module.room.domain.command.UpdateRoomCommand;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,26 +15,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateRoomUseCase {
 
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
 
     private final PermissionPolicy permissionPolicy;
 
+    private final ReferenceDataCache referenceDataCache;
+
     public UpdateRoomUseCase(
             RoomRepository roomRepository,
-            UserRepository userRepository,
-            @Qualifier("roomPermissionPolicy") PermissionPolicy permissionPolicy
+            @Qualifier("roomPermissionPolicy") PermissionPolicy permissionPolicy,
+            ReferenceDataCache referenceDataCache
     ) {
         this.roomRepository = roomRepository;
-        this.userRepository = userRepository;
         this.permissionPolicy = permissionPolicy;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Transactional
     public RoomEntity execute(UpdateRoomCommand updateRoomCommand){
-        UserEntity userEntity = userRepository.findById(updateRoomCommand.authenticatedUserId())
-                .orElseThrow( () -> new UserNotFoundDomainException(updateRoomCommand.authenticatedUserId()));
-
-        if(!permissionPolicy.canEdit(userEntity.getRole())){
+        if(!permissionPolicy.canEdit(updateRoomCommand.actor().role())){
             throw new UserWithoutUpdateRoomPermissionException();
         }
 
@@ -49,6 +45,7 @@ public class UpdateRoomUseCase {
         );
 
         roomRepository.save(room);
+        referenceDataCache.evict(RoomEntity.class, room.getId());
 
         return room;
     }
@@ -1,16 +1,31 @@
 package com.api.synco.module.room.infrastructure.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.filter.RoomFilter;
 import com.api.synco.module.room.domain.filter.RoomPage;
 import com.api.synco.module.room.domain.port.RoomRepository;
+import com.api.synco.module.room.domain.projection.RoomOccupancyRow;
 import com.api.synco.module.room.infrastructure.specification.RoomFilterProvider;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaEntityJoin;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class RoomRepositoryAdapter implements RoomRepository {
@@ -19,9 +34,12 @@ public class RoomRepositoryAdapter implements RoomRepository {
 
     private final RoomFilterProvider roomFilterProvider;
 
-    public RoomRepositoryAdapter(RoomRepositoryJpa roomRepositoryJpa, RoomFilterProvider roomFilterProvider) {
+    private final EntityManager entityManager;
+
+    public RoomRepositoryAdapter(RoomRepositoryJpa roomRepositoryJpa, RoomFilterProvider roomFilterProvider, EntityManager entityManager) {
         this.roomRepositoryJpa = roomRepositoryJpa;
         this.roomFilterProvider = roomFilterProvider;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -50,15 +68,62 @@ public class RoomRepositoryAdapter implements RoomRepository {
     }
 
     @Override
-    public Page<RoomEntity> findAll(RoomFilter roomFilter, RoomPage roomPage) {
+    public Slice<RoomEntity> findAll(RoomFilter roomFilter, RoomPage roomPage) {
         Specification<RoomEntity> specificationRoom = roomFilterProvider.of(roomFilter);
 
-        PageRequest pageRequest = PageRequest.of(
+        Specification<RoomEntity> after = roomPage.afterId() != null
+                ? KeysetPagination.after("id", roomPage.afterId())
+                : null;
+
+        return KeysetPagination.findSlice(
+                roomRepositoryJpa,
+                specificationRoom,
+                after,
                 roomPage.pageNumber(),
-                roomPage.pageSize()
+                roomPage.pageSize(),
+                KeysetPagination.keyOrder("id")
         );
+    }
+
+    @Override
+    public long count(RoomFilter roomFilter) {
+        return roomRepositoryJpa.count(roomFilterProvider.of(roomFilter));
+    }
+
+    @Override
+    public List<RoomOccupancyRow> findOccupancy(RoomFilter roomFilter, LocalDate from, LocalDate to, Set<TypePeriod> typePeriods) {
+        HibernateCriteriaBuilder criteriaBuilder = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<RoomOccupancyRow> query = criteriaBuilder.createQuery(RoomOccupancyRow.class);
+        JpaRoot<RoomEntity> room = query.from(RoomEntity.class);
+
+        // Left join, so rooms without periods in the range still come back once with an empty slot
+        JpaEntityJoin<PeriodEntity> period = room.join(PeriodEntity.class, SqmJoinType.LEFT);
+
+        List<Predicate> on = new ArrayList<>();
+        on.add(criteriaBuilder.equal(period.get("room"), room));
+        on.add(criteriaBuilder.between(period.get("date"), from, to));
+        if (!typePeriods.isEmpty()) {
+            on.add(period.get("typePeriod").in(typePeriods));
+        }
+        period.on(criteriaBuilder.and(on.toArray(Predicate[]::new)));
+
+        query.select(criteriaBuilder.construct(
+                RoomOccupancyRow.class,
+                room.get("id"),
+                room.get("number"),
+                room.get("typeRoom"),
+                period.get("date"),
+                period.get("typePeriod")
+        ));
+
+        Predicate filter = roomFilterProvider.of(roomFilter).toPredicate(room, query, criteriaBuilder);
+        if (filter != null) {
+            query.where(filter);
+        }
+
+        query.orderBy(criteriaBuilder.asc(room.get("id")));
 
-        return roomRepositoryJpa.findAll(specificationRoom, pageRequest);
+        return entityManager.createQuery(query).getResultList();
     }
 
 }
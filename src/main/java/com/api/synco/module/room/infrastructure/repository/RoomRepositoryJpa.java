@@ -1,11 +1,17 @@
 package com.api.synco.module.room.infrastructure.repository;
 
 import com.api.synco.module.room.domain.RoomEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RoomRepositoryJpa extends JpaRepository<RoomEntity, Long>, JpaSpecificationExecutor<RoomEntity> {
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     boolean existsByNumber(int number);
+
 }
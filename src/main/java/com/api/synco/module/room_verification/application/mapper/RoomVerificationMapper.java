@@ -1,5 +1,6 @@
 package com.api.synco.module.room_verification.application.mapper;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.room_verification.application.dto.RoomVerificationResponse;
 import com.api.synco.module.room_verification.application.dto.create.CreateRoomVerificationRequest;
 import com.api.synco.module.room_verification.application.dto.update.UpdateRoomVerificationRequest;
@@ -14,11 +15,11 @@ public class RoomVerificationMapper {
     public CreateRoomVerificationCommand toCreateCommand(
             CreateRoomVerificationRequest createRoomVerificationRequest,
             long periodId,
-            long userAuthenticatedId
+            AuthenticatedActor actor
     ) {
         return new CreateRoomVerificationCommand(
                 periodId,
-                userAuthenticatedId,
+                actor,
                 createRoomVerificationRequest.allOrganized(),
                 createRoomVerificationRequest.description(),
                 createRoomVerificationRequest.observations(),
@@ -37,10 +38,10 @@ public class RoomVerificationMapper {
         );
     }
 
-    public UpdateRoomVerificationCommand toUpdateCommand(UpdateRoomVerificationRequest request, long roomVerificationId, long userAuthenticatedId) {
+    public UpdateRoomVerificationCommand toUpdateCommand(UpdateRoomVerificationRequest request, long roomVerificationId, AuthenticatedActor actor) {
         return new UpdateRoomVerificationCommand(
                 roomVerificationId,
-                userAuthenticatedId,
+                actor,
                 request.allOrganized(),
                 request.description(),
                 request.observations(),
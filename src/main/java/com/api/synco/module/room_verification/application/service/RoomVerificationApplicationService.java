@@ -1,5 +1,6 @@
 package com.api.synco.module.room_verification.application.service;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.room_verification.application.dto.RoomVerificationResponse;
 import com.api.synco.module.room_verification.application.dto.create.CreateRoomVerificationRequest;
 import com.api.synco.module.room_verification.application.dto.update.UpdateRoomVerificationRequest;
@@ -25,11 +26,11 @@ public class RoomVerificationApplicationService {
         this.roomVerificationMapper = roomVerificationMapper;
     }
 
-    public RoomVerificationResponse create(CreateRoomVerificationRequest request, long periodId, long userAuthenticatedId) {
+    public RoomVerificationResponse create(CreateRoomVerificationRequest request, long periodId, AuthenticatedActor actor) {
         CreateRoomVerificationCommand command = roomVerificationMapper.toCreateCommand(
                 request,
                 periodId,
-                userAuthenticatedId
+                actor
         );
 
         RoomVerificationEntity roomVerificationEntity = createRoomVerificationUseCase.execute(command);
@@ -37,11 +38,11 @@ public class RoomVerificationApplicationService {
         return roomVerificationMapper.toResponse(roomVerificationEntity);
     }
 
-    public RoomVerificationResponse update(UpdateRoomVerificationRequest request, long roomVerificationId, long userAuthenticatedId) {
+    public RoomVerificationResponse update(UpdateRoomVerificationRequest request, long roomVerificationId, AuthenticatedActor actor) {
         UpdateRoomVerificationCommand command = roomVerificationMapper.toUpdateCommand(
                 request,
                 roomVerificationId,
-                userAuthenticatedId
+                actor
         );
 
         RoomVerificationEntity roomVerificationEntity = updateRoomVerificationUseCase.execute(command);
@@ -1,5 +1,6 @@
 package com.api.synco.module.room_verification.domain;
 
+import com.api.synco.core.persistence.IdGenerators;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.room_verification.domain.value_object.RoomVerificationForm;
 import jakarta.persistence.*;
@@ -22,7 +23,15 @@ import java.time.LocalDate;
 public class RoomVerificationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "room_verification_id")
+    @TableGenerator(
+            name = "room_verification_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "room_verification",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
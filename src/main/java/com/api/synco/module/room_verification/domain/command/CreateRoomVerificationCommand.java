@@ -1,8 +1,10 @@
 package com.api.synco.module.room_verification.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+
 public record CreateRoomVerificationCommand(
         long periodId,
-        long userAuthenticatedId,
+        AuthenticatedActor actor,
         boolean allOrganized,
         String description,
         String observations,
@@ -1,7 +1,9 @@
 package com.api.synco.module.room_verification.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+
 public record GetAllRoomVerificationCommand(
-        long userAuthenticatedId,
+        AuthenticatedActor actor,
         Long periodId,
         long courseId,
         int number,
@@ -9,6 +11,7 @@ public record GetAllRoomVerificationCommand(
         String description,
         String ticket,
         int pageNumber,
-        int pageSize
+        int pageSize,
+        String cursor
 ) {
 }
@@ -1,7 +1,9 @@
 package com.api.synco.module.room_verification.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+
 public record GetRoomVerificationCommand(
         long roomVerificationId,
-        long userAuthenticatedId
+        AuthenticatedActor actor
 ) {
 }
@@ -1,8 +1,10 @@
 package com.api.synco.module.room_verification.domain.command;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+
 public record UpdateRoomVerificationCommand(
         long roomVerificationId,
-        long userAuthenticatedId,
+        AuthenticatedActor actor,
         Boolean allOrganized,
         String description,
         String observations,
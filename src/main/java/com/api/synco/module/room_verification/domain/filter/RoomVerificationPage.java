@@ -1,8 +1,12 @@
 package com.api.synco.module.room_verification.domain.filter;
 
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
+
 public record RoomVerificationPage(
         int pageNumber,
-        int pageSize
+        int pageSize,
+        Long afterId
 ) {
 
     public RoomVerificationPage {
@@ -14,7 +18,23 @@ public record RoomVerificationPage(
         }
     }
 
+    public RoomVerificationPage(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
     public static RoomVerificationPage of(int pageNumber, int pageSize) {
         return new RoomVerificationPage(pageNumber, pageSize);
     }
+
+    public static RoomVerificationPage of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return of(pageNumber, pageSize);
+        }
+
+        return new RoomVerificationPage(pageNumber, pageSize, PageCursor.decode(cursor, 1)[0]);
+    }
+
+    public static String cursorOf(RoomVerificationEntity roomVerification) {
+        return PageCursor.encode(roomVerification.getId());
+    }
 }
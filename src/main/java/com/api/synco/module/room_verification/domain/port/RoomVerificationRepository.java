@@ -3,7 +3,7 @@ package com.api.synco.module.room_verification.domain.port;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import com.api.synco.module.room_verification.domain.filter.RoomVerificationFilter;
 import com.api.synco.module.room_verification.domain.filter.RoomVerificationPage;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
@@ -14,5 +14,5 @@ public interface RoomVerificationRepository {
 
     Optional<RoomVerificationEntity> findById(long roomVerificationId);
 
-    Page<RoomVerificationEntity> findAll(RoomVerificationFilter roomVerificationFilter, RoomVerificationPage roomVerificationPage);
+    Slice<RoomVerificationEntity> findAll(RoomVerificationFilter roomVerificationFilter, RoomVerificationPage roomVerificationPage);
 }
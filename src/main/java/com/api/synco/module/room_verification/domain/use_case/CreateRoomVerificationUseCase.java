@@ -1,10 +1,10 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.period.domain.exception.PeriodNotFoundException;
 import com.api.synco.module.period.domain.port.PeriodRepository;
@@ -25,13 +25,13 @@ public class CreateRoomVerificationUseCase {
 
     private final RoomVerificationRepository roomVerificationRepository;
     private final PeriodRepository periodRepository;
-    private final ClassUserRepository classUserRepository;
+    private final ClassMembershipLookup classMembershipLookup;
     private final RoomVerificationPermissionPolicy permissionPolicy;
 
-    public CreateRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, PeriodRepository periodRepository, ClassUserRepository classUserRepository, RoomVerificationPermissionPolicy permissionPolicy) {
+    public CreateRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, PeriodRepository periodRepository, ClassMembershipLookup classMembershipLookup, RoomVerificationPermissionPolicy permissionPolicy) {
         this.roomVerificationRepository = roomVerificationRepository;
         this.periodRepository = periodRepository;
-        this.classUserRepository = classUserRepository;
+        this.classMembershipLookup = classMembershipLookup;
         this.permissionPolicy = permissionPolicy;
     }
 
@@ -43,7 +43,7 @@ public class CreateRoomVerificationUseCase {
         if (roomVerificationRepository.existsByPeriodId(period.getId())) {
             throw new RoomVerificationAlreadyExistException();
         }
-        validateUserPermissions(command.userAuthenticatedId(), period.getClassEntity().getId());
+        validateUserPermissions(command.actor(), period.getClassEntity().getId());
 
         RoomVerificationEntity entity = mapToEntity(command, period);
         roomVerificationRepository.save(entity);
@@ -51,12 +51,11 @@ public class CreateRoomVerificationUseCase {
         return entity;
     }
 
-    private void validateUserPermissions(long userId, ClassEntityId classEntityId) {
-        ClassUserId classUserId = new ClassUserId(userId, classEntityId);
-        ClassUser classUser = classUserRepository.findById(classUserId)
+    private void validateUserPermissions(AuthenticatedActor actor, ClassEntityId classEntityId) {
+        ClassMembership membership = classMembershipLookup.find(classEntityId, actor.id())
                 .orElseThrow(ClassUserNotFoundException::new);
 
-        if (!permissionPolicy.canCreate(classUser.getUserEntity().getRole(), classUser.getTypeUserClass())) {
+        if (!permissionPolicy.canCreate(actor.role(), membership.typeUserClass())) {
             throw new UserNotHavePermissionToCreateRoomVerificationException();
         }
     }
@@ -1,59 +1,51 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import com.api.synco.module.room_verification.domain.command.GetAllRoomVerificationCommand;
-import com.api.synco.module.room_verification.domain.exception.RoomVerificationNotFound;
 import com.api.synco.module.room_verification.domain.exception.user.UserNotHavePermissionToGetRoomVerificationException;
 import com.api.synco.module.room_verification.domain.filter.RoomVerificationFilter;
 import com.api.synco.module.room_verification.domain.filter.RoomVerificationPage;
 import com.api.synco.module.room_verification.domain.permission.RoomVerificationPermissionPolicy;
 import com.api.synco.module.room_verification.domain.port.RoomVerificationRepository;
-import com.api.synco.module.room_verification.domain.value_object.RoomVerificationForm;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component
 public class GetAllRoomVerificationUseCase {
 
     private final RoomVerificationRepository roomVerificationRepository;
-    private final ClassUserRepository classUserRepository;
+    private final ClassMembershipLookup classMembershipLookup;
 
     private final RoomVerificationPermissionPolicy permissionPolicy;
 
 
-    public GetAllRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, ClassUserRepository classUserRepository, RoomVerificationPermissionPolicy permissionPolicy) {
+    public GetAllRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, ClassMembershipLookup classMembershipLookup, RoomVerificationPermissionPolicy permissionPolicy) {
         this.roomVerificationRepository = roomVerificationRepository;
-        this.classUserRepository = classUserRepository;
+        this.classMembershipLookup = classMembershipLookup;
         this.permissionPolicy = permissionPolicy;
     }
 
-    public Page<RoomVerificationEntity> execute(GetAllRoomVerificationCommand command){
-        RoomVerificationEntity roomVerificationEntity = roomVerificationRepository.findById(command.roomVerificationId())
-                .orElseThrow(RoomVerificationNotFound::new);
-
-        validateUserPermissions(
-                roomVerificationEntity.getPeriod().getClassEntity().getId(),
-                command.userAuthenticatedId()
+    public Slice<RoomVerificationEntity> execute(GetAllRoomVerificationCommand command){
+        ClassEntityId classEntityId = new ClassEntityId(
+                command.courseId(),
+                command.number()
         );
 
-        RoomVerificationFilter roomVerificationFilter = createRoomVerificationFilter(command,  command.courseId(), command.number());
+        validateUserPermissions(classEntityId, command.actor());
+
+        RoomVerificationFilter roomVerificationFilter = createRoomVerificationFilter(command, classEntityId);
 
-        RoomVerificationPage roomVerificationPage = RoomVerificationPage.of(command.pageNumber(), command.pageSize());
+        RoomVerificationPage roomVerificationPage = RoomVerificationPage.of(command.pageNumber(), command.pageSize(), command.cursor());
 
         return roomVerificationRepository.findAll(roomVerificationFilter, roomVerificationPage);
     }
 
-    private RoomVerificationFilter createRoomVerificationFilter(GetAllRoomVerificationCommand command, long l, int number) {
-        ClassEntityId classEntityId = new ClassEntityId(
-                command.courseId(),
-                command.number()
-        );
-
+    private RoomVerificationFilter createRoomVerificationFilter(GetAllRoomVerificationCommand command, ClassEntityId classEntityId) {
         return RoomVerificationFilter.builder()
                 .periodId(command.periodId())
                 .allOrganized(command.allOrganized())
@@ -63,12 +55,11 @@ public class GetAllRoomVerificationUseCase {
                 .build();
     }
 
-    public void validateUserPermissions(ClassEntityId classEntityId, long userId){
-        ClassUserId classUserId = new ClassUserId(userId, classEntityId);
-        ClassUser classUser = classUserRepository.findById(classUserId)
+    public void validateUserPermissions(ClassEntityId classEntityId, AuthenticatedActor actor){
+        ClassMembership membership = classMembershipLookup.find(classEntityId, actor.id())
                 .orElseThrow(ClassUserNotFoundException::new);
 
-        if (!permissionPolicy.canGet(classUser.getUserEntity().getRole(), classUser.getTypeUserClass())) {
+        if (!permissionPolicy.canGet(actor.role(), membership.typeUserClass())) {
             throw new UserNotHavePermissionToGetRoomVerificationException();
         }
     }
@@ -1,10 +1,10 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import com.api.synco.module.room_verification.domain.command.GetRoomVerificationCommand;
 import com.api.synco.module.room_verification.domain.exception.RoomVerificationNotFound;
@@ -17,13 +17,13 @@ import org.springframework.stereotype.Component;
 public class GetRoomVerificationUseCase {
 
     private final RoomVerificationRepository roomVerificationRepository;
-    private final ClassUserRepository classUserRepository;
+    private final ClassMembershipLookup classMembershipLookup;
 
     private final RoomVerificationPermissionPolicy permissionPolicy;
 
-    public GetRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, ClassUserRepository classUserRepository, RoomVerificationPermissionPolicy permissionPolicy) {
+    public GetRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, ClassMembershipLookup classMembershipLookup, RoomVerificationPermissionPolicy permissionPolicy) {
         this.roomVerificationRepository = roomVerificationRepository;
-        this.classUserRepository = classUserRepository;
+        this.classMembershipLookup = classMembershipLookup;
         this.permissionPolicy = permissionPolicy;
     }
 
@@ -33,18 +33,17 @@ public class GetRoomVerificationUseCase {
 
         validateUserPermissions(
                 roomVerificationEntity.getPeriod().getClassEntity().getId(),
-                command.userAuthenticatedId()
+                command.actor()
         );
 
         return roomVerificationEntity;
     }
 
-    public void validateUserPermissions(ClassEntityId classEntityId, long userId){
-        ClassUserId classUserId = new ClassUserId(userId, classEntityId);
-        ClassUser classUser = classUserRepository.findById(classUserId)
+    public void validateUserPermissions(ClassEntityId classEntityId, AuthenticatedActor actor){
+        ClassMembership membership = classMembershipLookup.find(classEntityId, actor.id())
                 .orElseThrow(ClassUserNotFoundException::new);
 
-        if (!permissionPolicy.canGet(classUser.getUserEntity().getRole(), classUser.getTypeUserClass())) {
+        if (!permissionPolicy.canGet(actor.role(), membership.typeUserClass())) {
             throw new UserNotHavePermissionToGetRoomVerificationException();
         }
     }
@@ -1,10 +1,10 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import com.api.synco.module.room_verification.domain.command.UpdateRoomVerificationCommand;
 import com.api.synco.module.room_verification.domain.exception.RoomVerificationNotFound;
@@ -18,13 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateRoomVerificationUseCase {
 
     private final RoomVerificationRepository roomVerificationRepository;
-    private final ClassUserRepository classUserRepository;
+    private final ClassMembershipLookup classMembershipLookup;
 
     private final RoomVerificationPermissionPolicy permissionPolicy;
 
-    public UpdateRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, ClassUserRepository classUserRepository, RoomVerificationPermissionPolicy permissionPolicy) {
+    public UpdateRoomVerificationUseCase(RoomVerificationRepository roomVerificationRepository, ClassMembershipLookup classMembershipLookup, RoomVerificationPermissionPolicy permissionPolicy) {
         this.roomVerificationRepository = roomVerificationRepository;
-        this.classUserRepository = classUserRepository;
+        this.classMembershipLookup = classMembershipLookup;
         this.permissionPolicy = permissionPolicy;
     }
 
@@ -34,7 +34,7 @@ public class UpdateRoomVerificationUseCase {
                 .orElseThrow(RoomVerificationNotFound::new);
 
         validateUserPermissions(
-                updateRoomVerificationCommand.userAuthenticatedId(),
+                updateRoomVerificationCommand.actor(),
                 roomVerificationEntity.getPeriod().getClassEntity().getId()
         );
 
@@ -50,12 +50,11 @@ public class UpdateRoomVerificationUseCase {
         return roomVerificationEntity;
     }
 
-    private void validateUserPermissions(long userId, ClassEntityId classEntityId) {
-        ClassUserId classUserId = new ClassUserId(userId, classEntityId);
-        ClassUser classUser = classUserRepository.findById(classUserId)
+    private void validateUserPermissions(AuthenticatedActor actor, ClassEntityId classEntityId) {
+        ClassMembership membership = classMembershipLookup.find(classEntityId, actor.id())
                 .orElseThrow(ClassUserNotFoundException::new);
 
-        if (!permissionPolicy.canUpdate(classUser.getUserEntity().getRole(), classUser.getTypeUserClass())) {
+        if (!permissionPolicy.canUpdate(actor.role(), membership.typeUserClass())) {
             throw new UserNotHavePermissionToCreateRoomVerificationException();
         }
     }
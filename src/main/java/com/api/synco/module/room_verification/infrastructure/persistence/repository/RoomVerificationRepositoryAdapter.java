@@ -1,7 +1,13 @@
 package com.api.synco.module.room_verification.infrastructure.persistence.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
+import com.api.synco.module.room_verification.domain.filter.RoomVerificationFilter;
+import com.api.synco.module.room_verification.domain.filter.RoomVerificationPage;
 import com.api.synco.module.room_verification.domain.port.RoomVerificationRepository;
+import com.api.synco.module.room_verification.infrastructure.persistence.specification.RoomVerificationFilterProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,9 +16,11 @@ import java.util.Optional;
 public class RoomVerificationRepositoryAdapter implements RoomVerificationRepository {
 
     private final RoomVerificationRepositoryJpa roomVerificationRepositoryJpa;
+    private final RoomVerificationFilterProvider roomVerificationFilterProvider;
 
-    public RoomVerificationRepositoryAdapter(RoomVerificationRepositoryJpa roomVerificationRepositoryJpa) {
+    public RoomVerificationRepositoryAdapter(RoomVerificationRepositoryJpa roomVerificationRepositoryJpa, RoomVerificationFilterProvider roomVerificationFilterProvider) {
         this.roomVerificationRepositoryJpa = roomVerificationRepositoryJpa;
+        this.roomVerificationFilterProvider = roomVerificationFilterProvider;
     }
 
     @Override
@@ -29,4 +37,22 @@ public class RoomVerificationRepositoryAdapter implements RoomVerificationReposi
     public Optional<RoomVerificationEntity> findById(long roomVerificationId) {
         return roomVerificationRepositoryJpa.findById(roomVerificationId);
     }
+
+    @Override
+    public Slice<RoomVerificationEntity> findAll(RoomVerificationFilter roomVerificationFilter, RoomVerificationPage roomVerificationPage) {
+        Specification<RoomVerificationEntity> specification = roomVerificationFilterProvider.of(roomVerificationFilter);
+
+        Specification<RoomVerificationEntity> after = roomVerificationPage.afterId() != null
+                ? KeysetPagination.after("id", roomVerificationPage.afterId())
+                : null;
+
+        return KeysetPagination.findSlice(
+                roomVerificationRepositoryJpa,
+                specification,
+                after,
+                roomVerificationPage.pageNumber(),
+                roomVerificationPage.pageSize(),
+                KeysetPagination.keyOrder("id")
+        );
+    }
 }
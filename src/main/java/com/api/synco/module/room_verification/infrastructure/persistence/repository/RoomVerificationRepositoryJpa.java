@@ -2,9 +2,10 @@ package com.api.synco.module.room_verification.infrastructure.persistence.reposi
 
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RoomVerificationRepositoryJpa extends JpaRepository<RoomVerificationEntity, Long> {
+public interface RoomVerificationRepositoryJpa extends JpaRepository<RoomVerificationEntity, Long>, JpaSpecificationExecutor<RoomVerificationEntity> {
     boolean existsByPeriodId(long periodId);
 }
@@ -0,0 +1,48 @@
+package com.api.synco.module.room_verification.infrastructure.persistence.specification;
+
+import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
+import com.api.synco.module.room_verification.domain.filter.RoomVerificationFilter;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomVerificationFilterProvider {
+
+    public Specification<RoomVerificationEntity> of(RoomVerificationFilter roomVerificationFilter) {
+        Specification<RoomVerificationEntity> specification = Specification.where(null);
+
+        if (roomVerificationFilter == null) {
+            return specification;
+        }
+
+        if (roomVerificationFilter.periodId() != null) {
+            specification = specification.and((root, query, criteriaBuilder) ->
+                    criteriaBuilder.equal(root.get("period").get("id"), roomVerificationFilter.periodId()));
+        }
+
+        if (roomVerificationFilter.classEntityId() != null) {
+            specification = specification.and((root, query, criteriaBuilder) ->
+                    criteriaBuilder.equal(root.get("period").get("classEntity").get("id"), roomVerificationFilter.classEntityId()));
+        }
+
+        if (roomVerificationFilter.allOrganized() != null) {
+            specification = specification.and((root, query, criteriaBuilder) ->
+                    criteriaBuilder.equal(root.get("roomVerificationForm").get("allOrganized"), roomVerificationFilter.allOrganized()));
+        }
+
+        if (roomVerificationFilter.description() != null && !roomVerificationFilter.description().isBlank()) {
+            specification = specification.and((root, query, criteriaBuilder) ->
+                    criteriaBuilder.like(
+                            criteriaBuilder.lower(root.get("roomVerificationForm").get("description")),
+                            "%" + roomVerificationFilter.description().toLowerCase() + "%"));
+        }
+
+        if (roomVerificationFilter.ticket() != null && !roomVerificationFilter.ticket().isBlank()) {
+            specification = specification.and((root, query, criteriaBuilder) ->
+                    criteriaBuilder.equal(root.get("roomVerificationForm").get("ticket"), roomVerificationFilter.ticket()));
+        }
+
+        return specification;
+    }
+
+}
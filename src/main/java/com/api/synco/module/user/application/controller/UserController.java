@@ -1,5 +1,6 @@
 package com.api.synco.module.user.application.controller;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.authentication.domain.port.UserAuthenticationService;
 import com.api.synco.core.api.CustomApiResponse;
 import com.api.synco.module.user.application.dto.create.UserCreateRequest;
@@ -10,6 +11,7 @@ import com.api.synco.module.user.application.dto.edit.UserEditResponse;
 import com.api.synco.module.user.application.dto.get.UserGetResponse;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.filter.PageUser;
+import com.api.synco.module.user.domain.filter.TextMatch;
 import com.api.synco.module.user.domain.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -96,9 +98,9 @@ public class UserController {
                     content = @Content)
     })
     public ResponseEntity<CustomApiResponse<UserCreateResponse>> create(@RequestBody @Valid UserCreateRequest userCreateRequest){
-        long userId = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        var response = userService.create(userCreateRequest, userId);
+        var response = userService.create(userCreateRequest, actor);
         return ResponseEntity.status(HttpStatus.CREATED).body(CustomApiResponse.success(HttpStatus.CREATED.value(), "User created successfully", response));
     }
 
@@ -135,9 +137,9 @@ public class UserController {
                     content = @Content)
     })
     public ResponseEntity<CustomApiResponse<String>> delete(@RequestBody @Valid UserDeleteRequest userDeleteRequest){
-        long idUserAutenticated = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        userService.delete(userDeleteRequest, idUserAutenticated);
+        userService.delete(userDeleteRequest, actor);
 
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(CustomApiResponse.success(HttpStatus.ACCEPTED.value(), "User deleted with success", null));
     }
@@ -169,9 +171,9 @@ public class UserController {
                     content = @Content)
     })
     public ResponseEntity<CustomApiResponse<UserEditResponse>> edit(@RequestBody @Valid UserEditRequest userEditRequest){
-        long idUserAutenticated = authenticationService.getAuthenticatedUserId();
+        AuthenticatedActor actor = authenticationService.getAuthenticatedActor();
 
-        var response = userService.edit(userEditRequest, idUserAutenticated);
+        var response = userService.edit(userEditRequest, actor);
 
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(CustomApiResponse.success(HttpStatus.ACCEPTED.value(), "User updated successfully", response));
     }
@@ -210,19 +212,27 @@ public class UserController {
      *
      * <p>This endpoint supports filtering by:</p>
      * <ul>
-     *   <li>Name (partial match, case-insensitive)</li>
-     *   <li>Email (partial match, case-insensitive)</li>
+     *   <li>Name (partial or prefix match, case-insensitive)</li>
+     *   <li>Email (partial or prefix match, case-insensitive)</li>
      *   <li>Role (exact match)</li>
      *   <li>Creation date range</li>
      * </ul>
      *
+     * <p>Passing the {@code X-Next-Cursor} header of a previous response as
+     * {@code cursor} reads the next page by keyset instead of offset. The
+     * total is only counted when {@code total=true} is sent, and is then
+     * returned, possibly slightly stale, in the {@code X-Total-Count} header.</p>
+     *
      * @param name filter by name containing this value (optional)
      * @param email filter by email containing this value (optional)
+     * @param match whether name and email match anywhere or only as a prefix (optional)
      * @param role filter by user role (optional)
      * @param createAt filter users created from this date onwards (optional)
      * @param updateAt filter users updated up to this date (optional)
      * @param pageNumber the page number to retrieve (0-based)
      * @param pageSize the number of users per page
+     * @param cursor the cursor of the previous page (optional)
+     * @param withTotal whether the approximate total is returned
      * @return a list of users matching the criteria
      */
     @GetMapping()
@@ -243,6 +253,9 @@ public class UserController {
             @RequestParam(value = "email", required = false)
             @Parameter(description = "Filters by email containing the value")
             String email,
+            @RequestParam(value = "match", defaultValue = "CONTAINS")
+            @Parameter(description = "CONTAINS matches name and email anywhere; PREFIX matches their start, for typeahead lookups")
+            TextMatch match,
             @RequestParam(value = "role", required = false)
             @Parameter(description = "Filters by Role (e.g., ADMIN, USER)")
             RoleUser role,
@@ -257,21 +270,32 @@ public class UserController {
             int pageNumber,
             @RequestParam(value = "size", defaultValue = "10")
             @Parameter(description = "Page size (max. 50, default 10)")
-            int pageSize
+            int pageSize,
+            @RequestParam(value = "cursor", required = false)
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page; replaces the page number")
+            String cursor,
+            @RequestParam(value = "total", defaultValue = "false")
+            @Parameter(description = "Returns the approximate total in the X-Total-Count header")
+            boolean withTotal
     ){
         var pageUser = new PageUser(pageNumber, pageSize);
 
         var users = userService.getAll(
                 name,
                 email,
+                match,
                 role,
                 createAt,
                 updateAt,
                 pageUser.pageNumber(),
-                pageUser.pageSize()
+                pageUser.pageSize(),
+                cursor,
+                withTotal
         );
 
-        return ResponseEntity.ok(CustomApiResponse.success(HttpStatus.OK.value(), "List of users returned successfully", users));
+        return ResponseEntity.ok()
+                .headers(users.headers())
+                .body(CustomApiResponse.success(HttpStatus.OK.value(), "List of users returned successfully", users.content()));
     }
 
 }
\ No newline at end of file
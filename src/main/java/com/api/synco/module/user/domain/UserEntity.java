@@ -1,5 +1,6 @@
 package com.api.synco.module.user.domain;
 
+import com.api.synco.core.persistence.IdGenerators;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.vo.Email;
 import com.api.synco.module.user.domain.vo.Name;
@@ -20,6 +21,7 @@ import java.util.Objects;
  * <p>The entity is persisted with the following indexes for query optimization:</p>
  * <ul>
  *   <li>Unique index on email for fast lookups and uniqueness enforcement</li>
+ *   <li>Indexes on the lowercase name and email, serving case-insensitive prefix lookups</li>
  *   <li>Index on role for filtering by user type</li>
  *   <li>Index on creation timestamp for date-based queries</li>
  * </ul>
@@ -34,19 +36,35 @@ import java.util.Objects;
 @Entity
 @Table(name = "user_tb", indexes = {
         @Index(name = "idx_user_email", columnList = "email", unique = true),
+        @Index(name = "idx_user_email_normalized", columnList = "emailNormalized"),
+        @Index(name = "idx_user_name_normalized", columnList = "nameNormalized"),
         @Index(name = "idx_user_role", columnList = "role"),
         @Index(name = "idx_user_create_at", columnList = "createAt")
 })
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(
+            name = "user_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "user",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private long id;
 
     private Name name;
 
     private Email email;
 
+    // Lowercase shadow columns, so case-insensitive lookups compare the bare indexed column.
+    // Mapped as nullable: UserNormalizedColumnsMigration requires them once existing rows are filled
+    private String nameNormalized;
+
+    private String emailNormalized;
+
     private String password;
 
     @Enumerated(EnumType.STRING)
@@ -58,6 +76,9 @@ public class UserEntity {
     @UpdateTimestamp
     private Instant updateAt;
 
+    @Column(nullable = false)
+    private int tokenRevision;
+
     /**
      * Default constructor required by JPA.
      */
@@ -73,8 +94,8 @@ public class UserEntity {
      * @param role the user's role
      */
     public UserEntity(Name name, Email email, String password, RoleUser role) {
-        this.name = name;
-        this.email = email;
+        setName(name);
+        setEmail(email);
         this.password = password;
         this.role = role;
     }
@@ -89,8 +110,9 @@ public class UserEntity {
      * @param role the user's role
      */
     public UserEntity(long id, Name name, Email email, String password, RoleUser role) {
-        this.name = name;
-        this.email = email;
+        this.id = id;
+        setName(name);
+        setEmail(email);
         this.password = password;
         this.role = role;
     }
@@ -138,6 +160,7 @@ public class UserEntity {
      */
     public void setName(Name name) {
         this.name = name;
+        this.nameNormalized = name != null ? name.normalized() : null;
     }
 
     /**
@@ -156,6 +179,7 @@ public class UserEntity {
      */
     public void setEmail(Email email) {
         this.email = email;
+        this.emailNormalized = email != null ? email.normalized() : null;
     }
 
     /**
@@ -194,6 +218,25 @@ public class UserEntity {
         this.password = password;
     }
 
+    /**
+     * Returns the revision of the user's security data.
+     *
+     * <p>Tokens carry the revision they were issued with, so a token issued
+     * before the latest change can be recognised as stale.</p>
+     *
+     * @return the current token revision
+     */
+    public int getTokenRevision() {
+        return tokenRevision;
+    }
+
+    /**
+     * Advances the token revision, making every previously issued token stale.
+     */
+    public void incrementTokenRevision() {
+        this.tokenRevision++;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
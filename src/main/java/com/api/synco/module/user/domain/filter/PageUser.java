@@ -1,11 +1,18 @@
 package com.api.synco.module.user.domain.filter;
 
+import com.api.synco.core.exception.pagination.InvalidPageCursorException;
+import com.api.synco.core.pagination.PageCursor;
+import com.api.synco.module.user.domain.UserEntity;
+
 /**
  * Record representing pagination parameters for user queries.
  *
  * <p>This record provides validated pagination parameters with sensible defaults
  * and constraints. It ensures page numbers and sizes are within acceptable bounds.</p>
  *
+ * <p>When {@code afterId} is set, the page is read in keyset mode: it starts
+ * right after the user with that ID and the page number is ignored.</p>
+ *
  * <p>Constraints:</p>
  * <ul>
  *   <li>Page number must be at least 0</li>
@@ -15,13 +22,15 @@ package com.api.synco.module.user.domain.filter;
  *
  * @param pageNumber the zero-based page number
  * @param pageSize the number of items per page
+ * @param afterId the ID of the last user of the previous page, or {@code null} for offset mode
  *
  * @author Luca5Eckert
  * @version 1.0.0
  * @since 1.0.0
  */
 public record PageUser(int pageNumber,
-                       int pageSize) {
+                       int pageSize,
+                       Long afterId) {
 
     /** Minimum allowed page number (0-based). */
     public final static int MIN_PAGE_NUMBER = 0;
@@ -43,6 +52,7 @@ public record PageUser(int pageNumber,
      *
      * @param pageNumber the requested page number
      * @param pageSize the requested page size
+     * @param afterId the ID of the last user of the previous page
      */
     public PageUser {
         if (pageNumber < MIN_PAGE_NUMBER) {
@@ -55,4 +65,41 @@ public record PageUser(int pageNumber,
 
     }
 
+    /**
+     * Constructs a new offset pagination record.
+     *
+     * @param pageNumber the requested page number
+     * @param pageSize the requested page size
+     */
+    public PageUser(int pageNumber, int pageSize) {
+        this(pageNumber, pageSize, null);
+    }
+
+    /**
+     * Creates a pagination record from the client's page parameters.
+     *
+     * @param pageNumber the requested page number
+     * @param pageSize the requested page size
+     * @param cursor the cursor of the previous page, or {@code null} for offset mode
+     * @return a validated PageUser instance
+     * @throws InvalidPageCursorException if the cursor is malformed
+     */
+    public static PageUser of(int pageNumber, int pageSize, String cursor) {
+        if (!PageCursor.isPresent(cursor)) {
+            return new PageUser(pageNumber, pageSize);
+        }
+
+        return new PageUser(pageNumber, pageSize, PageCursor.decode(cursor, 1)[0]);
+    }
+
+    /**
+     * Returns the cursor continuing after the given user.
+     *
+     * @param user the last user of a page
+     * @return the cursor of the next page
+     */
+    public static String cursorOf(UserEntity user) {
+        return PageCursor.encode(user.getId());
+    }
+
 }
\ No newline at end of file
@@ -23,4 +23,16 @@ public class PagenableUserProvider {
     public static PageUser toInstance(int pageNumber, int pageSize) {
         return new PageUser(pageNumber, pageSize);
     }
+
+    /**
+     * Creates a new {@link PageUser} instance, in keyset mode when a cursor is given.
+     *
+     * @param pageNumber the zero-based page number
+     * @param pageSize the number of items per page
+     * @param cursor the cursor of the previous page, or {@code null} for offset mode
+     * @return a validated PageUser instance
+     */
+    public static PageUser toInstance(int pageNumber, int pageSize, String cursor) {
+        return PageUser.of(pageNumber, pageSize, cursor);
+    }
 }
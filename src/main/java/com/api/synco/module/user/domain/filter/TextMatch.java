@@ -0,0 +1,25 @@
+package com.api.synco.module.user.domain.filter;
+
+/**
+ * Enumeration of the ways a text filter matches user names and emails.
+ *
+ * <p>Available modes:</p>
+ * <ul>
+ *   <li>{@link #CONTAINS} - The value appears anywhere in the text</li>
+ *   <li>{@link #PREFIX} - The text starts with the value, answered by an index range scan</li>
+ * </ul>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see UserFilter
+ */
+public enum TextMatch {
+
+    /** Matches the value anywhere in the text. */
+    CONTAINS,
+
+    /** Matches texts starting with the value, as typeahead lookups do. */
+    PREFIX
+
+}
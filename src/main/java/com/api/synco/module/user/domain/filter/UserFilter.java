@@ -11,8 +11,8 @@ import java.time.Instant;
  *
  * <p>Available filters:</p>
  * <ul>
- *   <li>Name substring matching</li>
- *   <li>Email substring matching</li>
+ *   <li>Name substring or prefix matching</li>
+ *   <li>Email substring or prefix matching</li>
  *   <li>Role exact matching</li>
  *   <li>Creation date range</li>
  * </ul>
@@ -22,6 +22,7 @@ import java.time.Instant;
  * @param role the role to filter by
  * @param createAt start of creation date range
  * @param createTo end of creation date range
+ * @param textMatch how the name and email values are matched, {@link TextMatch#CONTAINS} when not set
  *
  * @author Luca5Eckert
  * @version 1.0.0
@@ -31,9 +32,26 @@ public record UserFilter(String nameContains,
                          String emailContains,
                          RoleUser role,
                          Instant createAt,
-                         Instant createTo
+                         Instant createTo,
+                         TextMatch textMatch
 ) {
 
+    /**
+     * Constructs a new filter, matching texts by substring when no mode is given.
+     *
+     * @param nameContains substring to search within user names
+     * @param emailContains substring to search within email addresses
+     * @param role the role to filter by
+     * @param createAt start of creation date range
+     * @param createTo end of creation date range
+     * @param textMatch how the name and email values are matched
+     */
+    public UserFilter {
+        if (textMatch == null) {
+            textMatch = TextMatch.CONTAINS;
+        }
+    }
+
     /**
      * Creates a new builder instance.
      *
@@ -55,6 +73,7 @@ public record UserFilter(String nameContains,
         private RoleUser role;
         private Instant createAt;
         private Instant createTo;
+        private TextMatch textMatch;
 
         /**
          * Private constructor to enforce builder pattern usage.
@@ -117,6 +136,17 @@ public record UserFilter(String nameContains,
             return this;
         }
 
+        /**
+         * Sets how the name and email values are matched.
+         *
+         * @param textMatch the match mode
+         * @return this builder instance
+         */
+        public Builder setTextMatch(TextMatch textMatch) {
+            this.textMatch = textMatch;
+            return this;
+        }
+
         /**
          * Builds the {@link UserFilter} instance.
          *
@@ -128,7 +158,8 @@ public record UserFilter(String nameContains,
                     this.emailContains,
                     this.role,
                     this.createAt,
-                    this.createTo
+                    this.createTo,
+                    this.textMatch
             );
         }
     }
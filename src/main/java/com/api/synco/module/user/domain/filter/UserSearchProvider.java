@@ -1,7 +1,10 @@
 package com.api.synco.module.user.domain.filter;
 
+import com.api.synco.core.search.SearchIndex;
 import com.api.synco.module.user.infrastructure.specification.UserSpecifications;
 import com.api.synco.module.user.domain.UserEntity;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -11,15 +14,47 @@ import org.springframework.stereotype.Component;
  * <p>This class transforms {@link UserFilter} objects into composable
  * JPA {@link Specification} objects that can be used for dynamic queries.</p>
  *
+ * <p>Name and email substrings are first resolved to candidate users through
+ * the {@link SearchIndex}, which this component also keeps up to date when
+ * users are created, edited or deleted. Prefixes need no side index, as they
+ * are answered by a range scan of the lowercase name and email columns.</p>
+ *
  * @author Luca5Eckert
  * @version 1.0.0
  * @since 1.0.0
  * @see UserFilter
  * @see UserSpecifications
+ * @see SearchIndex
  */
 @Component
 public class UserSearchProvider {
 
+    /** Indexed field holding the user names. */
+    public static final String NAME_FIELD = "user.name";
+
+    /** Indexed field holding the user email addresses. */
+    public static final String EMAIL_FIELD = "user.email";
+
+    private final SearchIndex searchIndex;
+
+    /**
+     * Constructs a new user search provider.
+     *
+     * @param searchIndex the n-gram index of the user names and emails
+     */
+    public UserSearchProvider(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * Indexes the users stored before the search index existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        searchIndex.rebuildIfEmpty(NAME_FIELD, UserEntity.class, UserEntity::getId, user -> user.getName().value());
+        searchIndex.rebuildIfEmpty(EMAIL_FIELD, UserEntity.class, UserEntity::getId, user -> user.getEmail().address());
+    }
+
     /**
      * Creates a JPA Specification from a user filter.
      *
@@ -30,10 +65,41 @@ public class UserSearchProvider {
      * @return a composable {@link Specification} for querying users
      */
     public Specification<UserEntity> create(UserFilter userFilter){
-        return UserSpecifications.nameContains(userFilter.nameContains())
-                .and(UserSpecifications.emailContains(userFilter.emailContains()))
+        return text(userFilter)
                 .and(UserSpecifications.createdBetween(userFilter.createAt(), userFilter.createTo()))
                 .and(UserSpecifications.roleEquals(userFilter.role()));
     }
 
+    private Specification<UserEntity> text(UserFilter userFilter) {
+        if (userFilter.textMatch() == TextMatch.PREFIX) {
+            return UserSpecifications.nameStartsWith(userFilter.nameContains())
+                    .and(UserSpecifications.emailStartsWith(userFilter.emailContains()));
+        }
+
+        return UserSpecifications.nameContains(userFilter.nameContains())
+                .and(searchIndex.contains(NAME_FIELD, userFilter.nameContains()))
+                .and(UserSpecifications.emailContains(userFilter.emailContains()))
+                .and(searchIndex.contains(EMAIL_FIELD, userFilter.emailContains()));
+    }
+
+    /**
+     * Indexes the current name and email of a user.
+     *
+     * @param user the created or edited user
+     */
+    public void index(UserEntity user) {
+        searchIndex.index(NAME_FIELD, user.getId(), user.getName().value());
+        searchIndex.index(EMAIL_FIELD, user.getId(), user.getEmail().address());
+    }
+
+    /**
+     * Removes a deleted user from the search index.
+     *
+     * @param id the ID of the deleted user
+     */
+    public void remove(long id) {
+        searchIndex.remove(NAME_FIELD, id);
+        searchIndex.remove(EMAIL_FIELD, id);
+    }
+
 }
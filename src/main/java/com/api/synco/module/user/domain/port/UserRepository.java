@@ -4,7 +4,7 @@ import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.filter.PageUser;
 import com.api.synco.module.user.domain.vo.Email;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Optional;
@@ -69,11 +69,22 @@ public interface UserRepository {
     /**
      * Finds all users matching the given specification with pagination.
      *
+     * <p>No count query is run; the returned slice only knows whether a next
+     * page exists.</p>
+     *
      * @param userEntitySpecification the JPA specification for filtering users
      * @param pageUser the pagination parameters
-     * @return a page of users matching the criteria
+     * @return a slice of users matching the criteria
      */
-    Page<UserEntity> findAll(Specification<UserEntity> userEntitySpecification, PageUser pageUser);
+    Slice<UserEntity> findAll(Specification<UserEntity> userEntitySpecification, PageUser pageUser);
+
+    /**
+     * Counts the users matching the given specification.
+     *
+     * @param userEntitySpecification the JPA specification for filtering users
+     * @return the number of matching users
+     */
+    long count(Specification<UserEntity> userEntitySpecification);
 
     /**
      * Finds a user by their email address.
@@ -82,4 +93,22 @@ public interface UserRepository {
      * @return an {@link Optional} containing the user if found, or empty if not found
      */
     Optional<UserEntity> findByEmail(Email email);
+
+    /**
+     * Finds only the token revision of a user.
+     *
+     * @param id the user's unique identifier
+     * @return an {@link Optional} containing the revision if the user exists, or empty if not found
+     */
+    Optional<Integer> findTokenRevisionById(long id);
+
+    /**
+     * Replaces only the stored password hash of a user.
+     *
+     * <p>Used to upgrade an outdated hash of an unchanged password.</p>
+     *
+     * @param id the user's unique identifier
+     * @param encodedPassword the new password hash
+     */
+    void updatePassword(long id, String encodedPassword);
 }
@@ -1,5 +1,7 @@
 package com.api.synco.module.user.domain.service;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.user.application.dto.create.UserCreateRequest;
 import com.api.synco.module.user.application.dto.create.UserCreateResponse;
 import com.api.synco.module.user.application.dto.delete.UserDeleteRequest;
@@ -7,12 +9,13 @@ import com.api.synco.module.user.application.dto.edit.UserEditRequest;
 import com.api.synco.module.user.application.dto.edit.UserEditResponse;
 import com.api.synco.module.user.application.dto.get.UserGetResponse;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.filter.PageUser;
+import com.api.synco.module.user.domain.filter.TextMatch;
 import com.api.synco.module.user.domain.mapper.UserMapper;
 import com.api.synco.module.user.domain.use_case.*;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.List;
 
 /**
  * Domain service for user management operations.
@@ -74,11 +77,11 @@ public class UserService {
      * Creates a new user in the system.
      *
      * @param userCreateRequest the request containing user data
-     * @param userId the ID of the authenticated user performing the creation
+     * @param actor the authenticated user performing the creation
      * @return the created user's data
      */
-    public UserCreateResponse create(UserCreateRequest userCreateRequest, long userId) {
-        var user = userCreateUseCase.execute(userCreateRequest, userId);
+    public UserCreateResponse create(UserCreateRequest userCreateRequest, AuthenticatedActor actor) {
+        var user = userCreateUseCase.execute(userCreateRequest, actor);
 
         return userMapper.toCreateResponse(user);
     }
@@ -87,21 +90,21 @@ public class UserService {
      * Deletes a user from the system.
      *
      * @param userDeleteRequest the request containing the user ID to delete
-     * @param idUserAutenticated the ID of the authenticated user performing the deletion
+     * @param actor the authenticated user performing the deletion
      */
-    public void delete(UserDeleteRequest userDeleteRequest, long idUserAutenticated) {
-        userDeleteUseCase.execute(userDeleteRequest, idUserAutenticated);
+    public void delete(UserDeleteRequest userDeleteRequest, AuthenticatedActor actor) {
+        userDeleteUseCase.execute(userDeleteRequest, actor);
     }
 
     /**
      * Edits an existing user's profile.
      *
      * @param userEditRequest the request containing updated user data
-     * @param idUserAutenticated the ID of the authenticated user performing the edit
+     * @param actor the authenticated user performing the edit
      * @return the updated user's data
      */
-    public UserEditResponse edit(UserEditRequest userEditRequest, long idUserAutenticated) {
-        var user = userEditUseCase.execute(userEditRequest, idUserAutenticated);
+    public UserEditResponse edit(UserEditRequest userEditRequest, AuthenticatedActor actor) {
+        var user = userEditUseCase.execute(userEditRequest, actor);
 
         return userMapper.toEditResponse(user);
     }
@@ -120,21 +123,23 @@ public class UserService {
     /**
      * Retrieves a paginated list of users with optional filters.
      *
-     * @param name filter by name containing this value (optional)
-     * @param email filter by email containing this value (optional)
+     * @param name filter by name containing or starting with this value (optional)
+     * @param email filter by email containing or starting with this value (optional)
+     * @param textMatch how the name and email values are matched (optional, contains by default)
      * @param roleUser filter by user role (optional)
      * @param createAt filter users created from this date onwards (optional)
      * @param updateAt filter users updated up to this date (optional)
      * @param pageNumber the page number to retrieve (0-based)
      * @param pageSize the number of users per page
-     * @return a list of users matching the criteria
+     * @param cursor the cursor of the previous page, or {@code null} for offset pagination
+     * @param withTotal whether the approximate total of the filter is returned
+     * @return the users matching the criteria and the cursor of the next page
      */
-    public List<UserGetResponse> getAll(String name, String email, RoleUser roleUser, Instant createAt, Instant updateAt, int pageNumber, int pageSize) {
-        var users = userGetAllUseCase.execute(name, email, roleUser, createAt, updateAt, pageNumber, pageSize);
+    public CursorPage<UserGetResponse> getAll(String name, String email, TextMatch textMatch, RoleUser roleUser, Instant createAt, Instant updateAt, int pageNumber, int pageSize, String cursor, boolean withTotal) {
+        var users = userGetAllUseCase.execute(name, email, textMatch, roleUser, createAt, updateAt, pageNumber, pageSize, cursor, withTotal);
 
-        return users.stream()
-                .map(userMapper::toGetResponse)
-                .toList();
+        return CursorPage.of(users, PageUser::cursorOf)
+                .map(userMapper::toGetResponse);
 
     }
 
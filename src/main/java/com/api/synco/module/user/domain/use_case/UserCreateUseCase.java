@@ -1,12 +1,13 @@
 package com.api.synco.module.user.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.application.dto.create.UserCreateRequest;
 import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.exception.email.EmailNotUniqueDomainException;
 import com.api.synco.module.user.domain.exception.password.PasswordNotValidDomainException;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutCreateUserPermissionException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.validator.PasswordValidatorImpl;
 import com.api.synco.module.user.domain.vo.Email;
@@ -43,6 +44,8 @@ public class UserCreateUseCase {
     private final PasswordEncoder passwordEncoder;
     private final PasswordValidatorImpl passwordValidator;
 
+    private final UserSearchProvider userSearchProvider;
+
     /**
      * Constructs a new user creation use case.
      *
@@ -50,17 +53,20 @@ public class UserCreateUseCase {
      * @param permissionPolicy the service for permission checks
      * @param passwordEncoder the encoder for password hashing
      * @param passwordValidator the validator for password requirements
+     * @param userSearchProvider the provider keeping the user search index up to date
      */
     public UserCreateUseCase(
             UserRepository userRepository,
             @Qualifier("userPermissionPolicy") PermissionPolicy permissionPolicy,
             PasswordEncoder passwordEncoder,
-            PasswordValidatorImpl passwordValidator
+            PasswordValidatorImpl passwordValidator,
+            UserSearchProvider userSearchProvider
     ) {
         this.userRepository = userRepository;
         this.permissionPolicy = permissionPolicy;
         this.passwordEncoder = passwordEncoder;
         this.passwordValidator = passwordValidator;
+        this.userSearchProvider = userSearchProvider;
     }
 
     /**
@@ -70,20 +76,16 @@ public class UserCreateUseCase {
      * the user will be saved in the database.</p>
      *
      * @param userCreateRequest request containing the new user's data
-     * @param userId the ID of the authenticated user attempting the creation
+     * @param actor the authenticated user attempting the creation
      * @return the created user entity
-     * @throws UserNotFoundDomainException if the authenticated user is not found
      * @throws UserWithoutCreateUserPermissionException if the user lacks permission
      * @throws PasswordNotValidDomainException if the password doesn't meet requirements
      * @throws EmailNotUniqueDomainException if the email is already in use
      */
     @Transactional
-    public UserEntity execute(UserCreateRequest userCreateRequest, long userId) {
-
-        UserEntity userAuthenticated = userRepository.findById(userId)
-                .orElseThrow( () -> new UserNotFoundDomainException(userId));
+    public UserEntity execute(UserCreateRequest userCreateRequest, AuthenticatedActor actor) {
 
-        if(!permissionPolicy.canCreate(userAuthenticated.getRole())){
+        if(!permissionPolicy.canCreate(actor.role())){
             throw new UserWithoutCreateUserPermissionException();
         }
 
@@ -99,6 +101,7 @@ public class UserCreateUseCase {
         if(userRepository.existsByEmail(user.getEmail())) throw new EmailNotUniqueDomainException();
 
         userRepository.save(user);
+        userSearchProvider.index(user);
 
         return user;
     }
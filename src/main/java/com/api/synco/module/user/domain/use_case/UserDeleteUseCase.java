@@ -1,14 +1,15 @@
 package com.api.synco.module.user.domain.use_case;
 
+import com.api.synco.core.security.user_details.UserPrincipalCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.application.dto.delete.UserDeleteRequest;
 import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutDeleteUserPermissionException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
-import com.api.synco.module.user.domain.validator.PasswordValidatorImpl;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,18 +36,28 @@ public class UserDeleteUseCase {
 
     private final UserRepository userRepository;
 
+    private final UserPrincipalCache userPrincipalCache;
+
+    private final UserSearchProvider userSearchProvider;
+
     /**
      * Constructs a new user deletion use case.
      *
      * @param permissionPolicy the service for permission checks
      * @param userRepository the repository for user persistence
+     * @param userPrincipalCache the cache of authenticated principals to invalidate
+     * @param userSearchProvider the provider keeping the user search index up to date
      */
     public UserDeleteUseCase(
             UserRepository userRepository,
-            @Qualifier("userPermissionPolicy") PermissionPolicy permissionPolicy
+            @Qualifier("userPermissionPolicy") PermissionPolicy permissionPolicy,
+            UserPrincipalCache userPrincipalCache,
+            UserSearchProvider userSearchProvider
     ) {
         this.permissionPolicy = permissionPolicy;
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.userSearchProvider = userSearchProvider;
     }
 
     /**
@@ -56,22 +67,23 @@ public class UserDeleteUseCase {
      * user has permission to perform the deletion.</p>
      *
      * @param userDeleteRequest the request containing the user ID to delete
-     * @param idUserAutenticated the ID of the authenticated user performing the deletion
-     * @throws UserNotFoundDomainException if either user is not found
+     * @param actor the authenticated user performing the deletion
+     * @throws UserNotFoundDomainException if the user to delete is not found
      * @throws UserWithoutDeleteUserPermissionException if the user lacks permission
      */
     @Transactional
-    public void execute(@Valid UserDeleteRequest userDeleteRequest, long idUserAutenticated) {
+    public void execute(@Valid UserDeleteRequest userDeleteRequest, AuthenticatedActor actor) {
 
         if(!userRepository.existsById(userDeleteRequest.id())) throw new UserNotFoundDomainException(userDeleteRequest.id());
 
-        var userAuthenticated = userRepository.findById(idUserAutenticated).orElseThrow(() -> new UserNotFoundDomainException(idUserAutenticated));
-
-        if(!permissionPolicy.canDelete(userAuthenticated.getRole())) {
+        if(!permissionPolicy.canDelete(actor.role())) {
             throw new UserWithoutDeleteUserPermissionException();
         }
 
         userRepository.deleteById(userDeleteRequest.id());
+        userSearchProvider.remove(userDeleteRequest.id());
+
+        userPrincipalCache.invalidate(userDeleteRequest.id());
 
     }
 
@@ -1,10 +1,13 @@
 package com.api.synco.module.user.domain.use_case;
 
+import com.api.synco.core.security.user_details.UserPrincipalCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.application.dto.edit.UserEditRequest;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutEditUserPermissionException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.vo.Email;
 import com.api.synco.module.user.domain.vo.Name;
@@ -35,18 +38,28 @@ public class UserEditUseCase {
 
     private final UserRepository userRepository;
 
+    private final UserPrincipalCache userPrincipalCache;
+
+    private final UserSearchProvider userSearchProvider;
+
     /**
      * Constructs a new user edit use case.
      *
      * @param permissionPolicy the service for permission checks
      * @param userRepository the repository for user persistence
+     * @param userPrincipalCache the cache of authenticated principals to invalidate
+     * @param userSearchProvider the provider keeping the user search index up to date
      */
     public UserEditUseCase(
             UserRepository userRepository,
-            @Qualifier("userPermissionPolicy") PermissionPolicy permissionPolicy
+            @Qualifier("userPermissionPolicy") PermissionPolicy permissionPolicy,
+            UserPrincipalCache userPrincipalCache,
+            UserSearchProvider userSearchProvider
     ) {
         this.permissionPolicy = permissionPolicy;
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.userSearchProvider = userSearchProvider;
     }
 
     /**
@@ -57,21 +70,25 @@ public class UserEditUseCase {
      * their own profile.</p>
      *
      * @param userEditRequest the request containing updated user data
-     * @param idUserAutenticated the ID of the authenticated user performing the edit
+     * @param actor the authenticated user performing the edit
      * @return the updated user entity
-     * @throws UserNotFoundDomainException if either user is not found
+     * @throws UserNotFoundDomainException if the user to edit is not found
      * @throws UserWithoutEditUserPermissionException if the user lacks permission
      */
     @Transactional
-    public UserEntity execute(UserEditRequest userEditRequest, long idUserAutenticated) {
-        UserEntity userAuthenticated = userRepository.findById(idUserAutenticated).orElseThrow(() -> new UserNotFoundDomainException(idUserAutenticated));
+    public UserEntity execute(UserEditRequest userEditRequest, AuthenticatedActor actor) {
         UserEntity userEdit = userRepository.findById(userEditRequest.id()).orElseThrow( () -> new UserNotFoundDomainException(userEditRequest.id()));
 
-        if(!canEditUser(userAuthenticated, userEdit) ) throw new UserWithoutEditUserPermissionException();
+        if(!canEditUser(actor, userEdit) ) throw new UserWithoutEditUserPermissionException();
 
         editUser(userEdit, userEditRequest);
 
+        userEdit.incrementTokenRevision();
+
         userRepository.save(userEdit);
+        userSearchProvider.index(userEdit);
+
+        userPrincipalCache.invalidate(userEditRequest.id());
 
         return userEdit;
 
@@ -94,14 +111,14 @@ public class UserEditUseCase {
     /**
      * Checks if the authenticated user can edit the target user.
      *
-     * @param userAutenticated the authenticated user
+     * @param actor the authenticated user
      * @param userEdit the user to be edited
      * @return {@code true} if the edit is permitted, {@code false} otherwise
      */
-    private boolean canEditUser(UserEntity userAutenticated, UserEntity userEdit) {
-        if(permissionPolicy.canEdit(userAutenticated.getRole())) return true;
+    private boolean canEditUser(AuthenticatedActor actor, UserEntity userEdit) {
+        if(permissionPolicy.canEdit(actor.role())) return true;
 
-        return userEdit.equals(userAutenticated);
+        return userEdit.getId() == actor.id();
     }
 
 }
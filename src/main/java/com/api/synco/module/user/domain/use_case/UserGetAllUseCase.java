@@ -1,12 +1,14 @@
 package com.api.synco.module.user.domain.use_case;
 
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.filter.PagenableUserProvider;
+import com.api.synco.module.user.domain.filter.TextMatch;
 import com.api.synco.module.user.domain.filter.UserFilter;
 import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,8 +22,8 @@ import java.time.Instant;
  *
  * <p>Available filters:</p>
  * <ul>
- *   <li>Name substring matching</li>
- *   <li>Email substring matching</li>
+ *   <li>Name substring or prefix matching</li>
+ *   <li>Email substring or prefix matching</li>
  *   <li>Role exact matching</li>
  *   <li>Creation date range</li>
  * </ul>
@@ -37,16 +39,19 @@ public class UserGetAllUseCase {
 
     private final UserRepository userRepository;
     private final UserSearchProvider userCreateSearch;
+    private final ApproximateTotalCache approximateTotalCache;
 
     /**
      * Constructs a new user get all use case.
      *
      * @param userRepository the repository for user persistence
      * @param userCreateSearch the provider for creating search specifications
+     * @param approximateTotalCache the cache of list totals
      */
-    public UserGetAllUseCase(UserRepository userRepository, UserSearchProvider userCreateSearch) {
+    public UserGetAllUseCase(UserRepository userRepository, UserSearchProvider userCreateSearch, ApproximateTotalCache approximateTotalCache) {
         this.userRepository = userRepository;
         this.userCreateSearch = userCreateSearch;
+        this.approximateTotalCache = approximateTotalCache;
     }
 
 
@@ -55,23 +60,29 @@ public class UserGetAllUseCase {
      *
      * <p>This method is marked as read-only for transaction optimization.</p>
      *
-     * @param name filter by name containing this value (optional)
-     * @param email filter by email containing this value (optional)
+     * @param name filter by name containing or starting with this value (optional)
+     * @param email filter by email containing or starting with this value (optional)
+     * @param textMatch how the name and email values are matched (optional, contains by default)
      * @param roleUser filter by user role (optional)
      * @param createAt filter users created from this date onwards (optional)
      * @param updateAt filter users updated up to this date (optional)
      * @param pageNumber the page number to retrieve (0-based)
      * @param pageSize the number of users per page
-     * @return a page of users matching the criteria
+     * @param cursor the cursor of the previous page, or {@code null} for offset pagination
+     * @param withTotal whether the approximate total of the filter is attached
+     * @return a slice of users matching the criteria
      */
     @Transactional(readOnly = true)
-    public Page<UserEntity> execute(String name
+    public Slice<UserEntity> execute(String name
             , String email
+            , TextMatch textMatch
             , RoleUser roleUser
             , Instant createAt
             , Instant updateAt
             , int pageNumber
-            , int pageSize) {
+            , int pageSize
+            , String cursor
+            , boolean withTotal) {
 
         var criteria = UserFilter.builder()
                 .setNameContains(name)
@@ -79,13 +90,20 @@ public class UserGetAllUseCase {
                 .setRole(roleUser)
                 .setCreatedFrom(createAt)
                 .setCreatedTo(updateAt)
+                .setTextMatch(textMatch)
                 .build();
 
         var searchSpecification = userCreateSearch.create(criteria);
 
-        var searchPaginable = PagenableUserProvider.toInstance(pageNumber, pageSize);
+        var searchPaginable = PagenableUserProvider.toInstance(pageNumber, pageSize, cursor);
 
-        return userRepository.findAll(searchSpecification, searchPaginable);
+        Slice<UserEntity> users = userRepository.findAll(searchSpecification, searchPaginable);
+
+        if (!withTotal) {
+            return users;
+        }
+
+        return approximateTotalCache.withTotal(users, criteria, () -> userRepository.count(searchSpecification));
     }
 
 }
@@ -5,6 +5,8 @@ import com.api.synco.module.user.domain.exception.email.EmailInvalidDomainExcept
 import com.api.synco.module.user.domain.exception.email.EmailLengthDomainException;
 import org.apache.commons.validator.routines.EmailValidator;
 
+import java.util.Locale;
+
 /**
  * Value object representing a validated email address.
  *
@@ -58,5 +60,27 @@ public record Email(String address) {
         return EmailValidator.getInstance().isValid(address);
     }
 
+    /**
+     * Returns the lowercase form of this address, used for case-insensitive lookups.
+     *
+     * @return the normalized email address
+     */
+    public String normalized() {
+        return normalize(address);
+    }
+
+    /**
+     * Lowercases an email address or a searched part of one.
+     *
+     * <p>Stored addresses and searched terms go through this same rule, so
+     * both sides of a case-insensitive comparison always agree.</p>
+     *
+     * @param address the address or searched term (can be null)
+     * @return the lowercase value, or null if the input is null
+     */
+    public static String normalize(String address) {
+        return address != null ? address.toLowerCase(Locale.ROOT) : null;
+    }
+
 
 }
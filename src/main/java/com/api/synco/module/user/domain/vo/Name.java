@@ -3,6 +3,8 @@ package com.api.synco.module.user.domain.vo;
 import com.api.synco.module.user.domain.exception.name.NameBlankDomainException;
 import com.api.synco.module.user.domain.exception.name.NameLengthDomainException;
 
+import java.util.Locale;
+
 /**
  * Value object representing a validated user name.
  *
@@ -38,4 +40,26 @@ public record Name(String value) {
         if(value.length() > 30) throw new NameLengthDomainException(30);
 
     }
+
+    /**
+     * Returns the lowercase form of this name, used for case-insensitive lookups.
+     *
+     * @return the normalized name
+     */
+    public String normalized() {
+        return normalize(value);
+    }
+
+    /**
+     * Lowercases a name or a searched part of one.
+     *
+     * <p>Stored names and searched terms go through this same rule, so both
+     * sides of a case-insensitive comparison always agree.</p>
+     *
+     * @param value the name or searched term (can be null)
+     * @return the lowercase value, or null if the input is null
+     */
+    public static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
 }
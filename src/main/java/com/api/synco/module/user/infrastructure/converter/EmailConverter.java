@@ -46,4 +46,15 @@ public class EmailConverter implements AttributeConverter<Email, String> {
         return dbData != null ? new Email(dbData) : null;
     }
 
+    /**
+     * Converts the {@link Email} value object to the value of its lowercase shadow column.
+     *
+     * @param email the email value object to normalize (can be null)
+     * @return the lowercase email, or null if the input is null
+     * @see Email#normalized()
+     */
+    public static String normalize(Email email) {
+        return email != null ? email.normalized() : null;
+    }
+
 }
\ No newline at end of file
@@ -46,4 +46,15 @@ public class NameConverter implements AttributeConverter<Name, String> {
         return dbData != null ? new Name(dbData) : null;
     }
 
+    /**
+     * Converts the {@link Name} value object to the value of its lowercase shadow column.
+     *
+     * @param name the name value object to normalize (can be null)
+     * @return the lowercase name, or null if the input is null
+     * @see Name#normalized()
+     */
+    public static String normalize(Name name) {
+        return name != null ? name.normalized() : null;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.api.synco.module.user.infrastructure.migration;
+
+import com.api.synco.core.persistence.MigrationLog;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills the lowercase name and email columns of users stored before they existed.
+ *
+ * <p>The values are computed in Java with {@link Name#normalize(String)} and
+ * {@link Email#normalize(String)}, the same rule applied to searched terms,
+ * so a backfilled row always matches the lookups. The database
+ * {@code LOWER()} function follows the column collation and could disagree
+ * with it.</p>
+ *
+ * <p>A column added to a populated table holds {@code NULL}, or the empty
+ * string where the database fills a {@code NOT NULL} column with its implicit
+ * default, so both count as missing. Rows are read in key order and updated
+ * in chunks, each in its own transaction. Once every row is filled, both columns are made
+ * {@code NOT NULL} and the migration is recorded in the {@link MigrationLog},
+ * so later starts skip it with a single lookup.</p>
+ *
+ * @author Luca5Eckert
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Lazy(false)
+public class UserNormalizedColumnsMigration {
+
+    static final String NAME = "user_normalized_columns";
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(UserNormalizedColumnsMigration.class);
+
+    private record UserRow(long id, String name, String email) {
+    }
+
+    private final MigrationLog migrationLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs the migration.
+     *
+     * @param migrationLog the log of the applied migrations
+     * @param jdbcTemplate the template reading and updating the users
+     * @param transactionManager the transaction manager of each chunk
+     */
+    public UserNormalizedColumnsMigration(
+            MigrationLog migrationLog,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.migrationLog = migrationLog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Backfills the columns, unless the migration was already applied.
+     */
+    @PostConstruct
+    public void migrate() {
+        if (migrationLog.isApplied(NAME)) {
+            return;
+        }
+
+        long lastId = 0;
+        int updated = 0;
+        List<UserRow> chunk;
+
+        do {
+            chunk = jdbcTemplate.query(
+                    "SELECT id, name, email FROM user_tb"
+                            + " WHERE id > ? AND (name_normalized IS NULL OR name_normalized = ''"
+                            + " OR email_normalized IS NULL OR email_normalized = '')"
+                            + " ORDER BY id LIMIT " + CHUNK_SIZE,
+                    (resultSet, rowNumber) -> new UserRow(
+                            resultSet.getLong("id"),
+                            resultSet.getString("name"),
+                            resultSet.getString("email")
+                    ),
+                    lastId
+            );
+
+            if (!chunk.isEmpty()) {
+                List<UserRow> rows = chunk;
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        "UPDATE user_tb SET name_normalized = ?, email_normalized = ? WHERE id = ?",
+                        rows.stream()
+                                .map(row -> new Object[]{Name.normalize(row.name()), Email.normalize(row.email()), row.id()})
+                                .toList()
+                ));
+
+                lastId = chunk.get(chunk.size() - 1).id();
+                updated += chunk.size();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+
+        requireColumn("name_normalized");
+        requireColumn("email_normalized");
+
+        migrationLog.markApplied(NAME);
+        log.info("Backfilled the lowercase name and email of {} users", updated);
+    }
+
+    private void requireColumn(String column) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        // MySQL restates the whole column definition; H2 changes only the constraint
+        if ("MySQL".equalsIgnoreCase(product)) {
+            jdbcTemplate.execute("ALTER TABLE user_tb MODIFY COLUMN " + column + " VARCHAR(255) NOT NULL");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE user_tb ALTER COLUMN " + column + " SET NOT NULL");
+        }
+    }
+
+}
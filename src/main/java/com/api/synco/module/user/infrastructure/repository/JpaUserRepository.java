@@ -4,7 +4,11 @@ import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.vo.Email;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -20,6 +24,8 @@ import java.util.Optional;
  *   <li>Standard CRUD operations (inherited from JpaRepository)</li>
  *   <li>Specification-based queries (inherited from JpaSpecificationExecutor)</li>
  *   <li>Custom queries for email-based lookups</li>
+ *   <li>Narrow token revision lookup used by stateless authentication</li>
+ *   <li>Narrow password hash update used by hash upgrades on login</li>
  * </ul>
  *
  * @author Luca5Eckert
@@ -47,4 +53,24 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long>, JpaS
      * @return an {@link Optional} containing the user if found, or empty if not found
      */
     Optional<UserEntity> findByEmail(Email email);
+
+    /**
+     * Finds only the token revision of a user, without loading the entity.
+     *
+     * @param id the user's unique identifier
+     * @return an {@link Optional} containing the revision if the user exists, or empty if not found
+     */
+    @Query("SELECT u.tokenRevision FROM UserEntity u WHERE u.id = :id")
+    Optional<Integer> findTokenRevisionById(@Param("id") long id);
+
+    /**
+     * Replaces only the stored password hash of a user.
+     *
+     * @param id the user's unique identifier
+     * @param password the new password hash
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.password = :password WHERE u.id = :id")
+    void updatePassword(@Param("id") long id, @Param("password") String password);
 }
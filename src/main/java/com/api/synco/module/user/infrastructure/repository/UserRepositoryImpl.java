@@ -1,11 +1,11 @@
 package com.api.synco.module.user.infrastructure.repository;
 
+import com.api.synco.core.pagination.KeysetPagination;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.filter.PageUser;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.vo.Email;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
@@ -85,17 +85,32 @@ public class UserRepositoryImpl implements UserRepository {
     /**
      * {@inheritDoc}
      *
-     * <p>This method converts the domain's {@link PageUser} to Spring Data's
-     * {@link PageRequest} for pagination support.</p>
+     * <p>Users are ordered by ID. When the {@link PageUser} carries the ID of
+     * the last user of the previous page, the page is read with a keyset
+     * predicate instead of an offset.</p>
      */
     @Override
-    public Page<UserEntity> findAll(Specification<UserEntity> userEntitySpecification, PageUser pageUser) {
-        PageRequest pageRequest = PageRequest.of(
+    public Slice<UserEntity> findAll(Specification<UserEntity> userEntitySpecification, PageUser pageUser) {
+        Specification<UserEntity> after = pageUser.afterId() != null
+                ? KeysetPagination.after("id", pageUser.afterId())
+                : null;
+
+        return KeysetPagination.findSlice(
+                jpaUserRepository,
+                userEntitySpecification,
+                after,
                 pageUser.pageNumber(),
-                pageUser.pageSize()
+                pageUser.pageSize(),
+                KeysetPagination.keyOrder("id")
         );
+    }
 
-        return jpaUserRepository.findAll(userEntitySpecification, pageRequest);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long count(Specification<UserEntity> userEntitySpecification) {
+        return jpaUserRepository.count(userEntitySpecification);
     }
 
     /**
@@ -106,4 +121,20 @@ public class UserRepositoryImpl implements UserRepository {
         return jpaUserRepository.findByEmail(email);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Integer> findTokenRevisionById(long id) {
+        return jpaUserRepository.findTokenRevisionById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updatePassword(long id, String encodedPassword) {
+        jpaUserRepository.updatePassword(id, encodedPassword);
+    }
+
 }
@@ -2,6 +2,8 @@ package com.api.synco.module.user.infrastructure.specification;
 
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
@@ -31,10 +33,13 @@ import java.time.Instant;
  */
 public class UserSpecifications {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     /**
      * Creates a specification to filter users by name containing the given value.
      *
-     * <p>The search is case-insensitive and matches any part of the name.</p>
+     * <p>The search is case-insensitive and matches any part of the name. It
+     * compares the lowercase shadow column, so no function wraps the column.</p>
      *
      * @param name the name substring to search for (can be null or blank to skip filter)
      * @return a specification for name filtering, or null if name is blank/null
@@ -42,14 +47,31 @@ public class UserSpecifications {
     public static Specification<UserEntity> nameContains(String name) {
         return (root, query, cb) -> {
             if (name == null || name.isBlank()) return null;
-            return cb.like(cb.lower(root.get("name").as(String.class)), "%" + name.toLowerCase() + "%");
+            return cb.like(root.get("nameNormalized"), "%" + escape(Name.normalize(name)) + "%", LIKE_ESCAPE);
+        };
+    }
+
+    /**
+     * Creates a specification to filter users by name starting with the given value.
+     *
+     * <p>The search is case-insensitive. The pattern has no leading wildcard,
+     * so it is answered by a range scan of the lowercase name index.</p>
+     *
+     * @param name the name prefix to search for (can be null or blank to skip filter)
+     * @return a specification for name filtering, or null if name is blank/null
+     */
+    public static Specification<UserEntity> nameStartsWith(String name) {
+        return (root, query, cb) -> {
+            if (name == null || name.isBlank()) return null;
+            return cb.like(root.get("nameNormalized"), escape(Name.normalize(name)) + "%", LIKE_ESCAPE);
         };
     }
 
     /**
      * Creates a specification to filter users by email containing the given value.
      *
-     * <p>The search is case-insensitive and matches any part of the email address.</p>
+     * <p>The search is case-insensitive and matches any part of the email address.
+     * It compares the lowercase shadow column, so no function wraps the column.</p>
      *
      * @param email the email substring to search for (can be null or blank to skip filter)
      * @return a specification for email filtering, or null if email is blank/null
@@ -57,10 +79,23 @@ public class UserSpecifications {
     public static Specification<UserEntity> emailContains(String email) {
         return (root, query, cb) -> {
             if (email == null || email.isBlank()) return null;
-            return cb.like(
-                    cb.lower(root.get("email").get("value").as(String.class)),
-                    "%" + email.toLowerCase() + "%"
-            );
+            return cb.like(root.get("emailNormalized"), "%" + escape(Email.normalize(email)) + "%", LIKE_ESCAPE);
+        };
+    }
+
+    /**
+     * Creates a specification to filter users by email starting with the given value.
+     *
+     * <p>The search is case-insensitive. The pattern has no leading wildcard,
+     * so it is answered by a range scan of the lowercase email index.</p>
+     *
+     * @param email the email prefix to search for (can be null or blank to skip filter)
+     * @return a specification for email filtering, or null if email is blank/null
+     */
+    public static Specification<UserEntity> emailStartsWith(String email) {
+        return (root, query, cb) -> {
+            if (email == null || email.isBlank()) return null;
+            return cb.like(root.get("emailNormalized"), escape(Email.normalize(email)) + "%", LIKE_ESCAPE);
         };
     }
 
@@ -102,4 +137,10 @@ public class UserSpecifications {
             return cb.between(path, start, end);
         };
     }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
\ No newline at end of file
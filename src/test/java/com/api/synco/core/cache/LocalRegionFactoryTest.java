@@ -0,0 +1,174 @@
+package com.api.synco.core.cache;
+
+import com.api.synco.core.persistence.CommittedEntities;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.room.infrastructure.repository.RoomRepositoryJpa;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Read-write cache entries are only visible to sessions started after they were cached,
+// so every step runs in its own transaction instead of the test transaction
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=com.api.synco.core.cache.LocalRegionFactory",
+        "spring.jpa.properties.hibernate.cache.local.max_entries=100",
+        "spring.jpa.properties.hibernate.cache.local.ttl=60000"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReferenceDataCache.class, SecondLevelCacheMetrics.class, CommittedEntities.class})
+class LocalRegionFactoryTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CommittedEntities committedEntities;
+
+    @Autowired
+    private RoomRepositoryJpa roomRepositoryJpa;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private long courseId;
+
+    @BeforeEach
+    void setup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+
+        courseId = committedEntities.persist(new CourseEntity("Computer Science", "CS", "CS Description")).getId();
+        committedEntities.persist(new RoomEntity(101, TypeRoom.LAB_INFORMATICA));
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        committedEntities.execute(entityManager -> {
+            entityManager.createQuery("DELETE FROM RoomEntity").executeUpdate();
+            return entityManager.createQuery("DELETE FROM CourseEntity").executeUpdate();
+        });
+    }
+
+    @DisplayName("Should serve a reference entity from the second-level cache")
+    @Test
+    void shouldServeEntityFromCache() {
+        // arrange
+        findCourse();
+        statistics.clear();
+
+        // act
+        CourseEntity course = findCourse();
+
+        // assert
+        assertThat(course.getName()).isEqualTo("Computer Science");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(CourseEntity.class, courseId)).isTrue();
+    }
+
+    @DisplayName("Should serve a cacheable query from the query cache")
+    @Test
+    void shouldServeQueryFromCache() {
+        // arrange
+        roomRepositoryJpa.existsByNumber(101);
+        statistics.clear();
+
+        // act
+        boolean exists = roomRepositoryJpa.existsByNumber(101);
+
+        // assert
+        assertThat(exists).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("Should evict a reference entity without a transaction synchronization")
+    @Test
+    void shouldEvictEntity() {
+        // arrange
+        findCourse();
+
+        // act
+        referenceDataCache.evict(CourseEntity.class, courseId);
+
+        // assert
+        assertThat(entityManagerFactory.getCache().contains(CourseEntity.class, courseId)).isFalse();
+    }
+
+    @DisplayName("Should evict a reference entity only once the transaction commits")
+    @Test
+    void shouldEvictEntityAfterCommit() {
+        // arrange
+        findCourse();
+
+        // act
+        boolean cachedBeforeCommit = transactionTemplate.execute(status -> {
+            referenceDataCache.evict(CourseEntity.class, courseId);
+            return entityManagerFactory.getCache().contains(CourseEntity.class, courseId);
+        });
+
+        // assert
+        assertThat(cachedBeforeCommit).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(CourseEntity.class, courseId)).isFalse();
+    }
+
+    @DisplayName("Should publish the counters of each region")
+    @Test
+    void shouldPublishRegionCounters() {
+        // arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheMetrics.bindTo(registry);
+        findCourse();
+
+        // act
+        findCourse();
+
+        // assert
+        assertThat(registry.get("hibernate.cache.region.hits").tag("region", "reference.course").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(registry.get("hibernate.cache.region.size").tag("region", "reference.course").gauge().value())
+                .isEqualTo(1);
+    }
+
+    private CourseEntity findCourse() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(CourseEntity.class, courseId);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+}
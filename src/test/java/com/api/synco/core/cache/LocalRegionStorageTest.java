@@ -0,0 +1,79 @@
+package com.api.synco.core.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRegionStorageTest {
+
+    @Test
+    @DisplayName("Should count hits and misses of the region")
+    void shouldCountHitsAndMisses() {
+        //arrange
+        LocalRegionStorage storage = new LocalRegionStorage("reference.room", 10, 60_000);
+        storage.putIntoCache("a", 1, null);
+
+        //act
+        Object hit = storage.getFromCache("a", null);
+        Object miss = storage.getFromCache("b", null);
+
+        //assert
+        assertThat(hit).isEqualTo(1);
+        assertThat(miss).isNull();
+        assertThat(storage.getHitCount()).isEqualTo(1);
+        assertThat(storage.getMissCount()).isEqualTo(1);
+        assertThat(storage.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used entry over the maximum")
+    void shouldDropLeastRecentlyUsedEntry() {
+        //arrange
+        LocalRegionStorage storage = new LocalRegionStorage("reference.room", 2, 60_000);
+        storage.putIntoCache("a", 1, null);
+        storage.putIntoCache("b", 2, null);
+        storage.getFromCache("a", null);
+
+        //act
+        storage.putIntoCache("c", 3, null);
+
+        //assert
+        assertThat(storage.contains("a")).isTrue();
+        assertThat(storage.contains("b")).isFalse();
+        assertThat(storage.contains("c")).isTrue();
+        assertThat(storage.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should miss once the entry expired")
+    void shouldMissExpiredEntry() throws InterruptedException {
+        //arrange
+        LocalRegionStorage storage = new LocalRegionStorage("reference.room", 10, 1);
+        storage.putIntoCache("a", 1, null);
+        Thread.sleep(5);
+
+        //act
+        Object value = storage.getFromCache("a", null);
+
+        //assert
+        assertThat(value).isNull();
+        assertThat(storage.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep entries without a time-to-live")
+    void shouldKeepEntriesWithoutTtl() throws InterruptedException {
+        //arrange
+        LocalRegionStorage storage = new LocalRegionStorage("default-update-timestamps-region", 10, 0);
+        storage.putIntoCache("a", 1, null);
+        Thread.sleep(5);
+
+        //act
+        Object value = storage.getFromCache("a", null);
+
+        //assert
+        assertThat(value).isEqualTo(1);
+    }
+
+}
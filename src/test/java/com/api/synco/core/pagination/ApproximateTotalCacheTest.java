@@ -0,0 +1,79 @@
+package com.api.synco.core.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApproximateTotalCacheTest {
+
+    private record Filter(String name) {
+    }
+
+    @Test
+    @DisplayName("Should count a filter once within the time-to-live")
+    void shouldReuseTotalOfSameFilter() {
+        //arrange
+        ApproximateTotalCache cache = new ApproximateTotalCache(10, 60_000);
+        AtomicInteger counts = new AtomicInteger();
+
+        //act
+        long first = cache.total(new Filter("a"), () -> counts.incrementAndGet() * 10L);
+        long second = cache.total(new Filter("a"), () -> counts.incrementAndGet() * 10L);
+
+        //assert
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        assertThat(counts).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count each filter separately")
+    void shouldCountDistinctFilters() {
+        //arrange
+        ApproximateTotalCache cache = new ApproximateTotalCache(10, 60_000);
+
+        //act
+        cache.total(new Filter("a"), () -> 1L);
+        long total = cache.total(new Filter("b"), () -> 2L);
+
+        //assert
+        assertThat(total).isEqualTo(2L);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count again once the total expired")
+    void shouldRecountExpiredTotal() throws InterruptedException {
+        //arrange
+        ApproximateTotalCache cache = new ApproximateTotalCache(10, 1);
+        cache.total(new Filter("a"), () -> 1L);
+        Thread.sleep(5);
+
+        //act
+        long total = cache.total(new Filter("a"), () -> 2L);
+
+        //assert
+        assertThat(total).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of totals")
+    void shouldBoundSize() {
+        //arrange
+        ApproximateTotalCache cache = new ApproximateTotalCache(2, 60_000);
+
+        //act
+        cache.total(new Filter("a"), () -> 1L);
+        cache.total(new Filter("b"), () -> 1L);
+        cache.total(new Filter("c"), () -> 1L);
+
+        //assert
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.api.synco.core.pagination;
+
+import com.api.synco.core.exception.pagination.InvalidPageCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Should decode the keys it encoded")
+    void shouldRoundTripKeys() {
+        //arrange
+        String cursor = PageCursor.encode(42L, 7L, 3L);
+
+        //act
+        long[] keys = PageCursor.decode(cursor, 3);
+
+        //assert
+        assertThat(keys).containsExactly(42L, 7L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should produce a URL-safe cursor")
+    void shouldProduceUrlSafeCursor() {
+        //act
+        String cursor = PageCursor.encode(Long.MAX_VALUE, -1L);
+
+        //assert
+        assertThat(cursor).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that is not Base64")
+    void shouldRejectMalformedCursor() {
+        //act and assert
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor!", 1))
+                .isInstanceOf(InvalidPageCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor carrying another number of keys")
+    void shouldRejectCursorOfAnotherKey() {
+        //arrange
+        String cursor = PageCursor.encode(1L);
+
+        //act and assert
+        assertThatThrownBy(() -> PageCursor.decode(cursor, 2))
+                .isInstanceOf(InvalidPageCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Should treat a blank cursor as absent")
+    void shouldTreatBlankCursorAsAbsent() {
+        //assert
+        assertThat(PageCursor.isPresent(null)).isFalse();
+        assertThat(PageCursor.isPresent(" ")).isFalse();
+        assertThat(PageCursor.isPresent(PageCursor.encode(1L))).isTrue();
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.api.synco.core.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+/**
+ * Writes test data in transactions that commit before the call returns.
+ *
+ * <p>Meant for tests running without a test transaction, whose code under
+ * test opens its own transactions and must see the data. Each call uses a
+ * fresh entity manager, closed once the transaction commits.</p>
+ */
+@TestComponent
+public class CommittedEntities {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    public CommittedEntities(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Stores one entity and commits it.
+     *
+     * @param entity the new or detached entity
+     * @return the stored copy, holding its generated ID
+     */
+    public <T> T persist(T entity) {
+        return execute(entityManager -> entityManager.merge(entity));
+    }
+
+    /**
+     * Runs some work with a fresh entity manager and commits it.
+     *
+     * @param work the work, flushed before the commit
+     * @return the result of the work
+     */
+    public <R> R execute(Function<EntityManager, R> work) {
+        return transactionTemplate.execute(status -> {
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            try {
+                entityManager.joinTransaction();
+                R result = work.apply(entityManager);
+                entityManager.flush();
+                return result;
+            } finally {
+                entityManager.close();
+            }
+        });
+    }
+
+}
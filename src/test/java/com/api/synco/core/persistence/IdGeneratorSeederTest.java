@@ -0,0 +1,113 @@
+package com.api.synco.core.persistence;
+
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The generator updates its table in a separate transaction, which would wait
+// on the rows locked by a test transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({IdGeneratorSeeder.class, CommittedEntities.class})
+class IdGeneratorSeederTest {
+
+    @Autowired
+    private IdGeneratorSeeder idGeneratorSeeder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommittedEntities committedEntities;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM course_entity");
+        jdbcTemplate.update("DELETE FROM room_entity");
+    }
+
+    // Rooms are only persisted here, so no block of room IDs is held in memory yet
+    @Test
+    @DisplayName("Should start a missing generator after the highest stored ID")
+    void shouldStartMissingGeneratorAfterHighestStoredId() {
+        // arrange
+        jdbcTemplate.update("DELETE FROM id_generator WHERE generator_name = 'room'");
+        jdbcTemplate.update("INSERT INTO room_entity (id, number, type_room) VALUES (120, 1, 0)");
+
+        // act
+        idGeneratorSeeder.seed();
+        long id = committedEntities.persist(new RoomEntity(101, TypeRoom.LAB_INFORMATICA)).getId();
+
+        // assert
+        assertThat(id).isEqualTo(121);
+        assertThat(nextValue("room")).isEqualTo(120 + 2L * IdGenerators.ALLOCATION_SIZE - 1);
+    }
+
+    @Test
+    @DisplayName("Should not change a generator that already has a row")
+    void shouldNotChangeExistingGenerator() {
+        // arrange
+        committedEntities.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        long before = nextValue("course");
+        jdbcTemplate.update("INSERT INTO course_entity (id, name, acronym, description) VALUES (" + (before + 500) + ", 'Legacy', 'LG', 'Legacy')");
+
+        // act
+        idGeneratorSeeder.seed();
+
+        // assert
+        assertThat(nextValue("course")).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should insert new entities in JDBC batches")
+    void shouldInsertNewEntitiesInBatches() {
+        // arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // act
+        committedEntities.execute(entityManager -> {
+            IntStream.rangeClosed(1, 20)
+                    .forEach(number -> entityManager.persist(new CourseEntity("Course " + number, "C" + number, "Description")));
+            return null;
+        });
+
+        // assert
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(5);
+    }
+
+
+    private long nextValue(String generator) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_value FROM id_generator WHERE generator_name = ?",
+                Long.class,
+                generator
+        );
+    }
+
+}
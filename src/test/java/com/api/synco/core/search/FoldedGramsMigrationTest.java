@@ -0,0 +1,75 @@
+package com.api.synco.core.search;
+
+import com.api.synco.core.persistence.MigrationLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MigrationLog.class, FoldedGramsMigration.class})
+class FoldedGramsMigrationTest {
+
+    @Autowired
+    private FoldedGramsMigration migration;
+
+    @Autowired
+    private MigrationLog migrationLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate.update("DELETE FROM " + MigrationLog.TABLE);
+        insertGram("fís");
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM search_gram_tb");
+    }
+
+    @Test
+    @DisplayName("Should discard the n-grams stored before accents were folded")
+    void shouldDiscardUnfoldedGrams() {
+        // act
+        migration.migrate();
+
+        // assert
+        assertThat(countGrams()).isZero();
+        assertThat(migrationLog.isApplied(FoldedGramsMigration.NAME)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the n-grams once the migration was applied")
+    void shouldSkipAppliedMigration() {
+        // arrange
+        migrationLog.markApplied(FoldedGramsMigration.NAME);
+
+        // act
+        migration.migrate();
+
+        // assert
+        assertThat(countGrams()).isEqualTo(1);
+    }
+
+    private void insertGram(String gram) {
+        jdbcTemplate.update("INSERT INTO search_gram_tb (field_name, gram, entity_id) VALUES ('course.name', ?, 1)", gram);
+    }
+
+    private long countGrams() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_gram_tb", Long.class);
+        return rows == null ? 0 : rows;
+    }
+
+}
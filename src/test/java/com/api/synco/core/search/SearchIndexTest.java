@@ -0,0 +1,160 @@
+package com.api.synco.core.search;
+
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.course.infrastructure.repository.CourseRepositoryJpa;
+import com.api.synco.module.course.infrastructure.specification.CourseSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SearchIndex.class)
+class SearchIndexTest {
+
+    private static final String FIELD = "course.name";
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private CourseRepositoryJpa courseRepositoryJpa;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CourseEntity computerScience;
+    private CourseEntity mathematics;
+
+    @BeforeEach
+    void setup() {
+        computerScience = entityManager.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        mathematics = entityManager.persist(new CourseEntity("Mathematics", "MT", "MT Description"));
+    }
+
+    @Test
+    @DisplayName("Should resolve a term to the entities containing it")
+    void shouldResolveTermToCandidates() {
+        //arrange
+        index(computerScience, mathematics);
+
+        //act
+        List<CourseEntity> result = search("SCIENCE");
+
+        //assert
+        assertThat(result).containsExactly(computerScience);
+    }
+
+    @Test
+    @DisplayName("Should fold accents in both the stored and the searched n-grams")
+    void shouldFoldAccents() {
+        //arrange
+        CourseEntity physics = entityManager.persist(new CourseEntity("Física Aplicada", "FA", "FA Description"));
+        index(computerScience, physics);
+
+        //act
+        List<CourseEntity> unaccented = courseRepositoryJpa.findAll(searchIndex.contains(FIELD, "fisica"));
+        List<CourseEntity> accented = courseRepositoryJpa.findAll(searchIndex.contains(FIELD, "FÍSICA"));
+
+        //assert
+        assertThat(countGrams("fis")).isEqualTo(1);
+        assertThat(unaccented).containsExactly(physics);
+        assertThat(accented).containsExactly(physics);
+    }
+
+    @Test
+    @DisplayName("Should keep the exact match when the n-grams appear apart")
+    void shouldKeepExactMatchWhenGramsAppearApart() {
+        //arrange
+        CourseEntity scrambled = entityManager.persist(new CourseEntity("Matador Athens", "MA", "MA Description"));
+        index(mathematics, scrambled);
+
+        //act
+        List<CourseEntity> result = search("math");
+
+        //assert
+        assertThat(result).containsExactly(mathematics);
+    }
+
+    @Test
+    @DisplayName("Should follow the edited text of an entity")
+    void shouldFollowEditedText() {
+        //arrange
+        index(computerScience);
+        searchIndex.index(FIELD, computerScience.getId(), "Information Systems");
+        entityManager.flush();
+
+        //act
+        long oldMatches = countGrams("sci");
+        long newMatches = countGrams("sys");
+
+        //assert
+        assertThat(oldMatches).isZero();
+        assertThat(newMatches).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop the n-grams of a removed entity")
+    void shouldDropRemovedEntity() {
+        //arrange
+        index(computerScience, mathematics);
+
+        //act
+        searchIndex.remove(FIELD, computerScience.getId());
+
+        //assert
+        assertThat(search("computer")).isEmpty();
+        assertThat(search("math")).containsExactly(mathematics);
+    }
+
+    @Test
+    @DisplayName("Should leave terms shorter than an n-gram to the LIKE predicate")
+    void shouldSkipShortTerms() {
+        //act
+        Specification<CourseEntity> candidates = searchIndex.contains(FIELD, "cs");
+
+        //assert
+        assertThat(candidates).isNull();
+    }
+
+    @Test
+    @DisplayName("Should index the stored entities when the field is empty")
+    void shouldRebuildEmptyField() {
+        //act
+        searchIndex.rebuildIfEmpty(FIELD, CourseEntity.class, CourseEntity::getId, CourseEntity::getName);
+        entityManager.flush();
+
+        //assert
+        assertThat(search("science")).containsExactly(computerScience);
+        assertThat(search("matics")).containsExactly(mathematics);
+    }
+
+    private void index(CourseEntity... courses) {
+        for (CourseEntity course : courses) {
+            searchIndex.index(FIELD, course.getId(), course.getName());
+        }
+        entityManager.flush();
+    }
+
+    private List<CourseEntity> search(String term) {
+        Specification<CourseEntity> specification = CourseSpecifications.nameContains(term);
+        return courseRepositoryJpa.findAll(specification.and(searchIndex.contains(FIELD, term)));
+    }
+
+    private long countGrams(String gram) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(g) FROM SearchGramEntity g WHERE g.id.fieldName = :field AND g.id.gram = :gram", Long.class)
+                .setParameter("field", FIELD)
+                .setParameter("gram", gram)
+                .getSingleResult();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.api.synco.core.security.jwt;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-thirty-two-characters";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setup() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 16);
+    }
+
+    @Test
+    @DisplayName("Should verify the token and expose its email and timestamps")
+    void shouldVerifyToken() {
+        //arrange
+        String token = jwtTokenProvider.generateToken("kaladin@gmail.com");
+
+        //act
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+
+        //assert
+        assertThat(verifiedToken.email()).isEqualTo("kaladin@gmail.com");
+        assertThat(verifiedToken.tokenId()).isNotBlank();
+        assertThat(verifiedToken.issuedAt()).isPositive();
+        assertThat(verifiedToken.expiresAt()).isGreaterThan(verifiedToken.issuedAt());
+    }
+
+    @Test
+    @DisplayName("Should issue every token with its own ID")
+    void shouldIssueUniqueTokenIds() {
+        //act
+        VerifiedToken first = jwtTokenProvider.verify(jwtTokenProvider.generateToken("kaladin@gmail.com"));
+        VerifiedToken second = jwtTokenProvider.verify(jwtTokenProvider.generateToken("kaladin@gmail.com"));
+
+        //assert
+        assertThat(first.tokenId()).isNotEqualTo(second.tokenId());
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated verification from the cache")
+    void shouldServeRepeatedVerificationFromCache() {
+        //arrange
+        String token = jwtTokenProvider.generateToken("kaladin@gmail.com");
+
+        //act
+        VerifiedToken first = jwtTokenProvider.verify(token);
+        VerifiedToken second = jwtTokenProvider.verify(token);
+
+        //assert
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should verify again when the cache is disabled")
+    void shouldVerifyAgainWhenCacheDisabled() {
+        //arrange
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 0);
+        String token = jwtTokenProvider.generateToken("kaladin@gmail.com");
+
+        //act
+        VerifiedToken first = jwtTokenProvider.verify(token);
+        VerifiedToken second = jwtTokenProvider.verify(token);
+
+        //assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.email()).isEqualTo(first.email());
+    }
+
+    @Test
+    @DisplayName("Should reject a cached token once it expired")
+    void shouldRejectCachedTokenAfterExpiry() throws InterruptedException {
+        //arrange
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1_000, 16);
+        String token = jwtTokenProvider.generateToken("kaladin@gmail.com");
+        jwtTokenProvider.verify(token);
+
+        //act
+        Thread.sleep(1_100);
+
+        //assert
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Token expired");
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void shouldRejectTokenWithAnotherSignature() {
+        //arrange
+        String token = new JwtTokenProvider(SECRET.replace('t', 'x'), 60_000, 0).generateToken("kaladin@gmail.com");
+
+        //act and assert
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token))
+                .isInstanceOf(TokenInvalidException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank token")
+    void shouldRejectBlankToken() {
+        //act and assert
+        assertThatThrownBy(() -> jwtTokenProvider.verify(" "))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Token is null or empty");
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.api.synco.core.security.jwt;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.user_details.UserDetailsImpl;
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+import com.api.synco.module.authentication.domain.port.RefreshTokenRepository;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenProviderTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenProvider refreshTokenProvider;
+
+    private UserDetailsImpl userDetails;
+
+    @BeforeEach
+    void setup() {
+        refreshTokenProvider = new RefreshTokenProvider(60_000, refreshTokenRepository);
+        userDetails = new UserDetailsImpl(1L, "john@example.com", "encodedPassword", RoleUser.USER, 3);
+    }
+
+    @Test
+    @DisplayName("Should store only the hash of the issued token")
+    void shouldStoreTokenHash() {
+        //arrange
+        var captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+
+        //act
+        String token = refreshTokenProvider.issue(userDetails, refreshTokenProvider.newFamilyId());
+
+        //assert
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).hasSize(64).isNotEqualTo(token);
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().getTokenRevision()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should consume an unused token once")
+    void shouldConsumeUnusedToken() {
+        //arrange
+        var stored = new RefreshTokenEntity("hash", "family-id", 1L, 3, Instant.now().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(anyString())).thenReturn(true);
+
+        //act
+        var consumed = refreshTokenProvider.consume("refresh-token");
+
+        //assert
+        assertThat(consumed).isSameAs(stored);
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should revoke the family when a used token is presented again")
+    void shouldRevokeFamilyOnReuse() {
+        //arrange
+        var stored = new RefreshTokenEntity("hash", "family-id", 1L, 3, Instant.now().plusSeconds(60));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(anyString())).thenReturn(false);
+
+        //act and assert
+        assertThatThrownBy(() -> refreshTokenProvider.consume("refresh-token"))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Refresh token already used");
+        verify(refreshTokenRepository).deleteByFamilyId("family-id");
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void shouldRejectExpiredToken() {
+        //arrange
+        var stored = new RefreshTokenEntity("hash", "family-id", 1L, 3, Instant.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+
+        //act and assert
+        assertThatThrownBy(() -> refreshTokenProvider.consume("refresh-token"))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Refresh token expired");
+        verify(refreshTokenRepository, never()).markUsed(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown token")
+    void shouldRejectUnknownToken() {
+        //arrange
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        //act and assert
+        assertThatThrownBy(() -> refreshTokenProvider.consume("refresh-token"))
+                .isInstanceOf(TokenInvalidException.class);
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.api.synco.core.security.jwt;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeyRingTest {
+
+    private static final String OLD_SECRET = "old-secret-key-with-at-least-thirty-two-characters";
+    private static final String NEW_SECRET = "new-secret-key-with-at-least-thirty-two-characters";
+
+    private SigningKeyRing oldRing;
+    private SigningKeyRing rotatedRing;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong(1_000L);
+        oldRing = ring("", "", 1_000L + 60_000L);
+        rotatedRing = ring("2024-06", "2024-06:" + NEW_SECRET, 1_000L + 60_000L);
+    }
+
+    @Test
+    @DisplayName("Should keep verifying tokens of the previous key after a rotation")
+    void shouldVerifyPreviousKeyAfterRotation() {
+        //arrange
+        String token = new JwtTokenProvider(oldRing, 60_000, 0).generateToken("kaladin@gmail.com");
+
+        //act
+        VerifiedToken verifiedToken = new JwtTokenProvider(rotatedRing, 60_000, 0).verify(token);
+
+        //assert
+        assertThat(verifiedToken.email()).isEqualTo("kaladin@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Should sign new tokens with the active key and name it in the kid header")
+    void shouldSignWithActiveKey() {
+        //arrange
+        String token = new JwtTokenProvider(rotatedRing, 60_000, 0).generateToken("kaladin@gmail.com");
+
+        //act
+        String keyId = Jwts.parserBuilder()
+                .setSigningKey(NEW_SECRET.getBytes(StandardCharsets.UTF_8))
+                .build()
+                .parseClaimsJws(token)
+                .getHeader()
+                .getKeyId();
+
+        //assert
+        assertThat(keyId).isEqualTo("2024-06");
+    }
+
+    @Test
+    @DisplayName("Should verify tokens issued without kid with the default key")
+    void shouldVerifyLegacyTokenWithDefaultKey() {
+        //arrange
+        String token = Jwts.builder()
+                .setSubject("kaladin@gmail.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        //act
+        VerifiedToken verifiedToken = new JwtTokenProvider(rotatedRing, 60_000, 0).verify(token);
+
+        //assert
+        assertThat(verifiedToken.email()).isEqualTo("kaladin@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens of a previous key once it retired")
+    void shouldRejectRetiredKey() {
+        //arrange
+        clock.addAndGet(60_000L);
+
+        //act and assert
+        assertThatThrownBy(() -> rotatedRing.resolve(SigningKeyRing.DEFAULT_KEY_ID))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Token signing key retired");
+        assertThat(rotatedRing.resolve("2024-06")).isSameAs(rotatedRing.getActiveKey());
+    }
+
+    @Test
+    @DisplayName("Should retire a key at its configured instant whenever the ring is loaded")
+    void shouldRetireKeyAtConfiguredInstant() {
+        //arrange
+        long past = System.currentTimeMillis() / 1_000 - 1;
+        long future = System.currentTimeMillis() / 1_000 + 3_600;
+
+        //act
+        SigningKeyRing ring = new SigningKeyRing(OLD_SECRET, SigningKeyRing.DEFAULT_KEY_ID, "",
+                "2024-01:" + NEW_SECRET + ":" + past + ",2024-06:" + NEW_SECRET.toUpperCase() + ":" + future, "", "", "", "PKCS12");
+
+        //assert
+        assertThatThrownBy(() -> ring.resolve("2024-01"))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Token signing key retired");
+        assertThat(ring.resolve("2024-06")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should retire a key of any source named in the retirement list")
+    void shouldRetireKeyNamedInRetirementList() {
+        //arrange
+        long past = System.currentTimeMillis() / 1_000 - 1;
+
+        //act
+        SigningKeyRing ring = new SigningKeyRing(OLD_SECRET, SigningKeyRing.DEFAULT_KEY_ID, "2024-06",
+                "2024-06:" + NEW_SECRET, SigningKeyRing.DEFAULT_KEY_ID + ":" + past, "", "", "PKCS12");
+
+        //assert
+        assertThatThrownBy(() -> ring.resolve(null))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Token signing key retired");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens naming an unknown key")
+    void shouldRejectUnknownKey() {
+        //act and assert
+        assertThatThrownBy(() -> rotatedRing.resolve("2023-01"))
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessage("Unknown token signing key");
+    }
+
+    @Test
+    @DisplayName("Should register the secret entries of the keystore by alias")
+    void shouldLoadKeysFromKeystore(@TempDir Path directory) throws Exception {
+        //arrange
+        Path keystorePath = directory.resolve("jwt-keys.p12");
+        char[] password = "changeit".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, password);
+        keyStore.setEntry(
+                "2024-06",
+                new KeyStore.SecretKeyEntry(new SecretKeySpec(NEW_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256")),
+                new KeyStore.PasswordProtection(password)
+        );
+        try (OutputStream outputStream = Files.newOutputStream(keystorePath)) {
+            keyStore.store(outputStream, password);
+        }
+
+        //act
+        SigningKeyRing keystoreRing = new SigningKeyRing(OLD_SECRET, SigningKeyRing.DEFAULT_KEY_ID, "2024-06", "", "", keystorePath.toString(), "changeit", "PKCS12");
+
+        //assert
+        assertThat(keystoreRing.getKeyIds()).containsExactlyInAnyOrder(SigningKeyRing.DEFAULT_KEY_ID, "2024-06");
+        assertThat(keystoreRing.getActiveKeyId()).isEqualTo("2024-06");
+    }
+
+    @Test
+    @DisplayName("Should refuse an active key that is not configured")
+    void shouldRejectMissingActiveKey() {
+        //act and assert
+        assertThatThrownBy(() -> new SigningKeyRing(OLD_SECRET, SigningKeyRing.DEFAULT_KEY_ID, "2024-06", "", "", "", "", "PKCS12"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SigningKeyRing ring(String activeKeyId, String inlineKeys, long retiresAt) {
+        SigningKeyRing configured = new SigningKeyRing(OLD_SECRET, SigningKeyRing.DEFAULT_KEY_ID, activeKeyId, inlineKeys, "", "", "", "PKCS12");
+        Map<String, SigningKeyRing.SigningKey> keys = new HashMap<>();
+        for (String keyId : configured.getKeyIds()) {
+            keys.put(keyId, new SigningKeyRing.SigningKey(configured.resolve(keyId), retiresAt));
+        }
+        return new SigningKeyRing(keys, configured.getActiveKeyId(), SigningKeyRing.DEFAULT_KEY_ID, clock::get);
+    }
+
+}
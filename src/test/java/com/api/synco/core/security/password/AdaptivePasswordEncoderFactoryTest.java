@@ -0,0 +1,76 @@
+package com.api.synco.core.security.password;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptivePasswordEncoderFactoryTest {
+
+    @Test
+    @DisplayName("Should match legacy BCrypt hashes and flag them for upgrade")
+    void shouldMatchAndUpgradeLegacyHashes() {
+        //arrange
+        var encoder = new AdaptivePasswordEncoderFactory("bcrypt", 10, 19456, 2, 1, 100).create();
+        String legacyHash = new BCryptPasswordEncoder(4).encode("Strong#Pass123");
+
+        //act
+        boolean matches = encoder.matches("Strong#Pass123", legacyHash);
+        boolean upgrade = encoder.upgradeEncoding(legacyHash);
+
+        //assert
+        assertThat(matches).isTrue();
+        assertThat(upgrade).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hash with the configured algorithm and keep current hashes")
+    void shouldHashWithConfiguredAlgorithm() {
+        //arrange
+        var encoder = new AdaptivePasswordEncoderFactory("argon2", 10, 4096, 2, 1, 100).create();
+
+        //act
+        String hash = encoder.encode("Strong#Pass123");
+
+        //assert
+        assertThat(hash).startsWith("{argon2}");
+        assertThat(encoder.matches("Strong#Pass123", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should flag BCrypt hashes for upgrade when the algorithm moves to Argon2")
+    void shouldUpgradeWhenAlgorithmChanges() {
+        //arrange
+        String bcryptHash = new AdaptivePasswordEncoderFactory("bcrypt", 4, 4096, 2, 1, 100).create().encode("Strong#Pass123");
+        var encoder = new AdaptivePasswordEncoderFactory("argon2", 10, 4096, 2, 1, 100).create();
+
+        //act and assert
+        assertThat(encoder.matches("Strong#Pass123", bcryptHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(bcryptHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should calibrate the BCrypt strength within the safe range")
+    void shouldCalibrateBcryptStrength() {
+        //arrange
+        var factory = new AdaptivePasswordEncoderFactory("bcrypt", 0, 19456, 0, 1, 1);
+
+        //act
+        int strength = factory.calibrateBcryptStrength();
+
+        //assert
+        assertThat(strength).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown algorithm")
+    void shouldRejectUnknownAlgorithm() {
+        //act and assert
+        assertThatThrownBy(() -> new AdaptivePasswordEncoderFactory("md5", 10, 19456, 2, 1, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.api.synco.core.security.password;
+
+import com.api.synco.core.exception.throttling.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch release;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("encoded:" + rawPassword);
+            }
+        };
+
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, 3, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        boundedPasswordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("Should hash on the pool and record queue wait and hash time")
+    void shouldHashAndRecordMetrics() {
+        //arrange
+        release.countDown();
+
+        //act
+        String encoded = boundedPasswordEncoder.encode("Strong#Pass123");
+        boolean matches = boundedPasswordEncoder.matches("Strong#Pass123", encoded);
+
+        //assert
+        assertThat(encoded).isEqualTo("encoded:Strong#Pass123");
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("security.password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.password.hash.queue.wait").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject with a retry delay when the queue is full")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        //arrange
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("first"));
+        CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode("second"));
+        waitUntilQueued();
+
+        //act and assert
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("third"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(3L);
+        assertThat(meterRegistry.get("security.password.hash.rejections").counter().count()).isEqualTo(1);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (meterRegistry.get("security.password.hash.queue.size").gauge().value() == 1
+                    && meterRegistry.get("security.password.hash.active").gauge().value() == 1) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.api.synco.core.security.ratelimit;
+
+import com.api.synco.core.exception.request.RequestBodyTooLargeException;
+import com.api.synco.core.exception.throttling.RateLimitExceededException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginRateLimitFilterTest {
+
+    @Mock
+    private HandlerExceptionResolver handlerExceptionResolver;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private LoginRateLimitFilter loginRateLimitFilter;
+
+    @BeforeEach
+    void setup() {
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(true, 10, 1_000, 1, 60_000, 100, System::nanoTime);
+        loginRateLimitFilter = new LoginRateLimitFilter(loginRateLimiter, new ObjectMapper(), handlerExceptionResolver);
+    }
+
+    @Test
+    @DisplayName("Should pass the login on with its body still readable")
+    void shouldPassLoginWithReplayableBody() throws Exception {
+        //arrange
+        var request = loginRequest("kaladin@gmail.com");
+        var captor = ArgumentCaptor.forClass(HttpServletRequest.class);
+
+        //act
+        loginRateLimitFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        //assert
+        verify(filterChain).doFilter(captor.capture(), any());
+        String body = new String(captor.getValue().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body).contains("kaladin@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Should reject repeated attempts against the same account")
+    void shouldRejectWhenAccountLimitReached() throws Exception {
+        //arrange
+        loginRateLimitFilter.doFilter(loginRequest("kaladin@gmail.com"), new MockHttpServletResponse(), filterChain);
+
+        //act
+        loginRateLimitFilter.doFilter(loginRequest("Kaladin@gmail.com"), new MockHttpServletResponse(), filterChain);
+
+        //assert
+        verify(filterChain, times(1)).doFilter(any(), any());
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), any(RateLimitExceededException.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse a body larger than the limit without passing it on")
+    void shouldRejectOversizedBody() throws Exception {
+        //arrange
+        var request = loginRequest("kaladin@gmail.com");
+        request.setContent(new byte[LoginRateLimitFilter.MAX_BODY_BYTES + 1]);
+
+        //act
+        loginRateLimitFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        //assert
+        verify(filterChain, never()).doFilter(any(), any());
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), any(RequestBodyTooLargeException.class));
+    }
+
+    @Test
+    @DisplayName("Should ignore requests outside login and registration")
+    void shouldIgnoreOtherEndpoints() throws Exception {
+        //arrange
+        var request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        var response = new MockHttpServletResponse();
+
+        //act
+        loginRateLimitFilter.doFilter(request, response, filterChain);
+        loginRateLimitFilter.doFilter(new MockHttpServletRequest("POST", "/api/auth/refresh"), response, filterChain);
+
+        //assert
+        verify(filterChain, times(2)).doFilter(any(), eq(response));
+        verifyNoInteractions(handlerExceptionResolver);
+    }
+
+    private MockHttpServletRequest loginRequest(String email) {
+        var request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"Password@123\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.api.synco.core.security.ratelimit;
+
+import com.api.synco.core.exception.throttling.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private AtomicLong clock;
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setup() {
+        clock = new AtomicLong(1_000L);
+        loginRateLimiter = new LoginRateLimiter(true, 3, 1_000, 2, 10_000, 100, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should let a burst through up to the bucket capacity")
+    void shouldAllowBurstUpToCapacity() {
+        //act
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkClient("10.0.0.1");
+
+        //assert
+        assertThatThrownBy(() -> loginRateLimiter.checkClient("10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(loginRateLimiter.getAllowedCount()).isEqualTo(3);
+        assertThat(loginRateLimiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refill one attempt per refill period")
+    void shouldRefillOverTime() {
+        //arrange
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkClient("10.0.0.1");
+
+        //act
+        advance(1_000);
+
+        //assert
+        assertThatCode(() -> loginRateLimiter.checkClient("10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> loginRateLimiter.checkClient("10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep independent buckets per client")
+    void shouldIsolateClients() {
+        //arrange
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkClient("10.0.0.1");
+
+        //act and assert
+        assertThatCode(() -> loginRateLimiter.checkClient("10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should limit an account regardless of the email case")
+    void shouldLimitAccountCaseInsensitively() {
+        //arrange
+        loginRateLimiter.checkAccount("kaladin@gmail.com");
+        loginRateLimiter.checkAccount(" Kaladin@Gmail.com");
+
+        //act and assert
+        assertThatThrownBy(() -> loginRateLimiter.checkAccount("KALADIN@GMAIL.COM"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("Should drop the buckets that refilled completely")
+    void shouldEvictIdleBuckets() {
+        //arrange
+        loginRateLimiter.checkClient("10.0.0.1");
+        loginRateLimiter.checkAccount("kaladin@gmail.com");
+        loginRateLimiter.checkAccount("kaladin@gmail.com");
+
+        //act
+        advance(1_000);
+        loginRateLimiter.evictIdle();
+
+        //assert
+        assertThat(loginRateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse new keys while the map is full of draining buckets")
+    void shouldRefuseNewKeysWhenFull() {
+        //arrange
+        loginRateLimiter = new LoginRateLimiter(true, 2, 1_000, 1, 1_000, 1, clock::get);
+        loginRateLimiter.checkClient("10.0.0.1");
+
+        //act and assert
+        assertThatThrownBy(() -> loginRateLimiter.checkClient("10.0.0.2"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThatCode(() -> loginRateLimiter.checkClient("10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> loginRateLimiter.checkClient("10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should admit a new key once a full map holds a refilled bucket")
+    void shouldAdmitNewKeyAfterIdleSweep() {
+        //arrange
+        loginRateLimiter = new LoginRateLimiter(true, 1, 1_000, 1, 1_000, 1, clock::get);
+        loginRateLimiter.checkClient("10.0.0.1");
+
+        //act
+        advance(1_000);
+
+        //assert
+        assertThatCode(() -> loginRateLimiter.checkClient("10.0.0.2")).doesNotThrowAnyException();
+        assertThat(loginRateLimiter.size()).isEqualTo(1);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+}
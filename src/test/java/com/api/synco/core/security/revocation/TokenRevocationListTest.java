@@ -0,0 +1,104 @@
+package com.api.synco.core.security.revocation;
+
+import com.api.synco.module.authentication.domain.RevokedTokenEntity;
+import com.api.synco.module.authentication.domain.port.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    private long inOneHour;
+
+    @BeforeEach
+    void setup() {
+        tokenRevocationList = new TokenRevocationList(1_000, 0.01, revokedTokenRepository);
+        inOneHour = System.currentTimeMillis() + 3_600_000;
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token and persist the revocation")
+    void shouldRejectRevokedToken() {
+        //act
+        tokenRevocationList.revoke("revoked-id", inOneHour);
+
+        //assert
+        assertThat(tokenRevocationList.isRevoked("revoked-id")).isTrue();
+        verify(revokedTokenRepository).save(any(RevokedTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should answer tokens never revoked from the Bloom filter alone")
+    void shouldAnswerNotRevokedFromFilter() {
+        //arrange
+        tokenRevocationList.revoke("revoked-id", inOneHour);
+
+        //act
+        for (int i = 0; i < 100; i++) {
+            assertThat(tokenRevocationList.isRevoked("active-id-" + i)).isFalse();
+        }
+
+        //assert
+        assertThat(tokenRevocationList.getCheckCount()).isEqualTo(100);
+        assertThat(tokenRevocationList.getFilterRejectionCount()).isGreaterThanOrEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("Should stop rejecting a revoked token once it expired")
+    void shouldIgnoreExpiredRevocation() {
+        //arrange
+        tokenRevocationList.revoke("revoked-id", System.currentTimeMillis() - 1);
+
+        //act
+        tokenRevocationList.purgeExpired();
+
+        //assert
+        assertThat(tokenRevocationList.isRevoked("revoked-id")).isFalse();
+        assertThat(tokenRevocationList.size()).isZero();
+        verify(revokedTokenRepository).deleteExpired(any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the revocations persisted before a restart")
+    void shouldLoadPersistedRevocations() {
+        //arrange
+        when(revokedTokenRepository.findAllNotExpired(any(Instant.class)))
+                .thenReturn(List.of(new RevokedTokenEntity("revoked-id", Instant.ofEpochMilli(inOneHour))));
+
+        //act
+        tokenRevocationList.load();
+
+        //assert
+        assertThat(tokenRevocationList.isRevoked("revoked-id")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("active-id")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should persist a repeated revocation only once")
+    void shouldPersistRepeatedRevocationOnce() {
+        //act
+        tokenRevocationList.revoke("revoked-id", inOneHour);
+        tokenRevocationList.revoke("revoked-id", inOneHour);
+
+        //assert
+        verify(revokedTokenRepository, times(1)).save(any(RevokedTokenEntity.class));
+        assertThat(tokenRevocationList.getRevocationCount()).isEqualTo(1);
+    }
+
+}
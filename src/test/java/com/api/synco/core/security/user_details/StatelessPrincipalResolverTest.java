@@ -0,0 +1,116 @@
+package com.api.synco.core.security.user_details;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.port.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatelessPrincipalResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserPrincipalCache userPrincipalCache;
+    private StatelessPrincipalResolver statelessPrincipalResolver;
+
+    private String email;
+    private Claims claims;
+
+    @BeforeEach
+    void setup() {
+        userPrincipalCache = new UserPrincipalCache(true, 100, 60_000);
+        statelessPrincipalResolver = new StatelessPrincipalResolver(true, userRepository, userPrincipalCache);
+
+        email = "kaladin@gmail.com";
+        claims = Jwts.claims().setSubject(email);
+        claims.put(JwtTokenProvider.CLAIM_USER_ID, 7L);
+        claims.put(JwtTokenProvider.CLAIM_ROLE, RoleUser.ADMIN.name());
+        claims.put(JwtTokenProvider.CLAIM_REVISION, 2);
+    }
+
+    @Test
+    @DisplayName("Should build the principal from the claims when the revision is current")
+    void shouldResolvePrincipalFromClaims() {
+        //arrange
+        when(userRepository.findTokenRevisionById(7L)).thenReturn(Optional.of(2));
+
+        //act
+        var first = statelessPrincipalResolver.resolve(claims, email);
+        var second = statelessPrincipalResolver.resolve(claims, email);
+
+        //assert
+        assertThat(first).isPresent();
+        assertThat(first.get().getId()).isEqualTo(7L);
+        assertThat(first.get().getUsername()).isEqualTo(email);
+        assertThat(first.get().getRole()).isEqualTo(RoleUser.ADMIN);
+        assertThat(second).isPresent();
+        verify(userRepository, times(1)).findTokenRevisionById(7L);
+    }
+
+    @Test
+    @DisplayName("Should reject the token when the user revision moved on")
+    void shouldRejectStaleRevision() {
+        //arrange
+        when(userRepository.findTokenRevisionById(7L)).thenReturn(Optional.of(3));
+
+        //act and assert
+        assertThatThrownBy(() -> statelessPrincipalResolver.resolve(claims, email))
+                .isInstanceOf(TokenInvalidException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject the token when the user no longer exists")
+    void shouldRejectDeletedUser() {
+        //arrange
+        when(userRepository.findTokenRevisionById(7L)).thenReturn(Optional.empty());
+
+        //act and assert
+        assertThatThrownBy(() -> statelessPrincipalResolver.resolve(claims, email))
+                .isInstanceOf(TokenInvalidException.class);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the user lookup when the token has no principal claims")
+    void shouldFallBackWithoutPrincipalClaims() {
+        //arrange
+        Claims emailOnly = Jwts.claims().setSubject(email);
+
+        //act
+        var principal = statelessPrincipalResolver.resolve(emailOnly, email);
+
+        //assert
+        assertThat(principal).isEmpty();
+        verify(userRepository, never()).findTokenRevisionById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the user lookup when the mode is disabled")
+    void shouldFallBackWhenDisabled() {
+        //arrange
+        statelessPrincipalResolver = new StatelessPrincipalResolver(false, userRepository, userPrincipalCache);
+
+        //act
+        var principal = statelessPrincipalResolver.resolve(claims, email);
+
+        //assert
+        assertThat(principal).isEmpty();
+        verify(userRepository, never()).findTokenRevisionById(anyLong());
+    }
+
+}
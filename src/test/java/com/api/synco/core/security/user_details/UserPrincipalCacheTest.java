@@ -0,0 +1,180 @@
+package com.api.synco.core.security.user_details;
+
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPrincipalCacheTest {
+
+    private UserPrincipalCache userPrincipalCache;
+
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setup() {
+        userPrincipalCache = new UserPrincipalCache(true, 2, 60_000);
+
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return new UserDetailsImpl(email.length(), email, "password", RoleUser.USER);
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once and serve the next lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        //act
+        var first = userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+        var second = userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+
+        //assert
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(userPrincipalCache.getHitCount()).isEqualTo(1);
+        assertThat(userPrincipalCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should load again when the token was issued at another instant")
+    void shouldMissWhenIssuedAtChanges() {
+        //act
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+        userPrincipalCache.get("kaladin@gmail.com", 2L, loader);
+
+        //assert
+        assertThat(loads).hasValue(2);
+        assertThat(userPrincipalCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used principal when full")
+    void shouldEvictLeastRecentlyUsedWhenFull() {
+        //arrange
+        userPrincipalCache.get("a@gmail.com", 1L, loader);
+        userPrincipalCache.get("b@gmail.com", 1L, loader);
+        userPrincipalCache.get("a@gmail.com", 1L, loader);
+
+        //act
+        userPrincipalCache.get("c@gmail.com", 1L, loader);
+        userPrincipalCache.get("b@gmail.com", 1L, loader);
+
+        //assert
+        assertThat(userPrincipalCache.size()).isEqualTo(2);
+        assertThat(userPrincipalCache.getEvictionCount()).isEqualTo(2);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should load again after the entry expired")
+    void shouldReloadAfterTtl() throws InterruptedException {
+        //arrange
+        userPrincipalCache = new UserPrincipalCache(true, 2, 1);
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+
+        //act
+        Thread.sleep(5);
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+
+        //assert
+        assertThat(loads).hasValue(2);
+        assertThat(userPrincipalCache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should always load when the cache is disabled")
+    void shouldAlwaysLoadWhenDisabled() {
+        //arrange
+        userPrincipalCache = new UserPrincipalCache(false, 2, 60_000);
+
+        //act
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+
+        //assert
+        assertThat(loads).hasValue(2);
+        assertThat(userPrincipalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should discard every principal of the invalidated user")
+    void shouldInvalidateByUserId() {
+        //arrange
+        var principal = (UserDetailsImpl) userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+        userPrincipalCache.get("kaladin@gmail.com", 2L, loader);
+
+        //act
+        userPrincipalCache.invalidate(principal.getId());
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+
+        //assert
+        assertThat(loads).hasValue(3);
+        assertThat(userPrincipalCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a principal invalidated while it was loading")
+    void shouldNotCachePrincipalInvalidatedWhileLoading() {
+        //arrange
+        Function<String, UserDetails> racingLoader = email -> {
+            UserDetails loaded = loader.apply(email);
+            userPrincipalCache.invalidate(((UserDetailsImpl) loaded).getId());
+            return loaded;
+        };
+
+        //act
+        userPrincipalCache.get("kaladin@gmail.com", 1L, racingLoader);
+        userPrincipalCache.get("kaladin@gmail.com", 1L, loader);
+
+        //assert
+        assertThat(loads).hasValue(2);
+        assertThat(userPrincipalCache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not cache a token revision invalidated while it was loading")
+    void shouldNotCacheRevisionInvalidatedWhileLoading() {
+        //arrange
+        AtomicInteger revisionLoads = new AtomicInteger();
+
+        //act
+        userPrincipalCache.getTokenRevision(7L, userId -> {
+            revisionLoads.incrementAndGet();
+            userPrincipalCache.invalidate(userId);
+            return Optional.of(1);
+        });
+        var revision = userPrincipalCache.getTokenRevision(7L, userId -> {
+            revisionLoads.incrementAndGet();
+            return Optional.of(2);
+        });
+
+        //assert
+        assertThat(revision).contains(2);
+        assertThat(revisionLoads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep caching other users while one user is invalidated")
+    void shouldKeepCachingOtherUsersDuringInvalidation() {
+        //act
+        userPrincipalCache.getTokenRevision(7L, userId -> {
+            userPrincipalCache.invalidate(8L);
+            return Optional.of(1);
+        });
+        var revision = userPrincipalCache.getTokenRevision(7L, userId -> Optional.of(2));
+
+        //assert
+        assertThat(revision).contains(1);
+        assertThat(userPrincipalCache.getHitCount()).isEqualTo(1);
+    }
+
+}
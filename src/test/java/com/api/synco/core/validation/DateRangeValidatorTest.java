@@ -0,0 +1,46 @@
+package com.api.synco.core.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateRangeValidatorTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("Should accept a range of the maximum length")
+    void shouldAcceptLongestRange() {
+        //act and assert
+        assertThatCode(() -> DateRangeValidator.validate(
+                FROM, FROM.plusDays(DateRangeValidator.MAX_RANGE_DAYS - 1), "range", IllegalArgumentException::new
+        )).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject a range without an end or ending before its start")
+    void shouldRejectUnorderedRange() {
+        //act and assert
+        assertThatThrownBy(() -> DateRangeValidator.validate(FROM, null, "recurrence", IllegalArgumentException::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The recurrence must have a start before its end");
+        assertThatThrownBy(() -> DateRangeValidator.validate(FROM, FROM.minusDays(1), "recurrence", IllegalArgumentException::new))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a range longer than the maximum")
+    void shouldRejectTooLongRange() {
+        //act and assert
+        assertThatThrownBy(() -> DateRangeValidator.validate(
+                FROM, FROM.plusDays(DateRangeValidator.MAX_RANGE_DAYS), "availability range", IllegalStateException::new
+        ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The availability range cannot exceed 366 days");
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.api.synco.module.attendance_user.domain.use_case;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import com.api.synco.module.attendance_user.domain.command.AttendanceMark;
+import com.api.synco.module.attendance_user.domain.command.RecordAttendanceCommand;
+import com.api.synco.module.attendance_user.domain.exception.DuplicateAttendanceEntryException;
+import com.api.synco.module.attendance_user.domain.exception.UserWithoutRecordAttendancePermissionException;
+import com.api.synco.module.attendance_user.domain.exception.UsersNotLinkedToClassException;
+import com.api.synco.module.attendance_user.domain.permission.AttendanceUserPermissionPolicy;
+import com.api.synco.module.attendance_user.domain.port.AttendanceSummaryRepository;
+import com.api.synco.module.attendance_user.domain.port.AttendanceUserRepository;
+import com.api.synco.module.attendance_user.domain.result.AttendanceRecordResult;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.port.PeriodRepository;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordAttendanceUseCaseTest {
+
+    @Mock
+    private AttendanceUserRepository attendanceUserRepository;
+
+    @Mock
+    private AttendanceSummaryRepository attendanceSummaryRepository;
+
+    @Mock
+    private PeriodRepository periodRepository;
+
+    @Mock
+    private ClassMembershipLookup classMembershipLookup;
+
+    @Mock
+    private AttendanceUserPermissionPolicy attendanceUserPermissionPolicy;
+
+    @InjectMocks
+    private RecordAttendanceUseCase recordAttendanceUseCase;
+
+    private AuthenticatedActor actor;
+    private ClassEntityId classId;
+    private PeriodEntity period;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        actor = new AuthenticatedActor(1L, RoleUser.USER, "teacher@example.com");
+        classId = new ClassEntityId(3L, 1);
+
+        ClassEntity classEntity = mock(ClassEntity.class);
+        lenient().when(classEntity.getId()).thenReturn(classId);
+        period = new PeriodEntity(7L, null, null, classEntity, LocalDate.of(2025, 3, 10), TypePeriod.MORNING);
+
+        lenient().when(periodRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(period));
+        // Every summary exists once createMissing ran, as it does in the database
+        lenient().when(attendanceSummaryRepository.findAllForUpdate(eq(classId), any()))
+                .thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(1)).stream()
+                        .map(userId -> new AttendanceSummaryEntity(new ClassUserId(userId, classId)))
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("Should check the actor and the whole roster with a single membership lookup")
+    void shouldCheckRosterWithSingleLookup() {
+        // arrange
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true), new AttendanceMark(11L, false));
+        allowActorWith(Map.of(
+                1L, membership(1L, TypeUserClass.TEACHER),
+                10L, membership(10L, TypeUserClass.STUDENT),
+                11L, membership(11L, TypeUserClass.STUDENT)
+        ));
+        when(attendanceUserRepository.findAllByPeriod(eq(7L), any())).thenReturn(List.of());
+        when(attendanceUserRepository.newAttendance(eq(period), anyLong(), anyBoolean()))
+                .thenAnswer(invocation -> attendance(invocation.getArgument(1), invocation.getArgument(2)));
+
+        // act
+        AttendanceRecordResult result = recordAttendanceUseCase.execute(command);
+
+        // assert
+        assertThat(result).isEqualTo(new AttendanceRecordResult(7L, 2, 0, 0));
+        verify(classMembershipLookup).findAll(classId, List.of(10L, 11L, 1L));
+        verifyNoMoreInteractions(classMembershipLookup);
+    }
+
+    @Test
+    @DisplayName("Should save all new records in one call")
+    @SuppressWarnings("unchecked")
+    void shouldSaveNewRecordsTogether() {
+        // arrange
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true), new AttendanceMark(11L, false));
+        allowActorWith(Map.of(
+                1L, membership(1L, TypeUserClass.TEACHER),
+                10L, membership(10L, TypeUserClass.STUDENT),
+                11L, membership(11L, TypeUserClass.STUDENT)
+        ));
+        when(attendanceUserRepository.findAllByPeriod(eq(7L), any())).thenReturn(List.of());
+        when(attendanceUserRepository.newAttendance(eq(period), anyLong(), anyBoolean()))
+                .thenAnswer(invocation -> attendance(invocation.getArgument(1), invocation.getArgument(2)));
+
+        // act
+        recordAttendanceUseCase.execute(command);
+
+        // assert
+        ArgumentCaptor<Collection<AttendanceUserEntity>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(attendanceUserRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AttendanceUserEntity::isPresent).containsExactly(true, false);
+    }
+
+    @Test
+    @DisplayName("Should update changed records and leave equal records untouched")
+    void shouldUpdateOnlyChangedRecords() {
+        // arrange
+        AttendanceUserEntity changed = attendance(10L, false);
+        AttendanceUserEntity equal = attendance(11L, false);
+
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true), new AttendanceMark(11L, false));
+        allowActorWith(Map.of(
+                1L, membership(1L, TypeUserClass.TEACHER),
+                10L, membership(10L, TypeUserClass.STUDENT),
+                11L, membership(11L, TypeUserClass.STUDENT)
+        ));
+        when(attendanceUserRepository.findAllByPeriod(eq(7L), any())).thenReturn(List.of(changed, equal));
+
+        // act
+        AttendanceRecordResult result = recordAttendanceUseCase.execute(command);
+
+        // assert
+        assertThat(result).isEqualTo(new AttendanceRecordResult(7L, 0, 1, 1));
+        assertThat(changed.isPresent()).isTrue();
+        verify(attendanceUserRepository, never()).newAttendance(any(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should count new and changed records in the summaries of the class")
+    void shouldUpdateSummaries() {
+        // arrange
+        AttendanceSummaryEntity summary = new AttendanceSummaryEntity(new ClassUserId(10L, classId));
+        summary.record(false);
+        AttendanceSummaryEntity createdSummary = new AttendanceSummaryEntity(new ClassUserId(11L, classId));
+
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true), new AttendanceMark(11L, true));
+        allowActorWith(Map.of(
+                1L, membership(1L, TypeUserClass.TEACHER),
+                10L, membership(10L, TypeUserClass.STUDENT),
+                11L, membership(11L, TypeUserClass.STUDENT)
+        ));
+        when(attendanceUserRepository.findAllByPeriod(eq(7L), any())).thenReturn(List.of(attendance(10L, false)));
+        when(attendanceUserRepository.newAttendance(eq(period), anyLong(), anyBoolean()))
+                .thenAnswer(invocation -> attendance(invocation.getArgument(1), invocation.getArgument(2)));
+        when(attendanceSummaryRepository.findAllForUpdate(eq(classId), any())).thenReturn(List.of(summary, createdSummary));
+
+        // act
+        recordAttendanceUseCase.execute(command);
+
+        // assert
+        assertThat(summary.getPresentCount()).isEqualTo(1);
+        assertThat(summary.getTotalCount()).isEqualTo(1);
+        assertThat(createdSummary.getPresentCount()).isEqualTo(1);
+        assertThat(createdSummary.getTotalCount()).isEqualTo(1);
+
+        InOrder inOrder = inOrder(attendanceSummaryRepository);
+        inOrder.verify(attendanceSummaryRepository).createMissing(classId, List.of(11L));
+        inOrder.verify(attendanceSummaryRepository).findAllForUpdate(classId, List.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("Should reject the whole roster when a user is not linked to the class")
+    void shouldRejectUsersNotLinkedToClass() {
+        // arrange
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true), new AttendanceMark(12L, true));
+        allowActorWith(Map.of(
+                1L, membership(1L, TypeUserClass.TEACHER),
+                10L, membership(10L, TypeUserClass.STUDENT)
+        ));
+
+        // act and assert
+        assertThatThrownBy(() -> recordAttendanceUseCase.execute(command))
+                .isInstanceOf(UsersNotLinkedToClassException.class)
+                .hasMessageContaining("[12]");
+        verifyNoInteractions(attendanceUserRepository, attendanceSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject an actor without permission")
+    void shouldRejectActorWithoutPermission() {
+        // arrange
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true));
+        when(classMembershipLookup.findAll(eq(classId), any())).thenReturn(Map.of(
+                1L, membership(1L, TypeUserClass.STUDENT)
+        ));
+        when(attendanceUserPermissionPolicy.canRecord(TypeUserClass.STUDENT, RoleUser.USER)).thenReturn(false);
+
+        // act and assert
+        assertThatThrownBy(() -> recordAttendanceUseCase.execute(command))
+                .isInstanceOf(UserWithoutRecordAttendancePermissionException.class);
+        verifyNoInteractions(attendanceUserRepository, attendanceSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a roster listing the same user twice")
+    void shouldRejectDuplicateUser() {
+        // arrange
+        RecordAttendanceCommand command = command(new AttendanceMark(10L, true), new AttendanceMark(10L, false));
+
+        // act and assert
+        assertThatThrownBy(() -> recordAttendanceUseCase.execute(command))
+                .isInstanceOf(DuplicateAttendanceEntryException.class);
+        verifyNoInteractions(periodRepository, classMembershipLookup, attendanceUserRepository);
+    }
+
+    private RecordAttendanceCommand command(AttendanceMark... marks) {
+        return new RecordAttendanceCommand(actor, 7L, List.of(marks));
+    }
+
+    private void allowActorWith(Map<Long, ClassMembership> memberships) {
+        when(classMembershipLookup.findAll(eq(classId), any())).thenReturn(memberships);
+        when(attendanceUserPermissionPolicy.canRecord(TypeUserClass.TEACHER, RoleUser.USER)).thenReturn(true);
+    }
+
+    private AttendanceUserEntity attendance(long userId, boolean present) {
+        return new AttendanceUserEntity(period, new UserEntity(userId, null, null, null, RoleUser.USER), present);
+    }
+
+    private ClassMembership membership(long userId, TypeUserClass typeUserClass) {
+        return new ClassMembership(userId, typeUserClass, RoleUser.USER);
+    }
+
+}
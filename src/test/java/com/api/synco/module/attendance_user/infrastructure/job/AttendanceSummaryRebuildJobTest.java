@@ -0,0 +1,154 @@
+package com.api.synco.module.attendance_user.infrastructure.job;
+
+import com.api.synco.core.persistence.CommittedEntities;
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import com.api.synco.module.attendance_user.infrastructure.repository.AttendanceSummaryRepositoryJpa;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks are rebuilt on their own threads and transactions, which could not
+// see rows written by an uncommitted test transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CommittedEntities.class)
+class AttendanceSummaryRebuildJobTest {
+
+    @Autowired
+    private AttendanceSummaryRepositoryJpa attendanceSummaryRepositoryJpa;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CommittedEntities committedEntities;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AttendanceSummaryRebuildJob job;
+
+    private ClassEntityId firstClassId;
+    private ClassEntityId secondClassId;
+    private UserEntity student;
+    private UserEntity otherStudent;
+
+    @BeforeEach
+    void setup() {
+        job = new AttendanceSummaryRebuildJob(attendanceSummaryRepositoryJpa, transactionManager, 2, 1);
+
+        CourseEntity course = committedEntities.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        ClassEntity firstClass = committedEntities.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+        ClassEntity secondClass = committedEntities.persist(new ClassEntity(new ClassEntityId(course.getId(), 2), course, 800, Shift.SECOND_SHIFT));
+        firstClassId = firstClass.getId();
+        secondClassId = secondClass.getId();
+
+        RoomEntity room = committedEntities.persist(new RoomEntity(101, TypeRoom.LAB_INFORMATICA));
+        UserEntity teacher = committedEntities.persist(user("teacher"));
+        student = committedEntities.persist(user("student"));
+        otherStudent = committedEntities.persist(user("other"));
+
+        for (int day = 1; day <= 3; day++) {
+            PeriodEntity period = committedEntities.persist(new PeriodEntity(teacher, room, firstClass, LocalDate.of(2025, 3, day), TypePeriod.MORNING));
+            committedEntities.persist(new AttendanceUserEntity(period, student, day != 2));
+            committedEntities.persist(new AttendanceUserEntity(period, otherStudent, true));
+        }
+
+        PeriodEntity secondPeriod = committedEntities.persist(new PeriodEntity(teacher, room, secondClass, LocalDate.of(2025, 3, 4), TypePeriod.EVENING));
+        committedEntities.persist(new AttendanceUserEntity(secondPeriod, student, false));
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM attendance_summary_tb");
+        jdbcTemplate.update("DELETE FROM attendance_user_entity");
+        jdbcTemplate.update("DELETE FROM period_entity");
+        jdbcTemplate.update("DELETE FROM class_entity");
+        jdbcTemplate.update("DELETE FROM course_entity");
+        jdbcTemplate.update("DELETE FROM room_entity");
+        jdbcTemplate.update("DELETE FROM user_tb");
+    }
+
+    @Test
+    @DisplayName("Should compute the present and total counts of each student in each class")
+    void shouldComputeCounts() {
+        // act
+        int written = job.rebuild();
+
+        // assert
+        assertThat(written).isEqualTo(3);
+        assertCounts(student, firstClassId, 2, 3);
+        assertCounts(otherStudent, firstClassId, 3, 3);
+        assertCounts(student, secondClassId, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counts")
+    void shouldReplaceDriftedCounts() {
+        // arrange
+        AttendanceSummaryEntity drifted = new AttendanceSummaryEntity(new ClassUserId(student.getId(), firstClassId));
+        drifted.record(false);
+        committedEntities.persist(drifted);
+
+        // act
+        job.rebuild();
+
+        // assert
+        assertCounts(student, firstClassId, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should rebuild at startup only when no summary exists")
+    void shouldRebuildOnlyWhenEmpty() {
+        // arrange
+        AttendanceSummaryEntity existing = new AttendanceSummaryEntity(new ClassUserId(student.getId(), firstClassId));
+        existing.record(true);
+        committedEntities.persist(existing);
+
+        // act
+        job.rebuildIfEmpty();
+
+        // assert
+        assertThat(attendanceSummaryRepositoryJpa.count()).isEqualTo(1);
+        assertCounts(student, firstClassId, 1, 1);
+    }
+
+    private void assertCounts(UserEntity user, ClassEntityId classId, int present, int total) {
+        AttendanceSummaryEntity summary = attendanceSummaryRepositoryJpa.findById(new ClassUserId(user.getId(), classId)).orElseThrow();
+
+        assertThat(summary.getPresentCount()).isEqualTo(present);
+        assertThat(summary.getTotalCount()).isEqualTo(total);
+    }
+
+    private UserEntity user(String name) {
+        return new UserEntity(new Name(name + " User"), new Email(name + "@example.com"), "encodedPassword", RoleUser.USER);
+    }
+
+
+}
@@ -0,0 +1,90 @@
+package com.api.synco.module.attendance_user.infrastructure.repository;
+
+import com.api.synco.module.attendance_user.domain.AttendanceSummaryEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(AttendanceSummaryRepositoryAdapter.class)
+class AttendanceSummaryRepositoryAdapterTest {
+
+    @Autowired
+    private AttendanceSummaryRepositoryAdapter attendanceSummaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ClassEntityId classId = new ClassEntityId(1L, 1);
+    private final ClassEntityId otherClassId = new ClassEntityId(1L, 2);
+
+    @BeforeEach
+    void setup() {
+        entityManager.persist(summary(10L, classId, true));
+        entityManager.persist(summary(11L, classId, false));
+        entityManager.persist(summary(10L, otherClassId, true));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("Should lock only the summaries of the given users in the class")
+    @Test
+    void shouldFindSummariesForUpdate() {
+        // act
+        List<AttendanceSummaryEntity> summaries = attendanceSummaryRepository.findAllForUpdate(classId, List.of(10L, 12L));
+
+        // assert
+        assertThat(summaries)
+                .extracting(AttendanceSummaryEntity::getId)
+                .containsExactly(new ClassUserId(10L, classId));
+    }
+
+    @DisplayName("Should create only the missing summaries and keep the counts of the existing ones")
+    @Test
+    void shouldCreateMissingSummaries() {
+        // act
+        attendanceSummaryRepository.createMissing(classId, List.of(12L, 10L));
+        attendanceSummaryRepository.createMissing(classId, List.of(12L));
+
+        // assert
+        List<AttendanceSummaryEntity> summaries = attendanceSummaryRepository.findAllByClass(classId);
+        assertThat(summaries)
+                .extracting(summary -> summary.getId().getUserId())
+                .containsExactly(10L, 11L, 12L);
+        assertThat(summaries)
+                .extracting(AttendanceSummaryEntity::getTotalCount)
+                .containsExactly(1, 1, 0);
+    }
+
+    @DisplayName("Should list the summaries of a class ordered by user")
+    @Test
+    void shouldFindSummariesOfClass() {
+        // act
+        List<AttendanceSummaryEntity> summaries = attendanceSummaryRepository.findAllByClass(classId);
+
+        // assert
+        assertThat(summaries)
+                .extracting(summary -> summary.getId().getUserId())
+                .containsExactly(10L, 11L);
+        assertThat(summaries)
+                .extracting(AttendanceSummaryEntity::getPresentCount)
+                .containsExactly(1, 0);
+    }
+
+    private AttendanceSummaryEntity summary(long userId, ClassEntityId classEntityId, boolean present) {
+        AttendanceSummaryEntity summary = new AttendanceSummaryEntity(new ClassUserId(userId, classEntityId));
+        summary.record(present);
+        return summary;
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.api.synco.module.attendance_user.infrastructure.repository;
+
+import com.api.synco.module.attendance_user.domain.AttendanceUserEntity;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(AttendanceUserRepositoryAdapter.class)
+class AttendanceUserRepositoryAdapterTest {
+
+    @Autowired
+    private AttendanceUserRepositoryAdapter attendanceUserRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private PeriodEntity period;
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        CourseEntity course = entityManager.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        ClassEntity classEntity = entityManager.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+        RoomEntity room = entityManager.persist(new RoomEntity(101, TypeRoom.LAB_INFORMATICA));
+        UserEntity teacher = entityManager.persist(user("teacher"));
+
+        period = entityManager.persist(new PeriodEntity(teacher, room, classEntity, LocalDate.of(2025, 3, 10), TypePeriod.MORNING));
+
+        for (int i = 0; i < 40; i++) {
+            studentIds.add(entityManager.persist(user("student" + i)).getId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("Should insert a whole roster without loading the users")
+    @Test
+    void shouldInsertRosterWithoutLoadingUsers() {
+        // arrange
+        PeriodEntity managedPeriod = entityManager.find(PeriodEntity.class, period.getId());
+        Statistics statistics = statistics();
+
+        // act
+        List<AttendanceUserEntity> attendances = studentIds.stream()
+                .map(userId -> attendanceUserRepository.newAttendance(managedPeriod, userId, true))
+                .toList();
+        attendanceUserRepository.saveAll(attendances);
+        entityManager.flush();
+
+        // assert
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(40);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(40);
+    }
+
+    @DisplayName("Should find only the records of the given users in the period")
+    @Test
+    void shouldFindRecordsOfGivenUsers() {
+        // arrange
+        PeriodEntity managedPeriod = entityManager.find(PeriodEntity.class, period.getId());
+        attendanceUserRepository.saveAll(studentIds.subList(0, 3).stream()
+                .map(userId -> attendanceUserRepository.newAttendance(managedPeriod, userId, true))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        // act
+        List<AttendanceUserEntity> found = attendanceUserRepository.findAllByPeriod(
+                period.getId(),
+                List.of(studentIds.get(1), studentIds.get(2), studentIds.get(3))
+        );
+
+        // assert
+        assertThat(found)
+                .extracting(attendance -> attendance.getUserEntity().getId())
+                .containsExactlyInAnyOrder(studentIds.get(1), studentIds.get(2));
+    }
+
+    @DisplayName("Should reject a second record of the same user in the period")
+    @Test
+    void shouldRejectSecondRecordOfSameUser() {
+        // arrange
+        PeriodEntity managedPeriod = entityManager.find(PeriodEntity.class, period.getId());
+        attendanceUserRepository.saveAll(List.of(attendanceUserRepository.newAttendance(managedPeriod, studentIds.get(0), true)));
+        entityManager.flush();
+
+        // act and assert
+        assertThatThrownBy(() -> {
+            attendanceUserRepository.saveAll(List.of(attendanceUserRepository.newAttendance(managedPeriod, studentIds.get(0), false)));
+            entityManager.flush();
+        }).isInstanceOf(org.hibernate.exception.ConstraintViolationException.class);
+    }
+
+    private UserEntity user(String name) {
+        return new UserEntity(new Name(name + " User"), new Email(name + "@example.com"), "encodedPassword", RoleUser.USER);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+}
@@ -2,12 +2,14 @@ package com.api.synco.module.authentication.application.controller;
 
 import com.api.synco.core.security.jwt.JwtTokenProvider;
 import com.api.synco.module.authentication.application.dto.login.UserLoginRequest;
+import com.api.synco.module.authentication.application.dto.refresh.UserRefreshRequest;
 import com.api.synco.module.authentication.application.dto.register.UserRegisterRequest;
 import com.api.synco.module.authentication.application.dto.reset_password.UserResetRequest;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.vo.Email;
 import com.api.synco.module.user.domain.vo.Name;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,13 +18,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -158,6 +164,7 @@ class AuthenticationControllerIntegrationTest {
                 .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.data.email").value("john@example.com"))
                 .andExpect(jsonPath("$.data.token").isString())
+                .andExpect(jsonPath("$.data.refreshToken").isString())
                 .andExpect(jsonPath("$.data.roles").isArray());
     }
 
@@ -214,5 +221,152 @@ class AuthenticationControllerIntegrationTest {
                 .andExpect(status().isAccepted());
     }
 
+    @DisplayName("POST /api/auth/logout - Should revoke the token")
+    @Test
+    void shouldRejectTokenAfterLogout() throws Exception {
+        var user = new UserEntity(
+                new Name("John Doe"),
+                new Email("john@example.com"),
+                passwordEncoder.encode("Strong#Pass123"),
+                RoleUser.USER
+        );
+        entityManager.persist(user);
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/" + user.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("POST /api/auth/logout - Should reject the refresh token of the logged out login only")
+    @Test
+    void shouldRejectRefreshTokenAfterLogout() throws Exception {
+        persistUser();
+        JsonNode login = login();
+        JsonNode otherLogin = login();
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + login.at("/data/token").asText()))
+                .andExpect(status().isOk());
+
+        refresh(login).andExpect(status().isUnauthorized());
+        refresh(otherLogin).andExpect(status().isOk());
+    }
+
+    @DisplayName("POST /api/auth/logout-all - Should reject the refresh tokens of every login")
+    @Test
+    void shouldRejectEveryRefreshTokenAfterLogoutEverywhere() throws Exception {
+        persistUser();
+        JsonNode login = login();
+        JsonNode otherLogin = login();
+
+        mockMvc.perform(post("/api/auth/logout-all")
+                        .header("Authorization", "Bearer " + login.at("/data/token").asText()))
+                .andExpect(status().isOk());
+
+        refresh(login).andExpect(status().isUnauthorized());
+        refresh(otherLogin).andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("POST /api/auth/logout - Should fail without token")
+    @Test
+    void shouldFailLogoutWithoutToken() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("POST /api/auth/refresh - Should rotate the refresh token and reject its reuse")
+    @Test
+    void shouldRotateRefreshToken() throws Exception {
+        var user = new UserEntity(
+                new Name("John Doe"),
+                new Email("john@example.com"),
+                passwordEncoder.encode("Strong#Pass123"),
+                RoleUser.USER
+        );
+        entityManager.persist(user);
+        entityManager.flush();
+
+        String loginBody = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode login = objectMapper.readTree(loginBody);
+        var refreshRequest = new UserRefreshRequest(login.at("/data/refreshToken").asText());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").isString())
+                .andExpect(jsonPath("$.data.refreshToken").isString());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequest)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("POST /api/auth/refresh - Should fail with unknown refresh token")
+    @Test
+    void shouldFailRefreshWithUnknownToken() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserRefreshRequest("unknown-token"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("POST /api/auth/login - Should upgrade an outdated password hash")
+    @Test
+    void shouldUpgradeOutdatedHashOnLogin() throws Exception {
+        var user = new UserEntity(
+                new Name("John Doe"),
+                new Email("john@example.com"),
+                new BCryptPasswordEncoder(4).encode("Strong#Pass123"),
+                RoleUser.USER
+        );
+        entityManager.persist(user);
+        entityManager.flush();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isAccepted());
+
+        entityManager.clear();
+        var upgraded = entityManager.find(UserEntity.class, user.getId());
+        assertThat(upgraded.getPassword()).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("Strong#Pass123", upgraded.getPassword())).isTrue();
+    }
+
+    private void persistUser() {
+        entityManager.persist(new UserEntity(
+                new Name("John Doe"),
+                new Email("john@example.com"),
+                passwordEncoder.encode("Strong#Pass123"),
+                RoleUser.USER
+        ));
+        entityManager.flush();
+    }
+
+    private JsonNode login() throws Exception {
+        String loginBody = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(loginBody);
+    }
+
+    private ResultActions refresh(JsonNode login) throws Exception {
+        var refreshRequest = new UserRefreshRequest(login.at("/data/refreshToken").asText());
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(refreshRequest)));
+    }
 
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
 import com.api.synco.core.security.user_details.UserDetailsImpl;
 import com.api.synco.module.authentication.application.dto.login.UserLoginRequest;
 import com.api.synco.module.authentication.domain.exception.AuthenticationValidationException;
@@ -29,6 +30,9 @@ class UserLoginUseCaseTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenProvider refreshTokenProvider;
+
     @Mock
     private AuthenticationMapper authenticationMapper;
 
@@ -61,15 +65,18 @@ class UserLoginUseCaseTest {
                 .thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(jwtTokenProvider.generateToken(email)).thenReturn(expectedToken);
+        when(refreshTokenProvider.newFamilyId()).thenReturn("family-id");
+        when(jwtTokenProvider.generateToken(userDetails, "family-id")).thenReturn(expectedToken);
+        when(refreshTokenProvider.issue(userDetails, "family-id")).thenReturn("refresh-token-12345");
 
         //act
         var response = userLoginUseCase.execute(request);
 
         //assert
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(jwtTokenProvider).generateToken(email);
-        verify(authenticationMapper).toLoginResponse(userDetails, expectedToken);
+        verify(jwtTokenProvider).generateToken(userDetails, "family-id");
+        verify(refreshTokenProvider).issue(userDetails, "family-id");
+        verify(authenticationMapper).toLoginResponse(userDetails, expectedToken, "refresh-token-12345");
     }
 
     @DisplayName("Should throw AuthenticationValidationException when authentication fails")
@@ -84,7 +91,8 @@ class UserLoginUseCaseTest {
         assertThatThrownBy(() -> userLoginUseCase.execute(request))
                 .isInstanceOf(AuthenticationValidationException.class);
 
-        verify(jwtTokenProvider, never()).generateToken(any());
-        verify(authenticationMapper, never()).toLoginResponse(any(), any());
+        verify(jwtTokenProvider, never()).generateToken(any(UserDetailsImpl.class), any());
+        verify(refreshTokenProvider, never()).issue(any(UserDetailsImpl.class), any());
+        verify(authenticationMapper, never()).toLoginResponse(any(), any(), any());
     }
 }
@@ -0,0 +1,58 @@
+package com.api.synco.module.authentication.domain.use_case;
+
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
+import com.api.synco.core.security.jwt.VerifiedToken;
+import com.api.synco.core.security.revocation.TokenRevocationList;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.port.UserRepository;
+import com.api.synco.module.user.domain.vo.Email;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLogoutEverywhereUseCaseTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private RefreshTokenProvider refreshTokenProvider;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserLogoutEverywhereUseCase userLogoutEverywhereUseCase;
+
+    @DisplayName("Should revoke the token and every refresh token family of the user")
+    @Test
+    void shouldRevokeEveryRefreshTokenFamily() {
+        //arrange
+        var verifiedToken = new VerifiedToken(Jwts.claims(), "token-id", "john@example.com", 1L, 2L);
+        var user = mock(UserEntity.class);
+        when(user.getId()).thenReturn(7L);
+        when(jwtTokenProvider.verify("jwt-token")).thenReturn(verifiedToken);
+        when(userRepository.findByEmail(new Email("john@example.com"))).thenReturn(Optional.of(user));
+
+        //act
+        userLogoutEverywhereUseCase.execute("Bearer jwt-token");
+
+        //assert
+        verify(tokenRevocationList).revoke("token-id", 2L);
+        verify(refreshTokenProvider).revokeFamilies(7L);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.api.synco.module.authentication.domain.use_case;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
+import com.api.synco.core.security.jwt.VerifiedToken;
+import com.api.synco.core.security.revocation.TokenRevocationList;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLogoutUseCaseTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private RefreshTokenProvider refreshTokenProvider;
+
+    @InjectMocks
+    private UserLogoutUseCase userLogoutUseCase;
+
+    @DisplayName("Should revoke the token until it expires")
+    @Test
+    void shouldRevokeToken() {
+        //arrange
+        var verifiedToken = new VerifiedToken(Jwts.claims(), "token-id", "john@example.com", 1L, 2L);
+        when(jwtTokenProvider.verify("jwt-token")).thenReturn(verifiedToken);
+
+        //act
+        userLogoutUseCase.execute("Bearer jwt-token");
+
+        //assert
+        verify(tokenRevocationList).revoke("token-id", 2L);
+    }
+
+    @DisplayName("Should revoke the refresh token family of the logged out login")
+    @Test
+    void shouldRevokeRefreshTokenFamily() {
+        //arrange
+        var claims = Jwts.claims();
+        claims.put(JwtTokenProvider.CLAIM_FAMILY, "family-id");
+        var verifiedToken = new VerifiedToken(claims, "token-id", "john@example.com", 1L, 2L);
+        when(jwtTokenProvider.verify("jwt-token")).thenReturn(verifiedToken);
+
+        //act
+        userLogoutUseCase.execute("Bearer jwt-token");
+
+        //assert
+        verify(refreshTokenProvider).revokeFamily("family-id");
+        verify(refreshTokenProvider, never()).revokeFamilies(anyLong());
+    }
+
+    @DisplayName("Should reject a token issued without an ID")
+    @Test
+    void shouldRejectTokenWithoutId() {
+        //arrange
+        var verifiedToken = new VerifiedToken(Jwts.claims(), null, "john@example.com", 1L, 2L);
+        when(jwtTokenProvider.verify("jwt-token")).thenReturn(verifiedToken);
+
+        //act and assert
+        assertThatThrownBy(() -> userLogoutUseCase.execute("Bearer jwt-token"))
+                .isInstanceOf(TokenInvalidException.class);
+        verify(tokenRevocationList, never()).revoke(anyString(), anyLong());
+        verify(refreshTokenProvider, never()).revokeFamily(anyString());
+    }
+
+}
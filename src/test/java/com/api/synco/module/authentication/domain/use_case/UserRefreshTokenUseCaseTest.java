@@ -0,0 +1,114 @@
+package com.api.synco.module.authentication.domain.use_case;
+
+import com.api.synco.core.exception.token.TokenInvalidException;
+import com.api.synco.core.security.jwt.JwtTokenProvider;
+import com.api.synco.core.security.jwt.RefreshTokenProvider;
+import com.api.synco.core.security.user_details.UserDetailsImpl;
+import com.api.synco.core.security.user_details.UserDetailsMapper;
+import com.api.synco.module.authentication.application.dto.refresh.UserRefreshRequest;
+import com.api.synco.module.authentication.domain.RefreshTokenEntity;
+import com.api.synco.module.authentication.domain.mapper.AuthenticationMapper;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.port.UserRepository;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRefreshTokenUseCaseTest {
+
+    @Mock
+    private RefreshTokenProvider refreshTokenProvider;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDetailsMapper userDetailsMapper;
+
+    @Mock
+    private AuthenticationMapper authenticationMapper;
+
+    @InjectMocks
+    private UserRefreshTokenUseCase userRefreshTokenUseCase;
+
+    private UserRefreshRequest request;
+    private RefreshTokenEntity refreshToken;
+    private UserEntity user;
+
+    @BeforeEach
+    void setup() {
+        request = new UserRefreshRequest("refresh-token");
+        refreshToken = new RefreshTokenEntity("hash", "family-id", 1L, 0, Instant.now().plusSeconds(60));
+        user = new UserEntity(new Name("John Doe"), new Email("john@example.com"), "encodedPassword", RoleUser.USER);
+    }
+
+    @DisplayName("Should issue a new access token and rotate the refresh token")
+    @Test
+    void shouldRotateRefreshToken() {
+        //arrange
+        var userDetails = new UserDetailsImpl(1L, "john@example.com", "encodedPassword", RoleUser.USER);
+
+        when(refreshTokenProvider.consume("refresh-token")).thenReturn(refreshToken);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userDetailsMapper.toEntity(user)).thenReturn(userDetails);
+        when(jwtTokenProvider.generateToken(userDetails, "family-id")).thenReturn("jwt-token");
+        when(refreshTokenProvider.issue(userDetails, "family-id")).thenReturn("next-refresh-token");
+
+        //act
+        userRefreshTokenUseCase.execute(request);
+
+        //assert
+        verify(refreshTokenProvider).issue(userDetails, "family-id");
+        verify(authenticationMapper).toLoginResponse(userDetails, "jwt-token", "next-refresh-token");
+    }
+
+    @DisplayName("Should revoke the family when the user changed since the token was issued")
+    @Test
+    void shouldRevokeFamilyWhenRevisionChanged() {
+        //arrange
+        user.incrementTokenRevision();
+
+        when(refreshTokenProvider.consume("refresh-token")).thenReturn(refreshToken);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        //act and assert
+        assertThatThrownBy(() -> userRefreshTokenUseCase.execute(request))
+                .isInstanceOf(TokenInvalidException.class);
+
+        verify(refreshTokenProvider).revokeFamily("family-id");
+        verify(jwtTokenProvider, never()).generateToken(any(UserDetailsImpl.class), any());
+    }
+
+    @DisplayName("Should revoke the family when the user no longer exists")
+    @Test
+    void shouldRevokeFamilyWhenUserDeleted() {
+        //arrange
+        when(refreshTokenProvider.consume("refresh-token")).thenReturn(refreshToken);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        //act and assert
+        assertThatThrownBy(() -> userRefreshTokenUseCase.execute(request))
+                .isInstanceOf(TokenInvalidException.class);
+
+        verify(refreshTokenProvider).revokeFamily("family-id");
+    }
+
+}
@@ -8,6 +8,7 @@ import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.exception.email.EmailNotUniqueDomainException;
 import com.api.synco.module.user.domain.exception.password.PasswordNotValidDomainException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.validator.PasswordValidatorImpl;
 import com.api.synco.module.user.domain.vo.Email;
@@ -33,6 +34,9 @@ class UserRegisterUseCaseTest {
     @Mock
     private PasswordValidatorImpl passwordValidator;
 
+    @Mock
+    private UserSearchProvider userSearchProvider;
+
     @InjectMocks
     private UserRegisterUseCase userRegisterUseCase;
 
@@ -70,6 +74,7 @@ class UserRegisterUseCaseTest {
         //assert - verify repository.save was called
         var captor = ArgumentCaptor.forClass(UserEntity.class);
         verify(userRepository).save(captor.capture());
+        verify(userSearchProvider).index(captor.getValue());
         var saved = captor.getValue();
         assertThat(saved.getName().value()).isEqualTo(name);
         assertThat(saved.getEmail().address()).isEqualTo(email);
@@ -1,5 +1,6 @@
 package com.api.synco.module.authentication.domain.use_case;
 
+import com.api.synco.core.security.user_details.UserPrincipalCache;
 import com.api.synco.module.authentication.application.dto.reset_password.UserResetRequest;
 import com.api.synco.module.authentication.domain.exception.password.PasswordNotMatchesException;
 import com.api.synco.module.user.domain.UserEntity;
@@ -36,6 +37,9 @@ public class UserResetPasswordUseCaseTest {
     @Mock
     private PasswordValidatorImpl passwordValidator;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserResetPasswordUseCase userResetPasswordUseCase;
 
@@ -74,6 +78,9 @@ public class UserResetPasswordUseCaseTest {
 
         var saved = captor.getValue();
         assertThat(saved).isNotNull();
+        assertThat(saved.getTokenRevision()).isEqualTo(1);
+
+        verify(userPrincipalCache).invalidate(userId);
 
     }
 
@@ -1,5 +1,6 @@
 package com.api.synco.module.class_entity.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.application.dto.create.CreateClassRequest;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.enumerator.Shift;
@@ -9,10 +10,7 @@ import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotFoundException;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,15 +39,13 @@ class CreateClassUseCaseTest {
     @Mock
     private CourseRepository courseRepository;
 
-    @Mock
-    private UserRepository userRepository;
 
     @InjectMocks
     private CreateClassUseCase createClassUseCase;
 
     private long userId;
     private long courseId;
-    private UserEntity adminUser;
+    private AuthenticatedActor admin;
     private CourseEntity courseEntity;
     private CreateClassRequest createClassRequest;
 
@@ -57,7 +53,7 @@ class CreateClassUseCaseTest {
     void setup() {
         userId = 1L;
         courseId = 10L;
-        adminUser = new UserEntity(userId, null, null, null, RoleUser.ADMIN);
+        admin = new AuthenticatedActor(userId, RoleUser.ADMIN, "kaladin@gmail.com");
         courseEntity = new CourseEntity(courseId, "Computer Science", "CS", "CS Description");
         createClassRequest = new CreateClassRequest(courseId, 800, Shift.FIRST_SHIFT);
     }
@@ -66,13 +62,12 @@ class CreateClassUseCaseTest {
     @Test
     void shouldCreateClassSuccessfully() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy .canCreate(RoleUser.ADMIN)).thenReturn(true);
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(courseEntity));
         when(classRepository.getNextNumberOfCourse(courseEntity)).thenReturn(1);
 
         // act
-        var result = createClassUseCase.execute(createClassRequest, userId);
+        var result = createClassUseCase.execute(createClassRequest, admin);
 
         // assert
         assertThat(result).isNotNull();
@@ -89,29 +84,15 @@ class CreateClassUseCaseTest {
         assertThat(saved.getShift()).isEqualTo(Shift.FIRST_SHIFT);
     }
 
-    @DisplayName("Should throw UserNotFoundDomainException when user not found")
-    @Test
-    void shouldThrowUserNotFoundExceptionWhenUserNotFound() {
-        // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        // act and assert
-        assertThatThrownBy(() -> createClassUseCase.execute(createClassRequest, userId))
-                .isInstanceOf(UserNotFoundDomainException.class);
-
-        verify(classRepository, never()).save(any());
-    }
-
     @DisplayName("Should throw UserWithoutCreateClassPermissionException when user lacks permission")
     @Test
     void shouldThrowPermissionExceptionWhenUserLacksPermission() {
         // arrange
-        var regularUser = new UserEntity(userId, null, null, null, RoleUser.USER);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(regularUser));
+        var regularUser = new AuthenticatedActor(userId, RoleUser.USER, "kaladin@gmail.com");
         when(permissionPolicy .canCreate(RoleUser.USER)).thenReturn(false);
 
         // act and assert
-        assertThatThrownBy(() -> createClassUseCase.execute(createClassRequest, userId))
+        assertThatThrownBy(() -> createClassUseCase.execute(createClassRequest, regularUser))
                 .isInstanceOf(UserWithoutCreateClassPermissionException.class);
 
         verify(classRepository, never()).save(any());
@@ -121,12 +102,11 @@ class CreateClassUseCaseTest {
     @Test
     void shouldThrowCourseNotFoundExceptionWhenCourseNotFound() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy .canCreate(RoleUser.ADMIN)).thenReturn(true);
         when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
         // act and assert
-        assertThatThrownBy(() -> createClassUseCase.execute(createClassRequest, userId))
+        assertThatThrownBy(() -> createClassUseCase.execute(createClassRequest, admin))
                 .isInstanceOf(CourseNotFoundException.class);
 
         verify(classRepository, never()).save(any());
@@ -136,13 +116,12 @@ class CreateClassUseCaseTest {
     @Test
     void shouldCreateClassWithCorrectSequentialNumber() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy .canCreate(RoleUser.ADMIN)).thenReturn(true);
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(courseEntity));
         when(classRepository.getNextNumberOfCourse(courseEntity)).thenReturn(5);
 
         // act
-        var result = createClassUseCase.execute(createClassRequest, userId);
+        var result = createClassUseCase.execute(createClassRequest, admin);
 
         // assert
         assertThat(result.getId().getNumber()).isEqualTo(5);
@@ -1,35 +1,29 @@
 package com.api.synco.module.class_entity.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.class_entity.domain.exception.ClassNotFoundException;
 import com.api.synco.module.class_entity.domain.exception.user.UserWithoutDeleteClassPermissionException;
 import com.api.synco.module.class_entity.domain.port.ClassRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-
 @ExtendWith(MockitoExtension.class)
 class DeleteClassUseCaseTest {
 
-    @Mock
-    private UserRepository userRepository;
 
     @Mock
     private ClassRepository classRepository;
@@ -37,24 +31,26 @@ class DeleteClassUseCaseTest {
     @Mock
     private PermissionPolicy permissionPolicy;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private DeleteClassUseCase deleteClassUseCase;
 
+    private final AuthenticatedActor actor = new AuthenticatedActor(-1, RoleUser.ADMIN, "kaladin@gmail.com");
+
 
 
     @Test
     @DisplayName("Should delete class with success")
     public void shouldDeleteClassWithSuccess(){
-        when(userRepository.findById(any(Long.class)))
-                .thenReturn(Optional.of(new UserEntity(-1, null, null, null, RoleUser.ADMIN)));
-
         when(permissionPolicy.canDelete(any(RoleUser.class)))
                 .thenReturn(true);
 
         when(classRepository.existById(any(ClassEntityId.class)))
                 .thenReturn(true);
 
-        deleteClassUseCase.execute(new ClassEntityId(), -1);
+        deleteClassUseCase.execute(new ClassEntityId(), actor);
 
         verify(classRepository).deleteById(any(ClassEntityId.class));
 
@@ -62,29 +58,23 @@ class DeleteClassUseCaseTest {
 
     @Test
     public void shouldThrowExceptionWhenUserDoNotHavePermission(){
-        when(userRepository.findById(any(Long.class)))
-                .thenReturn(Optional.of(new UserEntity(-1, null, null, null, RoleUser.ADMIN)));
-
         when(permissionPolicy.canDelete(any(RoleUser.class)))
                 .thenReturn(false);
 
-        assertThatThrownBy(() -> deleteClassUseCase.execute(new ClassEntityId(), -1))
+        assertThatThrownBy(() -> deleteClassUseCase.execute(new ClassEntityId(), actor))
                 .isExactlyInstanceOf(UserWithoutDeleteClassPermissionException.class);
 
     }
 
     @Test
     public void shouldThrowExceptionWhenClassNotExist(){
-        when(userRepository.findById(any(Long.class)))
-                .thenReturn(Optional.of(new UserEntity(-1, null, null, null, RoleUser.ADMIN)));
-
         when(permissionPolicy.canDelete(any(RoleUser.class)))
                 .thenReturn(true);
 
         when(classRepository.existById(any(ClassEntityId.class)))
                 .thenReturn(false);
 
-        assertThatThrownBy(() -> deleteClassUseCase.execute(new ClassEntityId(), -1))
+        assertThatThrownBy(() -> deleteClassUseCase.execute(new ClassEntityId(), actor))
                 .isExactlyInstanceOf(ClassNotFoundException.class);
 
     }
@@ -16,7 +16,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
@@ -59,10 +58,10 @@ class GetAllClassUseCaseTest {
     void shouldReturnAllClassesWithoutFilters() {
         // arrange
         Page<ClassEntity> page = new PageImpl<>(classList);
-        when(classRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        when(classRepository.findAll(any(Specification.class), any(PageClass.class))).thenReturn(page);
 
         // act
-        var result = getAllClassUseCase.execute(pageClass, classFilter);
+        var result = getAllClassUseCase.execute(pageClass, classFilter, false);
 
         // assert
         assertThat(result).isNotNull();
@@ -71,7 +70,7 @@ class GetAllClassUseCaseTest {
         assertThat(result.getContent().get(1).getTotalHours()).isEqualTo(700);
         assertThat(result.getContent().get(2).getTotalHours()).isEqualTo(600);
 
-        verify(classRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(classRepository).findAll(any(Specification.class), any(PageClass.class));
     }
 
     @DisplayName("Should return filtered classes by shift")
@@ -84,17 +83,17 @@ class GetAllClassUseCaseTest {
             new ClassEntity(new ClassEntityId(1L, 3), courseEntity, 600, Shift.FIRST_SHIFT)
         );
         Page<ClassEntity> page = new PageImpl<>(filteredList);
-        when(classRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        when(classRepository.findAll(any(Specification.class), any(PageClass.class))).thenReturn(page);
 
         // act
-        var result = getAllClassUseCase.execute(pageClass, filteredFilter);
+        var result = getAllClassUseCase.execute(pageClass, filteredFilter, false);
 
         // assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent()).allMatch(c -> c.getShift() == Shift.FIRST_SHIFT);
 
-        verify(classRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(classRepository).findAll(any(Specification.class), any(PageClass.class));
     }
 
     @DisplayName("Should return filtered classes by course ID")
@@ -103,16 +102,16 @@ class GetAllClassUseCaseTest {
         // arrange
         var courseFilter = ClassFilter.builder().setCourseIdContains(1L).build();
         Page<ClassEntity> page = new PageImpl<>(classList);
-        when(classRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        when(classRepository.findAll(any(Specification.class), any(PageClass.class))).thenReturn(page);
 
         // act
-        var result = getAllClassUseCase.execute(pageClass, courseFilter);
+        var result = getAllClassUseCase.execute(pageClass, courseFilter, false);
 
         // assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(3);
 
-        verify(classRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(classRepository).findAll(any(Specification.class), any(PageClass.class));
     }
 
     @DisplayName("Should return empty page when no classes found")
@@ -120,16 +119,16 @@ class GetAllClassUseCaseTest {
     void shouldReturnEmptyPageWhenNoClassesFound() {
         // arrange
         Page<ClassEntity> emptyPage = new PageImpl<>(Collections.emptyList());
-        when(classRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(emptyPage);
+        when(classRepository.findAll(any(Specification.class), any(PageClass.class))).thenReturn(emptyPage);
 
         // act
-        var result = getAllClassUseCase.execute(pageClass, classFilter);
+        var result = getAllClassUseCase.execute(pageClass, classFilter, false);
 
         // assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEmpty();
 
-        verify(classRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(classRepository).findAll(any(Specification.class), any(PageClass.class));
     }
 
     @DisplayName("Should handle pagination correctly")
@@ -141,15 +140,15 @@ class GetAllClassUseCaseTest {
             new ClassEntity(new ClassEntityId(1L, 2), courseEntity, 700, Shift.SECOND_SHIFT)
         );
         Page<ClassEntity> page = new PageImpl<>(paginatedList);
-        when(classRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        when(classRepository.findAll(any(Specification.class), any(PageClass.class))).thenReturn(page);
 
         // act
-        var result = getAllClassUseCase.execute(paginatedPageClass, classFilter);
+        var result = getAllClassUseCase.execute(paginatedPageClass, classFilter, false);
 
         // assert
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
 
-        verify(classRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(classRepository).findAll(any(Specification.class), any(PageClass.class));
     }
 }
@@ -1,5 +1,7 @@
 package com.api.synco.module.class_entity.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.application.dto.update.UpdateClassRequest;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
@@ -9,10 +11,7 @@ import com.api.synco.module.class_entity.domain.exception.user.UserWithoutUpdate
 import com.api.synco.module.class_entity.domain.port.ClassRepository;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,15 +37,16 @@ class UpdateClassUseCaseTest {
     @Mock
     private ClassRepository classRepository;
 
+
     @Mock
-    private UserRepository userRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private UpdateClassUseCase updateClassUseCase;
 
     private long userId;
     private ClassEntityId classEntityId;
-    private UserEntity adminUser;
+    private AuthenticatedActor admin;
     private CourseEntity courseEntity;
     private ClassEntity existingClass;
     private UpdateClassRequest updateRequest;
@@ -55,7 +55,7 @@ class UpdateClassUseCaseTest {
     void setup() {
         userId = 1L;
         classEntityId = new ClassEntityId(10L, 1);
-        adminUser = new UserEntity(userId, null, null, null, RoleUser.ADMIN);
+        admin = new AuthenticatedActor(userId, RoleUser.ADMIN, "kaladin@gmail.com");
         courseEntity = new CourseEntity(10L, "Computer Science", "CS", "CS Description");
         existingClass = new ClassEntity(classEntityId, courseEntity, 800, Shift.FIRST_SHIFT);
         updateRequest = new UpdateClassRequest(1000, Shift.SECOND_SHIFT);
@@ -65,12 +65,11 @@ class UpdateClassUseCaseTest {
     @Test
     void shouldUpdateClassSuccessfully() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
         when(classRepository.findById(classEntityId)).thenReturn(Optional.of(existingClass));
 
         // act
-        var result = updateClassUseCase.execute(updateRequest, classEntityId, userId);
+        var result = updateClassUseCase.execute(updateRequest, classEntityId, admin);
 
         // assert
         assertThat(result).isNotNull();
@@ -84,30 +83,15 @@ class UpdateClassUseCaseTest {
         assertThat(saved.getShift()).isEqualTo(Shift.SECOND_SHIFT);
     }
 
-    @DisplayName("Should throw UserNotFoundDomainException when user not found")
-    @Test
-    void shouldThrowUserNotFoundExceptionWhenUserNotFound() {
-        // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        // act and assert
-        assertThatThrownBy(() -> updateClassUseCase.execute(updateRequest, classEntityId, userId))
-                .isInstanceOf(UserNotFoundDomainException.class);
-
-        verify(classRepository, never()).findById(any());
-        verify(classRepository, never()).save(any());
-    }
-
     @DisplayName("Should throw UserWithoutUpdateClassPermissionException when user lacks permission")
     @Test
     void shouldThrowPermissionExceptionWhenUserLacksPermission() {
         // arrange
-        var regularUser = new UserEntity(userId, null, null, null, RoleUser.USER);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(regularUser));
+        var regularUser = new AuthenticatedActor(userId, RoleUser.USER, "kaladin@gmail.com");
         when(permissionPolicy.canEdit(RoleUser.USER)).thenReturn(false);
 
         // act and assert
-        assertThatThrownBy(() -> updateClassUseCase.execute(updateRequest, classEntityId, userId))
+        assertThatThrownBy(() -> updateClassUseCase.execute(updateRequest, classEntityId, regularUser))
                 .isInstanceOf(UserWithoutUpdateClassPermissionException.class);
 
         verify(classRepository, never()).findById(any());
@@ -118,12 +102,11 @@ class UpdateClassUseCaseTest {
     @Test
     void shouldThrowClassNotFoundExceptionWhenClassNotFound() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
         when(classRepository.findById(classEntityId)).thenReturn(Optional.empty());
 
         // act and assert
-        assertThatThrownBy(() -> updateClassUseCase.execute(updateRequest, classEntityId, userId))
+        assertThatThrownBy(() -> updateClassUseCase.execute(updateRequest, classEntityId, admin))
                 .isInstanceOf(ClassNotFoundException.class);
 
         verify(classRepository, never()).save(any());
@@ -134,12 +117,11 @@ class UpdateClassUseCaseTest {
     void shouldUpdateTotalHoursCorrectly() {
         // arrange
         var updateHoursOnly = new UpdateClassRequest(500, Shift.FIRST_SHIFT);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
         when(classRepository.findById(classEntityId)).thenReturn(Optional.of(existingClass));
 
         // act
-        var result = updateClassUseCase.execute(updateHoursOnly, classEntityId, userId);
+        var result = updateClassUseCase.execute(updateHoursOnly, classEntityId, admin);
 
         // assert
         assertThat(result.getTotalHours()).isEqualTo(500);
@@ -0,0 +1,126 @@
+package com.api.synco.module.class_entity.infrastructure.repository;
+
+import com.api.synco.core.persistence.CommittedEntities;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.course.domain.CourseEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Numbers are allocated in their own transaction, which could not see
+// a course created by an uncommitted test transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ClassRepositoryAdapter.class, CommittedEntities.class})
+class ClassRepositoryAdapterTest {
+
+    @Autowired
+    private ClassRepositoryAdapter classRepository;
+
+    @Autowired
+    private CommittedEntities committedEntities;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CourseEntity course;
+
+    @BeforeEach
+    void setup() {
+        course = committedEntities.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM class_number_counter_tb");
+        jdbcTemplate.update("DELETE FROM class_entity");
+        jdbcTemplate.update("DELETE FROM course_entity");
+    }
+
+    @Test
+    @DisplayName("Should allocate the first number of a course without classes")
+    void shouldAllocateFirstNumber() {
+        // act
+        int number = classRepository.getNextNumberOfCourse(course);
+
+        // assert
+        assertThat(number).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should allocate numbers after the classes already stored")
+    void shouldAllocateAfterStoredClasses() {
+        // arrange
+        committedEntities.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+        committedEntities.persist(new ClassEntity(new ClassEntityId(course.getId(), 4), course, 800, Shift.SECOND_SHIFT));
+
+        // act
+        int first = classRepository.getNextNumberOfCourse(course);
+        int second = classRepository.getNextNumberOfCourse(course);
+
+        // assert
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should keep the numbers of each course apart")
+    void shouldKeepCoursesApart() {
+        // arrange
+        CourseEntity other = committedEntities.persist(new CourseEntity("Mathematics", "MT", "MT Description"));
+        classRepository.getNextNumberOfCourse(course);
+
+        // act
+        int number = classRepository.getNextNumberOfCourse(other);
+
+        // assert
+        assertThat(number).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should allocate distinct numbers to concurrent creations")
+    void shouldAllocateDistinctNumbersConcurrently() throws Exception {
+        // arrange
+        int allocations = 40;
+        Callable<Integer> allocation = () -> classRepository.getNextNumberOfCourse(course);
+
+        // act
+        List<Integer> numbers;
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Integer>> futures = executor.invokeAll(IntStream.range(0, allocations)
+                    .mapToObj(i -> allocation)
+                    .toList());
+
+            numbers = futures.stream().map(future -> {
+                try {
+                    return future.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+
+        // assert
+        assertThat(numbers).containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, allocations).boxed().toList());
+    }
+
+
+}
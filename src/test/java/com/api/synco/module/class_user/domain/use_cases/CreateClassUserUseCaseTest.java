@@ -1,5 +1,6 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.class_entity.domain.exception.ClassNotFoundException;
@@ -12,7 +13,6 @@ import com.api.synco.module.class_user.domain.port.ClassUserRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,14 +61,10 @@ class CreateClassUserUseCaseTest {
                 TARGET_USER_ID, COURSE_ID, CLASS_NUMBER, TypeUserClass.STUDENT
         );
 
-        UserEntity adminUser = mock(UserEntity.class);
+        AuthenticatedActor adminUser = new AuthenticatedActor(AUTH_USER_ID, ROLE_ADMIN, "kaladin@gmail.com");
         UserEntity targetUser = mock(UserEntity.class);
         ClassEntity classEntity = mock(ClassEntity.class);
 
-        // 1. Mock finding the authenticated admin
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(adminUser));
-        when(adminUser.getRole()).thenReturn(ROLE_ADMIN);
-
         when(permissionPolicy.canCreate(ROLE_ADMIN)).thenReturn(true);
 
         // 3. Mock finding the target user
@@ -78,7 +74,7 @@ class CreateClassUserUseCaseTest {
         when(classRepository.findById(any(ClassEntityId.class))).thenReturn(Optional.of(classEntity));
 
         // WHEN
-        ClassUser result = createClassUserUseCase.execute(request, AUTH_USER_ID);
+        ClassUser result = createClassUserUseCase.execute(request, adminUser);
 
         // THEN
         assertNotNull(result);
@@ -96,17 +92,14 @@ class CreateClassUserUseCaseTest {
         CreateClassUserRequest request = new CreateClassUserRequest(
                 TARGET_USER_ID, COURSE_ID, CLASS_NUMBER, TypeUserClass.STUDENT
         );
-        UserEntity regularUser = mock(UserEntity.class);
-
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(regularUser));
-        when(regularUser.getRole()).thenReturn(ROLE_STUDENT);
+        AuthenticatedActor regularUser = new AuthenticatedActor(AUTH_USER_ID, ROLE_STUDENT, "kaladin@gmail.com");
 
         // CRITICAL: Permission check returns FALSE
         when(permissionPolicy.canCreate(ROLE_STUDENT)).thenReturn(false);
 
         // WHEN & THEN
         assertThrows(UserWithoutCreateClassUserPermissionException.class, () ->
-                createClassUserUseCase.execute(request, AUTH_USER_ID)
+                createClassUserUseCase.execute(request, regularUser)
         );
 
         // Verify we never attempted to save or look up the class
@@ -114,21 +107,6 @@ class CreateClassUserUseCaseTest {
         verify(classRepository, never()).findById(any(ClassEntityId.class));
     }
 
-    @Test
-    @DisplayName("Should throw exception when authenticated user is not found")
-    void shouldThrowException_WhenAuthUserNotFound() {
-        // GIVEN
-        CreateClassUserRequest request = new CreateClassUserRequest(
-                TARGET_USER_ID, COURSE_ID, CLASS_NUMBER, TypeUserClass.STUDENT
-        );
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.empty());
-
-        // WHEN & THEN
-        assertThrows(UserNotFoundDomainException.class, () ->
-                createClassUserUseCase.execute(request, AUTH_USER_ID)
-        );
-    }
-
     @Test
     @DisplayName("Should throw exception when class entity is not found")
     void shouldThrowException_WhenClassNotFound() {
@@ -136,18 +114,16 @@ class CreateClassUserUseCaseTest {
         CreateClassUserRequest request = new CreateClassUserRequest(
                 TARGET_USER_ID, COURSE_ID, CLASS_NUMBER, TypeUserClass.STUDENT
         );
-        UserEntity adminUser = mock(UserEntity.class);
+        AuthenticatedActor adminUser = new AuthenticatedActor(AUTH_USER_ID, ROLE_ADMIN, "kaladin@gmail.com");
         UserEntity targetUser = mock(UserEntity.class);
 
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(adminUser));
-        when(adminUser.getRole()).thenReturn(ROLE_ADMIN);
         when(permissionPolicy.canCreate(ROLE_ADMIN)).thenReturn(true);
         when(userRepository.findById(TARGET_USER_ID)).thenReturn(Optional.of(targetUser));
 
         when(classRepository.findById(any(ClassEntityId.class))).thenReturn(Optional.empty());
 
         assertThrows(ClassNotFoundException.class, () ->
-                createClassUserUseCase.execute(request, AUTH_USER_ID)
+                createClassUserUseCase.execute(request, adminUser)
         );
     }
 }
\ No newline at end of file
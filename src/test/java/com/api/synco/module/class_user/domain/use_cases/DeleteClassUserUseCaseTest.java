@@ -1,14 +1,12 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
 import com.api.synco.module.class_user.domain.exception.user.UserWithoutCreateClassUserPermissionException;
 import com.api.synco.module.class_user.domain.port.ClassUserRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -27,9 +23,6 @@ class DeleteClassUserUseCaseTest {
     @Mock
     private ClassUserRepository classUserRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private PermissionPolicy permissionPolicy;
 
@@ -45,9 +38,7 @@ class DeleteClassUserUseCaseTest {
     @Test
     @DisplayName("Should successfully delete class user when authorized and entity exists")
     void shouldDelete_WhenAuthorizedAndExists() {
-        UserEntity admin = mock(UserEntity.class);
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(admin));
-        when(admin.getRole()).thenReturn(ROLE_ADMIN);
+        AuthenticatedActor admin = new AuthenticatedActor(AUTH_USER_ID, ROLE_ADMIN, "kaladin@gmail.com");
 
         // Permission granted
         when(permissionPolicy.canDelete(ROLE_ADMIN)).thenReturn(true);
@@ -56,40 +47,24 @@ class DeleteClassUserUseCaseTest {
         when(classUserRepository.existById(classUserId)).thenReturn(true);
 
         // WHEN
-        deleteClassUserUseCase.execute(classUserId, AUTH_USER_ID);
+        deleteClassUserUseCase.execute(classUserId, admin);
 
         // THEN
         verify(classUserRepository, times(1)).deleteById(classUserId);
     }
 
-    @Test
-    @DisplayName("Should throw exception when authenticated user not found")
-    void shouldThrow_WhenAuthUserNotFound() {
-        // GIVEN
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.empty());
-
-        // WHEN/THEN
-        assertThrows(UserNotFoundDomainException.class, () ->
-                deleteClassUserUseCase.execute(classUserId, AUTH_USER_ID)
-        );
-
-        verify(classUserRepository, never()).deleteById(any());
-    }
-
     @Test
     @DisplayName("Should throw exception when user lacks permission")
     void shouldThrow_WhenNoPermission() {
         // GIVEN
-        UserEntity user = mock(UserEntity.class);
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(user));
-        when(user.getRole()).thenReturn(RoleUser.USER); // No permission role
+        AuthenticatedActor user = new AuthenticatedActor(AUTH_USER_ID, RoleUser.USER, "kaladin@gmail.com");
 
         // Permission denied
         when(permissionPolicy.canDelete(RoleUser.USER)).thenReturn(false);
 
         // WHEN/THEN
         assertThrows(UserWithoutCreateClassUserPermissionException.class, () ->
-                deleteClassUserUseCase.execute(classUserId, AUTH_USER_ID)
+                deleteClassUserUseCase.execute(classUserId, user)
         );
 
         verify(classUserRepository, never()).deleteById(any());
@@ -99,9 +74,7 @@ class DeleteClassUserUseCaseTest {
     @DisplayName("Should throw exception when ClassUser relationship does not exist")
     void shouldThrow_WhenClassUserNotFound() {
         // GIVEN
-        UserEntity admin = mock(UserEntity.class);
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(admin));
-        when(admin.getRole()).thenReturn(ROLE_ADMIN);
+        AuthenticatedActor admin = new AuthenticatedActor(AUTH_USER_ID, ROLE_ADMIN, "kaladin@gmail.com");
         when(permissionPolicy.canDelete(ROLE_ADMIN)).thenReturn(true);
 
         // Entity does NOT exist
@@ -109,7 +82,7 @@ class DeleteClassUserUseCaseTest {
 
         // WHEN/THEN
         assertThrows(ClassUserNotFoundException.class, () ->
-                deleteClassUserUseCase.execute(classUserId, AUTH_USER_ID)
+                deleteClassUserUseCase.execute(classUserId, admin)
         );
 
         verify(classUserRepository, never()).deleteById(any());
@@ -1,19 +1,19 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
 import com.api.synco.module.class_user.domain.ClassUser;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
 import com.api.synco.module.class_user.domain.filter.ClassUserFilter;
 import com.api.synco.module.class_user.domain.filter.ClassUserSearchProvider;
 import com.api.synco.module.class_user.domain.filter.PageClassUser;
 import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable; // Importante: Usar a interface
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -36,7 +36,7 @@ class GetAllClassUserUseCaseTest {
     private ArgumentCaptor<Specification<ClassUser>> specCaptor;
 
     @Captor
-    private ArgumentCaptor<PageRequest> pageableCaptor;
+    private ArgumentCaptor<PageClassUser> pageCaptor;
 
     @Test
     @DisplayName("Should return a page of ClassUsers with correct pagination and specification")
@@ -47,7 +47,10 @@ class GetAllClassUserUseCaseTest {
         PageClassUser pageClassUser = new PageClassUser(pageNumber, pageSize);
 
         ClassUserFilter classUserFilter = mock(ClassUserFilter.class);
-        Page<ClassUser> expectedPage = new PageImpl<>(List.of(new ClassUser(), new ClassUser()));
+        Slice<ClassUserSummary> expectedPage = new SliceImpl<>(List.of(
+                new ClassUserSummary(1L, 1L, 1, TypeUserClass.STUDENT),
+                new ClassUserSummary(2L, 1L, 1, TypeUserClass.TEACHER)
+        ));
 
         Specification<ClassUser> mockedSpecification = mock(Specification.class);
 
@@ -56,24 +59,24 @@ class GetAllClassUserUseCaseTest {
             providerMock.when(() -> ClassUserSearchProvider.of(classUserFilter))
                     .thenReturn(mockedSpecification);
 
-            when(classUserRepository.findAll(any(Specification.class), any(PageRequest.class)))
+            when(classUserRepository.findAll(any(Specification.class), any(PageClassUser.class)))
                     .thenReturn(expectedPage);
 
             // Act
-            Page<ClassUser> result = getAllClassUserUseCase.execute(classUserFilter, pageClassUser);
+            Slice<ClassUserSummary> result = getAllClassUserUseCase.execute(classUserFilter, pageClassUser, false);
 
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(2);
             assertThat(result).isEqualTo(expectedPage);
 
-            verify(classUserRepository).findAll(specCaptor.capture(), pageableCaptor.capture());
+            verify(classUserRepository).findAll(specCaptor.capture(), pageCaptor.capture());
 
             assertThat(specCaptor.getValue()).isEqualTo(mockedSpecification);
 
-            Pageable capturedPageable = pageableCaptor.getValue();
-            assertThat(capturedPageable.getPageNumber()).isEqualTo(pageNumber);
-            assertThat(capturedPageable.getPageSize()).isEqualTo(pageSize);
+            PageClassUser capturedPage = pageCaptor.getValue();
+            assertThat(capturedPage.pageNumber()).isEqualTo(pageNumber);
+            assertThat(capturedPage.pageSize()).isEqualTo(pageSize);
 
         }
     }
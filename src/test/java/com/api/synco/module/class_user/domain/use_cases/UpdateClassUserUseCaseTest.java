@@ -1,5 +1,6 @@
 package com.api.synco.module.class_user.domain.use_cases;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
 import com.api.synco.module.class_entity.domain.exception.ClassNotFoundException;
 import com.api.synco.module.class_user.application.dto.update.UpdateClassUserRequest;
@@ -9,10 +10,7 @@ import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
 import com.api.synco.module.class_user.domain.exception.user.UserWithoutCreateClassUserPermissionException;
 import com.api.synco.module.class_user.domain.port.ClassUserRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,9 +34,6 @@ class UpdateClassUserUseCaseTest {
     @Mock
     private ClassUserRepository classUserRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private PermissionPolicy permissionPolicy;
 
@@ -63,9 +58,7 @@ class UpdateClassUserUseCaseTest {
         UpdateClassUserRequest request = new UpdateClassUserRequest(TypeUserClass.TEACHER);
 
         // 1. Mock do Usuário Autenticado (Admin)
-        UserEntity mockAdmin = mock(UserEntity.class);
-        when(mockAdmin.getRole()).thenReturn(RoleUser.ADMIN);
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(mockAdmin));
+        AuthenticatedActor admin = new AuthenticatedActor(AUTH_USER_ID, RoleUser.ADMIN, "kaladin@gmail.com");
 
         // 2. Mock da Permissão
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
@@ -75,7 +68,7 @@ class UpdateClassUserUseCaseTest {
         when(classUserRepository.findById(classUserId)).thenReturn(Optional.of(mockClassUser));
 
         // Act
-        ClassUser result = updateClassUserUseCase.execute(request, classUserId, AUTH_USER_ID);
+        ClassUser result = updateClassUserUseCase.execute(request, classUserId, admin);
 
         // Assert
         assertThat(result).isNotNull();
@@ -85,37 +78,18 @@ class UpdateClassUserUseCaseTest {
         verify(classUserRepository).save(mockClassUser);
     }
 
-    @Test
-    @DisplayName("Should throw UserNotFoundDomainException when authenticated user does not exist")
-    void shouldThrowExceptionWhenUserNotFound() {
-        // Arrange
-        UpdateClassUserRequest request = new UpdateClassUserRequest(TypeUserClass.STUDENT);
-
-        // Simula que o usuário logado não foi encontrado
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThatThrownBy(() -> updateClassUserUseCase.execute(request, classUserId, AUTH_USER_ID))
-                .isInstanceOf(UserNotFoundDomainException.class);
-
-        verifyNoInteractions(permissionPolicy);
-        verifyNoInteractions(classUserRepository);
-    }
-
     @Test
     @DisplayName("Should throw UserWithoutCreateClassUserPermissionException when user has no permission")
     void shouldThrowExceptionWhenUserHasNoPermission() {
         // Arrange
         UpdateClassUserRequest request = new UpdateClassUserRequest(TypeUserClass.REPRESENTATIVE);
 
-        UserEntity mockUser = mock(UserEntity.class);
-        when(mockUser.getRole()).thenReturn(RoleUser.USER);
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(mockUser));
+        AuthenticatedActor user = new AuthenticatedActor(AUTH_USER_ID, RoleUser.USER, "kaladin@gmail.com");
 
         when(permissionPolicy.canEdit(RoleUser.USER)).thenReturn(false);
 
         // Act & Assert
-        assertThatThrownBy(() -> updateClassUserUseCase.execute(request, classUserId, AUTH_USER_ID))
+        assertThatThrownBy(() -> updateClassUserUseCase.execute(request, classUserId, user))
                 .isInstanceOf(UserWithoutCreateClassUserPermissionException.class);
 
         verifyNoInteractions(classUserRepository);
@@ -127,16 +101,14 @@ class UpdateClassUserUseCaseTest {
         // Arrange
         UpdateClassUserRequest request = new UpdateClassUserRequest(TypeUserClass.ADMINISTRATOR);
 
-        UserEntity mockAdmin = mock(UserEntity.class);
-        when(mockAdmin.getRole()).thenReturn(RoleUser.ADMIN);
-        when(userRepository.findById(AUTH_USER_ID)).thenReturn(Optional.of(mockAdmin));
+        AuthenticatedActor admin = new AuthenticatedActor(AUTH_USER_ID, RoleUser.ADMIN, "kaladin@gmail.com");
 
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
 
         when(classUserRepository.findById(classUserId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> updateClassUserUseCase.execute(request, classUserId, AUTH_USER_ID))
+        assertThatThrownBy(() -> updateClassUserUseCase.execute(request, classUserId, admin))
                 .isInstanceOf(ClassNotFoundException.class);
 
         verify(classUserRepository, never()).save(any());
@@ -0,0 +1,127 @@
+package com.api.synco.module.class_user.infrastructure.repository;
+
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.class_user.domain.ClassUser;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ClassMembershipLookupAdapter.class)
+class ClassMembershipLookupAdapterTest {
+
+    @Autowired
+    private ClassMembershipLookupAdapter classMembershipLookup;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private ClassEntityId classId;
+    private UserEntity teacher;
+    private UserEntity admin;
+
+    @BeforeEach
+    void setup() {
+        CourseEntity course = entityManager.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        ClassEntity classEntity = entityManager.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+        classId = classEntity.getId();
+
+        teacher = entityManager.persist(new UserEntity(new Name("Teacher"), new Email("teacher@example.com"), "encodedPassword", RoleUser.USER));
+        admin = entityManager.persist(new UserEntity(new Name("Admin"), new Email("admin@example.com"), "encodedPassword", RoleUser.ADMIN));
+
+        entityManager.persist(new ClassUser(new ClassUserId(teacher.getId(), classId), classEntity, teacher, TypeUserClass.TEACHER));
+        entityManager.persist(new ClassUser(new ClassUserId(admin.getId(), classId), classEntity, admin, TypeUserClass.ADMINISTRATOR));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("Should read the memberships of several users with a single statement")
+    @Test
+    void shouldReadMembershipsWithSingleStatement() {
+        // act
+        Map<Long, ClassMembership> memberships = classMembershipLookup.findAll(
+                classId,
+                List.of(teacher.getId(), admin.getId(), 999L)
+        );
+
+        // assert
+        assertThat(memberships).containsOnlyKeys(teacher.getId(), admin.getId());
+        assertThat(memberships.get(teacher.getId()).typeUserClass()).isEqualTo(TypeUserClass.TEACHER);
+        assertThat(memberships.get(admin.getId()).roleUser()).isEqualTo(RoleUser.ADMIN);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Should answer repeated lookups of the same request from the memo")
+    @Test
+    void shouldAnswerRepeatedLookupsFromMemo() {
+        // arrange
+        classMembershipLookup.findAll(classId, List.of(teacher.getId(), 999L));
+
+        // act
+        boolean teacherFound = classMembershipLookup.find(classId, teacher.getId()).isPresent();
+        boolean unknownFound = classMembershipLookup.find(classId, 999L).isPresent();
+
+        // assert
+        assertThat(teacherFound).isTrue();
+        assertThat(unknownFound).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Should not share memberships between requests")
+    @Test
+    void shouldNotShareMembershipsBetweenRequests() {
+        // arrange
+        classMembershipLookup.find(classId, teacher.getId());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // act
+        classMembershipLookup.find(classId, teacher.getId());
+
+        // assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.api.synco.module.class_user.infrastructure.repository;
+
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.class_user.domain.ClassUser;
+import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.filter.ClassUserFilter;
+import com.api.synco.module.class_user.domain.filter.ClassUserSearchProvider;
+import com.api.synco.module.class_user.domain.filter.PageClassUser;
+import com.api.synco.module.class_user.domain.projection.ClassUserSummary;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(ClassUserRepositoryAdapter.class)
+class ClassUserRepositoryAdapterTest {
+
+    @Autowired
+    private ClassUserRepositoryAdapter classUserRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private ClassEntity classEntity;
+    private UserEntity lastUser;
+
+    @BeforeEach
+    void setup() {
+        CourseEntity course = entityManager.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        classEntity = entityManager.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+
+        for (int i = 0; i < 3; i++) {
+            UserEntity user = entityManager.persist(new UserEntity(
+                    new Name("Student " + i),
+                    new Email("student" + i + "@example.com"),
+                    "encodedPassword",
+                    RoleUser.USER
+            ));
+            entityManager.persist(new ClassUser(
+                    new ClassUserId(user.getId(), classEntity.getId()),
+                    classEntity,
+                    user,
+                    TypeUserClass.STUDENT
+            ));
+            lastUser = user;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @DisplayName("Should list class users as projections with a single statement")
+    @Test
+    void shouldListClassUsersWithSingleStatement() {
+        // act
+        Slice<ClassUserSummary> classUsers = classUserRepository.findAll(
+                ClassUserSearchProvider.of(ClassUserFilter.builder().build()),
+                new PageClassUser(0, 10)
+        );
+
+        // assert
+        assertThat(classUsers.getContent()).hasSize(3);
+        assertThat(classUsers.hasNext()).isFalse();
+        assertThat(classUsers.getContent().get(2).userId()).isEqualTo(lastUser.getId());
+        assertThat(classUsers.getContent().get(2).courseId()).isEqualTo(classEntity.getId().getCourseId());
+        assertThat(classUsers.getContent().get(2).typeUserClass()).isEqualTo(TypeUserClass.STUDENT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Should filter class users by the informed parts of the id")
+    @Test
+    void shouldFilterByInformedIdParts() {
+        // arrange
+        ClassUserFilter filter = ClassUserFilter.builder()
+                .setClassUserIdContains(new ClassUserId(0, classEntity.getId()))
+                .setUserIdContains(lastUser.getId())
+                .build();
+
+        // act
+        Slice<ClassUserSummary> classUsers = classUserRepository.findAll(
+                ClassUserSearchProvider.of(filter),
+                new PageClassUser(0, 10)
+        );
+
+        // assert
+        assertThat(classUsers.getContent())
+                .extracting(ClassUserSummary::userId)
+                .containsExactly(lastUser.getId());
+    }
+
+    @DisplayName("Should read the next keyset page with a single statement")
+    @Test
+    void shouldListNextPageWithSingleStatement() {
+        // arrange
+        Slice<ClassUserSummary> firstPage = classUserRepository.findAll(
+                ClassUserSearchProvider.of(ClassUserFilter.builder().build()),
+                new PageClassUser(0, 2)
+        );
+        ClassUserSummary last = firstPage.getContent().get(1);
+        statistics.clear();
+
+        // act
+        Slice<ClassUserSummary> secondPage = classUserRepository.findAll(
+                ClassUserSearchProvider.of(ClassUserFilter.builder().build()),
+                new PageClassUser(0, 2, new ClassUserId(last.userId(), new ClassEntityId(last.courseId(), last.classNumber())))
+        );
+
+        // assert
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.api.synco.module.course.application.controller;
 
+import com.api.synco.core.pagination.CursorPage;
+import com.api.synco.core.pagination.PageCursor;
 import com.api.synco.core.security.jwt.JwtTokenProvider;
 import com.api.synco.module.course.application.dto.create.CreateCourseRequest;
 import com.api.synco.module.course.application.dto.update.UpdateCourseRequest;
 import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.vo.Email;
@@ -22,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,6 +52,9 @@ class CourseControllerIntegrationTest {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private CourseSearchProvider courseSearchProvider;
+
     private UserEntity adminUser;
     private UserEntity regularUser;
     private String adminToken;
@@ -75,8 +82,7 @@ class CourseControllerIntegrationTest {
         entityManager.persist(regularUser);
 
         // Create a course for testing
-        course = new CourseEntity("Computer Science", "CS", "CS Description");
-        entityManager.persist(course);
+        course = persistCourse(new CourseEntity("Computer Science", "CS", "CS Description"));
 
         entityManager.flush();
 
@@ -170,7 +176,7 @@ class CourseControllerIntegrationTest {
     @DisplayName("GET /api/courses - Should filter courses by name")
     @Test
     void shouldFilterCoursesByName() throws Exception {
-        entityManager.persist(new CourseEntity("Mathematics", "MATH", "Math Desc"));
+        persistCourse(new CourseEntity("Mathematics", "MATH", "Math Desc"));
         entityManager.flush();
 
         mockMvc.perform(get("/api/courses")
@@ -181,6 +187,75 @@ class CourseControllerIntegrationTest {
                 .andExpect(jsonPath("$.data[0].name").value("Computer Science"));
     }
 
+    @DisplayName("GET /api/courses - Should follow the next cursor until the last page")
+    @Test
+    void shouldFollowNextCursor() throws Exception {
+        entityManager.persist(new CourseEntity("Mathematics", "MATH", "Math Desc"));
+        entityManager.persist(new CourseEntity("Physics", "PHY", "Physics Desc"));
+        entityManager.flush();
+
+        MvcResult firstPage = mockMvc.perform(get("/api/courses")
+                .header("Authorization", "Bearer " + userToken)
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].name").value("Computer Science"))
+                .andExpect(header().exists(PageCursor.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        mockMvc.perform(get("/api/courses")
+                .header("Authorization", "Bearer " + userToken)
+                .param("size", "2")
+                .param("cursor", firstPage.getResponse().getHeader(PageCursor.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name").value("Physics"))
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @DisplayName("GET /api/courses - Should read an offset page without counting")
+    @Test
+    void shouldReadOffsetPage() throws Exception {
+        entityManager.persist(new CourseEntity("Mathematics", "MATH", "Math Desc"));
+        entityManager.persist(new CourseEntity("Physics", "PHY", "Physics Desc"));
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/courses")
+                .header("Authorization", "Bearer " + userToken)
+                .param("page", "1")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name").value("Physics"))
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER))
+                .andExpect(header().doesNotExist(CursorPage.TOTAL_COUNT_HEADER));
+    }
+
+    @DisplayName("GET /api/courses - Should return the approximate total when requested")
+    @Test
+    void shouldReturnApproximateTotal() throws Exception {
+        persistCourse(new CourseEntity("Mathematics", "MATH", "Math Desc"));
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/courses")
+                .header("Authorization", "Bearer " + userToken)
+                .param("name", "Math")
+                .param("size", "1")
+                .param("total", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(header().string(CursorPage.TOTAL_COUNT_HEADER, "1"));
+    }
+
+    @DisplayName("GET /api/courses - Should reject a malformed cursor")
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/courses")
+                .header("Authorization", "Bearer " + userToken)
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
 
     @DisplayName("PATCH /api/courses/{id} - Should update course as admin")
     @Test
@@ -238,4 +313,12 @@ class CourseControllerIntegrationTest {
                 .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().is4xxClientError());
     }
+
+    // Fixtures bypass the use cases, so they are indexed for the name filter here
+    private CourseEntity persistCourse(CourseEntity courseEntity) {
+        entityManager.persist(courseEntity);
+        courseSearchProvider.index(courseEntity);
+        return courseEntity;
+    }
+
 }
@@ -1,15 +1,14 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.create.CreateCourseRequest;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotUniqueException;
 import com.api.synco.module.course.domain.exception.UserWithoutCreateCoursePermissionException;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,8 +17,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -30,15 +27,15 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class CreateCourseUseCaseTest {
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private PermissionPolicy permissionPolicy;
 
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseSearchProvider courseSearchProvider;
+
     @InjectMocks
     private CreateCourseUseCase createCourseUseCase;
 
@@ -46,24 +43,23 @@ class CreateCourseUseCaseTest {
 
     private long id;
 
-    private UserEntity user;
+    private AuthenticatedActor actor;
 
     @BeforeEach
     public void setup(){
         createCourseRequest = new CreateCourseRequest("Nome", "N", "Descricao");
 
-        user = new UserEntity(null, null, null, RoleUser.ADMIN);
+        actor = new AuthenticatedActor(id, RoleUser.ADMIN, "kaladin@gmail.com");
     }
 
     @Test
     public void shouldCreateTheCourseWhenEverythingIsRight(){
         // arrange
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
         when(courseRepository.existsByNameOrAcronym(any(String.class), any(String.class))).thenReturn(false);
         when(permissionPolicy.canCreate(any(RoleUser.class))).thenReturn(true);
 
         // act
-        var response = createCourseUseCase.execute(createCourseRequest, id);
+        var response = createCourseUseCase.execute(createCourseRequest, actor);
 
         // assert
         assertThat(response).isNotNull();
@@ -73,6 +69,7 @@ class CreateCourseUseCaseTest {
 
         var captor = ArgumentCaptor.forClass(CourseEntity.class);
         verify(courseRepository).save(captor.capture());
+        verify(courseSearchProvider).index(captor.getValue());
         var saved = captor.getValue();
 
         assertNotNull(saved);
@@ -86,47 +83,25 @@ class CreateCourseUseCaseTest {
     public void shouldThrowExceptionWhenTheUserDontHavePermission(){
 
         // arrange
-        user.setRole(RoleUser.USER);
-
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
-
+        actor = new AuthenticatedActor(id, RoleUser.USER, "kaladin@gmail.com");
 
         // act and assert
-        assertThatThrownBy( () -> createCourseUseCase.execute(createCourseRequest, id))
+        assertThatThrownBy( () -> createCourseUseCase.execute(createCourseRequest, actor))
                 .isInstanceOf(UserWithoutCreateCoursePermissionException.class);
 
-
-    }
-
-    @Test
-    public void shouldThrowExceptionWhenTheUserDontExist(){
-
-        // arrange
-        user.setRole(RoleUser.USER);
-
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.empty());
-
-        // act and assert
-        assertThatThrownBy( () -> createCourseUseCase.execute(createCourseRequest, id))
-                .isInstanceOf(UserNotFoundDomainException.class);
-
-
     }
 
     @Test
     public void shouldThrowExceptionWhenTheCourseIsNotUnique(){
 
         // arrange
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
         when(courseRepository.existsByNameOrAcronym(any(String.class), any(String.class))).thenReturn(true);
         when(permissionPolicy.canCreate(any(RoleUser.class))).thenReturn(true);
 
         // act and assert
-        assertThatThrownBy( () -> createCourseUseCase.execute(createCourseRequest, id))
+        assertThatThrownBy( () -> createCourseUseCase.execute(createCourseRequest, actor))
                 .isInstanceOf(CourseNotUniqueException.class);
 
-
     }
 
-
 }
\ No newline at end of file
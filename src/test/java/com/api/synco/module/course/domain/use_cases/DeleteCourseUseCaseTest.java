@@ -1,13 +1,14 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.delete.DeleteCourseRequest;
 import com.api.synco.module.course.domain.exception.CourseNotFoundException;
 import com.api.synco.module.course.domain.exception.UserWithoutDeleteCoursePermissionException;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,8 +16,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -31,14 +30,17 @@ class DeleteCourseUseCaseTest {
     private PermissionPolicy permissionPolicy;
 
     @Mock
-    private UserRepository userRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private CourseSearchProvider courseSearchProvider;
 
     @InjectMocks
     private DeleteCourseUseCase deleteCourseUseCase;
 
     private DeleteCourseRequest deleteCourseRequest;
 
-    private UserEntity user;
+    private AuthenticatedActor actor;
     private long idUser;
 
     @BeforeEach
@@ -46,33 +48,31 @@ class DeleteCourseUseCaseTest {
         idUser = 1;
         deleteCourseRequest = new DeleteCourseRequest(idUser);
 
-        user = new UserEntity(idUser, null, null, null, RoleUser.ADMIN);
+        actor = new AuthenticatedActor(idUser, RoleUser.ADMIN, "kaladin@gmail.com");
     }
 
-
     @Test
     public void shouldDeleteCourseWhenExistAndUserHavePermission(){
         //arrange
         when(courseRepository.existById(any(Long.class))).thenReturn(true);
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
         when(permissionPolicy.canDelete(any(RoleUser.class))).thenReturn(true);
 
         //act
-        deleteCourseUseCase.execute(deleteCourseRequest, idUser);
+        deleteCourseUseCase.execute(deleteCourseRequest, actor);
 
         //assert
         verify(courseRepository).deleteById(any(Long.class));
+        verify(courseSearchProvider).remove(anyLong());
 
     }
 
     @Test
     public void shouldThrowExceptionCourseWhenExistAndUserDoNotHavePermission(){
         //arrange
-        user.setRole(RoleUser.USER);
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
+        actor = new AuthenticatedActor(idUser, RoleUser.USER, "kaladin@gmail.com");
 
         //act and assert
-        assertThatThrownBy(() -> deleteCourseUseCase.execute(deleteCourseRequest, idUser))
+        assertThatThrownBy(() -> deleteCourseUseCase.execute(deleteCourseRequest, actor))
                 .isExactlyInstanceOf(UserWithoutDeleteCoursePermissionException.class);
 
         //assert
@@ -84,11 +84,10 @@ class DeleteCourseUseCaseTest {
     public void shouldThrowExceptionCourseWhenCourseNotExist(){
         //arrange
         when(courseRepository.existById(any(Long.class))).thenReturn(false);
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(user));
         when(permissionPolicy.canDelete(any(RoleUser.class))).thenReturn(true);
 
         // act and assert
-        assertThatThrownBy( () -> deleteCourseUseCase.execute(deleteCourseRequest, idUser))
+        assertThatThrownBy( () -> deleteCourseUseCase.execute(deleteCourseRequest, actor))
                 .isExactlyInstanceOf(CourseNotFoundException.class);
 
         //assert
@@ -96,5 +95,4 @@ class DeleteCourseUseCaseTest {
 
     }
 
-
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.core.exception.pagination.InvalidPageCursorException;
+import com.api.synco.core.pagination.ApproximateTotalCache;
+import com.api.synco.core.pagination.CountedSlice;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.filter.CourseFilter;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.filter.PageCourse;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
@@ -21,8 +26,12 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +40,9 @@ class GetAllCourseUseCaseTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseSearchProvider courseSearchProvider;
+
     @InjectMocks
     private GetAllCourseUseCase getAllCourseUseCase;
 
@@ -43,6 +55,7 @@ class GetAllCourseUseCaseTest {
             new CourseEntity(2L, "Mathematics", "MATH", "Math Description"),
             new CourseEntity(3L, "Physics", "PHY", "Physics Description")
         );
+        when(courseSearchProvider.create(any(CourseFilter.class))).thenReturn(Specification.where(null));
     }
 
     @DisplayName("Should return all courses without filters")
@@ -53,7 +66,7 @@ class GetAllCourseUseCaseTest {
         when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(page);
 
         // act
-        var result = getAllCourseUseCase.execute(null, null, 0, 10);
+        var result = getAllCourseUseCase.execute(null, null, 0, 10, null, false);
 
         // assert
         assertThat(result).isNotNull();
@@ -76,7 +89,7 @@ class GetAllCourseUseCaseTest {
         when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(page);
 
         // act
-        var result = getAllCourseUseCase.execute("Computer", null, 0, 10);
+        var result = getAllCourseUseCase.execute("Computer", null, 0, 10, null, false);
 
         // assert
         assertThat(result).isNotNull();
@@ -97,7 +110,7 @@ class GetAllCourseUseCaseTest {
         when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(page);
 
         // act
-        var result = getAllCourseUseCase.execute(null, "MATH", 0, 10);
+        var result = getAllCourseUseCase.execute(null, "MATH", 0, 10, null, false);
 
         // assert
         assertThat(result).isNotNull();
@@ -115,7 +128,7 @@ class GetAllCourseUseCaseTest {
         when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(emptyPage);
 
         // act
-        var result = getAllCourseUseCase.execute("NonExistent", null, 0, 10);
+        var result = getAllCourseUseCase.execute("NonExistent", null, 0, 10, null, false);
 
         // assert
         assertThat(result).isNotNull();
@@ -135,7 +148,7 @@ class GetAllCourseUseCaseTest {
         when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(page);
 
         // act
-        var result = getAllCourseUseCase.execute(null, null, 1, 1);
+        var result = getAllCourseUseCase.execute(null, null, 1, 1, null, false);
 
         // assert
         assertThat(result).isNotNull();
@@ -146,4 +159,62 @@ class GetAllCourseUseCaseTest {
         assertThat(capturedPage.pageNumber()).isEqualTo(1);
         assertThat(capturedPage.pageSize()).isEqualTo(1);
     }
+
+    @DisplayName("Should read the page after the course of the cursor")
+    @Test
+    void shouldReadPageAfterCursor() {
+        // arrange
+        String cursor = PageCourse.cursorOf(courseList.get(1));
+        when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(new PageImpl<>(courseList.subList(2, 3)));
+
+        // act
+        getAllCourseUseCase.execute(null, null, 7, 10, cursor, false);
+
+        // assert
+        var pageCaptor = ArgumentCaptor.forClass(PageCourse.class);
+        verify(courseRepository).findAll(any(Specification.class), pageCaptor.capture());
+        assertThat(pageCaptor.getValue().afterId()).isEqualTo(2L);
+    }
+
+    @DisplayName("Should reject a cursor that was not issued by the API")
+    @Test
+    void shouldRejectInvalidCursor() {
+        // act and assert
+        assertThatThrownBy(() -> getAllCourseUseCase.execute(null, null, 0, 10, "not-a-cursor", false))
+                .isInstanceOf(InvalidPageCursorException.class);
+
+        verifyNoInteractions(courseRepository);
+    }
+
+    @DisplayName("Should count the filter once and reuse the cached total")
+    @Test
+    void shouldAttachCachedApproximateTotal() {
+        // arrange
+        var useCase = new GetAllCourseUseCase(courseRepository, courseSearchProvider, new ApproximateTotalCache(10, 60_000));
+        when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(new SliceImpl<>(courseList));
+        when(courseRepository.count(any(Specification.class))).thenReturn(42L);
+
+        // act
+        var first = useCase.execute("Science", null, 0, 10, null, true);
+        var second = useCase.execute("Science", null, 1, 10, null, true);
+
+        // assert
+        assertThat(first).isInstanceOf(CountedSlice.class);
+        assertThat(((CountedSlice<CourseEntity>) second).getApproximateTotal()).isEqualTo(42L);
+        verify(courseRepository, times(1)).count(any(Specification.class));
+    }
+
+    @DisplayName("Should not count when the total is not requested")
+    @Test
+    void shouldNotCountWithoutTotal() {
+        // arrange
+        when(courseRepository.findAll(any(Specification.class), any(PageCourse.class))).thenReturn(new SliceImpl<>(courseList));
+
+        // act
+        var result = getAllCourseUseCase.execute(null, null, 0, 10, null, false);
+
+        // assert
+        assertThat(result).isNotInstanceOf(CountedSlice.class);
+        verify(courseRepository, never()).count(any(Specification.class));
+    }
 }
@@ -1,15 +1,15 @@
 package com.api.synco.module.course.domain.use_cases;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.course.application.dto.update.UpdateCourseRequest;
 import com.api.synco.module.course.domain.CourseEntity;
 import com.api.synco.module.course.domain.exception.CourseNotFoundException;
+import com.api.synco.module.course.domain.filter.CourseSearchProvider;
 import com.api.synco.module.course.domain.port.CourseRepository;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutEditUserPermissionException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,7 +36,10 @@ class UpdateCourseUseCaseTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @Mock
+    private CourseSearchProvider courseSearchProvider;
 
     @InjectMocks
     private UpdateCourseUseCase updateCourseUseCase;
@@ -44,7 +47,7 @@ class UpdateCourseUseCaseTest {
     private long courseId;
     private long userId;
     private CourseEntity existingCourse;
-    private UserEntity adminUser;
+    private AuthenticatedActor admin;
     private UpdateCourseRequest updateRequest;
 
     @BeforeEach
@@ -52,7 +55,7 @@ class UpdateCourseUseCaseTest {
         courseId = 1L;
         userId = 2L;
         existingCourse = new CourseEntity(courseId, "Old Name", "ON", "Old Description");
-        adminUser = new UserEntity(userId, null, null, null, RoleUser.ADMIN);
+        admin = new AuthenticatedActor(userId, RoleUser.ADMIN, "kaladin@gmail.com");
         updateRequest = new UpdateCourseRequest("Updated Name", "UN", "Updated Description");
     }
 
@@ -60,12 +63,11 @@ class UpdateCourseUseCaseTest {
     @Test
     void shouldUpdateCourseSuccessfully() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(existingCourse));
 
         // act
-        var result = updateCourseUseCase.execute(updateRequest, courseId, userId);
+        var result = updateCourseUseCase.execute(updateRequest, courseId, admin);
 
         // assert
         assertThat(result).isNotNull();
@@ -75,35 +77,22 @@ class UpdateCourseUseCaseTest {
 
         var captor = ArgumentCaptor.forClass(CourseEntity.class);
         verify(courseRepository).save(captor.capture());
+        verify(courseSearchProvider).index(captor.getValue());
         var saved = captor.getValue();
         assertThat(saved.getName()).isEqualTo("Updated Name");
         assertThat(saved.getAcronym()).isEqualTo("UN");
-    }
-
-    @DisplayName("Should throw UserNotFoundDomainException when user not found")
-    @Test
-    void shouldThrowUserNotFoundExceptionWhenUserNotFound() {
-        // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        // act and assert
-        assertThatThrownBy(() -> updateCourseUseCase.execute(updateRequest, courseId, userId))
-                .isInstanceOf(UserNotFoundDomainException.class);
-
-        verify(courseRepository, never()).findById(anyLong());
-        verify(courseRepository, never()).save(any());
+        verify(referenceDataCache).evict(CourseEntity.class, courseId);
     }
 
     @DisplayName("Should throw UserWithoutEditUserPermissionException when user lacks permission")
     @Test
     void shouldThrowPermissionExceptionWhenUserLacksPermission() {
         // arrange
-        var regularUser = new UserEntity(userId, null, null, null, RoleUser.USER);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(regularUser));
+        var regularUser = new AuthenticatedActor(userId, RoleUser.USER, "kaladin@gmail.com");
         when(permissionPolicy.canEdit(RoleUser.USER)).thenReturn(false);
 
         // act and assert
-        assertThatThrownBy(() -> updateCourseUseCase.execute(updateRequest, courseId, userId))
+        assertThatThrownBy(() -> updateCourseUseCase.execute(updateRequest, courseId, regularUser))
                 .isInstanceOf(UserWithoutEditUserPermissionException.class);
 
         verify(courseRepository, never()).findById(anyLong());
@@ -114,12 +103,11 @@ class UpdateCourseUseCaseTest {
     @Test
     void shouldThrowCourseNotFoundExceptionWhenCourseNotFound() {
         // arrange
-        when(userRepository.findById(userId)).thenReturn(Optional.of(adminUser));
         when(permissionPolicy.canEdit(RoleUser.ADMIN)).thenReturn(true);
         when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
         // act and assert
-        assertThatThrownBy(() -> updateCourseUseCase.execute(updateRequest, courseId, userId))
+        assertThatThrownBy(() -> updateCourseUseCase.execute(updateRequest, courseId, admin))
                 .isInstanceOf(CourseNotFoundException.class);
 
         verify(courseRepository, never()).save(any());
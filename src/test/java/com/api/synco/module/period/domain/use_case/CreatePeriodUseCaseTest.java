@@ -0,0 +1,174 @@
+package com.api.synco.module.period.domain.use_case;
+
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.port.ClassRepository;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.command.CreatePeriodCommand;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.TeacherNotLinkedToClassException;
+import com.api.synco.module.period.domain.exception.UserIsNotTeacherInClassException;
+import com.api.synco.module.period.domain.exception.UserWithoutCreatePeriodPermissionException;
+import com.api.synco.module.period.domain.permission.PeriodPermissionPolicy;
+import com.api.synco.module.period.domain.port.PeriodOccupancy;
+import com.api.synco.module.period.domain.port.PeriodRepository;
+import com.api.synco.module.period.domain.validator.PeriodCreationValidator;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.port.RoomRepository;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.port.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreatePeriodUseCaseTest {
+
+    @Mock
+    private PeriodRepository periodRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ClassRepository classRepository;
+
+    @Mock
+    private ClassMembershipLookup classMembershipLookup;
+
+    @Mock
+    private PeriodOccupancy periodOccupancy;
+
+    @Mock
+    private PeriodPermissionPolicy periodPermissionPolicy;
+
+    private CreatePeriodUseCase createPeriodUseCase;
+
+    private AuthenticatedActor actor;
+    private ClassEntityId classId;
+    private CreatePeriodCommand command;
+    private UserEntity teacher;
+
+    @BeforeEach
+    void setup() {
+        createPeriodUseCase = new CreatePeriodUseCase(
+                periodRepository,
+                periodOccupancy,
+                new PeriodCreationValidator(userRepository, roomRepository, classRepository, classMembershipLookup, periodPermissionPolicy)
+        );
+        actor = new AuthenticatedActor(1L, RoleUser.USER, "representative@example.com");
+        classId = new ClassEntityId(3L, 1);
+        command = new CreatePeriodCommand(actor, 2L, 4L, classId, LocalDate.of(2025, 3, 10), TypePeriod.MORNING);
+        teacher = new UserEntity(2L, null, null, null, RoleUser.USER);
+    }
+
+    @Test
+    @DisplayName("Should check the actor and the teacher with a single membership lookup")
+    void shouldCheckActorAndTeacherWithSingleLookup() {
+        // arrange
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ClassMembership(1L, TypeUserClass.REPRESENTATIVE, RoleUser.USER),
+                2L, new ClassMembership(2L, TypeUserClass.TEACHER, RoleUser.USER)
+        ));
+        when(periodPermissionPolicy.canCreate(TypeUserClass.REPRESENTATIVE, RoleUser.USER)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(teacher));
+        when(roomRepository.findById(4L)).thenReturn(Optional.of(mock(RoomEntity.class)));
+        when(classRepository.findById(classId)).thenReturn(Optional.of(mock(ClassEntity.class)));
+        when(periodRepository.save(any(PeriodEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // act
+        PeriodEntity period = createPeriodUseCase.execute(command);
+
+        // assert
+        assertThat(period.getTeacher()).isSameAs(teacher);
+        verify(classMembershipLookup).findAll(classId, List.of(1L, 2L));
+        verifyNoMoreInteractions(classMembershipLookup);
+    }
+
+    @Test
+    @DisplayName("Should reject an actor that is not linked to the class")
+    void shouldRejectActorNotLinkedToClass() {
+        // arrange
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of());
+
+        // act and assert
+        assertThatThrownBy(() -> createPeriodUseCase.execute(command))
+                .isInstanceOf(UserWithoutCreatePeriodPermissionException.class);
+        verifyNoInteractions(userRepository, periodRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a teacher that is not linked to the class")
+    void shouldRejectTeacherNotLinkedToClass() {
+        // arrange
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ClassMembership(1L, TypeUserClass.REPRESENTATIVE, RoleUser.USER)
+        ));
+        when(periodPermissionPolicy.canCreate(TypeUserClass.REPRESENTATIVE, RoleUser.USER)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(teacher));
+
+        // act and assert
+        assertThatThrownBy(() -> createPeriodUseCase.execute(command))
+                .isInstanceOf(TeacherNotLinkedToClassException.class);
+        verifyNoInteractions(periodRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a linked user that is not a teacher of the class")
+    void shouldRejectUserThatIsNotTeacher() {
+        // arrange
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ClassMembership(1L, TypeUserClass.REPRESENTATIVE, RoleUser.USER),
+                2L, new ClassMembership(2L, TypeUserClass.STUDENT, RoleUser.USER)
+        ));
+        when(periodPermissionPolicy.canCreate(TypeUserClass.REPRESENTATIVE, RoleUser.USER)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(teacher));
+
+        // act and assert
+        assertThatThrownBy(() -> createPeriodUseCase.execute(command))
+                .isInstanceOf(UserIsNotTeacherInClassException.class);
+        verifyNoInteractions(periodRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a booked slot before reading the room and the class")
+    void shouldRejectBookedSlot() {
+        // arrange
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ClassMembership(1L, TypeUserClass.REPRESENTATIVE, RoleUser.USER),
+                2L, new ClassMembership(2L, TypeUserClass.TEACHER, RoleUser.USER)
+        ));
+        when(periodPermissionPolicy.canCreate(TypeUserClass.REPRESENTATIVE, RoleUser.USER)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(teacher));
+        doThrow(new RoomAlreadyBookedException(4L, command.date(), command.typePeriod()))
+                .when(periodOccupancy).reserve(4L, 2L, command.date(), command.typePeriod());
+
+        // act and assert
+        assertThatThrownBy(() -> createPeriodUseCase.execute(command))
+                .isInstanceOf(RoomAlreadyBookedException.class);
+        verifyNoInteractions(roomRepository, classRepository, periodRepository);
+    }
+
+}
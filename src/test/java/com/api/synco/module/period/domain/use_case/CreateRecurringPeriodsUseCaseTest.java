@@ -0,0 +1,185 @@
+package com.api.synco.module.period.domain.use_case;
+
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.port.ClassRepository;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.command.CreateRecurringPeriodsCommand;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.exception.InvalidRecurrenceException;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.UserWithoutCreatePeriodPermissionException;
+import com.api.synco.module.period.domain.permission.PeriodPermissionPolicy;
+import com.api.synco.module.period.domain.port.PeriodOccupancy;
+import com.api.synco.module.period.domain.port.PeriodRepository;
+import com.api.synco.module.period.domain.validator.PeriodCreationValidator;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.port.RoomRepository;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.port.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateRecurringPeriodsUseCaseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private PeriodRepository periodRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ClassRepository classRepository;
+
+    @Mock
+    private ClassMembershipLookup classMembershipLookup;
+
+    @Mock
+    private PeriodOccupancy periodOccupancy;
+
+    @Mock
+    private PeriodPermissionPolicy periodPermissionPolicy;
+
+    private CreateRecurringPeriodsUseCase createRecurringPeriodsUseCase;
+
+    private AuthenticatedActor actor;
+    private ClassEntityId classId;
+    private UserEntity teacher;
+
+    @BeforeEach
+    void setup() {
+        createRecurringPeriodsUseCase = new CreateRecurringPeriodsUseCase(
+                periodRepository,
+                periodOccupancy,
+                new PeriodCreationValidator(userRepository, roomRepository, classRepository, classMembershipLookup, periodPermissionPolicy)
+        );
+        actor = new AuthenticatedActor(1L, RoleUser.USER, "representative@example.com");
+        classId = new ClassEntityId(3L, 1);
+        teacher = new UserEntity(2L, null, null, null, RoleUser.USER);
+    }
+
+    private CreateRecurringPeriodsCommand command(LocalDate from, LocalDate to, Set<DayOfWeek> daysOfWeek, Set<LocalDate> skipDates) {
+        return new CreateRecurringPeriodsCommand(actor, 2L, 4L, classId, daysOfWeek, TypePeriod.EVENING, from, to, skipDates);
+    }
+
+    private void allowActorAndTeacher() {
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ClassMembership(1L, TypeUserClass.REPRESENTATIVE, RoleUser.USER),
+                2L, new ClassMembership(2L, TypeUserClass.TEACHER, RoleUser.USER)
+        ));
+        when(periodPermissionPolicy.canCreate(TypeUserClass.REPRESENTATIVE, RoleUser.USER)).thenReturn(true);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(teacher));
+    }
+
+    @Test
+    @DisplayName("Should validate once and save every period of the recurrence in one call")
+    void shouldCreateEveryPeriodOfRecurrence() {
+        // arrange
+        allowActorAndTeacher();
+        when(roomRepository.findById(4L)).thenReturn(Optional.of(mock(RoomEntity.class)));
+        when(classRepository.findById(classId)).thenReturn(Optional.of(mock(ClassEntity.class)));
+        when(periodRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<LocalDate> expectedDates = List.of(
+                LocalDate.of(2025, 3, 4),
+                LocalDate.of(2025, 3, 6),
+                LocalDate.of(2025, 3, 13),
+                LocalDate.of(2025, 3, 18),
+                LocalDate.of(2025, 3, 20),
+                LocalDate.of(2025, 3, 25),
+                LocalDate.of(2025, 3, 27)
+        );
+
+        // act
+        List<PeriodEntity> periods = createRecurringPeriodsUseCase.execute(command(
+                FROM,
+                TO,
+                Set.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY),
+                Set.of(LocalDate.of(2025, 3, 11))
+        ));
+
+        // assert
+        assertThat(periods).extracting(PeriodEntity::getDate).containsExactlyElementsOf(expectedDates);
+        assertThat(periods).allMatch(period -> period.getTeacher() == teacher && period.getTypePeriod() == TypePeriod.EVENING);
+        verify(classMembershipLookup).findAll(classId, List.of(1L, 2L));
+        verify(userRepository).findById(2L);
+        verify(periodOccupancy).reserveAll(4L, 2L, expectedDates, TypePeriod.EVENING);
+        verify(periodRepository).saveAll(anyList());
+        verifyNoMoreInteractions(classMembershipLookup, userRepository, periodOccupancy, periodRepository);
+    }
+
+    @Test
+    @DisplayName("Should not save any period when one date of the recurrence is booked")
+    void shouldRejectRecurrenceWithBookedDate() {
+        // arrange
+        allowActorAndTeacher();
+        doThrow(new RoomAlreadyBookedException(4L, LocalDate.of(2025, 3, 18), TypePeriod.EVENING))
+                .when(periodOccupancy).reserveAll(anyLong(), anyLong(), anyList(), any());
+
+        // act and assert
+        assertThatThrownBy(() -> createRecurringPeriodsUseCase.execute(command(FROM, TO, Set.of(DayOfWeek.TUESDAY), Set.of())))
+                .isInstanceOf(RoomAlreadyBookedException.class);
+        verifyNoInteractions(periodRepository, roomRepository, classRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject an actor without permission before reserving any slot")
+    void shouldRejectActorWithoutPermission() {
+        // arrange
+        when(classMembershipLookup.findAll(classId, List.of(1L, 2L))).thenReturn(Map.of());
+
+        // act and assert
+        assertThatThrownBy(() -> createRecurringPeriodsUseCase.execute(command(FROM, TO, Set.of(DayOfWeek.TUESDAY), Set.of())))
+                .isInstanceOf(UserWithoutCreatePeriodPermissionException.class);
+        verifyNoInteractions(periodOccupancy, periodRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid recurrence before any lookup")
+    void shouldRejectInvalidRecurrence() {
+        // act and assert
+        assertThatThrownBy(() -> createRecurringPeriodsUseCase.execute(command(TO, FROM, Set.of(DayOfWeek.TUESDAY), Set.of())))
+                .isInstanceOf(InvalidRecurrenceException.class);
+        assertThatThrownBy(() -> createRecurringPeriodsUseCase.execute(command(FROM, FROM.plusDays(366), Set.of(DayOfWeek.TUESDAY), Set.of())))
+                .isInstanceOf(InvalidRecurrenceException.class);
+        assertThatThrownBy(() -> createRecurringPeriodsUseCase.execute(command(FROM, TO, Set.of(), Set.of())))
+                .isInstanceOf(InvalidRecurrenceException.class);
+        assertThatThrownBy(() -> createRecurringPeriodsUseCase.execute(command(
+                LocalDate.of(2025, 3, 4),
+                LocalDate.of(2025, 3, 4),
+                Set.of(DayOfWeek.TUESDAY),
+                Set.of(LocalDate.of(2025, 3, 4))
+        ))).isInstanceOf(InvalidRecurrenceException.class);
+        verifyNoInteractions(classMembershipLookup, periodOccupancy, periodRepository);
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.api.synco.module.period.domain.use_case;
 
-import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
 import com.api.synco.module.period.domain.enumerator.TypePeriod;
 import com.api.synco.module.period.domain.filter.PeriodFilter;
 import com.api.synco.module.period.domain.filter.PeriodPage;
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import java.util.List;
+import org.springframework.data.domain.Slice;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,7 +44,7 @@ class GetAllPeriodUseCaseTest {
         int pageSize = 10;
 
         // Criamos um mock da página de retorno
-        Page<PeriodEntity> expectedPage = new PageImpl<>(List.of());
+        Page<PeriodSummary> expectedPage = new PageImpl<>(List.of());
         when(periodRepository.findAll(any(PeriodFilter.class), any(PeriodPage.class)))
                 .thenReturn(expectedPage);
 
@@ -52,8 +53,8 @@ class GetAllPeriodUseCaseTest {
         ArgumentCaptor<PeriodPage> pageCaptor = ArgumentCaptor.forClass(PeriodPage.class);
 
         // Act
-        Page<PeriodEntity> result = getAllPeriodUseCase.execute(
-                teacherId, roomId, classId, typePeriod, pageNumber, pageSize
+        Slice<PeriodSummary> result = getAllPeriodUseCase.execute(
+                teacherId, roomId, classId, typePeriod, pageNumber, pageSize, null, false
         );
 
         // Assert
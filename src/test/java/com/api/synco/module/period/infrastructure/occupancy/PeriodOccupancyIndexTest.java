@@ -0,0 +1,297 @@
+package com.api.synco.module.period.infrastructure.occupancy;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.TeacherAlreadyBookedException;
+import com.api.synco.module.period.domain.projection.PeriodSlot;
+import com.api.synco.module.period.infrastructure.repository.PeriodRepositoryJpa;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodOccupancyIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private PeriodRepositoryJpa periodRepositoryJpa;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Clock clock;
+
+    private PeriodOccupancyIndex periodOccupancyIndex;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        today(DATE);
+        periodOccupancyIndex = new PeriodOccupancyIndex(periodRepositoryJpa, transactionManager, clock);
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer from memory once warmed")
+    void shouldAnswerFromMemoryOnceWarmed() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.of(new PeriodSlot(4L, 2L, DATE, TypePeriod.MORNING)));
+
+        // act
+        periodOccupancyIndex.warm();
+
+        // assert
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING)).isFalse();
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.AFTERNOON)).isTrue();
+        assertThat(periodOccupancyIndex.isTeacherFree(2L, DATE, TypePeriod.MORNING)).isFalse();
+        assertThat(periodOccupancyIndex.isTeacherFree(3L, DATE, TypePeriod.MORNING)).isTrue();
+        verify(periodRepositoryJpa, never()).existsByRoomIdAndDateAndTypePeriod(anyLong(), any(), any());
+        verify(periodRepositoryJpa, never()).existsByTeacherIdAndDateAndTypePeriod(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the period table before being warmed")
+    void shouldFallBackBeforeWarm() {
+        // arrange
+        when(periodRepositoryJpa.existsByRoomIdAndDateAndTypePeriod(4L, DATE, TypePeriod.MORNING)).thenReturn(true);
+
+        // act
+        boolean free = periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING);
+
+        // assert
+        assertThat(free).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the period table for a date before the window")
+    void shouldFallBackBeforeWindow() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.empty());
+        when(periodRepositoryJpa.existsByRoomIdAndDateAndTypePeriod(4L, DATE.minusDays(1), TypePeriod.MORNING)).thenReturn(true);
+        periodOccupancyIndex.warm();
+
+        // act
+        boolean free = periodOccupancyIndex.isRoomFree(4L, DATE.minusDays(1), TypePeriod.MORNING);
+
+        // assert
+        assertThat(free).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should drop the slots of the days that have passed")
+    void shouldEvictPastSlots() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.of(
+                new PeriodSlot(4L, 2L, DATE, TypePeriod.MORNING),
+                new PeriodSlot(4L, 2L, DATE.plusDays(1), TypePeriod.MORNING)
+        ));
+        periodOccupancyIndex.warm();
+        today(DATE.plusDays(1));
+
+        // act
+        periodOccupancyIndex.evictPast();
+
+        // assert
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING)).isTrue();
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE.plusDays(1), TypePeriod.MORNING)).isFalse();
+        verify(periodRepositoryJpa).existsByRoomIdAndDateAndTypePeriod(4L, DATE, TypePeriod.MORNING);
+    }
+
+    @Test
+    @DisplayName("Should reject a second reservation of the same room or teacher in a slot")
+    void shouldRejectBookedSlot() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.empty());
+        periodOccupancyIndex.warm();
+        periodOccupancyIndex.reserve(4L, 2L, DATE, TypePeriod.MORNING);
+
+        // act and assert
+        assertThatThrownBy(() -> periodOccupancyIndex.reserve(4L, 3L, DATE, TypePeriod.MORNING))
+                .isInstanceOf(RoomAlreadyBookedException.class);
+        assertThatThrownBy(() -> periodOccupancyIndex.reserve(5L, 2L, DATE, TypePeriod.MORNING))
+                .isInstanceOf(TeacherAlreadyBookedException.class);
+        assertThat(periodOccupancyIndex.isRoomFree(5L, DATE, TypePeriod.MORNING)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should release a reservation whose transaction rolls back")
+    void shouldReleaseOnRollback() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.empty());
+        periodOccupancyIndex.warm();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // act
+        periodOccupancyIndex.reserve(4L, 2L, DATE, TypePeriod.MORNING);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // assert
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING)).isTrue();
+        assertThat(periodOccupancyIndex.isTeacherFree(2L, DATE, TypePeriod.MORNING)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep a reservation whose transaction commits")
+    void shouldKeepOnCommit() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.empty());
+        periodOccupancyIndex.warm();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // act
+        periodOccupancyIndex.reserve(4L, 2L, DATE, TypePeriod.MORNING);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // assert
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reserve every date of a recurrence or none of them")
+    void shouldReserveAllOrNothing() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.of(new PeriodSlot(4L, 9L, DATE.plusWeeks(2), TypePeriod.MORNING)));
+        periodOccupancyIndex.warm();
+        List<LocalDate> dates = List.of(DATE, DATE.plusWeeks(1), DATE.plusWeeks(2));
+
+        // act and assert
+        assertThatThrownBy(() -> periodOccupancyIndex.reserveAll(4L, 2L, dates, TypePeriod.MORNING))
+                .isInstanceOf(RoomAlreadyBookedException.class)
+                .hasMessageContaining(DATE.plusWeeks(2).toString());
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING)).isTrue();
+        assertThat(periodOccupancyIndex.isTeacherFree(2L, DATE.plusWeeks(1), TypePeriod.MORNING)).isTrue();
+
+        periodOccupancyIndex.reserveAll(5L, 2L, dates, TypePeriod.MORNING);
+        assertThat(dates).noneMatch(date -> periodOccupancyIndex.isRoomFree(5L, date, TypePeriod.MORNING));
+        assertThat(dates).noneMatch(date -> periodOccupancyIndex.isTeacherFree(2L, date, TypePeriod.MORNING));
+    }
+
+    @Test
+    @DisplayName("Should check every date of a recurrence with one query per resource before being warmed")
+    void shouldCheckRecurrenceWithOneQueryPerResourceBeforeWarm() {
+        // arrange
+        List<LocalDate> dates = List.of(DATE, DATE.plusWeeks(1), DATE.plusWeeks(2));
+        when(periodRepositoryJpa.findBookedRoomDates(4L, TypePeriod.MORNING, dates)).thenReturn(List.of());
+        when(periodRepositoryJpa.findBookedTeacherDates(2L, TypePeriod.MORNING, dates)).thenReturn(List.of(DATE.plusWeeks(1)));
+
+        // act and assert
+        assertThatThrownBy(() -> periodOccupancyIndex.reserveAll(4L, 2L, dates, TypePeriod.MORNING))
+                .isInstanceOf(TeacherAlreadyBookedException.class);
+        verify(periodRepositoryJpa, never()).existsByRoomIdAndDateAndTypePeriod(anyLong(), any(), any());
+        verify(periodRepositoryJpa, never()).existsByTeacherIdAndDateAndTypePeriod(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should release every date of a recurrence whose transaction rolls back")
+    void shouldReleaseRecurrenceOnRollback() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.empty());
+        periodOccupancyIndex.warm();
+        List<LocalDate> dates = List.of(DATE, DATE.plusWeeks(1));
+        TransactionSynchronizationManager.initSynchronization();
+        periodOccupancyIndex.reserveAll(4L, 2L, dates, TypePeriod.MORNING);
+
+        // act
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // assert
+        assertThat(dates).allMatch(date -> periodOccupancyIndex.isRoomFree(4L, date, TypePeriod.MORNING));
+        assertThat(dates).allMatch(date -> periodOccupancyIndex.isTeacherFree(2L, date, TypePeriod.MORNING));
+    }
+
+    @Test
+    @DisplayName("Should translate a room slot violation and index the slot booked elsewhere")
+    void shouldTranslateRoomSlotViolation() {
+        // arrange
+        when(periodRepositoryJpa.streamSlotsFrom(DATE)).thenReturn(Stream.empty());
+        periodOccupancyIndex.warm();
+        List<LocalDate> dates = List.of(DATE, DATE.plusWeeks(1));
+        when(periodRepositoryJpa.findBookedRoomDates(4L, TypePeriod.MORNING, dates)).thenReturn(List.of(DATE.plusWeeks(1)));
+        TransactionSynchronizationManager.initSynchronization();
+        periodOccupancyIndex.reserveAll(4L, 2L, dates, TypePeriod.MORNING);
+
+        // act
+        RuntimeException conflict = periodOccupancyIndex.conflictOf(
+                violationOf("PUBLIC.UK_PERIOD_ROOM_SLOT_INDEX_8"), 4L, 2L, dates, TypePeriod.MORNING);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // assert
+        assertThat(conflict)
+                .isInstanceOf(RoomAlreadyBookedException.class)
+                .hasMessageContaining(DATE.plusWeeks(1).toString());
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE, TypePeriod.MORNING)).isTrue();
+        assertThat(periodOccupancyIndex.isRoomFree(4L, DATE.plusWeeks(1), TypePeriod.MORNING)).isFalse();
+        assertThat(periodOccupancyIndex.isTeacherFree(2L, DATE.plusWeeks(1), TypePeriod.MORNING)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should translate a teacher slot violation into a teacher conflict")
+    void shouldTranslateTeacherSlotViolation() {
+        // arrange
+        List<LocalDate> dates = List.of(DATE);
+        when(periodRepositoryJpa.findBookedTeacherDates(2L, TypePeriod.MORNING, dates)).thenReturn(List.of(DATE));
+
+        // act
+        RuntimeException conflict = periodOccupancyIndex.conflictOf(
+                violationOf("uk_period_teacher_slot"), 4L, 2L, dates, TypePeriod.MORNING);
+
+        // assert
+        assertThat(conflict).isInstanceOf(TeacherAlreadyBookedException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep a violation that is not about a slot")
+    void shouldKeepOtherViolations() {
+        // arrange
+        DataIntegrityViolationException violation = violationOf("fk_period_room");
+
+        // act
+        RuntimeException conflict = periodOccupancyIndex.conflictOf(violation, 4L, 2L, List.of(DATE), TypePeriod.MORNING);
+
+        // assert
+        assertThat(conflict).isSameAs(violation);
+        verifyNoInteractions(periodRepositoryJpa);
+    }
+
+    private static DataIntegrityViolationException violationOf(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException(), constraintName));
+    }
+
+    private void today(LocalDate date) {
+        lenient().when(clock.instant()).thenReturn(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.api.synco.module.period.infrastructure.repository;
+
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.period.domain.filter.PeriodFilter;
+import com.api.synco.module.period.domain.exception.RoomAlreadyBookedException;
+import com.api.synco.module.period.domain.exception.TeacherAlreadyBookedException;
+import com.api.synco.module.period.domain.filter.PeriodPage;
+import com.api.synco.module.period.domain.projection.PeriodSummary;
+import com.api.synco.module.period.infrastructure.occupancy.PeriodOccupancyIndex;
+import com.api.synco.module.period.infrastructure.specification.PeriodFilterProvider;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({PeriodRepositoryAdapter.class, PeriodFilterProvider.class, PeriodOccupancyIndex.class})
+class PeriodRepositoryAdapterTest {
+
+    @Autowired
+    private PeriodRepositoryAdapter periodRepository;
+
+    @Autowired
+    private PeriodRepositoryJpa periodRepositoryJpa;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private UserEntity teacher;
+    private ClassEntity classEntity;
+
+    @BeforeEach
+    void setup() {
+        CourseEntity course = entityManager.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        classEntity = entityManager.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+
+        for (int i = 0; i < 3; i++) {
+            UserEntity user = entityManager.persist(new UserEntity(
+                    new Name("Teacher " + i),
+                    new Email("teacher" + i + "@example.com"),
+                    "encodedPassword",
+                    RoleUser.USER
+            ));
+            RoomEntity room = entityManager.persist(new RoomEntity(100 + i, TypeRoom.LAB_INFORMATICA));
+            entityManager.persist(new PeriodEntity(user, room, classEntity, LocalDate.of(2025, 3, 10 + i), TypePeriod.MORNING));
+            teacher = user;
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @DisplayName("Should list periods with a single statement")
+    @Test
+    void shouldListPeriodsWithSingleStatement() {
+        // act
+        Slice<PeriodSummary> periods = periodRepository.findAll(
+                new PeriodFilter(0, 0, 0, null),
+                new PeriodPage(0, 10)
+        );
+
+        // assert
+        assertThat(periods.getContent()).hasSize(3);
+        assertThat(periods.hasNext()).isFalse();
+        assertThat(periods.getContent().get(2).teacherId()).isEqualTo(teacher.getId());
+        assertThat(periods.getContent().get(2).courseId()).isEqualTo(classEntity.getId().getCourseId());
+        assertThat(periods.getContent().get(2).classNumber()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Should read the next keyset page with a single statement")
+    @Test
+    void shouldListNextPageWithSingleStatement() {
+        // arrange
+        Slice<PeriodSummary> firstPage = periodRepository.findAll(new PeriodFilter(0, 0, 0, null), new PeriodPage(0, 2));
+        statistics.clear();
+
+        // act
+        Slice<PeriodSummary> secondPage = periodRepository.findAll(
+                new PeriodFilter(0, 0, 0, null),
+                new PeriodPage(0, 2, firstPage.getContent().get(1).id())
+        );
+
+        // assert
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Should find a period without loading its associations")
+    @Test
+    void shouldFindPeriodWithoutLoadingAssociations() {
+        // arrange
+        long periodId = periodRepository.findAll(new PeriodFilter(0, 0, 0, null), new PeriodPage(0, 1))
+                .getContent().get(0).id();
+        statistics.clear();
+
+        // act
+        PeriodEntity period = periodRepository.findById(periodId).orElseThrow();
+
+        // assert
+        assertThat(period.getTeacher().getId()).isPositive();
+        assertThat(period.getRoom().getId()).isPositive();
+        assertThat(period.getClassEntity().getId()).isEqualTo(classEntity.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Should reject a second period of a room in the same slot")
+    @Test
+    void shouldRejectRoomDoubleBooking() {
+        // arrange
+        long periodId = periodRepository.findAll(new PeriodFilter(teacher.getId(), 0, 0, null), new PeriodPage(0, 1))
+                .getContent().get(0).id();
+        PeriodEntity booked = entityManager.find(PeriodEntity.class, periodId);
+
+        UserEntity otherTeacher = entityManager.persist(new UserEntity(
+                new Name("Other Teacher"),
+                new Email("other.teacher@example.com"),
+                "encodedPassword",
+                RoleUser.USER
+        ));
+
+        // act and assert
+        assertThatThrownBy(() -> entityManager.persistAndFlush(
+                new PeriodEntity(otherTeacher, booked.getRoom(), classEntity, booked.getDate(), booked.getTypePeriod())
+        )).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @DisplayName("Should reject a second period of a teacher in the same slot")
+    @Test
+    void shouldRejectTeacherDoubleBooking() {
+        // arrange
+        long periodId = periodRepository.findAll(new PeriodFilter(teacher.getId(), 0, 0, null), new PeriodPage(0, 1))
+                .getContent().get(0).id();
+        PeriodEntity booked = entityManager.find(PeriodEntity.class, periodId);
+        RoomEntity otherRoom = entityManager.persist(new RoomEntity(200, TypeRoom.LAB_INFORMATICA));
+
+        // act and assert
+        assertThatThrownBy(() -> entityManager.persistAndFlush(
+                new PeriodEntity(booked.getTeacher(), otherRoom, classEntity, booked.getDate(), booked.getTypePeriod())
+        )).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    @DisplayName("Should report a room booked elsewhere as a booking conflict when saving")
+    @Test
+    void shouldTranslateRoomSlotViolation() {
+        // arrange
+        long periodId = periodRepository.findAll(new PeriodFilter(teacher.getId(), 0, 0, null), new PeriodPage(0, 1))
+                .getContent().get(0).id();
+        PeriodEntity booked = entityManager.find(PeriodEntity.class, periodId);
+
+        UserEntity otherTeacher = entityManager.persist(new UserEntity(
+                new Name("Other Teacher"),
+                new Email("other.teacher@example.com"),
+                "encodedPassword",
+                RoleUser.USER
+        ));
+
+        // act and assert
+        assertThatThrownBy(() -> periodRepository.save(
+                new PeriodEntity(otherTeacher, booked.getRoom(), classEntity, booked.getDate(), booked.getTypePeriod())
+        ))
+                .isInstanceOf(RoomAlreadyBookedException.class)
+                .hasMessageContaining(booked.getDate().toString());
+    }
+
+    @DisplayName("Should report a teacher booked elsewhere as a booking conflict when saving a recurrence")
+    @Test
+    void shouldTranslateTeacherSlotViolation() {
+        // arrange
+        long periodId = periodRepository.findAll(new PeriodFilter(teacher.getId(), 0, 0, null), new PeriodPage(0, 1))
+                .getContent().get(0).id();
+        PeriodEntity booked = entityManager.find(PeriodEntity.class, periodId);
+        RoomEntity otherRoom = entityManager.persist(new RoomEntity(200, TypeRoom.LAB_INFORMATICA));
+
+        // act and assert
+        assertThatThrownBy(() -> periodRepository.saveAll(List.of(
+                new PeriodEntity(booked.getTeacher(), otherRoom, classEntity, booked.getDate().minusWeeks(1), booked.getTypePeriod()),
+                new PeriodEntity(booked.getTeacher(), otherRoom, classEntity, booked.getDate(), booked.getTypePeriod())
+        )))
+                .isInstanceOf(TeacherAlreadyBookedException.class);
+    }
+
+    @DisplayName("Should insert the periods of a recurrence in one JDBC batch")
+    @Test
+    void shouldInsertRecurrenceInOneBatch() {
+        // arrange
+        RoomEntity room = entityManager.persistAndFlush(new RoomEntity(300, TypeRoom.LAB_INFORMATICA));
+        List<PeriodEntity> periods = LocalDate.of(2025, 3, 3).datesUntil(LocalDate.of(2025, 6, 30), Period.ofWeeks(1))
+                .map(date -> new PeriodEntity(teacher, room, classEntity, date, TypePeriod.EVENING))
+                .toList();
+        statistics.clear();
+
+        // act
+        periodRepository.saveAll(periods);
+        entityManager.flush();
+
+        // assert
+        assertThat(periods).allMatch(period -> period.getId() > 0);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(periods.size());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @DisplayName("Should find the booked dates of a room and a teacher with one query each")
+    @Test
+    void shouldFindBookedDates() {
+        // arrange
+        long periodId = periodRepository.findAll(new PeriodFilter(teacher.getId(), 0, 0, null), new PeriodPage(0, 1))
+                .getContent().get(0).id();
+        PeriodEntity booked = entityManager.find(PeriodEntity.class, periodId);
+        List<LocalDate> dates = List.of(booked.getDate().minusDays(1), booked.getDate(), booked.getDate().plusDays(7));
+        statistics.clear();
+
+        // act
+        List<LocalDate> roomDates = periodRepositoryJpa.findBookedRoomDates(booked.getRoom().getId(), TypePeriod.MORNING, dates);
+        List<LocalDate> teacherDates = periodRepositoryJpa.findBookedTeacherDates(teacher.getId(), TypePeriod.MORNING, dates);
+
+        // assert
+        assertThat(roomDates).containsExactly(booked.getDate());
+        assertThat(teacherDates).containsExactly(booked.getDate());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+}
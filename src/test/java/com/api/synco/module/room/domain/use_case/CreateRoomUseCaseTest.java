@@ -1,5 +1,6 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.command.CreateRoomCommand;
@@ -7,16 +8,13 @@ import com.api.synco.module.room.domain.enumerator.TypeRoom;
 import com.api.synco.module.room.domain.exception.number.RoomNotUniqueNumberException;
 import com.api.synco.module.room.domain.exception.user.UserWithoutCreateRoomPermissionException;
 import com.api.synco.module.room.domain.port.RoomRepository;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,31 +25,25 @@ class CreateRoomUseCaseTest {
     @Mock
     private RoomRepository roomRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private PermissionPolicy permissionPolicy;
 
     @InjectMocks
     private CreateRoomUseCase useCase;
 
-    private long userId;
+    private AuthenticatedActor actor;
 
     @BeforeEach
     void setup() {
-        userId = 1L;
+        actor = new AuthenticatedActor(1L, RoleUser.ADMIN, "kaladin@gmail.com");
     }
 
     @Test
     void shouldCreateRoomSuccessfully() {
         CreateRoomCommand command =
-                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, userId);
+                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, actor);
 
-        UserEntity user = mock(UserEntity.class);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(permissionPolicy.canCreate(user.getRole())).thenReturn(true);
+        when(permissionPolicy.canCreate(RoleUser.ADMIN)).thenReturn(true);
         when(roomRepository.existByNumber(10)).thenReturn(false);
 
         RoomEntity result = useCase.execute(command);
@@ -63,30 +55,12 @@ class CreateRoomUseCaseTest {
         verify(roomRepository).save(any(RoomEntity.class));
     }
 
-    @Test
-    void shouldThrowUserNotFoundException() {
-        CreateRoomCommand command =
-                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, userId);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        assertThrows(
-                UserNotFoundDomainException.class,
-                () -> useCase.execute(command)
-        );
-
-        verifyNoInteractions(permissionPolicy, roomRepository);
-    }
-
     @Test
     void shouldThrowPermissionException() {
         CreateRoomCommand command =
-                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, userId);
-
-        UserEntity user = mock(UserEntity.class);
+                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, actor);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(permissionPolicy.canCreate(user.getRole())).thenReturn(false);
+        when(permissionPolicy.canCreate(RoleUser.ADMIN)).thenReturn(false);
 
         assertThrows(
                 UserWithoutCreateRoomPermissionException.class,
@@ -99,12 +73,9 @@ class CreateRoomUseCaseTest {
     @Test
     void shouldThrowRoomNotUniqueNumberException() {
         CreateRoomCommand command =
-                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, userId);
-
-        UserEntity user = mock(UserEntity.class);
+                new CreateRoomCommand(10, TypeRoom.LAB_INFORMATICA, actor);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(permissionPolicy.canCreate(user.getRole())).thenReturn(true);
+        when(permissionPolicy.canCreate(RoleUser.ADMIN)).thenReturn(true);
         when(roomRepository.existByNumber(10)).thenReturn(true);
 
         assertThrows(
@@ -1,11 +1,12 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
+import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.exception.user.UserWithoutDeleteRoomPermissionException;
 import com.api.synco.module.room.domain.permission.RoomPermissionPolicy;
 import com.api.synco.module.room.domain.port.RoomRepository;
-import com.api.synco.module.user.domain.UserEntity;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +14,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,51 +26,31 @@ class DeleteRoomUseCaseTest {
     private RoomRepository roomRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private RoomPermissionPolicy roomPermissionPolicy;
 
     @Mock
-    private RoomPermissionPolicy roomPermissionPolicy;
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private DeleteRoomUseCase deleteRoomUseCase;
 
     @Test
-    @DisplayName("Should delete room successfully when user exists and has permission")
+    @DisplayName("Should delete room successfully when user has permission")
     void shouldDeleteRoomSuccessfully() {
         // Arrange
         long roomId = 100L;
-        long userId = 1L;
-        UserEntity userMock = mock(UserEntity.class);
+        AuthenticatedActor actor = new AuthenticatedActor(1L, RoleUser.ADMIN, "kaladin@gmail.com");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(userMock));
-        when(roomPermissionPolicy.canDelete(any())).thenReturn(true);
+        when(roomPermissionPolicy.canDelete(RoleUser.ADMIN)).thenReturn(true);
         when(roomRepository.existsById(any(Long.class))).thenReturn(true);
 
         // Act
-        deleteRoomUseCase.execute(roomId, userId);
+        deleteRoomUseCase.execute(roomId, actor);
 
         // Assert
-        verify(userRepository).findById(userId);
-        verify(roomPermissionPolicy).canDelete(any());
+        verify(roomPermissionPolicy).canDelete(RoleUser.ADMIN);
         verify(roomRepository).deleteById(roomId);
-    }
-
-    @Test
-    @DisplayName("Should throw UserNotFoundDomainException when user does not exist")
-    void shouldThrowExceptionWhenUserNotFound() {
-        // Arrange
-        long roomId = 100L;
-        long userId = 99L;
-
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThrows(UserNotFoundDomainException.class,
-                () -> deleteRoomUseCase.execute(roomId, userId));
-
-        verify(userRepository).findById(userId);
-        verifyNoInteractions(roomPermissionPolicy);
-        verifyNoInteractions(roomRepository);
+        verify(referenceDataCache).evict(RoomEntity.class, roomId);
     }
 
     @Test
@@ -78,18 +58,15 @@ class DeleteRoomUseCaseTest {
     void shouldThrowExceptionWhenUserHasNoPermission() {
         // Arrange
         long roomId = 100L;
-        long userId = 1L;
-        UserEntity userMock = mock(UserEntity.class);
+        AuthenticatedActor actor = new AuthenticatedActor(1L, RoleUser.USER, "kaladin@gmail.com");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(userMock));
-        when(roomPermissionPolicy.canDelete(any())).thenReturn(false);
+        when(roomPermissionPolicy.canDelete(RoleUser.USER)).thenReturn(false);
 
         // Act & Assert
         assertThrows(UserWithoutDeleteRoomPermissionException.class,
-                () -> deleteRoomUseCase.execute(roomId, userId));
+                () -> deleteRoomUseCase.execute(roomId, actor));
 
-        verify(userRepository).findById(userId);
-        verify(roomPermissionPolicy).canDelete(any());
+        verify(roomPermissionPolicy).canDelete(RoleUser.USER);
         verify(roomRepository, never()).deleteById(anyLong());
     }
 
@@ -1,5 +1,6 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.core.pagination.ApproximateTotalCache;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.enumerator.TypeRoom;
 import com.api.synco.module.room.domain.filter.RoomFilter;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 
 import java.util.List;
+import org.springframework.data.domain.Slice;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -20,7 +22,7 @@ class GetAllRoomUseCaseTest {
     @Test
     void execute_shouldBuildFilterAndPage_andDelegateToRepository() {
         RoomRepository roomRepository = mock(RoomRepository.class);
-        GetAllRoomUseCase useCase = new GetAllRoomUseCase(roomRepository);
+        GetAllRoomUseCase useCase = new GetAllRoomUseCase(roomRepository, mock(ApproximateTotalCache.class));
 
         TypeRoom typeRoom = TypeRoom.LAB_INFORMATICA;
         int number = 101;
@@ -30,7 +32,7 @@ class GetAllRoomUseCaseTest {
         Page<RoomEntity> expected = new PageImpl<>(List.of(mock(RoomEntity.class)));
         when(roomRepository.findAll(any(RoomFilter.class), any(RoomPage.class))).thenReturn(expected);
 
-        Page<RoomEntity> result = useCase.execute(typeRoom, number, pageNumber, pageSize);
+        Slice<RoomEntity> result = useCase.execute(typeRoom, number, pageNumber, pageSize, null, false);
 
         assertThat(result).isSameAs(expected);
 
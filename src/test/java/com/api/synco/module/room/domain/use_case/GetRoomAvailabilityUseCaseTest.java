@@ -0,0 +1,117 @@
+package com.api.synco.module.room.domain.use_case;
+
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.room.domain.availability.FreeSlot;
+import com.api.synco.module.room.domain.availability.RoomAvailability;
+import com.api.synco.module.room.domain.availability.RoomAvailabilityQuery;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.room.domain.exception.InvalidAvailabilityRangeException;
+import com.api.synco.module.room.domain.filter.RoomFilter;
+import com.api.synco.module.room.domain.port.RoomRepository;
+import com.api.synco.module.room.domain.projection.RoomOccupancyRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetRoomAvailabilityUseCaseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+    private static final RoomFilter FILTER = new RoomFilter(TypeRoom.LAB_INFORMATICA, 0);
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @InjectMocks
+    private GetRoomAvailabilityUseCase getRoomAvailabilityUseCase;
+
+    @Test
+    @DisplayName("Should return only rooms free in every requested slot")
+    void shouldReturnRoomsFreeInEverySlot() {
+        // arrange
+        Set<TypePeriod> evening = Set.of(TypePeriod.EVENING);
+        RoomAvailabilityQuery query = new RoomAvailabilityQuery(FILTER, FROM, TO, Set.of(DayOfWeek.TUESDAY), evening, true);
+
+        when(roomRepository.findOccupancy(FILTER, FROM, TO, evening)).thenReturn(List.of(
+                new RoomOccupancyRow(1L, 101, TypeRoom.LAB_INFORMATICA, null, null),
+                new RoomOccupancyRow(2L, 102, TypeRoom.LAB_INFORMATICA, LocalDate.of(2025, 3, 11), TypePeriod.EVENING),
+                new RoomOccupancyRow(3L, 103, TypeRoom.LAB_INFORMATICA, LocalDate.of(2025, 3, 12), TypePeriod.EVENING)
+        ));
+
+        // act
+        List<RoomAvailability> result = getRoomAvailabilityUseCase.execute(query);
+
+        // assert
+        assertThat(result).extracting(RoomAvailability::roomId).containsExactly(1L, 3L);
+        assertThat(result.get(0).freeSlots()).containsExactly(
+                new FreeSlot(LocalDate.of(2025, 3, 4), TypePeriod.EVENING),
+                new FreeSlot(LocalDate.of(2025, 3, 11), TypePeriod.EVENING),
+                new FreeSlot(LocalDate.of(2025, 3, 18), TypePeriod.EVENING),
+                new FreeSlot(LocalDate.of(2025, 3, 25), TypePeriod.EVENING)
+        );
+        verify(roomRepository).findOccupancy(FILTER, FROM, TO, evening);
+    }
+
+    @Test
+    @DisplayName("Should return rooms with any free slot when not every slot is required")
+    void shouldReturnRoomsWithAnyFreeSlot() {
+        // arrange
+        LocalDate day = LocalDate.of(2025, 3, 4);
+        RoomAvailabilityQuery query = new RoomAvailabilityQuery(FILTER, day, day, Set.of(), Set.of(), false);
+
+        when(roomRepository.findOccupancy(any(), any(), any(), any())).thenReturn(List.of(
+                new RoomOccupancyRow(1L, 101, TypeRoom.LAB_INFORMATICA, day, TypePeriod.MORNING),
+                new RoomOccupancyRow(1L, 101, TypeRoom.LAB_INFORMATICA, day, TypePeriod.EVENING),
+                new RoomOccupancyRow(2L, 102, TypeRoom.LAB_INFORMATICA, day, TypePeriod.MORNING),
+                new RoomOccupancyRow(2L, 102, TypeRoom.LAB_INFORMATICA, day, TypePeriod.AFTERNOON),
+                new RoomOccupancyRow(2L, 102, TypeRoom.LAB_INFORMATICA, day, TypePeriod.EVENING)
+        ));
+
+        // act
+        List<RoomAvailability> result = getRoomAvailabilityUseCase.execute(query);
+
+        // assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).roomId()).isEqualTo(1L);
+        assertThat(result.get(0).freeSlots()).containsExactly(new FreeSlot(day, TypePeriod.AFTERNOON));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidAvailabilityRangeException when the range ends before it starts")
+    void shouldThrowWhenRangeIsInverted() {
+        // arrange
+        RoomAvailabilityQuery query = new RoomAvailabilityQuery(FILTER, TO, FROM, Set.of(), Set.of(), true);
+
+        // act and assert
+        assertThrows(InvalidAvailabilityRangeException.class, () -> getRoomAvailabilityUseCase.execute(query));
+        verifyNoInteractions(roomRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidAvailabilityRangeException when the range is longer than a year")
+    void shouldThrowWhenRangeIsTooLong() {
+        // arrange
+        RoomAvailabilityQuery query = new RoomAvailabilityQuery(FILTER, FROM, FROM.plusDays(366), Set.of(), Set.of(), true);
+
+        // act and assert
+        assertThrows(InvalidAvailabilityRangeException.class, () -> getRoomAvailabilityUseCase.execute(query));
+        verifyNoInteractions(roomRepository);
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.api.synco.module.room.domain.use_case;
 
+import com.api.synco.core.cache.ReferenceDataCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.room.domain.RoomEntity;
 import com.api.synco.module.room.domain.command.UpdateRoomCommand;
@@ -7,10 +9,7 @@ import com.api.synco.module.room.domain.enumerator.TypeRoom;
 import com.api.synco.module.room.domain.exception.RoomNotExistException;
 import com.api.synco.module.room.domain.exception.user.UserWithoutUpdateRoomPermissionException;
 import com.api.synco.module.room.domain.port.RoomRepository;
-import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
-import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
-import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,16 +30,16 @@ class UpdateRoomUseCaseTest {
     private RoomRepository roomRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private PermissionPolicy permissionPolicy;
 
     @Mock
-    private PermissionPolicy permissionPolicy;
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private UpdateRoomUseCase updateRoomUseCase;
 
     @Test
-    @DisplayName("Should update room successfully when user exists, has permission and room exists")
+    @DisplayName("Should update room successfully when user has permission and room exists")
     void shouldUpdateRoomSuccessfully() {
         // Arrange
         long userId = 1L;
@@ -51,16 +50,13 @@ class UpdateRoomUseCaseTest {
 
         // Mocks
         UpdateRoomCommand command = mock(UpdateRoomCommand.class);
-        UserEntity user = mock(UserEntity.class);
         RoomEntity room = mock(RoomEntity.class);
 
-        when(command.authenticatedUserId()).thenReturn(userId);
+        when(command.actor()).thenReturn(new AuthenticatedActor(userId, role, "kaladin@gmail.com"));
         when(command.roomId()).thenReturn(roomId);
         when(command.number()).thenReturn(newNumber);
         when(command.typeRoom()).thenReturn(newType);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(user.getRole()).thenReturn(role);
         when(permissionPolicy.canEdit(role)).thenReturn(true);
 
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room));
@@ -73,23 +69,6 @@ class UpdateRoomUseCaseTest {
         verify(roomRepository).save(room);
     }
 
-    @Test
-    @DisplayName("Should throw UserNotFoundDomainException when user does not exist")
-    void shouldThrowExceptionWhenUserNotFound() {
-        // Arrange
-        long userId = 99L;
-        UpdateRoomCommand command = mock(UpdateRoomCommand.class);
-        when(command.authenticatedUserId()).thenReturn(userId);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThrows(UserNotFoundDomainException.class, () -> updateRoomUseCase.execute(command));
-
-        verifyNoInteractions(permissionPolicy);
-        verifyNoInteractions(roomRepository);
-    }
-
     @Test
     @DisplayName("Should throw UserWithoutUpdateRoomPermissionException when user has no permission")
     void shouldThrowExceptionWhenUserHasNoPermission() {
@@ -98,11 +77,8 @@ class UpdateRoomUseCaseTest {
         RoleUser role = RoleUser.USER;
 
         UpdateRoomCommand command = mock(UpdateRoomCommand.class);
-        UserEntity user = mock(UserEntity.class);
 
-        when(command.authenticatedUserId()).thenReturn(userId);
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(user.getRole()).thenReturn(role);
+        when(command.actor()).thenReturn(new AuthenticatedActor(userId, role, "kaladin@gmail.com"));
         when(permissionPolicy.canEdit(role)).thenReturn(false);
 
         // Act & Assert
@@ -120,13 +96,9 @@ class UpdateRoomUseCaseTest {
         RoleUser role = RoleUser.ADMIN;
 
         UpdateRoomCommand command = mock(UpdateRoomCommand.class);
-        UserEntity user = mock(UserEntity.class);
 
-        when(command.authenticatedUserId()).thenReturn(userId);
+        when(command.actor()).thenReturn(new AuthenticatedActor(userId, role, "kaladin@gmail.com"));
         when(command.roomId()).thenReturn(roomId);
-
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(user.getRole()).thenReturn(role);
         when(permissionPolicy.canEdit(role)).thenReturn(true);
 
         when(roomRepository.findById(roomId)).thenReturn(Optional.empty());
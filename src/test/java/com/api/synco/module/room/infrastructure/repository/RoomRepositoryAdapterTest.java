@@ -0,0 +1,121 @@
+package com.api.synco.module.room.infrastructure.repository;
+
+import com.api.synco.module.class_entity.domain.ClassEntity;
+import com.api.synco.module.class_entity.domain.ClassEntityId;
+import com.api.synco.module.class_entity.domain.enumerator.Shift;
+import com.api.synco.module.course.domain.CourseEntity;
+import com.api.synco.module.period.domain.PeriodEntity;
+import com.api.synco.module.period.domain.enumerator.TypePeriod;
+import com.api.synco.module.room.domain.RoomEntity;
+import com.api.synco.module.room.domain.enumerator.TypeRoom;
+import com.api.synco.module.room.domain.filter.RoomFilter;
+import com.api.synco.module.room.domain.projection.RoomOccupancyRow;
+import com.api.synco.module.room.infrastructure.specification.RoomFilterProvider;
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RoomRepositoryAdapter.class, RoomFilterProvider.class})
+class RoomRepositoryAdapterTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private RoomRepositoryAdapter roomRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private RoomEntity bookedRoom;
+    private RoomEntity freeRoom;
+    private RoomEntity afternoonRoom;
+
+    @BeforeEach
+    void setup() {
+        CourseEntity course = entityManager.persist(new CourseEntity("Computer Science", "CS", "CS Description"));
+        ClassEntity classEntity = entityManager.persist(new ClassEntity(new ClassEntityId(course.getId(), 1), course, 800, Shift.FIRST_SHIFT));
+        UserEntity teacher = entityManager.persist(new UserEntity(
+                new Name("Teacher"),
+                new Email("teacher@example.com"),
+                "encodedPassword",
+                RoleUser.USER
+        ));
+
+        bookedRoom = entityManager.persist(new RoomEntity(101, TypeRoom.LAB_INFORMATICA));
+        freeRoom = entityManager.persist(new RoomEntity(102, TypeRoom.LAB_INFORMATICA));
+        afternoonRoom = entityManager.persist(new RoomEntity(103, TypeRoom.LAB_INFORMATICA));
+
+        entityManager.persist(new PeriodEntity(teacher, bookedRoom, classEntity, LocalDate.of(2025, 3, 4), TypePeriod.EVENING));
+        entityManager.persist(new PeriodEntity(teacher, bookedRoom, classEntity, LocalDate.of(2025, 3, 4), TypePeriod.MORNING));
+        entityManager.persist(new PeriodEntity(teacher, bookedRoom, classEntity, LocalDate.of(2025, 4, 1), TypePeriod.EVENING));
+        entityManager.persist(new PeriodEntity(teacher, afternoonRoom, classEntity, LocalDate.of(2025, 3, 4), TypePeriod.AFTERNOON));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @DisplayName("Should read the rooms and their periods in the range with a single statement")
+    @Test
+    void shouldFindOccupancyWithSingleStatement() {
+        // act
+        List<RoomOccupancyRow> rows = roomRepository.findOccupancy(
+                new RoomFilter(TypeRoom.LAB_INFORMATICA, 0),
+                FROM,
+                TO,
+                Set.of(TypePeriod.EVENING)
+        );
+
+        // assert
+        assertThat(rows).containsExactly(
+                new RoomOccupancyRow(bookedRoom.getId(), 101, TypeRoom.LAB_INFORMATICA, LocalDate.of(2025, 3, 4), TypePeriod.EVENING),
+                new RoomOccupancyRow(freeRoom.getId(), 102, TypeRoom.LAB_INFORMATICA, null, null),
+                new RoomOccupancyRow(afternoonRoom.getId(), 103, TypeRoom.LAB_INFORMATICA, null, null)
+        );
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("Should join every period of the range when no period of the day is given")
+    @Test
+    void shouldFindOccupancyOfEveryPeriodOfTheDay() {
+        // act
+        List<RoomOccupancyRow> rows = roomRepository.findOccupancy(
+                new RoomFilter(TypeRoom.LAB_INFORMATICA, 101),
+                FROM,
+                TO,
+                Set.of()
+        );
+
+        // assert
+        assertThat(rows).extracting(RoomOccupancyRow::typePeriod)
+                .containsExactlyInAnyOrder(TypePeriod.MORNING, TypePeriod.EVENING);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.api.synco.module.room_verification.application.service;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.room_verification.application.dto.RoomVerificationResponse;
 import com.api.synco.module.room_verification.application.dto.create.CreateRoomVerificationRequest;
 import com.api.synco.module.room_verification.application.dto.update.UpdateRoomVerificationRequest;
@@ -9,6 +10,7 @@ import com.api.synco.module.room_verification.domain.command.CreateRoomVerificat
 import com.api.synco.module.room_verification.domain.command.UpdateRoomVerificationCommand;
 import com.api.synco.module.room_verification.domain.use_case.CreateRoomVerificationUseCase;
 import com.api.synco.module.room_verification.domain.use_case.UpdateRoomVerificationUseCase;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,7 +42,7 @@ class RoomVerificationApplicationServiceTest {
     void shouldCreateRoomVerificationSuccessfully() {
         // Arrange
         long periodId = 1L;
-        long userId = 100L;
+        AuthenticatedActor actor = new AuthenticatedActor(100L, RoleUser.USER, "user@example.com");
 
         CreateRoomVerificationRequest request = mock(CreateRoomVerificationRequest.class);
         CreateRoomVerificationCommand command = mock(CreateRoomVerificationCommand.class);
@@ -48,19 +50,19 @@ class RoomVerificationApplicationServiceTest {
         RoomVerificationResponse expectedResponse = mock(RoomVerificationResponse.class);
 
         // Define the flow
-        when(roomVerificationMapper.toCreateCommand(request, periodId, userId)).thenReturn(command);
+        when(roomVerificationMapper.toCreateCommand(request, periodId, actor)).thenReturn(command);
         when(createRoomVerificationUseCase.execute(command)).thenReturn(entity);
         when(roomVerificationMapper.toResponse(entity)).thenReturn(expectedResponse);
 
         // Act
-        RoomVerificationResponse actualResponse = applicationService.create(request, periodId, userId);
+        RoomVerificationResponse actualResponse = applicationService.create(request, periodId, actor);
 
         // Assert
         assertNotNull(actualResponse);
         assertEquals(expectedResponse, actualResponse);
 
         // Verify interactions
-        verify(roomVerificationMapper).toCreateCommand(request, periodId, userId);
+        verify(roomVerificationMapper).toCreateCommand(request, periodId, actor);
         verify(createRoomVerificationUseCase).execute(command);
         verify(roomVerificationMapper).toResponse(entity);
     }
@@ -70,7 +72,7 @@ class RoomVerificationApplicationServiceTest {
     void shouldUpdateRoomVerificationSuccessfully() {
         // Arrange
         long periodId = 1L;
-        long userId = 100L;
+        AuthenticatedActor actor = new AuthenticatedActor(100L, RoleUser.USER, "user@example.com");
 
         UpdateRoomVerificationCommand command = mock(UpdateRoomVerificationCommand.class);
         UpdateRoomVerificationRequest request = mock(UpdateRoomVerificationRequest.class);
@@ -78,19 +80,19 @@ class RoomVerificationApplicationServiceTest {
         RoomVerificationResponse expectedResponse = mock(RoomVerificationResponse.class);
 
         // Define the flow
-        when(roomVerificationMapper.toUpdateCommand(request, periodId, userId)).thenReturn(command);
+        when(roomVerificationMapper.toUpdateCommand(request, periodId, actor)).thenReturn(command);
         when(updateRoomVerificationUseCase.execute(command)).thenReturn(entity);
         when(roomVerificationMapper.toResponse(entity)).thenReturn(expectedResponse);
 
         // Act
-        RoomVerificationResponse actualResponse = applicationService.update(request, periodId, userId);
+        RoomVerificationResponse actualResponse = applicationService.update(request, periodId, actor);
 
         // Assert
         assertNotNull(actualResponse);
         assertEquals(expectedResponse, actualResponse);
 
         // Verify interactions
-        verify(roomVerificationMapper).toUpdateCommand(request, periodId, userId);
+        verify(roomVerificationMapper).toUpdateCommand(request, periodId, actor);
         verify(updateRoomVerificationUseCase).execute(command);
         verify(roomVerificationMapper).toResponse(entity);
     }
@@ -1,11 +1,12 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntity;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.period.domain.PeriodEntity;
 import com.api.synco.module.period.domain.exception.PeriodNotFoundException;
 import com.api.synco.module.period.domain.port.PeriodRepository;
@@ -15,7 +16,7 @@ import com.api.synco.module.room_verification.domain.exception.RoomVerificationA
 import com.api.synco.module.room_verification.domain.exception.user.UserNotHavePermissionToCreateRoomVerificationException;
 import com.api.synco.module.room_verification.domain.permission.RoomVerificationPermissionPolicy;
 import com.api.synco.module.room_verification.domain.port.RoomVerificationRepository;
-import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,7 +36,7 @@ class CreateRoomVerificationUseCaseTest {
 
     @Mock private RoomVerificationRepository roomVerificationRepository;
     @Mock private PeriodRepository periodRepository;
-    @Mock private ClassUserRepository classUserRepository;
+    @Mock private ClassMembershipLookup classMembershipLookup;
     @Mock private RoomVerificationPermissionPolicy permissionPolicy;
 
     @InjectMocks
@@ -44,11 +45,13 @@ class CreateRoomVerificationUseCaseTest {
     private CreateRoomVerificationCommand command;
     private PeriodEntity period;
     private ClassEntityId classId;
+    private AuthenticatedActor actor;
 
     @BeforeEach
     void setUp() {
         classId = new ClassEntityId(2L, 100);
-        command = new CreateRoomVerificationCommand(1L, 2L, true, "Obs", "TKT-123", "aoefaho");
+        actor = new AuthenticatedActor(2L, RoleUser.USER, "user@example.com");
+        command = new CreateRoomVerificationCommand(1L, actor, true, "Obs", "TKT-123", "aoefaho");
         period = mock(PeriodEntity.class);
     }
 
@@ -67,11 +70,9 @@ class CreateRoomVerificationUseCaseTest {
         when(periodRepository.findById(command.periodId())).thenReturn(Optional.of(period));
         when(roomVerificationRepository.existsByPeriodId(1L)).thenReturn(false);
 
-        ClassUser classUser = mock(ClassUser.class);
-        UserEntity user = mock(UserEntity.class);
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.of(classUser));
-        when(classUser.getUserEntity()).thenReturn(user);
-        when(permissionPolicy.canCreate(any(), any())).thenReturn(true);
+        when(classMembershipLookup.find(classId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.REPRESENTATIVE, RoleUser.USER)));
+        when(permissionPolicy.canCreate(RoleUser.USER, TypeUserClass.REPRESENTATIVE)).thenReturn(true);
 
         ArgumentCaptor<RoomVerificationEntity> captor = ArgumentCaptor.forClass(RoomVerificationEntity.class);
 
@@ -118,7 +119,7 @@ class CreateRoomVerificationUseCaseTest {
         setupFullPeriodChain();
         when(periodRepository.findById(command.periodId())).thenReturn(Optional.of(period));
         when(roomVerificationRepository.existsByPeriodId(1L)).thenReturn(false);
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.empty());
+        when(classMembershipLookup.find(classId, actor.id())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ClassUserNotFoundException.class, () -> useCase.execute(command));
@@ -131,11 +132,9 @@ class CreateRoomVerificationUseCaseTest {
         when(periodRepository.findById(command.periodId())).thenReturn(Optional.of(period));
         when(roomVerificationRepository.existsByPeriodId(1L)).thenReturn(false);
 
-        ClassUser classUser = mock(ClassUser.class);
-        UserEntity user = mock(UserEntity.class);
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.of(classUser));
-        when(classUser.getUserEntity()).thenReturn(user);
-        when(permissionPolicy.canCreate(any(), any())).thenReturn(false);
+        when(classMembershipLookup.find(classId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.REPRESENTATIVE, RoleUser.USER)));
+        when(permissionPolicy.canCreate(RoleUser.USER, TypeUserClass.REPRESENTATIVE)).thenReturn(false);
 
         // Act & Assert
         assertThrows(UserNotHavePermissionToCreateRoomVerificationException.class,
@@ -1,20 +1,21 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
+import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import com.api.synco.module.room_verification.domain.command.GetRoomVerificationCommand;
 import com.api.synco.module.room_verification.domain.exception.RoomVerificationNotFound;
 import com.api.synco.module.room_verification.domain.exception.user.UserNotHavePermissionToGetRoomVerificationException;
 import com.api.synco.module.room_verification.domain.permission.RoomVerificationPermissionPolicy;
 import com.api.synco.module.room_verification.domain.port.RoomVerificationRepository;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,7 +31,7 @@ class GetRoomVerificationUseCaseTest {
     private RoomVerificationRepository roomVerificationRepository;
 
     @Mock
-    private ClassUserRepository classUserRepository;
+    private ClassMembershipLookup classMembershipLookup;
 
     @Mock
     private RoomVerificationPermissionPolicy permissionPolicy;
@@ -39,31 +40,28 @@ class GetRoomVerificationUseCaseTest {
 
     @BeforeEach
     void setup() {
-        useCase = new GetRoomVerificationUseCase(roomVerificationRepository, classUserRepository, permissionPolicy);
+        useCase = new GetRoomVerificationUseCase(roomVerificationRepository, classMembershipLookup, permissionPolicy);
     }
 
     @Test
     void execute_shouldReturnEntity_whenExistsAndUserHasPermission() {
         // Arrange
         long roomVerificationId = 10L;
-        long userAuthenticatedId = 99L;
+        AuthenticatedActor actor = new AuthenticatedActor(99L, RoleUser.USER, "user@example.com");
 
-        GetRoomVerificationCommand command = mock(GetRoomVerificationCommand.class);
-        when(command.roomVerificationId()).thenReturn(roomVerificationId);
-        when(command.userAuthenticatedId()).thenReturn(userAuthenticatedId);
+        GetRoomVerificationCommand command = new GetRoomVerificationCommand(roomVerificationId, actor);
 
         // Deep stub for chained call: entity.getPeriod().getClassEntity().getId()
         RoomVerificationEntity entityDeep = mock(RoomVerificationEntity.class, RETURNS_DEEP_STUBS);
-        ClassEntityId classEntityId = mock(ClassEntityId.class);
+        ClassEntityId classEntityId = new ClassEntityId(1L, 1);
 
         when(roomVerificationRepository.findById(roomVerificationId)).thenReturn(Optional.of(entityDeep));
         when(entityDeep.getPeriod().getClassEntity().getId()).thenReturn(classEntityId);
 
-        // Deep stub for chained call: classUser.getUserEntity().getRole()
-        ClassUser classUserDeep = mock(ClassUser.class, RETURNS_DEEP_STUBS);
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.of(classUserDeep));
+        when(classMembershipLookup.find(classEntityId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.TEACHER, RoleUser.USER)));
 
-        when(permissionPolicy.canUpdate(any(), any())).thenReturn(true);
+        when(permissionPolicy.canGet(RoleUser.USER, TypeUserClass.TEACHER)).thenReturn(true);
 
         // Act
         RoomVerificationEntity result = useCase.execute(command);
@@ -72,13 +70,9 @@ class GetRoomVerificationUseCaseTest {
         assertSame(entityDeep, result);
 
         verify(roomVerificationRepository).findById(roomVerificationId);
-
-        ArgumentCaptor<ClassUserId> idCaptor = ArgumentCaptor.forClass(ClassUserId.class);
-        verify(classUserRepository).findById(idCaptor.capture());
-        assertNotNull(idCaptor.getValue());
-
-        verify(permissionPolicy).canUpdate(any(), any());
-        verifyNoMoreInteractions(roomVerificationRepository, classUserRepository, permissionPolicy);
+        verify(classMembershipLookup).find(classEntityId, actor.id());
+        verify(permissionPolicy).canGet(RoleUser.USER, TypeUserClass.TEACHER);
+        verifyNoMoreInteractions(roomVerificationRepository, classMembershipLookup, permissionPolicy);
     }
 
     @Test
@@ -95,32 +89,31 @@ class GetRoomVerificationUseCaseTest {
         assertThrows(RoomVerificationNotFound.class, () -> useCase.execute(command));
 
         verify(roomVerificationRepository).findById(roomVerificationId);
-        verifyNoInteractions(classUserRepository, permissionPolicy);
+        verifyNoInteractions(classMembershipLookup, permissionPolicy);
     }
 
     @Test
     void execute_shouldThrowClassUserNotFoundException_whenUserIsNotInClass() {
         // Arrange
         long roomVerificationId = 1L;
-        long userAuthenticatedId = 2L;
+        AuthenticatedActor actor = new AuthenticatedActor(2L, RoleUser.USER, "user@example.com");
 
-        GetRoomVerificationCommand command = mock(GetRoomVerificationCommand.class);
-        when(command.roomVerificationId()).thenReturn(roomVerificationId);
-        when(command.userAuthenticatedId()).thenReturn(userAuthenticatedId);
+        GetRoomVerificationCommand command = new GetRoomVerificationCommand(roomVerificationId, actor);
 
         RoomVerificationEntity entityDeep = mock(RoomVerificationEntity.class, RETURNS_DEEP_STUBS);
         when(roomVerificationRepository.findById(roomVerificationId)).thenReturn(Optional.of(entityDeep));
 
         // Must exist because validateUserPermissions extracts it
-        when(entityDeep.getPeriod().getClassEntity().getId()).thenReturn(mock(ClassEntityId.class));
+        ClassEntityId classEntityId = new ClassEntityId(1L, 1);
+        when(entityDeep.getPeriod().getClassEntity().getId()).thenReturn(classEntityId);
 
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.empty());
+        when(classMembershipLookup.find(classEntityId, actor.id())).thenReturn(Optional.empty());
 
         // Act + Assert
         assertThrows(ClassUserNotFoundException.class, () -> useCase.execute(command));
 
         verify(roomVerificationRepository).findById(roomVerificationId);
-        verify(classUserRepository).findById(any(ClassUserId.class));
+        verify(classMembershipLookup).find(classEntityId, actor.id());
         verifyNoInteractions(permissionPolicy);
     }
 
@@ -128,47 +121,45 @@ class GetRoomVerificationUseCaseTest {
     void execute_shouldThrowUserNotHavePermission_whenPolicyDenies() {
         // Arrange
         long roomVerificationId = 7L;
-        long userAuthenticatedId = 8L;
+        AuthenticatedActor actor = new AuthenticatedActor(8L, RoleUser.USER, "user@example.com");
 
-        GetRoomVerificationCommand command = mock(GetRoomVerificationCommand.class);
-        when(command.roomVerificationId()).thenReturn(roomVerificationId);
-        when(command.userAuthenticatedId()).thenReturn(userAuthenticatedId);
+        GetRoomVerificationCommand command = new GetRoomVerificationCommand(roomVerificationId, actor);
 
         RoomVerificationEntity entityDeep = mock(RoomVerificationEntity.class, RETURNS_DEEP_STUBS);
         when(roomVerificationRepository.findById(roomVerificationId)).thenReturn(Optional.of(entityDeep));
 
         // Must exist because validateUserPermissions extracts it
-        when(entityDeep.getPeriod().getClassEntity().getId()).thenReturn(mock(ClassEntityId.class));
+        ClassEntityId classEntityId = new ClassEntityId(1L, 1);
+        when(entityDeep.getPeriod().getClassEntity().getId()).thenReturn(classEntityId);
 
-        // Deep stub prevents NPE on classUser.getUserEntity().getRole()
-        ClassUser classUserDeep = mock(ClassUser.class, RETURNS_DEEP_STUBS);
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.of(classUserDeep));
+        when(classMembershipLookup.find(classEntityId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.STUDENT, RoleUser.USER)));
 
-        when(permissionPolicy.canUpdate(any(), any())).thenReturn(false);
+        when(permissionPolicy.canGet(RoleUser.USER, TypeUserClass.STUDENT)).thenReturn(false);
 
         // Act + Assert
         assertThrows(UserNotHavePermissionToGetRoomVerificationException.class, () -> useCase.execute(command));
 
         verify(roomVerificationRepository).findById(roomVerificationId);
-        verify(classUserRepository).findById(any(ClassUserId.class));
-        verify(permissionPolicy).canUpdate(any(), any());
+        verify(classMembershipLookup).find(classEntityId, actor.id());
+        verify(permissionPolicy).canGet(RoleUser.USER, TypeUserClass.STUDENT);
     }
 
     @Test
     void validateUserPermissions_shouldPass_whenUserExistsAndPolicyAllows() {
         // Arrange
-        ClassEntityId classEntityId = mock(ClassEntityId.class);
-        long userId = 123L;
+        ClassEntityId classEntityId = new ClassEntityId(1L, 1);
+        AuthenticatedActor actor = new AuthenticatedActor(123L, RoleUser.ADMIN, "admin@example.com");
 
-        ClassUser classUserDeep = mock(ClassUser.class, RETURNS_DEEP_STUBS);
-        when(classUserRepository.findById(any(ClassUserId.class))).thenReturn(Optional.of(classUserDeep));
+        when(classMembershipLookup.find(classEntityId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.STUDENT, RoleUser.ADMIN)));
 
-        when(permissionPolicy.canUpdate(any(), any())).thenReturn(true);
+        when(permissionPolicy.canGet(RoleUser.ADMIN, TypeUserClass.STUDENT)).thenReturn(true);
 
         // Act + Assert
-        assertDoesNotThrow(() -> useCase.validateUserPermissions(classEntityId, userId));
+        assertDoesNotThrow(() -> useCase.validateUserPermissions(classEntityId, actor));
 
-        verify(classUserRepository).findById(any(ClassUserId.class));
-        verify(permissionPolicy).canUpdate(any(), any());
+        verify(classMembershipLookup).find(classEntityId, actor.id());
+        verify(permissionPolicy).canGet(RoleUser.ADMIN, TypeUserClass.STUDENT);
     }
 }
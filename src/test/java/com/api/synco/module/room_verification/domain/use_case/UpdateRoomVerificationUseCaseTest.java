@@ -1,18 +1,17 @@
 package com.api.synco.module.room_verification.domain.use_case;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.class_entity.domain.ClassEntityId;
-import com.api.synco.module.class_user.domain.ClassUser;
-import com.api.synco.module.class_user.domain.ClassUserId;
 import com.api.synco.module.class_user.domain.enumerator.TypeUserClass;
 import com.api.synco.module.class_user.domain.exception.ClassUserNotFoundException;
-import com.api.synco.module.class_user.domain.port.ClassUserRepository;
+import com.api.synco.module.class_user.domain.port.ClassMembershipLookup;
+import com.api.synco.module.class_user.domain.projection.ClassMembership;
 import com.api.synco.module.room_verification.domain.RoomVerificationEntity;
 import com.api.synco.module.room_verification.domain.command.UpdateRoomVerificationCommand;
 import com.api.synco.module.room_verification.domain.exception.RoomVerificationNotFound;
 import com.api.synco.module.room_verification.domain.exception.user.UserNotHavePermissionToCreateRoomVerificationException;
 import com.api.synco.module.room_verification.domain.permission.RoomVerificationPermissionPolicy;
 import com.api.synco.module.room_verification.domain.port.RoomVerificationRepository;
-import com.api.synco.module.user.domain.UserEntity;
 
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import org.junit.jupiter.api.Test;
@@ -34,7 +33,7 @@ class UpdateRoomVerificationUseCaseTest {
     private RoomVerificationRepository roomVerificationRepository;
 
     @Mock
-    private ClassUserRepository classUserRepository;
+    private ClassMembershipLookup classMembershipLookup;
 
     @Mock
     private RoomVerificationPermissionPolicy permissionPolicy;
@@ -47,17 +46,14 @@ class UpdateRoomVerificationUseCaseTest {
         // Arrange
         UpdateRoomVerificationCommand command = mock(UpdateRoomVerificationCommand.class);
 
-        long userId = 10L;
+        AuthenticatedActor actor = new AuthenticatedActor(10L, RoleUser.USER, "user@example.com");
         ClassEntityId classEntityId = mock(ClassEntityId.class);
 
         RoomVerificationEntity entity =
                 mock(RoomVerificationEntity.class, RETURNS_DEEP_STUBS);
 
-        ClassUser classUser = mock(ClassUser.class);
-        UserEntity userEntity = mock(UserEntity.class);
-
         when(command.roomVerificationId()).thenReturn(1L);
-        when(command.userAuthenticatedId()).thenReturn(userId);
+        when(command.actor()).thenReturn(actor);
         when(command.allOrganized()).thenReturn(true);
         when(command.description()).thenReturn("desc");
         when(command.observations()).thenReturn("obs");
@@ -71,15 +67,10 @@ class UpdateRoomVerificationUseCaseTest {
                 .getId())
                 .thenReturn(classEntityId);
 
-        when(classUserRepository.findById(any(ClassUserId.class)))
-                .thenReturn(Optional.of(classUser));
-
-        when(classUser.getUserEntity()).thenReturn(userEntity);
-
-        when(userEntity.getRole()).thenReturn(mock(RoleUser.class));
-        when(classUser.getTypeUserClass()).thenReturn(mock(TypeUserClass.class));
+        when(classMembershipLookup.find(classEntityId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.STUDENT, RoleUser.USER)));
 
-        when(permissionPolicy.canUpdate(any(), any()))
+        when(permissionPolicy.canUpdate(RoleUser.USER, TypeUserClass.STUDENT))
                 .thenReturn(true);
 
         // Act
@@ -110,14 +101,14 @@ class UpdateRoomVerificationUseCaseTest {
         // Arrange
         UpdateRoomVerificationCommand command = mock(UpdateRoomVerificationCommand.class);
 
-        long userId = 10L;
+        AuthenticatedActor actor = new AuthenticatedActor(10L, RoleUser.USER, "user@example.com");
         ClassEntityId classEntityId = mock(ClassEntityId.class);
 
         RoomVerificationEntity entity =
                 mock(RoomVerificationEntity.class, RETURNS_DEEP_STUBS);
 
         when(command.roomVerificationId()).thenReturn(1L);
-        when(command.userAuthenticatedId()).thenReturn(userId);
+        when(command.actor()).thenReturn(actor);
 
         when(roomVerificationRepository.findById(1L))
                 .thenReturn(Optional.of(entity));
@@ -127,7 +118,7 @@ class UpdateRoomVerificationUseCaseTest {
                 .getId())
                 .thenReturn(classEntityId);
 
-        when(classUserRepository.findById(any(ClassUserId.class)))
+        when(classMembershipLookup.find(classEntityId, actor.id()))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
@@ -140,17 +131,14 @@ class UpdateRoomVerificationUseCaseTest {
         // Arrange
         UpdateRoomVerificationCommand command = mock(UpdateRoomVerificationCommand.class);
 
-        long userId = 10L;
+        AuthenticatedActor actor = new AuthenticatedActor(10L, RoleUser.USER, "user@example.com");
         ClassEntityId classEntityId = mock(ClassEntityId.class);
 
         RoomVerificationEntity entity =
                 mock(RoomVerificationEntity.class, RETURNS_DEEP_STUBS);
 
-        ClassUser classUser = mock(ClassUser.class);
-        UserEntity userEntity = mock(UserEntity.class);
-
         when(command.roomVerificationId()).thenReturn(1L);
-        when(command.userAuthenticatedId()).thenReturn(userId);
+        when(command.actor()).thenReturn(actor);
 
         when(roomVerificationRepository.findById(1L))
                 .thenReturn(Optional.of(entity));
@@ -160,15 +148,10 @@ class UpdateRoomVerificationUseCaseTest {
                 .getId())
                 .thenReturn(classEntityId);
 
-        when(classUserRepository.findById(any(ClassUserId.class)))
-                .thenReturn(Optional.of(classUser));
-
-        when(classUser.getUserEntity()).thenReturn(userEntity);
-
-        when(userEntity.getRole()).thenReturn(mock(RoleUser.class));
-        when(classUser.getTypeUserClass()).thenReturn(mock(TypeUserClass.class));
+        when(classMembershipLookup.find(classEntityId, actor.id()))
+                .thenReturn(Optional.of(new ClassMembership(actor.id(), TypeUserClass.STUDENT, RoleUser.USER)));
 
-        when(permissionPolicy.canUpdate(any(), any()))
+        when(permissionPolicy.canUpdate(RoleUser.USER, TypeUserClass.STUDENT))
                 .thenReturn(false);
 
         // Act & Assert
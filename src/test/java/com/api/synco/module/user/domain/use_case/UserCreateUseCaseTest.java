@@ -3,12 +3,14 @@ package com.api.synco.module.user.domain.use_case;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.application.dto.create.UserCreateRequest;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.exception.email.EmailNotUniqueDomainException;
 import com.api.synco.module.user.domain.exception.password.PasswordNotValidDomainException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.validator.PasswordValidatorImpl;
 import com.api.synco.module.user.domain.vo.Email;
@@ -22,8 +24,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
-
 @ExtendWith(MockitoExtension.class)
 class UserCreateUseCaseTest {
 
@@ -39,6 +39,9 @@ class UserCreateUseCaseTest {
     @Mock
     private PermissionPolicy permissionPolicy ;
 
+    @Mock
+    private UserSearchProvider userSearchProvider;
+
     @InjectMocks
     private UserCreateUseCase userCreateUseCase;
     
@@ -47,6 +50,7 @@ class UserCreateUseCaseTest {
     private String email;
     private String password;
     private RoleUser roleUser;
+    private AuthenticatedActor admin;
 
     @BeforeEach
     public void setup(){
@@ -55,20 +59,20 @@ class UserCreateUseCaseTest {
         password = "Lucas#113";
         roleUser = RoleUser.USER;
         request = new UserCreateRequest(name, email, password, roleUser);
+        admin = new AuthenticatedActor(-1, RoleUser.ADMIN, "admin@gmail.com");
     }
     
     @DisplayName("This method execute should create user")
     @Test
     public void shouldCreateUser(){
         //arrange
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(new UserEntity(-1, null, null, null, RoleUser.ADMIN)));
         when(permissionPolicy .canCreate (any(RoleUser.class))).thenReturn(true);
         when(passwordEncoder.encode(password)).thenReturn("hash");
         when(passwordValidator.isValid(password)).thenReturn(true);
         when(userRepository.existsByEmail(any(Email.class))).thenReturn(false);
 
         //act
-        var user = userCreateUseCase.execute(request, -1);
+        var user = userCreateUseCase.execute(request, admin);
 
         //assert -- returned entity has expected email and encoded passowod
         assertThat(user).isNotNull();
@@ -80,6 +84,7 @@ class UserCreateUseCaseTest {
         //assert -= repository.save recive the same UserEntity
         var captor = ArgumentCaptor.forClass(UserEntity.class);
         verify(userRepository).save(captor.capture());
+        verify(userSearchProvider).index(captor.getValue());
         var saved = captor.getValue();
         assertThat(saved).isNotNull();
         assertThat(saved.getName()).isEqualTo(user.getName());
@@ -91,14 +96,13 @@ class UserCreateUseCaseTest {
     @Test
     public void shouldThrowEmailNotUniqueException(){
         //arrange
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(new UserEntity(-1, null, null, null, RoleUser.ADMIN)));
         when(permissionPolicy .canCreate (any(RoleUser.class))).thenReturn(true);
         when(passwordEncoder.encode(password)).thenReturn("hash");
         when(passwordValidator.isValid(password)).thenReturn(true);
         when(userRepository.existsByEmail(new Email(email))).thenReturn(true);
 
         //act and assert
-        assertThatThrownBy( () -> userCreateUseCase.execute(request, -1))
+        assertThatThrownBy( () -> userCreateUseCase.execute(request, admin))
                 .isInstanceOf(EmailNotUniqueDomainException.class);
 
         verify(userRepository, never()).save(any());
@@ -108,11 +112,10 @@ class UserCreateUseCaseTest {
     @DisplayName("Should Throw PasswordNotValidDomainException")
     @Test
     public void shouldThrowPasswordNotValidException(){
-        when(userRepository.findById(any(Long.class))).thenReturn(Optional.of(new UserEntity(-1, null, null, null, RoleUser.ADMIN)));
         when(permissionPolicy .canCreate (any(RoleUser.class))).thenReturn(true);
         when(passwordValidator.isValid(password)).thenReturn(false);
 
-        assertThatThrownBy( () -> userCreateUseCase.execute(request, -1))
+        assertThatThrownBy( () -> userCreateUseCase.execute(request, admin))
                 .isExactlyInstanceOf(PasswordNotValidDomainException.class);
 
         verify(passwordEncoder, never()).encode(any());
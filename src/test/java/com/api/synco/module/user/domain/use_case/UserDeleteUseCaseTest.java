@@ -1,11 +1,14 @@
 package com.api.synco.module.user.domain.use_case;
 
+import com.api.synco.core.security.user_details.UserPrincipalCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.application.dto.delete.UserDeleteRequest;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.exception.UserNotFoundDomainException;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutDeleteUserPermissionException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,8 +17,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +29,12 @@ class UserDeleteUseCaseTest {
     @Mock
     private PermissionPolicy permissionPolicy;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private UserSearchProvider userSearchProvider;
+
     @InjectMocks
     private UserDeleteUseCase userDeleteUseCase;
 
@@ -36,8 +43,7 @@ class UserDeleteUseCaseTest {
 
     private UserDeleteRequest userDeleteRequest;
 
-    private long idUserAuthentication;
-    private UserEntity userAuthenticated;
+    private AuthenticatedActor userAuthenticated;
 
     @BeforeEach
     void setup() {
@@ -46,41 +52,41 @@ class UserDeleteUseCaseTest {
 
         userDeleteRequest = new UserDeleteRequest(id);
 
-        idUserAuthentication = 2L;
-        userAuthenticated = new UserEntity(null, null, null, RoleUser.ADMIN);
+        userAuthenticated = new AuthenticatedActor(2L, RoleUser.ADMIN, "admin@gmail.com");
     }
 
     @Test
     public void shouldDeleteUserWhenExists(){
         when(userRepository.existsById(id)).thenReturn(true);
-        when(userRepository.findById(idUserAuthentication)).thenReturn(Optional.of(userAuthenticated));
         when(permissionPolicy.canDelete(any(RoleUser.class))).thenReturn(true);
 
-        userDeleteUseCase.execute(userDeleteRequest, idUserAuthentication);
+        userDeleteUseCase.execute(userDeleteRequest, userAuthenticated);
 
         verify(userRepository).deleteById(id);
+        verify(userPrincipalCache).invalidate(id);
+        verify(userSearchProvider).remove(id);
     }
 
     @Test
     void shouldThrowWhenUserNotExist() {
         when(userRepository.existsById(id)).thenReturn(false);
 
-        assertThatThrownBy(() -> userDeleteUseCase.execute(userDeleteRequest, idUserAuthentication))
+        assertThatThrownBy(() -> userDeleteUseCase.execute(userDeleteRequest, userAuthenticated))
                 .isInstanceOf(UserNotFoundDomainException.class);
 
         verify(userRepository, never()).deleteById(anyLong());
+        verify(userPrincipalCache, never()).invalidate(anyLong());
     }
 
     @Test
     void shouldThrowWhenUserDontHavePermission() {
-        var userWithoutPermission = new UserEntity(null, null, null, RoleUser.USER);
+        var userWithoutPermission = new AuthenticatedActor(2L, RoleUser.USER, "user@gmail.com");
 
         //arrange
         when(userRepository.existsById(id)).thenReturn(true);
-        when(userRepository.findById(idUserAuthentication)).thenReturn(Optional.of(userWithoutPermission));
 
         //act and assert
-        assertThatThrownBy(() -> userDeleteUseCase.execute(userDeleteRequest, idUserAuthentication))
+        assertThatThrownBy(() -> userDeleteUseCase.execute(userDeleteRequest, userWithoutPermission))
                 .isExactlyInstanceOf(UserWithoutDeleteUserPermissionException.class);
 
     }
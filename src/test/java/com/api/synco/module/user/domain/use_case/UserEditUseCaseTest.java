@@ -1,10 +1,13 @@
 package com.api.synco.module.user.domain.use_case;
 
+import com.api.synco.core.security.user_details.UserPrincipalCache;
+import com.api.synco.module.authentication.domain.AuthenticatedActor;
 import com.api.synco.module.permission.domain.policies.PermissionPolicy;
 import com.api.synco.module.user.application.dto.edit.UserEditRequest;
 import com.api.synco.module.user.domain.UserEntity;
 import com.api.synco.module.user.domain.enumerator.RoleUser;
 import com.api.synco.module.user.domain.exception.permission.UserWithoutEditUserPermissionException;
+import com.api.synco.module.user.domain.filter.UserSearchProvider;
 import com.api.synco.module.user.domain.port.UserRepository;
 import com.api.synco.module.user.domain.vo.Email;
 import com.api.synco.module.user.domain.vo.Name;
@@ -33,11 +36,17 @@ class UserEditUseCaseTest {
     @Mock
     private PermissionPolicy PermissionPolicy;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private UserSearchProvider userSearchProvider;
+
     @InjectMocks
     private UserEditUseCase userEditUseCase;
 
     private long idAuthenticateUser;
-    private UserEntity authenticateUser;
+    private AuthenticatedActor authenticateUser;
 
     private long id;
     private String name;
@@ -55,18 +64,17 @@ class UserEditUseCaseTest {
         userToEdit = new UserEntity(id, new Name("lucas"), new Email("email@gmail.com"), null, RoleUser.USER);
 
         idAuthenticateUser = 2L;
-        authenticateUser = new UserEntity(idAuthenticateUser, null, null, null, RoleUser.ADMIN);
+        authenticateUser = new AuthenticatedActor(idAuthenticateUser, RoleUser.ADMIN, "admin@gmail.com");
     }
 
     @Test
     public void shouldEditUserWithSuccessWhenUserHavePermission(){
         //arrange
         when(userRepository.findById(id)).thenReturn(Optional.of(userToEdit));
-        when(userRepository.findById(idAuthenticateUser)).thenReturn(Optional.of(authenticateUser));
         when(PermissionPolicy.canEdit(any(RoleUser.class))).thenReturn(true);
 
         //act
-        var user = userEditUseCase.execute(userEditRequest, idAuthenticateUser);
+        var user = userEditUseCase.execute(userEditRequest, authenticateUser);
 
         //assert -- verify the returned user
         assertThat(user.getName().value()).isEqualTo(name);
@@ -75,9 +83,14 @@ class UserEditUseCaseTest {
         //assert - verify the user saved
         var captor = ArgumentCaptor.forClass(UserEntity.class);
         verify(userRepository).save(captor.capture());
+        verify(userSearchProvider).index(captor.getValue());
         var edited = captor.getValue();
         assertThat(edited.getName()).isEqualTo(user.getName());
         assertThat(edited.getEmail()).isEqualTo(user.getEmail());
+        assertThat(edited.getTokenRevision()).isEqualTo(1);
+
+        //assert - verify the cached principal is discarded
+        verify(userPrincipalCache).invalidate(id);
     }
 
     @Test
@@ -86,7 +99,7 @@ class UserEditUseCaseTest {
         when(userRepository.findById(id)).thenReturn(Optional.of(userToEdit));
 
         //act
-        var user = userEditUseCase.execute(userEditRequest, id);
+        var user = userEditUseCase.execute(userEditRequest, new AuthenticatedActor(id, RoleUser.USER, "email@gmail.com"));
 
         //assert -- verify the returned user
         assertThat(user.getName().value()).isEqualTo(name);
@@ -103,14 +116,13 @@ class UserEditUseCaseTest {
     @Test
     public void shouldThrowExceptionWhenUserDoNotHavePermission(){
         //create the user without permission
-        var userWithoutPermission = new UserEntity(idAuthenticateUser, null, null, null, RoleUser.USER);
+        var userWithoutPermission = new AuthenticatedActor(idAuthenticateUser, RoleUser.USER, "user@gmail.com");
 
         //arrange
         when(userRepository.findById(id)).thenReturn(Optional.of(userToEdit));
-        when(userRepository.findById(idAuthenticateUser)).thenReturn(Optional.of(userWithoutPermission));
 
         //act and assert
-        assertThatThrownBy(() -> userEditUseCase.execute(userEditRequest, idAuthenticateUser))
+        assertThatThrownBy(() -> userEditUseCase.execute(userEditRequest, userWithoutPermission))
                 .isExactlyInstanceOf(UserWithoutEditUserPermissionException.class);
 
     }
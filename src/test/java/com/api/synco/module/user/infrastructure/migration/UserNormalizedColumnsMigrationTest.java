@@ -0,0 +1,123 @@
+package com.api.synco.module.user.infrastructure.migration;
+
+import com.api.synco.core.persistence.MigrationLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// The migration alters the user table, which commits on its own and cannot
+// run inside a test transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({MigrationLog.class, UserNormalizedColumnsMigration.class})
+class UserNormalizedColumnsMigrationTest {
+
+    @Autowired
+    private UserNormalizedColumnsMigration migration;
+
+    @Autowired
+    private MigrationLog migrationLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        // Schema of a database written before the lowercase columns existed
+        jdbcTemplate.execute("ALTER TABLE user_tb DROP COLUMN name_normalized");
+        jdbcTemplate.execute("ALTER TABLE user_tb DROP COLUMN email_normalized");
+        jdbcTemplate.update("DELETE FROM " + MigrationLog.TABLE);
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM user_tb");
+        jdbcTemplate.execute("ALTER TABLE user_tb ALTER COLUMN name_normalized SET NULL");
+        jdbcTemplate.execute("ALTER TABLE user_tb ALTER COLUMN email_normalized SET NULL");
+    }
+
+    @Test
+    @DisplayName("Should fill the lowercase columns in Java and make them required")
+    void shouldBackfillAndRequireNormalizedColumns() {
+        // arrange
+        insertLegacyUser(1, "JOSÉ İnal", "Jose.Inal@Example.com");
+        insertLegacyUser(2, "Ana", "ANA@example.com");
+        addNormalizedColumns("VARCHAR(255)");
+
+        // act
+        migration.migrate();
+
+        // assert
+        Map<String, Object> first = row(1);
+        assertThat(first.get("NAME_NORMALIZED")).isEqualTo("JOSÉ İnal".toLowerCase(Locale.ROOT));
+        assertThat(first.get("EMAIL_NORMALIZED")).isEqualTo("jose.inal@example.com");
+        assertThat(row(2).get("EMAIL_NORMALIZED")).isEqualTo("ana@example.com");
+        assertThat(migrationLog.isApplied(UserNormalizedColumnsMigration.NAME)).isTrue();
+        assertThatThrownBy(() -> insertLegacyUser(3, "Bruno", "bruno@example.com"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should treat columns filled with the empty string as missing")
+    void shouldBackfillEmptyNormalizedColumns() {
+        // arrange
+        insertLegacyUser(1, "Ana", "ANA@example.com");
+        // MySQL fills a NOT NULL column added to a populated table with ''
+        addNormalizedColumns("VARCHAR(255) DEFAULT '' NOT NULL");
+
+        // act
+        migration.migrate();
+
+        // assert
+        assertThat(row(1).get("NAME_NORMALIZED")).isEqualTo("ana");
+        assertThat(row(1).get("EMAIL_NORMALIZED")).isEqualTo("ana@example.com");
+    }
+
+    @Test
+    @DisplayName("Should skip the backfill once the migration was applied")
+    void shouldSkipAppliedMigration() {
+        // arrange
+        migrationLog.markApplied(UserNormalizedColumnsMigration.NAME);
+        insertLegacyUser(1, "Ana", "ana@example.com");
+        addNormalizedColumns("VARCHAR(255)");
+
+        // act
+        migration.migrate();
+
+        // assert
+        assertThat(row(1).get("NAME_NORMALIZED")).isNull();
+    }
+
+    private void insertLegacyUser(long id, String name, String email) {
+        jdbcTemplate.update(
+                "INSERT INTO user_tb (id, name, email, password, role, token_revision) VALUES (?, ?, ?, 'encodedPassword', 'USER', 0)",
+                id,
+                name,
+                email
+        );
+    }
+
+    private void addNormalizedColumns(String definition) {
+        jdbcTemplate.execute("ALTER TABLE user_tb ADD COLUMN name_normalized " + definition);
+        jdbcTemplate.execute("ALTER TABLE user_tb ADD COLUMN email_normalized " + definition);
+    }
+
+    private Map<String, Object> row(long id) {
+        return jdbcTemplate.queryForMap("SELECT name_normalized, email_normalized FROM user_tb WHERE id = ?", id);
+    }
+
+}
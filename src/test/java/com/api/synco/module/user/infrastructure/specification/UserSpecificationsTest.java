@@ -0,0 +1,91 @@
+package com.api.synco.module.user.infrastructure.specification;
+
+import com.api.synco.module.user.domain.UserEntity;
+import com.api.synco.module.user.domain.enumerator.RoleUser;
+import com.api.synco.module.user.domain.vo.Email;
+import com.api.synco.module.user.domain.vo.Name;
+import com.api.synco.module.user.infrastructure.repository.JpaUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class UserSpecificationsTest {
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setup() {
+        entityManager.persist(new UserEntity(new Name("John Doe"), new Email("John.Doe@Example.com"), "encodedPassword", RoleUser.USER));
+        entityManager.persist(new UserEntity(new Name("Mary Johnson"), new Email("mary_j@example.com"), "encodedPassword", RoleUser.USER));
+        entityManager.persist(new UserEntity(new Name("Peter Parker"), new Email("maryxj@example.com"), "encodedPassword", RoleUser.ADMIN));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("Should match names containing the value regardless of case")
+    @Test
+    void shouldMatchNameContainsIgnoringCase() {
+        // act
+        List<String> names = namesOf(jpaUserRepository.findAll(UserSpecifications.nameContains("JOHN")));
+
+        // assert
+        assertThat(names).containsExactlyInAnyOrder("John Doe", "Mary Johnson");
+    }
+
+    @DisplayName("Should match only names starting with the value")
+    @Test
+    void shouldMatchNameStartsWith() {
+        // act
+        List<String> names = namesOf(jpaUserRepository.findAll(UserSpecifications.nameStartsWith("joh")));
+
+        // assert
+        assertThat(names).containsExactly("John Doe");
+    }
+
+    @DisplayName("Should match emails on the stored address regardless of case")
+    @Test
+    void shouldMatchEmailContainsIgnoringCase() {
+        // act
+        List<String> names = namesOf(jpaUserRepository.findAll(UserSpecifications.emailContains("doe@EXAMPLE")));
+
+        // assert
+        assertThat(names).containsExactly("John Doe");
+    }
+
+    @DisplayName("Should treat LIKE wildcards in the value as literal characters")
+    @Test
+    void shouldEscapeWildcards() {
+        // act
+        List<String> names = namesOf(jpaUserRepository.findAll(UserSpecifications.emailStartsWith("mary_")));
+
+        // assert
+        assertThat(names).containsExactly("Mary Johnson");
+    }
+
+    @DisplayName("Should skip the filter when the value is blank")
+    @Test
+    void shouldSkipBlankValue() {
+        // act
+        List<String> names = namesOf(jpaUserRepository.findAll(UserSpecifications.nameStartsWith(" ")));
+
+        // assert
+        assertThat(names).hasSize(3);
+    }
+
+    private List<String> namesOf(List<UserEntity> users) {
+        return users.stream().map(user -> user.getName().value()).toList();
+    }
+
+}